@@ -0,0 +1,100 @@
+package com.github.michaelbull.rs;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the requests per second of a pooled {@link HttpClient} against a client created and closed per request,
+ * as {@link HttpClient} did before it owned a connection pool. Requests are served by a stub server on the loopback
+ * interface, so the results reflect connection setup rather than network latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class HttpClientBenchmark {
+
+	private static final byte[] BODY = "{\"Miscellaneous\":1,\"Ammo\":2}".getBytes(StandardCharsets.UTF_8);
+
+	private static final Type BODY_TYPE = new TypeToken<Map<String, Integer>>() { }.getType();
+
+	private final Gson gson = new Gson();
+	private ExecutorService executor;
+	private HttpServer server;
+	private HttpClient pooled;
+	private String url;
+
+	@Setup
+	public void setUp() throws IOException {
+		/* without TCP_NODELAY the stub server's kept-alive connections stall on delayed ACKs */
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		executor = Executors.newCachedThreadPool();
+
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", exchange -> {
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, BODY.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(BODY);
+			}
+		});
+		server.setExecutor(executor);
+		server.start();
+
+		url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+		pooled = HttpClient.builder().build();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		pooled.close();
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public Optional<Map<String, Integer>> pooled() throws IOException {
+		return pooled.fromJson(url, BODY_TYPE);
+	}
+
+	@Benchmark
+	public Map<String, Integer> unpooled() throws IOException {
+		try (CloseableHttpClient client = HttpClients.createDefault();
+			 CloseableHttpResponse response = client.execute(new HttpGet(url))) {
+			return gson.fromJson(EntityUtils.toString(response.getEntity()), BODY_TYPE);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.github.michaelbull.rs;
+
+import com.github.michaelbull.rs.ge.CategoryPrices;
+import com.github.michaelbull.rs.ge.GraphingData;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a JSON response by first copying it into a {@link String} with the decoding that
+ * {@link HttpClient} performs directly from the entity's content stream. Run with the {@code gc} profiler and compare
+ * {@code gc.alloc.rate.norm} for the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonDecodingBenchmark {
+
+	private static final int DAYS = 180;
+	private static final int ITEMS_PER_PAGE = 12;
+
+	private static String graphingDataJson() {
+		StringBuilder daily = new StringBuilder();
+		StringBuilder average = new StringBuilder();
+		LocalDate start = LocalDate.of(2018, 1, 1);
+
+		for (int day = 0; day < DAYS; day++) {
+			long epochMilli = start.plusDays(day).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+			String separator = day == 0 ? "" : ",";
+			daily.append(separator).append('"').append(epochMilli).append("\":").append(100_000 + day * 37);
+			average.append(separator).append('"').append(epochMilli).append("\":").append(100_000 + day * 29);
+		}
+
+		return "{\"daily\":{" + daily + "},\"average\":{" + average + "}}";
+	}
+
+	private static String categoryPricesJson() {
+		StringBuilder items = new StringBuilder();
+
+		for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+			int id = 4798 + i;
+			items.append(i == 0 ? "" : ",")
+				.append("{\"icon\":\"http://services.runescape.com/m=itemdb_rs/5314_obj_sprite.gif?id=").append(id).append('"')
+				.append(",\"icon_large\":\"http://services.runescape.com/m=itemdb_rs/5314_obj_big.gif?id=").append(id).append('"')
+				.append(",\"id\":").append(id)
+				.append(",\"type\":\"Ammo\",\"typeIcon\":\"http://www.runescape.com/img/categories/Ammo\"")
+				.append(",\"name\":\"Adamant brutal ").append(i).append('"')
+				.append(",\"description\":\"Blunt adamantite arrow...ouch\"")
+				.append(",\"current\":{\"trend\":\"neutral\",\"price\":").append(247 + i).append('}')
+				.append(",\"today\":{\"trend\":\"neutral\",\"price\":0}")
+				.append(",\"members\":\"true\"}");
+		}
+
+		return "{\"total\":82,\"items\":[" + items + "]}";
+	}
+
+	private final Gson gson = new Gson();
+	private byte[] graphingData;
+	private byte[] categoryPrices;
+
+	@Setup
+	public void setUp() {
+		graphingData = graphingDataJson().getBytes(StandardCharsets.UTF_8);
+		categoryPrices = categoryPricesJson().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private <T> T viaString(byte[] body, Type type) throws IOException {
+		HttpEntity entity = new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
+		return gson.fromJson(EntityUtils.toString(entity), type);
+	}
+
+	private <T> T viaReader(byte[] body, Type type) throws IOException {
+		HttpEntity entity = new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
+		try (JsonReader reader = gson.newJsonReader(HttpClient.readerFrom(entity))) {
+			return gson.fromJson(reader, type);
+		}
+	}
+
+	@Benchmark
+	public GraphingData graphingDataViaString() throws IOException {
+		return viaString(graphingData, GraphingData.class);
+	}
+
+	@Benchmark
+	public GraphingData graphingDataViaReader() throws IOException {
+		return viaReader(graphingData, GraphingData.class);
+	}
+
+	@Benchmark
+	public CategoryPrices categoryPricesViaString() throws IOException {
+		return viaString(categoryPrices, CategoryPrices.class);
+	}
+
+	@Benchmark
+	public CategoryPrices categoryPricesViaReader() throws IOException {
+		return viaReader(categoryPrices, CategoryPrices.class);
+	}
+}
@@ -0,0 +1,62 @@
+package com.github.michaelbull.rs.bestiary;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written {@link Beast} type adapter with the reflective adapter {@link Gson} would use if
+ * {@link Beast} were not annotated with {@link com.google.gson.annotations.JsonAdapter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeastTypeAdapterBenchmark {
+
+	private static final String KING_BLACK_DRAGON = "{"
+		+ "\"name\":\"King Black Dragon\",\"id\":50,\"members\":false,\"weakness\":\"None\","
+		+ "\"level\":276,\"lifepoints\":45000,\"defence\":60,\"attack\":60,\"magic\":60,\"ranged\":60,"
+		+ "\"xp\":\"2054.4\",\"slayercat\":\"Black dragons\",\"size\":5,"
+		+ "\"attackable\":true,\"aggressive\":true,\"poisonous\":false,"
+		+ "\"description\":\"Was the biggest, meanest dragon around.\","
+		+ "\"areas\":[\"Wilderness Dungeons\"],"
+		+ "\"animations\":{\"death\":17780,\"attack\":17782}"
+		+ "}";
+
+	private final Gson gson = new Gson();
+
+	private TypeAdapter<Beast> adapter;
+	private TypeAdapter<Beast> reflectiveAdapter;
+
+	@Setup
+	public void setUp() {
+		adapter = gson.getAdapter(Beast.class);
+		reflectiveAdapter = gson.getDelegateAdapter(null, TypeToken.get(Beast.class));
+	}
+
+	@Benchmark
+	public Beast beast() throws IOException {
+		return adapter.fromJson(KING_BLACK_DRAGON);
+	}
+
+	@Benchmark
+	public Beast beastReflective() throws IOException {
+		return reflectiveAdapter.fromJson(KING_BLACK_DRAGON);
+	}
+}
@@ -0,0 +1,184 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares each Grand Exchange model's hand-written type adapter with the reflective adapter {@link Gson} would use if
+ * the model were not annotated with {@link com.google.gson.annotations.JsonAdapter}. The reflective adapter only
+ * replaces the outermost model: any model nested inside it is still read by its own type adapter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelTypeAdapterBenchmark {
+
+	private static final int DAYS = 180;
+	private static final int ITEMS_PER_PAGE = 12;
+
+	private static String itemJson(int id) {
+		return "{\"icon\":\"http://services.runescape.com/m=itemdb_rs/5314_obj_sprite.gif?id=" + id + "\""
+			+ ",\"icon_large\":\"http://services.runescape.com/m=itemdb_rs/5314_obj_big.gif?id=" + id + "\""
+			+ ",\"id\":" + id
+			+ ",\"type\":\"Ammo\",\"typeIcon\":\"http://www.runescape.com/img/categories/Ammo\""
+			+ ",\"name\":\"Adamant brutal\""
+			+ ",\"description\":\"Blunt adamantite arrow...ouch\""
+			+ ",\"current\":{\"trend\":\"neutral\",\"price\":247}"
+			+ ",\"today\":{\"trend\":\"neutral\",\"price\":0}"
+			+ ",\"members\":\"true\""
+			+ ",\"day30\":{\"trend\":\"positive\",\"change\":\"+1.0%\"}"
+			+ ",\"day90\":{\"trend\":\"negative\",\"change\":\"-5.0%\"}"
+			+ ",\"day180\":{\"trend\":\"neutral\",\"change\":\"0.0%\"}}";
+	}
+
+	private static String categoryPricesJson() {
+		StringBuilder items = new StringBuilder();
+
+		for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+			items.append(i == 0 ? "" : ",").append(itemJson(4798 + i));
+		}
+
+		return "{\"total\":82,\"items\":[" + items + "]}";
+	}
+
+	private static String categoryJson() {
+		StringBuilder alpha = new StringBuilder("{\"letter\":\"#\",\"items\":0}");
+
+		for (char letter = 'a'; letter <= 'z'; letter++) {
+			alpha.append(",{\"letter\":\"").append(letter).append("\",\"items\":").append(letter * 3).append('}');
+		}
+
+		return "{\"types\":[],\"alpha\":[" + alpha + "]}";
+	}
+
+	private static String graphingDataJson() {
+		StringBuilder daily = new StringBuilder();
+		StringBuilder average = new StringBuilder();
+		LocalDate start = LocalDate.of(2018, 1, 1);
+
+		for (int day = 0; day < DAYS; day++) {
+			long epochMilli = start.plusDays(day).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+			String separator = day == 0 ? "" : ",";
+			daily.append(separator).append('"').append(epochMilli).append("\":").append(100_000 + day * 37);
+			average.append(separator).append('"').append(epochMilli).append("\":").append(100_000 + day * 29);
+		}
+
+		return "{\"daily\":{" + daily + "},\"average\":{" + average + "}}";
+	}
+
+	private final Gson gson = new Gson();
+
+	private String item;
+	private String itemPriceInformation;
+	private String categoryPrices;
+	private String category;
+	private String graphingData;
+
+	private TypeAdapter<Item> itemAdapter;
+	private TypeAdapter<Item> reflectiveItemAdapter;
+	private TypeAdapter<ItemPriceInformation> itemPriceInformationAdapter;
+	private TypeAdapter<ItemPriceInformation> reflectiveItemPriceInformationAdapter;
+	private TypeAdapter<CategoryPrices> categoryPricesAdapter;
+	private TypeAdapter<CategoryPrices> reflectiveCategoryPricesAdapter;
+	private TypeAdapter<Category> categoryAdapter;
+	private TypeAdapter<Category> reflectiveCategoryAdapter;
+	private TypeAdapter<GraphingData> graphingDataAdapter;
+	private TypeAdapter<GraphingData> reflectiveGraphingDataAdapter;
+
+	/**
+	 * Gets the adapter {@link Gson} falls back to for a type once its {@link com.google.gson.annotations.JsonAdapter}
+	 * is skipped, which for the models is the reflective adapter.
+	 */
+	private <T> TypeAdapter<T> reflective(Class<T> type) {
+		return gson.getDelegateAdapter(null, TypeToken.get(type));
+	}
+
+	@Setup
+	public void setUp() {
+		item = itemJson(4798);
+		itemPriceInformation = "{\"item\":" + item + "}";
+		categoryPrices = categoryPricesJson();
+		category = categoryJson();
+		graphingData = graphingDataJson();
+
+		itemAdapter = gson.getAdapter(Item.class);
+		reflectiveItemAdapter = reflective(Item.class);
+		itemPriceInformationAdapter = gson.getAdapter(ItemPriceInformation.class);
+		reflectiveItemPriceInformationAdapter = reflective(ItemPriceInformation.class);
+		categoryPricesAdapter = gson.getAdapter(CategoryPrices.class);
+		reflectiveCategoryPricesAdapter = reflective(CategoryPrices.class);
+		categoryAdapter = gson.getAdapter(Category.class);
+		reflectiveCategoryAdapter = reflective(Category.class);
+		graphingDataAdapter = gson.getAdapter(GraphingData.class);
+		reflectiveGraphingDataAdapter = reflective(GraphingData.class);
+	}
+
+	@Benchmark
+	public Item item() throws IOException {
+		return itemAdapter.fromJson(item);
+	}
+
+	@Benchmark
+	public Item itemReflective() throws IOException {
+		return reflectiveItemAdapter.fromJson(item);
+	}
+
+	@Benchmark
+	public ItemPriceInformation itemPriceInformation() throws IOException {
+		return itemPriceInformationAdapter.fromJson(itemPriceInformation);
+	}
+
+	@Benchmark
+	public ItemPriceInformation itemPriceInformationReflective() throws IOException {
+		return reflectiveItemPriceInformationAdapter.fromJson(itemPriceInformation);
+	}
+
+	@Benchmark
+	public CategoryPrices categoryPrices() throws IOException {
+		return categoryPricesAdapter.fromJson(categoryPrices);
+	}
+
+	@Benchmark
+	public CategoryPrices categoryPricesReflective() throws IOException {
+		return reflectiveCategoryPricesAdapter.fromJson(categoryPrices);
+	}
+
+	@Benchmark
+	public Category category() throws IOException {
+		return categoryAdapter.fromJson(category);
+	}
+
+	@Benchmark
+	public Category categoryReflective() throws IOException {
+		return reflectiveCategoryAdapter.fromJson(category);
+	}
+
+	@Benchmark
+	public GraphingData graphingData() throws IOException {
+		return graphingDataAdapter.fromJson(graphingData);
+	}
+
+	@Benchmark
+	public GraphingData graphingDataReflective() throws IOException {
+		return reflectiveGraphingDataAdapter.fromJson(graphingData);
+	}
+}
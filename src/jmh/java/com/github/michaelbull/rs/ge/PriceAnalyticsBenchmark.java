@@ -0,0 +1,101 @@
+package com.github.michaelbull.rs.ge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares computing a 30-day simple moving average over the daily prices of many items through the
+ * {@link LocalDate} maps of {@link GraphingData} with computing it through {@link PriceAnalytics}, on one thread and
+ * in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceAnalyticsBenchmark {
+
+	private static final int ITEMS = 2_000;
+
+	private static final int DAYS = 180;
+
+	private static final int WINDOW = 30;
+
+	private final List<GraphingData> data = new ArrayList<>();
+
+	private final List<PriceSeries> series = new ArrayList<>();
+
+	private final PriceAnalytics analytics = new PriceAnalytics();
+
+	private final double[] out = new double[DAYS];
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		LocalDate first = LocalDate.of(2018, 1, 1);
+
+		for (int item = 0; item < ITEMS; item++) {
+			Map<LocalDate, Integer> daily = new LinkedHashMap<>();
+			int price = 1_000 + random.nextInt(1_000_000);
+			for (int day = 0; day < DAYS; day++) {
+				price = Math.max(1, price + random.nextInt(2_001) - 1_000);
+				daily.put(first.plusDays(day), price);
+			}
+
+			GraphingData graphingData = GraphingData.fromLocalDates(daily, daily);
+			data.add(graphingData);
+			series.add(graphingData.getDailySeries());
+		}
+	}
+
+	@Benchmark
+	public double movingAverageViaMaps() {
+		double total = 0;
+		for (GraphingData graphingData : data) {
+			List<Integer> prices = new ArrayList<>(graphingData.getDailyPrices().values());
+			long sum = 0;
+			for (int i = 0; i < prices.size(); i++) {
+				sum += prices.get(i);
+				if (i >= WINDOW) {
+					sum -= prices.get(i - WINDOW);
+				}
+				if (i >= WINDOW - 1) {
+					total += sum / (double) WINDOW;
+				}
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public double movingAverageViaAnalytics() {
+		double total = 0;
+		for (PriceSeries prices : series) {
+			analytics.simpleMovingAverage(prices, WINDOW, out);
+			total += out[DAYS - 1];
+		}
+		return total;
+	}
+
+	@Benchmark
+	public double[][] movingAverageViaAnalyticsInParallel() {
+		return PriceAnalytics.applyAll(series, (analytics, prices, out) -> analytics.simpleMovingAverage(prices, WINDOW, out));
+	}
+}
@@ -0,0 +1,111 @@
+package com.github.michaelbull.rs.ge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the hand-rolled {@link PriceParser} with the regular expression and {@link BigDecimal} approach commonly
+ * used to parse Grand Exchange prices, over a mix of the formats returned by the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceParserBenchmark {
+
+	private static final Pattern COINS = Pattern.compile("^\\s*([+-])?\\s*([\\d,]+(?:\\.\\d+)?)\\s*([kmbKMB])?\\s*$");
+
+	private static final Pattern PERCENT = Pattern.compile("^\\s*([+-]?\\d+(?:\\.\\d+)?)%\\s*$");
+
+	private static final String[] PRICES = { "247", "3,456", "1.2k", "2.1m", "- 24", "+5", "12.5k", "1.1b" };
+
+	private static final String[] CHANGES = { "+5.0%", "-13.0%", "0%", "+1.0%", "-0.5%", "+100.0%" };
+
+	private static long regexCoins(String text) {
+		Matcher matcher = COINS.matcher(text);
+		if (!matcher.matches()) {
+			throw new NumberFormatException(text);
+		}
+
+		BigDecimal value = new BigDecimal(matcher.group(2).replace(",", ""));
+
+		String suffix = matcher.group(3);
+		if (suffix != null) {
+			switch (suffix.toLowerCase()) {
+				case "k":
+					value = value.movePointRight(3);
+					break;
+
+				case "m":
+					value = value.movePointRight(6);
+					break;
+
+				default:
+					value = value.movePointRight(9);
+					break;
+			}
+		}
+
+		long coins = value.setScale(0, RoundingMode.HALF_UP).longValueExact();
+		return "-".equals(matcher.group(1)) ? -coins : coins;
+	}
+
+	private static double regexPercent(String text) {
+		Matcher matcher = PERCENT.matcher(text);
+		if (!matcher.matches()) {
+			throw new NumberFormatException(text);
+		}
+		return new BigDecimal(matcher.group(1)).doubleValue();
+	}
+
+	@Benchmark
+	public long coinsViaRegex() {
+		long sum = 0;
+		for (String price : PRICES) {
+			sum += regexCoins(price);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long coinsViaParser() {
+		long sum = 0;
+		for (String price : PRICES) {
+			sum += PriceParser.parseCoins(price);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double percentViaRegex() {
+		double sum = 0;
+		for (String change : CHANGES) {
+			sum += regexPercent(change);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double percentViaParser() {
+		double sum = 0;
+		for (String change : CHANGES) {
+			sum += PriceParser.parsePercent(change);
+		}
+		return sum;
+	}
+}
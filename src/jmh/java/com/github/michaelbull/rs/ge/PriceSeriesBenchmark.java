@@ -0,0 +1,79 @@
+package com.github.michaelbull.rs.ge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the prices of {@link GraphingData} through the {@link LocalDate} maps with reading them through its
+ * {@link PriceSeries}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceSeriesBenchmark {
+
+	private static final int DAYS = 180;
+
+	private static final LocalDate FIRST_DAY = LocalDate.of(2018, 1, 1);
+
+	private GraphingData data;
+
+	private LocalDate lookup;
+
+	@Setup
+	public void setUp() {
+		Map<String, Integer> daily = new LinkedHashMap<>();
+		for (int day = 0; day < DAYS; day++) {
+			daily.put(Long.toString(FIRST_DAY.plusDays(day).toEpochDay() * GraphingData.MILLIS_PER_DAY), 1_000 + day);
+		}
+
+		data = GraphingData.fromDatecodes(daily, daily);
+		lookup = FIRST_DAY.plusDays(DAYS / 2);
+	}
+
+	@Benchmark
+	public int lookupViaMap() {
+		return data.getDailyPrices().get(lookup);
+	}
+
+	@Benchmark
+	public int lookupViaSeries() {
+		return data.getDailySeries().getPrice(lookup).getAsInt();
+	}
+
+	@Benchmark
+	public long sumViaMap() {
+		long sum = 0;
+		for (int price : data.getDailyPrices().values()) {
+			sum += price;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long sumViaSeries() {
+		PriceSeries series = data.getDailySeries();
+
+		long sum = 0;
+		for (int i = 0; i < series.size(); i++) {
+			sum += series.getPrice(i);
+		}
+		return sum;
+	}
+}
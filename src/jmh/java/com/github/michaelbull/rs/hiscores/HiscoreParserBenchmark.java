@@ -0,0 +1,92 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.github.michaelbull.rs.Client;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing an {@code index_lite.ws} response through commons-csv {@link CSVRecord}s with the single-pass
+ * {@link HiscoreParser}. Both produce the same {@link Player}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HiscoreParserBenchmark {
+
+	private static final HiscoreTable TABLE = HiscoreTable.DEFAULT;
+
+	private static Optional<Player> readRecords(ImmutableList<CSVRecord> records) {
+		ImmutableList<String> skillNames = TABLE.getSkillNames();
+		ImmutableList<String> activityNames = TABLE.getActivityNames();
+
+		if (records.size() < skillNames.size() + activityNames.size()) {
+			return Optional.empty();
+		}
+
+		ImmutableMap.Builder<String, Skill> skills = ImmutableMap.builder();
+		for (int i = 0; i < skillNames.size(); i++) {
+			String name = skillNames.get(i);
+			Skill.fromCsv(records.get(i)).ifPresent(skill -> skills.put(name, skill));
+		}
+
+		ImmutableMap.Builder<String, HiscoreActivity> activities = ImmutableMap.builder();
+		for (int i = 0; i < activityNames.size(); i++) {
+			String name = activityNames.get(i);
+			HiscoreActivity.fromCsv(records.get(skillNames.size() + i)).ifPresent(activity -> activities.put(name, activity));
+		}
+
+		return Optional.of(new Player(skills.build(), activities.build()));
+	}
+
+	private byte[] response;
+
+	@Setup
+	public void setUp() {
+		StringBuilder csv = new StringBuilder();
+
+		for (int i = 0; i < TABLE.getSkillNames().size(); i++) {
+			csv.append(1_000 + i * 7_919).append(',').append(80 + i % 20).append(',').append(2_000_000L + i * 1_234_567L).append('\n');
+		}
+
+		for (int i = 0; i < TABLE.getActivityNames().size(); i++) {
+			csv.append(i % 3 == 0 ? "-1,-1" : (500 + i * 13) + "," + (i * 101)).append('\n');
+		}
+
+		response = csv.toString().getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	@Benchmark
+	public Optional<Player> commonsCsv() throws IOException {
+		InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(response), StandardCharsets.ISO_8859_1);
+		try (CSVParser parser = new CSVParser(reader, Client.CSV_FORMAT)) {
+			return readRecords(ImmutableList.copyOf(parser.getRecords()));
+		}
+	}
+
+	@Benchmark
+	public Optional<Player> hiscoreParser() throws IOException {
+		return HiscoreParser.read(new ByteArrayInputStream(response), TABLE);
+	}
+}
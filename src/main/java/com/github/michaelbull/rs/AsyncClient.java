@@ -0,0 +1,80 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Represents a client that asynchronously deserializes JSON and CSV resources into Java {@link Object}s.
+ * <p>
+ * Each method returns immediately with a {@link CompletableFuture} that is completed once the resource has been
+ * deserialized, or completed exceptionally with an {@link IOException} if an I/O error occurs.
+ */
+public interface AsyncClient extends Closeable {
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type.
+	 * @param url The URL to deserialize from.
+	 * @param typeOfT The specific genericized type of src.
+	 * @param <T> The type of the desired object
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing an object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 */
+	<T> CompletableFuture<Optional<T>> fromJson(String url, Type typeOfT);
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type.
+	 * @param url The URL to deserialize from.
+	 * @param classOfT The class of T.
+	 * @param <T> The type of the desired object
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing an object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 */
+	<T> CompletableFuture<Optional<T>> fromJson(String url, Class<T> classOfT);
+
+	/**
+	 * Deserializes a CSV file from a specified URL into an {@link ImmutableList} of {@link CSVRecord}s.
+	 * @param url The URL to deserialize from.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableList} of {@link CSVRecord}s.
+	 */
+	CompletableFuture<ImmutableList<CSVRecord>> fromCSV(String url);
+
+	/**
+	 * Parses a resource from a specified URL directly from the {@link java.io.InputStream} of its response.
+	 * <p>
+	 * The default implementation is for clients that predate this method: it deserializes the resource with
+	 * {@link #fromCSV(String)} and prints the records back into a buffered response for the parser, encoded as UTF-8.
+	 * The parser therefore sees the records as {@link #CSV_FORMAT} prints them rather than the bytes the server sent.
+	 * Clients that can stream the response should override it.
+	 * @param url The URL to parse from.
+	 * @param parser The {@link StreamParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return A {@link CompletableFuture} of the parsed result.
+	 */
+	default <T> CompletableFuture<T> fromStream(String url, StreamParser<? extends T> parser) {
+		Preconditions.checkNotNull(parser);
+		return fromCSV(url).thenApply(records -> {
+			try (InputStream in = StreamBodies.ofRecords(records)) {
+				return parser.parse(in, StandardCharsets.UTF_8);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Releases any resources held by this client. The default implementation does nothing.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	default void close() throws IOException {
+		/* empty */
+	}
+}
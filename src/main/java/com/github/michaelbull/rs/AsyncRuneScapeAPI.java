@@ -0,0 +1,81 @@
+package com.github.michaelbull.rs;
+
+import com.github.michaelbull.rs.bestiary.AsyncBestiary;
+import com.github.michaelbull.rs.ge.AsyncGrandExchange;
+import com.github.michaelbull.rs.hiscores.AsyncHiscores;
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Represents an instance of the RuneScape web-services API that is queried asynchronously.
+ * @see RuneScapeAPI#createAsync(AsyncClient)
+ * @see RuneScapeAPI#createHttpAsync()
+ */
+public final class AsyncRuneScapeAPI implements Closeable {
+
+	/**
+	 * The {@link AsyncClient} backing the APIs.
+	 */
+	private final AsyncClient client;
+
+	/**
+	 * The {@link AsyncBestiary}.
+	 */
+	private final AsyncBestiary bestiary;
+
+	/**
+	 * The {@link AsyncGrandExchange}.
+	 */
+	private final AsyncGrandExchange grandExchange;
+
+	/**
+	 * The {@link AsyncHiscores}.
+	 */
+	private final AsyncHiscores hiscores;
+
+	/**
+	 * Creates a new {@link AsyncRuneScapeAPI}.
+	 * @param client The {@link AsyncClient} to use.
+	 */
+	AsyncRuneScapeAPI(AsyncClient client) {
+		this.client = Preconditions.checkNotNull(client);
+		this.bestiary = new AsyncBestiary(client);
+		this.grandExchange = new AsyncGrandExchange(client);
+		this.hiscores = new AsyncHiscores(client);
+	}
+
+	/**
+	 * Gets the {@link AsyncBestiary}.
+	 * @return The {@link AsyncBestiary}.
+	 */
+	public AsyncBestiary bestiary() {
+		return bestiary;
+	}
+
+	/**
+	 * Gets the {@link AsyncGrandExchange}.
+	 * @return The {@link AsyncGrandExchange}.
+	 */
+	public AsyncGrandExchange grandExchange() {
+		return grandExchange;
+	}
+
+	/**
+	 * Gets the {@link AsyncHiscores}.
+	 * @return The {@link AsyncHiscores}.
+	 */
+	public AsyncHiscores hiscores() {
+		return hiscores;
+	}
+
+	/**
+	 * Closes the {@link AsyncClient} backing the APIs.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		client.close();
+	}
+}
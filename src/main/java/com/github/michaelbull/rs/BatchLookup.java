@@ -0,0 +1,257 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Looks up many keys in parallel with at most {@link Builder#concurrency(int)} lookups in flight, collecting the
+ * outcome of each key into a {@link BatchResult}.
+ * <p>
+ * A lookup that fails with an {@link IOException} is recorded against its key and the rest of the batch continues.
+ * Unchecked exceptions and interruption cancel the lookups in flight and are rethrown.
+ * <p>
+ * Rate limiting is opt-in: lookups start as fast as the concurrency allows unless a {@link RateLimiter} is given to
+ * {@link Builder#rateLimiter(RateLimiter)}, which paces the start of each lookup. The permit is acquired by the task
+ * that makes the lookup, so waiting for one does not hold up the outcomes of the lookups in flight. Sharing one
+ * {@link RateLimiter} between every {@link BatchLookup} that requests the same host limits the rate at that host.
+ */
+public final class BatchLookup {
+
+	public static final class Builder {
+		private int concurrency = DEFAULT_CONCURRENCY;
+		private Executor executor;
+		private RateLimiter rateLimiter;
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder concurrency(int concurrency) {
+			Preconditions.checkArgument(concurrency > 0, "Concurrency must be positive.");
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			this.executor = Preconditions.checkNotNull(executor);
+			return this;
+		}
+
+		public Builder rateLimiter(RateLimiter rateLimiter) {
+			this.rateLimiter = Preconditions.checkNotNull(rateLimiter);
+			return this;
+		}
+
+		public BatchLookup build() {
+			return new BatchLookup(concurrency, executor, rateLimiter);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Looks up the value of a single key.
+	 * @param <K> The type of the key.
+	 * @param <V> The type of the value.
+	 */
+	@FunctionalInterface
+	public interface Lookup<K, V> {
+		/**
+		 * Looks up the value of a key.
+		 * @param key The key.
+		 * @return An {@link Optional} containing the value, or {@link Optional#empty()} if the key has no value.
+		 * @throws IOException If an I/O error occurs.
+		 */
+		Optional<V> lookup(K key) throws IOException;
+	}
+
+	/**
+	 * Listens for the outcome of each key as its lookup completes, before the {@link BatchResult} is returned.
+	 * <p>
+	 * Listeners are called on the thread that started the batch, one key at a time. An unchecked exception thrown by
+	 * a listener cancels the rest of the batch and is rethrown.
+	 * @param <K> The type of the keys.
+	 * @param <V> The type of the values.
+	 */
+	public interface Listener<K, V> {
+		/**
+		 * Called when a key's value is found.
+		 * @param key The key.
+		 * @param value The value.
+		 */
+		default void onResult(K key, V value) {
+			/* empty */
+		}
+
+		/**
+		 * Called when a key has no value.
+		 * @param key The key.
+		 */
+		default void onMissing(K key) {
+			/* empty */
+		}
+
+		/**
+		 * Called when a key's lookup fails.
+		 * @param key The key.
+		 * @param failure The {@link IOException} the lookup failed with.
+		 */
+		default void onFailure(K key, IOException failure) {
+			/* empty */
+		}
+	}
+
+	/**
+	 * The default maximum amount of lookups in flight.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 8;
+
+	/**
+	 * The maximum amount of lookups in flight.
+	 */
+	private final int concurrency;
+
+	/**
+	 * The {@link Executor} lookups are made on, or {@code null} if a pool is created for each batch.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The {@link RateLimiter} that paces the start of each lookup, or {@code null} if lookups are not rate limited.
+	 */
+	private final RateLimiter rateLimiter;
+
+	/**
+	 * Creates a new {@link BatchLookup}.
+	 * @param concurrency The maximum amount of lookups in flight.
+	 * @param executor The {@link Executor} lookups are made on, or {@code null} if a pool is created for each batch.
+	 * @param rateLimiter The {@link RateLimiter} that paces the start of each lookup, or {@code null} if lookups are not rate limited.
+	 */
+	private BatchLookup(int concurrency, Executor executor, RateLimiter rateLimiter) {
+		this.concurrency = concurrency;
+		this.executor = executor;
+		this.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * Looks up a collection of keys, each distinct key once.
+	 * @param keys The keys.
+	 * @param lookup The {@link Lookup} of a single key.
+	 * @param <K> The type of the keys.
+	 * @param <V> The type of the values.
+	 * @return The {@link BatchResult} of every key.
+	 * @throws InterruptedIOException If the thread is interrupted.
+	 */
+	public <K, V> BatchResult<K, V> lookup(Collection<? extends K> keys, Lookup<? super K, ? extends V> lookup) throws InterruptedIOException {
+		return lookup(keys, lookup, new Listener<K, V>() { });
+	}
+
+	/**
+	 * Looks up a collection of keys, each distinct key once, passing the outcome of each key to a {@link Listener} as
+	 * its lookup completes.
+	 * @param keys The keys.
+	 * @param lookup The {@link Lookup} of a single key.
+	 * @param listener The {@link Listener}.
+	 * @param <K> The type of the keys.
+	 * @param <V> The type of the values.
+	 * @return The {@link BatchResult} of every key.
+	 * @throws InterruptedIOException If the thread is interrupted.
+	 */
+	public <K, V> BatchResult<K, V> lookup(Collection<? extends K> keys, Lookup<? super K, ? extends V> lookup, Listener<? super K, ? super V> listener) throws InterruptedIOException {
+		Preconditions.checkNotNull(keys);
+		Preconditions.checkNotNull(lookup);
+		Preconditions.checkNotNull(listener);
+
+		List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+		BatchResult.Builder<K, V> result = new BatchResult.Builder<>();
+
+		if (distinct.isEmpty()) {
+			return result.build();
+		}
+
+		ExecutorService pool = executor == null ? Executors.newFixedThreadPool(Math.min(concurrency, distinct.size())) : null;
+		CompletionService<Optional<? extends V>> completion = new ExecutorCompletionService<>(pool == null ? executor : pool);
+
+		Iterator<K> pending = distinct.iterator();
+		Map<Future<Optional<? extends V>>, K> inFlight = new HashMap<>();
+
+		try {
+			while (pending.hasNext() || !inFlight.isEmpty()) {
+				while (inFlight.size() < concurrency && pending.hasNext()) {
+					K key = pending.next();
+
+					inFlight.put(completion.submit(() -> {
+						if (rateLimiter != null) {
+							rateLimiter.acquire();
+						}
+
+						return lookup.lookup(key);
+					}), key);
+				}
+
+				Future<Optional<? extends V>> future = completion.take();
+				K key = inFlight.remove(future);
+
+				try {
+					Optional<? extends V> value = future.get();
+					if (value.isPresent()) {
+						result.result(key, value.get());
+						listener.onResult(key, value.get());
+					} else {
+						result.missing(key);
+						listener.onMissing(key);
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					Throwables.throwIfUnchecked(cause);
+
+					IOException failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+					result.failure(key, failure);
+					listener.onFailure(key, failure);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while looking up a batch.");
+		} finally {
+			inFlight.keySet().forEach(future -> future.cancel(true));
+
+			if (pool != null) {
+				pool.shutdownNow();
+			}
+		}
+
+		return result.build();
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("concurrency", concurrency)
+			.add("executor", executor)
+			.add("rateLimiter", rateLimiter)
+			.toString();
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Represents the outcome of looking up many keys with a {@link BatchLookup}: the values that were found, the keys
+ * that had no value, and the keys whose lookup failed, so that a single failure does not lose the rest of the batch.
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public final class BatchResult<K, V> {
+
+	static final class Builder<K, V> {
+		private final ImmutableMap.Builder<K, V> results = ImmutableMap.builder();
+		private final ImmutableSet.Builder<K> missing = ImmutableSet.builder();
+		private final ImmutableMap.Builder<K, IOException> failures = ImmutableMap.builder();
+
+		Builder() {
+			/* empty */
+		}
+
+		Builder<K, V> result(K key, V value) {
+			results.put(key, value);
+			return this;
+		}
+
+		Builder<K, V> missing(K key) {
+			missing.add(key);
+			return this;
+		}
+
+		Builder<K, V> failure(K key, IOException failure) {
+			failures.put(key, failure);
+			return this;
+		}
+
+		BatchResult<K, V> build() {
+			return new BatchResult<>(results.build(), missing.build(), failures.build());
+		}
+	}
+
+	/**
+	 * An {@link ImmutableMap} of the keys that were found to their values.
+	 */
+	private final ImmutableMap<K, V> results;
+
+	/**
+	 * An {@link ImmutableSet} of the keys that had no value.
+	 */
+	private final ImmutableSet<K> missing;
+
+	/**
+	 * An {@link ImmutableMap} of the keys whose lookup failed to the {@link IOException} it failed with.
+	 */
+	private final ImmutableMap<K, IOException> failures;
+
+	/**
+	 * Creates a new {@link BatchResult}.
+	 * @param results The keys that were found to their values.
+	 * @param missing The keys that had no value.
+	 * @param failures The keys whose lookup failed to the {@link IOException} it failed with.
+	 */
+	private BatchResult(ImmutableMap<K, V> results, ImmutableSet<K> missing, ImmutableMap<K, IOException> failures) {
+		this.results = Preconditions.checkNotNull(results);
+		this.missing = Preconditions.checkNotNull(missing);
+		this.failures = Preconditions.checkNotNull(failures);
+	}
+
+	/**
+	 * Gets the values that were found.
+	 * @return An {@link ImmutableMap} of the keys to their values.
+	 */
+	public ImmutableMap<K, V> getResults() {
+		return results;
+	}
+
+	/**
+	 * Gets the keys that had no value.
+	 * @return An {@link ImmutableSet} of the keys.
+	 */
+	public ImmutableSet<K> getMissing() {
+		return missing;
+	}
+
+	/**
+	 * Gets the keys whose lookup failed, which may be retried.
+	 * @return An {@link ImmutableMap} of the keys to the {@link IOException} their lookup failed with.
+	 */
+	public ImmutableMap<K, IOException> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Checks if every lookup completed without failing.
+	 * @return {@code true} if no lookup failed, otherwise {@code false}.
+	 */
+	public boolean isComplete() {
+		return failures.isEmpty();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		BatchResult<?, ?> that = (BatchResult<?, ?>) o;
+		return Objects.equals(results, that.results)
+			&& Objects.equals(missing, that.missing)
+			&& Objects.equals(failures, that.failures);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(results, missing, failures);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("results", results.size())
+			.add("missing", missing)
+			.add("failures", failures.keySet())
+			.toString();
+	}
+}
@@ -0,0 +1,316 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Client} that caches the results of another {@link Client} in memory.
+ * <p>
+ * Each URL family, identified by a URL prefix, is held in its own bounded cache with its own time-to-live, so
+ * rarely-changing resources such as the Bestiary area names can be kept for hours while hiscores are kept for
+ * minutes. A URL is cached by the family with the longest matching prefix, by the default family if none match, or
+ * not at all if no default time-to-live was configured. Concurrent requests for an uncached resource wait for a
+ * single request to the underlying {@link Client}.
+ * <p>
+ * Deserialized results are cached as-is and shared between callers. Responses parsed by a {@link StreamParser} are
+ * cached as raw bytes and parsed again on each call. Failed requests and {@link Optional#empty()} results, such as an
+ * error page served in place of JSON or an item the Grand Exchange has not indexed yet, are never cached: callers
+ * waiting on the same request share them, but the next call requests the resource again.
+ */
+public final class CachingClient implements Client {
+
+	public static final class Builder {
+		private final Map<String, Duration> families = new LinkedHashMap<>();
+		private Duration defaultExpireAfterWrite;
+		private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+		private long maximumWeight = -1;
+		private Weigher<String, Object> weigher;
+		private Ticker ticker = Ticker.systemTicker();
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder expireAfterWrite(String urlPrefix, Duration duration) {
+			Preconditions.checkNotNull(urlPrefix);
+			Preconditions.checkArgument(!duration.isNegative() && !duration.isZero(), "Expiry duration must be positive.");
+			families.put(urlPrefix, duration);
+			return this;
+		}
+
+		public Builder defaultExpireAfterWrite(Duration duration) {
+			Preconditions.checkArgument(!duration.isNegative() && !duration.isZero(), "Expiry duration must be positive.");
+			this.defaultExpireAfterWrite = duration;
+			return this;
+		}
+
+		public Builder maximumSize(long maximumSize) {
+			Preconditions.checkArgument(maximumSize > 0, "Maximum size must be positive.");
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		public Builder maximumWeight(long maximumWeight, Weigher<String, Object> weigher) {
+			Preconditions.checkArgument(maximumWeight > 0, "Maximum weight must be positive.");
+			this.maximumWeight = maximumWeight;
+			this.weigher = Preconditions.checkNotNull(weigher);
+			return this;
+		}
+
+		public Builder ticker(Ticker ticker) {
+			this.ticker = Preconditions.checkNotNull(ticker);
+			return this;
+		}
+
+		public CachingClient build(Client client) {
+			Preconditions.checkNotNull(client);
+			Preconditions.checkState(!families.isEmpty() || defaultExpireAfterWrite != null, "At least one URL family or a default expiry must be configured.");
+			return new CachingClient(this, client);
+		}
+
+		private Cache<RequestKey, Object> newCache(Duration expireAfterWrite) {
+			CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+				.expireAfterWrite(expireAfterWrite.toNanos(), TimeUnit.NANOSECONDS)
+				.ticker(ticker)
+				.recordStats();
+
+			if (weigher == null) {
+				return builder.maximumSize(maximumSize).build();
+			}
+
+			Weigher<String, Object> urlWeigher = weigher;
+			return builder.maximumWeight(maximumWeight)
+				.weigher((RequestKey key, Object value) -> urlWeigher.weigh(key.getUrl(), value))
+				.build();
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * The maximum amount of entries held by each URL family's cache, unless configured otherwise.
+	 */
+	public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+	/**
+	 * The underlying {@link Client}.
+	 */
+	private final Client client;
+
+	/**
+	 * An {@link ImmutableMap} of URL prefixes to the cache of their family, ordered from the longest prefix to the
+	 * shortest.
+	 */
+	private final ImmutableMap<String, Cache<RequestKey, Object>> families;
+
+	/**
+	 * The cache of URLs that match no family, or {@code null} if they are not cached.
+	 */
+	private final Cache<RequestKey, Object> defaultFamily;
+
+	/**
+	 * Creates a new {@link CachingClient}.
+	 * @param builder The {@link Builder} holding the configuration.
+	 * @param client The underlying {@link Client}.
+	 */
+	private CachingClient(Builder builder, Client client) {
+		this.client = client;
+
+		ImmutableMap.Builder<String, Cache<RequestKey, Object>> families = ImmutableMap.builder();
+		builder.families.entrySet().stream()
+			.sorted(Comparator.comparingInt((Map.Entry<String, Duration> entry) -> entry.getKey().length()).reversed())
+			.forEach(entry -> families.put(entry.getKey(), builder.newCache(entry.getValue())));
+		this.families = families.build();
+
+		this.defaultFamily = builder.defaultExpireAfterWrite == null ? null : builder.newCache(builder.defaultExpireAfterWrite);
+	}
+
+	/**
+	 * Finds the cache of the URL family a URL belongs to.
+	 * @param url The URL.
+	 * @return The cache, or {@code null} if the URL is not cached.
+	 */
+	private Cache<RequestKey, Object> cacheFor(String url) {
+		for (Map.Entry<String, Cache<RequestKey, Object>> family : families.entrySet()) {
+			if (url.startsWith(family.getKey())) {
+				return family.getValue();
+			}
+		}
+		return defaultFamily;
+	}
+
+	/**
+	 * Gets a cached result, requesting it from the underlying {@link Client} if it is absent or expired.
+	 * @param url The URL of the resource.
+	 * @param form The form the resource is requested in.
+	 * @param request The {@link Request} to the underlying {@link Client}.
+	 * @param <T> The type of the result.
+	 * @return The result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T get(String url, Object form, Request<T> request) throws IOException {
+		Preconditions.checkNotNull(url);
+
+		Cache<RequestKey, Object> cache = cacheFor(url);
+		if (cache == null) {
+			return request.execute();
+		}
+
+		RequestKey key = new RequestKey(url, form);
+		try {
+			Object result = cache.get(key, request::execute);
+			if (result.equals(Optional.empty())) {
+				cache.asMap().remove(key, result);
+			}
+			return (T) result;
+		} catch (ExecutionException e) {
+			Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+			throw new IOException(e.getCause());
+		} catch (UncheckedExecutionException | ExecutionError e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw e;
+		}
+	}
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type, or returns the cached
+	 * object.
+	 * @param url The URL to deserialize from.
+	 * @param typeOfT The specific genericized type of src.
+	 * @param <T> The type of the desired object
+	 * @return An {@link Optional} containing an object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> Optional<T> fromJson(String url, Type typeOfT) throws IOException {
+		Preconditions.checkNotNull(typeOfT);
+		return get(url, typeOfT, () -> client.fromJson(url, typeOfT));
+	}
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type, or returns the cached
+	 * object.
+	 * @param url The URL to deserialize from.
+	 * @param classOfT The class of T.
+	 * @param <T> The type of the desired object
+	 * @return An optional of object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> Optional<T> fromJson(String url, Class<T> classOfT) throws IOException {
+		Preconditions.checkNotNull(classOfT);
+		return get(url, classOfT, () -> client.fromJson(url, classOfT));
+	}
+
+	/**
+	 * Deserializes a CSV file from a specified URL into an {@link ImmutableList} of {@link CSVRecord}s, or returns
+	 * the cached records.
+	 * @param url The URL to deserialize from.
+	 * @return An {@link ImmutableList} of {@link CSVRecord}s.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
+		return get(url, RequestKey.CSV, () -> client.fromCSV(url));
+	}
+
+	/**
+	 * Parses a resource from a specified URL, reading it from the cached response body if there is one.
+	 * @param url The URL to parse from.
+	 * @param parser The {@link StreamParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return The parsed result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+		Preconditions.checkNotNull(parser);
+		byte[] body = get(url, RequestKey.STREAM, () -> client.fromStream(url, StreamBodies::toUtf8));
+		return parser.parse(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Gets the statistics of every URL family's cache combined.
+	 * @return The combined {@link CacheStats}.
+	 */
+	public CacheStats stats() {
+		CacheStats stats = defaultFamily == null ? new CacheStats(0, 0, 0, 0, 0, 0) : defaultFamily.stats();
+		for (Cache<RequestKey, Object> cache : families.values()) {
+			stats = stats.plus(cache.stats());
+		}
+		return stats;
+	}
+
+	/**
+	 * Gets the statistics of a single URL family's cache.
+	 * @param urlPrefix The URL prefix of the family, as configured with {@link Builder#expireAfterWrite}.
+	 * @return An {@link Optional} containing the {@link CacheStats}, or {@link Optional#empty()} if no family has that prefix.
+	 */
+	public Optional<CacheStats> stats(String urlPrefix) {
+		Cache<RequestKey, Object> cache = families.get(Preconditions.checkNotNull(urlPrefix));
+		return cache == null ? Optional.empty() : Optional.of(cache.stats());
+	}
+
+	/**
+	 * Discards every cached result whose URL starts with a prefix, such as the Grand Exchange prices once the Grand
+	 * Exchange has updated.
+	 * @param urlPrefix The URL prefix.
+	 */
+	public void invalidate(String urlPrefix) {
+		Preconditions.checkNotNull(urlPrefix);
+
+		for (Cache<RequestKey, Object> cache : families.values()) {
+			cache.asMap().keySet().removeIf(key -> key.getUrl().startsWith(urlPrefix));
+		}
+
+		if (defaultFamily != null) {
+			defaultFamily.asMap().keySet().removeIf(key -> key.getUrl().startsWith(urlPrefix));
+		}
+	}
+
+	/**
+	 * Discards every cached result.
+	 */
+	public void invalidateAll() {
+		families.values().forEach(Cache::invalidateAll);
+
+		if (defaultFamily != null) {
+			defaultFamily.invalidateAll();
+		}
+	}
+
+	/**
+	 * Discards every cached result and closes the underlying {@link Client}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		invalidateAll();
+		client.close();
+	}
+}
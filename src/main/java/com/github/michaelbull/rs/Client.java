@@ -1,17 +1,24 @@
 package com.github.michaelbull.rs;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
- * Represents a client that can deserialize JSON and CSV resources into Java {@link Object}s.
+ * Represents a client that can deserialize JSON and CSV resources into Java {@link Object}s, or hand the raw
+ * response to a {@link StreamParser}.
+ * <p>
+ * A {@link Client} may hold resources, such as a pool of connections, that are released by {@link #close()}.
  */
-public interface Client {
+public interface Client extends Closeable {
 
 	/**
 	 * The comma-separated CSV format.
@@ -45,4 +52,33 @@ public interface Client {
 	 * @throws IOException If an I/O error occurs.
 	 */
 	ImmutableList<CSVRecord> fromCSV(String url) throws IOException;
+
+	/**
+	 * Parses a resource from a specified URL directly from the {@link java.io.InputStream} of its response.
+	 * <p>
+	 * The default implementation is for clients that predate this method: it deserializes the resource with
+	 * {@link #fromCSV(String)} and prints the records back into a buffered response for the parser, encoded as UTF-8.
+	 * The parser therefore sees the records as {@link #CSV_FORMAT} prints them rather than the bytes the server sent.
+	 * Clients that can stream the response should override it.
+	 * @param url The URL to parse from.
+	 * @param parser The {@link StreamParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return The parsed result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	default <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+		Preconditions.checkNotNull(parser);
+		try (InputStream in = StreamBodies.ofRecords(fromCSV(url))) {
+			return parser.parse(in, StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Releases any resources held by this client. The default implementation does nothing.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	default void close() throws IOException {
+		/* empty */
+	}
 }
@@ -0,0 +1,168 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A {@link Client} that coalesces concurrent identical requests into a single request to another {@link Client}.
+ * <p>
+ * The first caller to request a URL in a given form makes the request, and every caller that requests the same URL in
+ * the same form while it is in flight waits for, and receives, its result or its failure. Nothing is retained once the
+ * request completes, so a later call makes a new request; combine with a {@link CachingClient} to also reuse results
+ * over time.
+ * <p>
+ * Deserialized results are shared between the coalesced callers. Responses parsed by a {@link StreamParser} are
+ * read into memory once and parsed separately by each caller.
+ */
+public final class CoalescingClient implements Client {
+
+	/**
+	 * The underlying {@link Client}.
+	 */
+	private final Client client;
+
+	/**
+	 * A {@link ConcurrentMap} of the requests in flight to the {@link CompletableFuture} of their result.
+	 */
+	private final ConcurrentMap<RequestKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link CoalescingClient}.
+	 * @param client The underlying {@link Client}.
+	 */
+	public CoalescingClient(Client client) {
+		this.client = Preconditions.checkNotNull(client);
+	}
+
+	/**
+	 * Makes a request, or waits for the identical request that is already in flight.
+	 * @param url The URL of the resource.
+	 * @param form The form the resource is requested in.
+	 * @param request The {@link Request} to the underlying {@link Client}.
+	 * @param <T> The type of the result.
+	 * @return The result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T coalesce(String url, Object form, Request<T> request) throws IOException {
+		Preconditions.checkNotNull(url);
+		RequestKey key = new RequestKey(url, form);
+
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+		if (existing != null) {
+			return (T) await(existing);
+		}
+
+		try {
+			T result = request.execute();
+			future.complete(result);
+			return result;
+		} catch (IOException | RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Waits for a request that is in flight on another thread.
+	 * @param future The {@link CompletableFuture} of its result.
+	 * @return The result.
+	 * @throws IOException If an I/O error occurred, or the thread was interrupted while waiting.
+	 */
+	private static Object await(CompletableFuture<Object> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a coalesced request.");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			Throwables.throwIfInstanceOf(cause, IOException.class);
+			Throwables.throwIfUnchecked(cause);
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type, sharing the result with
+	 * any concurrent identical requests.
+	 * @param url The URL to deserialize from.
+	 * @param typeOfT The specific genericized type of src.
+	 * @param <T> The type of the desired object
+	 * @return An {@link Optional} containing an object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> Optional<T> fromJson(String url, Type typeOfT) throws IOException {
+		Preconditions.checkNotNull(typeOfT);
+		return coalesce(url, typeOfT, () -> client.fromJson(url, typeOfT));
+	}
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type, sharing the result with
+	 * any concurrent identical requests.
+	 * @param url The URL to deserialize from.
+	 * @param classOfT The class of T.
+	 * @param <T> The type of the desired object
+	 * @return An optional of object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> Optional<T> fromJson(String url, Class<T> classOfT) throws IOException {
+		Preconditions.checkNotNull(classOfT);
+		return coalesce(url, classOfT, () -> client.fromJson(url, classOfT));
+	}
+
+	/**
+	 * Deserializes a CSV file from a specified URL into an {@link ImmutableList} of {@link CSVRecord}s, sharing the
+	 * result with any concurrent identical requests.
+	 * @param url The URL to deserialize from.
+	 * @return An {@link ImmutableList} of {@link CSVRecord}s.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
+		return coalesce(url, RequestKey.CSV, () -> client.fromCSV(url));
+	}
+
+	/**
+	 * Parses a resource from a specified URL, sharing the response body with any concurrent requests for the same URL.
+	 * @param url The URL to parse from.
+	 * @param parser The {@link StreamParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return The parsed result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+		Preconditions.checkNotNull(parser);
+		byte[] body = coalesce(url, RequestKey.STREAM, () -> client.fromStream(url, StreamBodies::toUtf8));
+		return parser.parse(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Closes the underlying {@link Client}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		client.close();
+	}
+}
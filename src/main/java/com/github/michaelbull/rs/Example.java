@@ -39,8 +39,8 @@ public final class Example {
 	 * @param args The program's arguments.
 	 */
 	public static void main(String... args) {
-		try (Scanner in = new Scanner(System.in, "UTF-8")) {
-			RuneScapeAPI api = RuneScapeAPI.createHttp();
+		try (Scanner in = new Scanner(System.in, "UTF-8");
+			 RuneScapeAPI api = RuneScapeAPI.createHttp()) {
 			Bestiary bestiary = api.bestiary();
 			GrandExchange ge = api.grandExchange();
 			Hiscores hiscores = api.hiscores();
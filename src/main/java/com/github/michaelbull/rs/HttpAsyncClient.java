@@ -0,0 +1,224 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * An {@link AsyncClient} that wraps a non-blocking {@link org.apache.http.nio.client.HttpAsyncClient} to interact
+ * with the RuneScape web-services API.
+ * <p>
+ * Requests are multiplexed over a small number of I/O dispatch threads, so the amount of requests in flight is not
+ * bound by the amount of threads. Requests beyond the connection limits wait for a pooled connection to become
+ * available. Responses are deserialized on the I/O dispatch thread that received them, so callers should move
+ * long-running work onto their own executor with the {@code *Async} methods of {@link CompletableFuture}.
+ */
+public final class HttpAsyncClient implements AsyncClient {
+
+	public static final class Builder {
+		private int maxTotalConnections = HttpClient.DEFAULT_MAX_TOTAL_CONNECTIONS;
+		private int maxConnectionsPerRoute = HttpClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+		private Duration keepAlive = HttpClient.DEFAULT_KEEP_ALIVE;
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder maxTotalConnections(int maxTotalConnections) {
+			Preconditions.checkArgument(maxTotalConnections > 0, "Maximum total connections must be positive.");
+			this.maxTotalConnections = maxTotalConnections;
+			return this;
+		}
+
+		public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+			Preconditions.checkArgument(maxConnectionsPerRoute > 0, "Maximum connections per route must be positive.");
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		public Builder keepAlive(Duration keepAlive) {
+			Preconditions.checkArgument(!keepAlive.isNegative() && !keepAlive.isZero(), "Keep-alive duration must be positive.");
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		public HttpAsyncClient build() {
+			return new HttpAsyncClient(maxTotalConnections, maxConnectionsPerRoute, keepAlive);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Parses the {@link HttpEntity} of a response.
+	 * @param <T> The type of the parsed result.
+	 */
+	@FunctionalInterface
+	private interface EntityParser<T> {
+		/**
+		 * Parses an {@link HttpEntity}.
+		 * @param entity The {@link HttpEntity}.
+		 * @return The parsed result.
+		 * @throws IOException If an I/O error occurs.
+		 */
+		T parse(HttpEntity entity) throws IOException;
+	}
+
+	/**
+	 * The underlying {@link CloseableHttpAsyncClient}.
+	 */
+	private final CloseableHttpAsyncClient client;
+
+	/**
+	 * Creates a new {@link HttpAsyncClient} with the default pool settings.
+	 */
+	public HttpAsyncClient() {
+		this(HttpClient.DEFAULT_MAX_TOTAL_CONNECTIONS, HttpClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, HttpClient.DEFAULT_KEEP_ALIVE);
+	}
+
+	/**
+	 * Creates a new {@link HttpAsyncClient}.
+	 * @param maxTotalConnections The maximum amount of connections held by the pool.
+	 * @param maxConnectionsPerRoute The maximum amount of connections held by the pool for a single route.
+	 * @param keepAlive The duration a connection is kept alive for if the server does not specify one.
+	 */
+	private HttpAsyncClient(int maxTotalConnections, int maxConnectionsPerRoute, Duration keepAlive) {
+		client = HttpAsyncClients.custom()
+			.setMaxConnTotal(maxTotalConnections)
+			.setMaxConnPerRoute(maxConnectionsPerRoute)
+			.setKeepAliveStrategy(HttpClient.keepAliveStrategy(keepAlive))
+			.build();
+		client.start();
+	}
+
+	/**
+	 * Requests a resource from a specified URL and parses its response.
+	 * @param url The URL to request from.
+	 * @param parser The {@link EntityParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return A {@link CompletableFuture} of the parsed result. Cancelling it aborts the request.
+	 */
+	private <T> CompletableFuture<T> execute(String url, EntityParser<T> parser) {
+		Preconditions.checkNotNull(url);
+		HttpGet request = new HttpGet(url);
+		request.addHeader("accept", "application/json");
+		request.addHeader("accept", "text/csv");
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+		Future<HttpResponse> execution = client.execute(request, new FutureCallback<HttpResponse>() {
+			@Override
+			public void completed(HttpResponse response) {
+				try {
+					future.complete(parser.parse(response.getEntity()));
+				} catch (IOException | RuntimeException e) {
+					future.completeExceptionally(e);
+				}
+			}
+
+			@Override
+			public void failed(Exception e) {
+				future.completeExceptionally(e);
+			}
+
+			@Override
+			public void cancelled() {
+				future.cancel(false);
+			}
+		});
+
+		future.whenComplete((result, throwable) -> {
+			if (future.isCancelled()) {
+				execution.cancel(true);
+			}
+		});
+
+		return future;
+	}
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type.
+	 * @param url The URL to deserialize from.
+	 * @param typeOfT The specific genericized type of src.
+	 * @param <T> The type of the desired object
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing an object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 */
+	@Override
+	public <T> CompletableFuture<Optional<T>> fromJson(String url, Type typeOfT) {
+		Preconditions.checkNotNull(typeOfT);
+		return execute(url, entity -> HttpClient.readJson(entity, typeOfT));
+	}
+
+	/**
+	 * Deserializes a JSON file from a specified URL into an object of the specified type.
+	 * @param url The URL to deserialize from.
+	 * @param classOfT The class of T.
+	 * @param <T> The type of the desired object
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing an object of type T from the json, or {@link Optional#empty()} if the URL could not be deserialized.
+	 */
+	@Override
+	public <T> CompletableFuture<Optional<T>> fromJson(String url, Class<T> classOfT) {
+		Preconditions.checkNotNull(classOfT);
+		return execute(url, entity -> HttpClient.readJson(entity, classOfT));
+	}
+
+	/**
+	 * Deserializes a CSV file from a specified URL into an {@link ImmutableList} of {@link CSVRecord}s.
+	 * @param url The URL to deserialize from.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableList} of {@link CSVRecord}s.
+	 */
+	@Override
+	public CompletableFuture<ImmutableList<CSVRecord>> fromCSV(String url) {
+		return execute(url, entity -> {
+			if (entity == null) {
+				return ImmutableList.of();
+			}
+
+			try (CSVParser parser = new CSVParser(HttpClient.readerFrom(entity), Client.CSV_FORMAT)) {
+				return ImmutableList.copyOf(parser.getRecords());
+			}
+		});
+	}
+
+	/**
+	 * Parses a resource from a specified URL directly from the {@link InputStream} of its response.
+	 * @param url The URL to parse from.
+	 * @param parser The {@link StreamParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return A {@link CompletableFuture} of the parsed result.
+	 */
+	@Override
+	public <T> CompletableFuture<T> fromStream(String url, StreamParser<? extends T> parser) {
+		Preconditions.checkNotNull(parser);
+		return execute(url, entity -> {
+			try (InputStream in = HttpClient.contentOf(entity)) {
+				return parser.parse(in, HttpClient.charsetOf(entity));
+			}
+		});
+	}
+
+	/**
+	 * Closes the underlying {@link CloseableHttpAsyncClient}, shutting down its I/O reactor and connection pool.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		client.close();
+	}
+}
@@ -5,49 +5,257 @@ import com.google.common.collect.ImmutableList;
 import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HTTP;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A {@link Client} that wraps a {@link org.apache.http.client.HttpClient} to interact with the RuneScape web-services API.
+ * <p>
+ * Connections are leased from a {@link PoolingHttpClientConnectionManager} that lives as long as the {@link HttpClient}
+ * itself, and are kept alive between requests. The pool is released by calling {@link #close()}.
  */
 public final class HttpClient implements Client {
 
+	public static final class Builder {
+		private int maxTotalConnections = DEFAULT_MAX_TOTAL_CONNECTIONS;
+		private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+		private Duration keepAlive = DEFAULT_KEEP_ALIVE;
+		private Duration maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder maxTotalConnections(int maxTotalConnections) {
+			Preconditions.checkArgument(maxTotalConnections > 0, "Maximum total connections must be positive.");
+			this.maxTotalConnections = maxTotalConnections;
+			return this;
+		}
+
+		public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+			Preconditions.checkArgument(maxConnectionsPerRoute > 0, "Maximum connections per route must be positive.");
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		public Builder keepAlive(Duration keepAlive) {
+			Preconditions.checkArgument(!keepAlive.isNegative() && !keepAlive.isZero(), "Keep-alive duration must be positive.");
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder maxIdleTime(Duration maxIdleTime) {
+			Preconditions.checkArgument(!maxIdleTime.isNegative() && !maxIdleTime.isZero(), "Maximum idle time must be positive.");
+			this.maxIdleTime = maxIdleTime;
+			return this;
+		}
+
+		public HttpClient build() {
+			return new HttpClient(maxTotalConnections, maxConnectionsPerRoute, keepAlive, maxIdleTime);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
 	/**
 	 * The URL to the RuneScape public web-services.
 	 */
 	public static final String WEB_SERVICES_URL = "http://services.runescape.com";
 
 	/**
-	 * The {@link Gson} instance.
+	 * The default maximum amount of connections held by the pool.
 	 */
-	private final Gson gson = new Gson();
+	public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 20;
 
 	/**
-	 * Reads a {@link String} from a specified URL.
+	 * The default maximum amount of connections held by the pool for a single route. All of the web-services are
+	 * hosted on a single route, so this matches {@link #DEFAULT_MAX_TOTAL_CONNECTIONS}.
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = DEFAULT_MAX_TOTAL_CONNECTIONS;
+
+	/**
+	 * The default duration a connection is kept alive for if the server does not specify one.
+	 */
+	public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+
+	/**
+	 * The default duration a pooled connection may remain idle before it is evicted.
+	 */
+	public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+	/**
+	 * Creates a {@link ConnectionKeepAliveStrategy} that honours the keep-alive duration sent by the server, capped to
+	 * a maximum duration that is also used when the server does not send one.
+	 * @param keepAlive The maximum keep-alive duration.
+	 * @return The {@link ConnectionKeepAliveStrategy}.
+	 */
+	static ConnectionKeepAliveStrategy keepAliveStrategy(Duration keepAlive) {
+		long keepAliveMillis = keepAlive.toMillis();
+		return (response, context) -> {
+			long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return duration > 0 ? Math.min(duration, keepAliveMillis) : keepAliveMillis;
+		};
+	}
+
+	/**
+	 * The {@link Gson} instance shared by every client. Each model names its hand-written type adapter with
+	 * {@link com.google.gson.annotations.JsonAdapter}, so none of them are read through reflection and the adapters are
+	 * created once rather than per client.
+	 */
+	static final Gson GSON = new Gson();
+
+	/**
+	 * The underlying {@link CloseableHttpClient}.
+	 */
+	private final CloseableHttpClient client;
+
+	/**
+	 * Creates a new {@link HttpClient} with the default pool settings.
+	 */
+	public HttpClient() {
+		this(DEFAULT_MAX_TOTAL_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_KEEP_ALIVE, DEFAULT_MAX_IDLE_TIME);
+	}
+
+	/**
+	 * Creates a new {@link HttpClient}.
+	 * @param maxTotalConnections The maximum amount of connections held by the pool.
+	 * @param maxConnectionsPerRoute The maximum amount of connections held by the pool for a single route.
+	 * @param keepAlive The duration a connection is kept alive for if the server does not specify one.
+	 * @param maxIdleTime The duration a pooled connection may remain idle before it is evicted.
+	 */
+	private HttpClient(int maxTotalConnections, int maxConnectionsPerRoute, Duration keepAlive, Duration maxIdleTime) {
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxTotalConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+		client = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setKeepAliveStrategy(keepAliveStrategy(keepAlive))
+			.evictExpiredConnections()
+			.evictIdleConnections(maxIdleTime.toMillis(), TimeUnit.MILLISECONDS)
+			.build();
+	}
+
+	/**
+	 * Creates a {@link Reader} over the content of an {@link HttpEntity}, decoded using the charset declared by its
+	 * content type, the default charset of its MIME type, or ISO-8859-1 if neither is known.
+	 * @param entity The {@link HttpEntity}.
+	 * @return The {@link Reader}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static Reader readerFrom(HttpEntity entity) throws IOException {
+		return new InputStreamReader(entity.getContent(), charsetOf(entity));
+	}
+
+	/**
+	 * Gets the charset of the content of an {@link HttpEntity}: the charset declared by its content type, the default
+	 * charset of its MIME type, or ISO-8859-1 if neither is known.
+	 * @param entity The {@link HttpEntity}, which may be {@code null}.
+	 * @return The {@link Charset}.
+	 */
+	static Charset charsetOf(HttpEntity entity) {
+		if (entity == null) {
+			return HTTP.DEF_CONTENT_CHARSET;
+		}
+
+		ContentType contentType = ContentType.getLenientOrDefault(entity);
+		Charset charset = contentType.getCharset();
+
+		if (charset == null) {
+			ContentType defaultContentType = ContentType.getByMimeType(contentType.getMimeType());
+			charset = defaultContentType == null ? null : defaultContentType.getCharset();
+		}
+
+		return charset == null ? HTTP.DEF_CONTENT_CHARSET : charset;
+	}
+
+	/**
+	 * Gets the content of an {@link HttpEntity}.
+	 * @param entity The {@link HttpEntity}, which may be {@code null}.
+	 * @return The {@link InputStream} of the entity's content, or an empty {@link InputStream} if there is no entity.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static InputStream contentOf(HttpEntity entity) throws IOException {
+		return entity == null ? new ByteArrayInputStream(new byte[0]) : entity.getContent();
+	}
+
+	/**
+	 * Requests a resource from a specified URL and handles its response. The response entity is fully consumed and
+	 * its connection released to the pool once the handler returns.
 	 * @param url The URL to request from.
-	 * @return The {@link String}.
+	 * @param handler The {@link ResponseHandler}.
+	 * @param <T> The type of the handled result.
+	 * @return The handled result.
 	 * @throws IOException If an I/O error occurs.
 	 */
-	private static String stringFrom(String url) throws IOException {
+	private <T> T execute(String url, ResponseHandler<? extends T> handler) throws IOException {
 		Preconditions.checkNotNull(url);
 		HttpUriRequest request = new HttpGet(url);
 		request.addHeader("accept", "application/json");
 		request.addHeader("accept", "text/csv");
 
-		try (CloseableHttpClient client = HttpClients.createDefault();
-			 CloseableHttpResponse response = client.execute(request)) {
-			return EntityUtils.toString(response.getEntity());
+		return client.execute(request, handler);
+	}
+
+	/**
+	 * Deserializes a JSON response directly from its content stream, without buffering it into a {@link String}.
+	 * @param entity The {@link HttpEntity} of the response, or {@code null} if it has none.
+	 * @param typeOfT The specific genericized type of src.
+	 * @param <T> The type of the desired object
+	 * @return An {@link Optional} containing object of type T from the json, or {@link Optional#empty()} if the response could not be deserialized.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static <T> Optional<T> readJson(HttpEntity entity, Type typeOfT) throws IOException {
+		if (entity == null) {
+			return Optional.empty();
+		}
+
+		try (JsonReader reader = GSON.newJsonReader(readerFrom(entity))) {
+			return Optional.ofNullable(GSON.fromJson(reader, typeOfT));
+		} catch (JsonSyntaxException | JsonIOException e) {
+			rethrowIfTransportError(e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Rethrows the {@link IOException} that caused a {@link Gson} exception if it was raised by the underlying stream,
+	 * rather than by malformed or truncated JSON. {@link Gson} wraps both in the same exception type when reading from
+	 * a stream.
+	 * @param e The {@link Gson} exception.
+	 * @throws IOException The cause of the exception, if it was raised by the underlying stream.
+	 */
+	private static void rethrowIfTransportError(RuntimeException e) throws IOException {
+		Throwable cause = e.getCause();
+		if (cause instanceof IOException && !(cause instanceof MalformedJsonException) && !(cause instanceof EOFException)) {
+			throw (IOException) cause;
 		}
 	}
 
@@ -61,14 +269,8 @@ public final class HttpClient implements Client {
 	 */
 	@Override
 	public <T> Optional<T> fromJson(String url, Type typeOfT) throws IOException {
-		Preconditions.checkNotNull(url);
 		Preconditions.checkNotNull(typeOfT);
-
-		try {
-			return Optional.ofNullable(gson.fromJson(stringFrom(url), typeOfT));
-		} catch (JsonSyntaxException | JsonIOException ignored) {
-			return Optional.empty();
-		}
+		return execute(url, response -> readJson(response.getEntity(), typeOfT));
 	}
 
 	/**
@@ -81,14 +283,8 @@ public final class HttpClient implements Client {
 	 */
 	@Override
 	public <T> Optional<T> fromJson(String url, Class<T> classOfT) throws IOException {
-		Preconditions.checkNotNull(url);
 		Preconditions.checkNotNull(classOfT);
-
-		try {
-			return Optional.ofNullable(gson.fromJson(stringFrom(url), classOfT));
-		} catch (JsonSyntaxException | JsonIOException ignored) {
-			return Optional.empty();
-		}
+		return execute(url, response -> readJson(response.getEntity(), classOfT));
 	}
 
 	/**
@@ -99,10 +295,43 @@ public final class HttpClient implements Client {
 	 */
 	@Override
 	public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
-		Preconditions.checkNotNull(url);
+		return execute(url, response -> {
+			HttpEntity entity = response.getEntity();
+			if (entity == null) {
+				return ImmutableList.of();
+			}
 
-		try (CSVParser parser = CSVParser.parse(stringFrom(url), CSV_FORMAT)) {
-			return ImmutableList.copyOf(parser.getRecords());
-		}
+			try (CSVParser parser = new CSVParser(readerFrom(entity), CSV_FORMAT)) {
+				return ImmutableList.copyOf(parser.getRecords());
+			}
+		});
+	}
+
+	/**
+	 * Parses a resource from a specified URL directly from the {@link InputStream} of its response.
+	 * @param url The URL to parse from.
+	 * @param parser The {@link StreamParser} of the response.
+	 * @param <T> The type of the parsed result.
+	 * @return The parsed result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+		Preconditions.checkNotNull(parser);
+		return execute(url, response -> {
+			try (InputStream in = contentOf(response.getEntity())) {
+				return parser.parse(in, charsetOf(response.getEntity()));
+			}
+		});
+	}
+
+	/**
+	 * Closes the underlying {@link CloseableHttpClient}, shutting down the connection pool and its idle connection
+	 * evictor.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		client.close();
 	}
 }
@@ -0,0 +1,18 @@
+package com.github.michaelbull.rs;
+
+import java.io.IOException;
+
+/**
+ * Requests a resource from the {@link Client} underneath a decorating {@link Client}, such as a {@link CachingClient}
+ * or a {@link CoalescingClient}, once the decorator has decided to make the request.
+ * @param <T> The type of the result.
+ */
+@FunctionalInterface
+interface Request<T> {
+	/**
+	 * Requests the resource.
+	 * @return The result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	T execute() throws IOException;
+}
@@ -0,0 +1,67 @@
+package com.github.michaelbull.rs;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * Identifies a request made through a {@link Client} by its URL and the form its response was requested in, so that
+ * the same URL deserialized into different types is never confused.
+ */
+final class RequestKey {
+
+	/**
+	 * The form of a resource requested with {@link Client#fromCSV(String)}.
+	 */
+	static final Object CSV = new Object();
+
+	/**
+	 * The form of a resource requested with {@link Client#fromStream(String, StreamParser)}.
+	 */
+	static final Object STREAM = new Object();
+
+	/**
+	 * The URL of the resource.
+	 */
+	private final String url;
+
+	/**
+	 * The {@link Type} a JSON resource was deserialized into, {@link #CSV}, or {@link #STREAM}.
+	 */
+	private final Object form;
+
+	/**
+	 * Creates a new {@link RequestKey}.
+	 * @param url The URL of the resource.
+	 * @param form The form the resource was requested in.
+	 */
+	RequestKey(String url, Object form) {
+		this.url = url;
+		this.form = form;
+	}
+
+	/**
+	 * Gets the URL of the resource.
+	 * @return The URL of the resource.
+	 */
+	String getUrl() {
+		return url;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		RequestKey key = (RequestKey) o;
+		return url.equals(key.url)
+			&& form.equals(key.form);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(url, form);
+	}
+}
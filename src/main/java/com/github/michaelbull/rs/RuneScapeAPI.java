@@ -3,11 +3,15 @@ package com.github.michaelbull.rs;
 import com.github.michaelbull.rs.bestiary.Bestiary;
 import com.github.michaelbull.rs.ge.GrandExchange;
 import com.github.michaelbull.rs.hiscores.Hiscores;
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
 
 /**
  * Represents an instance of the RuneScape web-services API.
  */
-public final class RuneScapeAPI {
+public final class RuneScapeAPI implements Closeable {
 
 	/**
 	 * Creates a new {@link RuneScapeAPI} backed by a specific {@link Client} implementation.
@@ -26,6 +30,28 @@ public final class RuneScapeAPI {
 		return create(new HttpClient());
 	}
 
+	/**
+	 * Creates a new {@link AsyncRuneScapeAPI} backed by a specific {@link AsyncClient} implementation.
+	 * @param client The {@link AsyncClient} implementation.
+	 * @return The {@link AsyncRuneScapeAPI}.
+	 */
+	public static AsyncRuneScapeAPI createAsync(AsyncClient client) {
+		return new AsyncRuneScapeAPI(client);
+	}
+
+	/**
+	 * Creates a new {@link AsyncRuneScapeAPI} backed by a {@link HttpAsyncClient}.
+	 * @return The {@link AsyncRuneScapeAPI}.
+	 */
+	public static AsyncRuneScapeAPI createHttpAsync() {
+		return createAsync(new HttpAsyncClient());
+	}
+
+	/**
+	 * The {@link Client} backing the APIs.
+	 */
+	private final Client client;
+
 	/**
 	 * The {@link Bestiary}.
 	 */
@@ -46,6 +72,7 @@ public final class RuneScapeAPI {
 	 * @param client The {@link Client} to use.
 	 */
 	private RuneScapeAPI(Client client) {
+		this.client = Preconditions.checkNotNull(client);
 		this.bestiary = new Bestiary(client);
 		this.grandExchange = new GrandExchange(client);
 		this.hiscores = new Hiscores(client);
@@ -74,4 +101,13 @@ public final class RuneScapeAPI {
 	public Hiscores hiscores() {
 		return hiscores;
 	}
+
+	/**
+	 * Closes the {@link Client} backing the APIs.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		client.close();
+	}
 }
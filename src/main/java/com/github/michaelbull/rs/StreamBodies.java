@@ -0,0 +1,53 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.io.ByteStreams;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds and keeps the bodies handed to a {@link StreamParser} by clients that do not stream a response straight from
+ * the server.
+ */
+final class StreamBodies {
+
+	/**
+	 * Prints {@link CSVRecord}s back into the body of a CSV response, for clients that can only provide a resource as
+	 * {@link CSVRecord}s. The body is the records as {@link Client#CSV_FORMAT} prints them, not the bytes the server
+	 * sent, so fields may be quoted differently.
+	 * @param records The {@link CSVRecord}s.
+	 * @return The {@link InputStream} of the body, encoded as UTF-8.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static InputStream ofRecords(Iterable<CSVRecord> records) throws IOException {
+		StringBuilder body = new StringBuilder();
+		try (CSVPrinter printer = new CSVPrinter(body, Client.CSV_FORMAT)) {
+			for (CSVRecord record : records) {
+				printer.printRecord(record);
+			}
+		}
+		return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads the content of a response into a body encoded as UTF-8, so that a client can keep the body of a
+	 * {@link StreamParser} response without also keeping its charset.
+	 * @param in The {@link InputStream} of the content.
+	 * @param charset The {@link Charset} the content is encoded in.
+	 * @return The content, encoded as UTF-8.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static byte[] toUtf8(InputStream in, Charset charset) throws IOException {
+		byte[] body = ByteStreams.toByteArray(in);
+		return charset.equals(StandardCharsets.UTF_8) ? body : new String(body, charset).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private StreamBodies() {
+		/* empty */
+	}
+}
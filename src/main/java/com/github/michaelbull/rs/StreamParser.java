@@ -0,0 +1,25 @@
+package com.github.michaelbull.rs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Parses a resource directly from the {@link InputStream} of its response.
+ * @param <T> The type of the parsed result.
+ * @see Client#fromStream(String, StreamParser)
+ * @see AsyncClient#fromStream(String, StreamParser)
+ */
+@FunctionalInterface
+public interface StreamParser<T> {
+
+	/**
+	 * Parses a resource from an {@link InputStream}. The stream is closed by the caller once this method returns.
+	 * @param in The {@link InputStream} of the response, which is empty if the response had no content.
+	 * @param charset The {@link Charset} the response is encoded in, as declared by its content type, so that text is
+	 * decoded in the same way as by {@link Client#fromCSV(String)} and {@link Client#fromJson(String, Class)}.
+	 * @return The parsed result.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	T parse(InputStream in, Charset charset) throws IOException;
+}
@@ -0,0 +1,167 @@
+package com.github.michaelbull.rs.bestiary;
+
+import com.github.michaelbull.rs.AsyncClient;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the RuneScape Bestiary API, queried through an {@link AsyncClient}.
+ * @see Bestiary
+ * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#API">Bestiary APIs</a>
+ */
+public final class AsyncBestiary {
+
+	/**
+	 * The web-services {@link AsyncClient}.
+	 */
+	private final AsyncClient client;
+
+	/**
+	 * Creates a new {@link AsyncBestiary}.
+	 * @param client The web-services {@link AsyncClient}.
+	 */
+	public AsyncBestiary(AsyncClient client) {
+		this.client = Preconditions.checkNotNull(client);
+	}
+
+	/**
+	 * Fetches an array of {@link SearchResult}s from a URL.
+	 * @param url The URL.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 */
+	private CompletableFuture<ImmutableMap<Integer, String>> searchResults(String url) {
+		return client.fromJson(url, SearchResult[].class).thenApply(results -> Bestiary.resultsToImmutableMap(results.orElse(null)));
+	}
+
+	/**
+	 * Gets the a {@link Beast} by its id.
+	 * @param beastId The id of the {@link Beast}.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link Beast}, or {@link Optional#empty()} if no {@link Beast} of that id was found.
+	 * @see Bestiary#beastData(int)
+	 */
+	public CompletableFuture<Optional<Beast>> beastData(int beastId) {
+		return client.fromJson(Bestiary.beastDataUrl(beastId), Beast.class);
+	}
+
+	/**
+	 * Searches for a {@link Beast}'s id by a set of terms.
+	 * @param terms The terms to search by.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#searchByTerms(String...)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> searchByTerms(String... terms) {
+		return searchResults(Bestiary.searchByTermsUrl(terms));
+	}
+
+	/**
+	 * Searches for a {@link Beast} by the first letter in it's name.
+	 * @param letter The letter to search by.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#searchByFirstLetter(char)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> searchByFirstLetter(char letter) {
+		return searchResults(Bestiary.searchByFirstLetterUrl(letter));
+	}
+
+	/**
+	 * Gets an {@link ImmutableList} of area names.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableList} of area names.
+	 * @see Bestiary#areaNames()
+	 */
+	public CompletableFuture<ImmutableList<String>> areaNames() {
+		return client.fromJson(Bestiary.AREA_NAMES_URL, String[].class)
+			.thenApply(optional -> optional.map(ImmutableList::copyOf).orElse(ImmutableList.of()));
+	}
+
+	/**
+	 * Searches for the {@link Beast}s in a given area.
+	 * @param area The name of the area to search for.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#beastsInArea(String)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> beastsInArea(String area) {
+		return searchResults(Bestiary.beastsInAreaUrl(area));
+	}
+
+	/**
+	 * Gets an {@link ImmutableMap} of Slayer category names to their corresponding ids.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of Slayer category names to their corresponding ids.
+	 * @see Bestiary#slayerCategories()
+	 */
+	public CompletableFuture<ImmutableMap<String, Integer>> slayerCategories() {
+		return client.<Map<String, Integer>>fromJson(Bestiary.SLAYER_CATEGORY_NAMES_URL, Bestiary.TYPE_TOKEN)
+			.thenApply(optional -> optional.map(ImmutableMap::copyOf).orElse(ImmutableMap.of()));
+	}
+
+	/**
+	 * Searches for the {@link Beast}s in a given Slayer category.
+	 * @param categoryId The id of the Slayer category.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#beastsInSlayerCategory(int)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> beastsInSlayerCategory(int categoryId) {
+		return searchResults(Bestiary.beastsInSlayerCategoryUrl(categoryId));
+	}
+
+	/**
+	 * Searches for the {@link Beast}s in a given Slayer category.
+	 * @param categoryName The name of the Slayer category.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#beastsInSlayerCategory(String)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> beastsInSlayerCategory(String categoryName) {
+		Preconditions.checkNotNull(categoryName);
+		return slayerCategories().thenCompose(categories -> categories.containsKey(categoryName)
+			? beastsInSlayerCategory(categories.get(categoryName))
+			: CompletableFuture.completedFuture(ImmutableMap.of()));
+	}
+
+	/**
+	 * Gets an {@link ImmutableMap} of weakness category names to their corresponding ids.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of weakness category names to their corresponding ids.
+	 * @see Bestiary#weaknesses()
+	 */
+	public CompletableFuture<ImmutableMap<String, Integer>> weaknesses() {
+		return client.<Map<String, Integer>>fromJson(Bestiary.WEAKNESS_NAMES_URL, Bestiary.TYPE_TOKEN)
+			.thenApply(optional -> optional.map(ImmutableMap::copyOf).orElse(ImmutableMap.of()));
+	}
+
+	/**
+	 * Searches for the {@link Beast}s that are weak to a specific weakness.
+	 * @param weaknessId The id of the weakness.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#beastsWeakTo(int)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> beastsWeakTo(int weaknessId) {
+		return searchResults(Bestiary.beastsWeakToUrl(weaknessId));
+	}
+
+	/**
+	 * Searches for the {@link Beast}s that are weak to a specific weakness.
+	 * @param weaknessName The name of the weakness.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#beastsWeakTo(String)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> beastsWeakTo(String weaknessName) {
+		Preconditions.checkNotNull(weaknessName);
+		return weaknesses().thenCompose(weaknesses -> weaknesses.containsKey(weaknessName)
+			? beastsWeakTo(weaknesses.get(weaknessName))
+			: CompletableFuture.completedFuture(ImmutableMap.of()));
+	}
+
+	/**
+	 * Searches for the {@link Beast}s that have a combat level between the lower and upper bound inclusively.
+	 * @param lowerBound The lowest combat level.
+	 * @param upperBound The highest combat level.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableMap} of {@link Beast} ids to {@link Beast} names.
+	 * @see Bestiary#beastsInLevelGroup(int, int)
+	 */
+	public CompletableFuture<ImmutableMap<Integer, String>> beastsInLevelGroup(int lowerBound, int upperBound) {
+		return searchResults(Bestiary.beastsInLevelGroupUrl(lowerBound, upperBound));
+	}
+}
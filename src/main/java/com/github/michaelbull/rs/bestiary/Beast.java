@@ -4,7 +4,7 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -19,6 +19,7 @@ import java.util.Set;
  * Represents a beast in the RuneScape {@link Bestiary}.
  * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#beastData">Beast Data</a>
  */
+@JsonAdapter(BeastTypeAdapter.class)
 public final class Beast {
 
 	public static final class Builder {
@@ -162,7 +163,7 @@ public final class Beast {
 				attackable,
 				aggressive,
 				poisonous,
-				experience,
+				String.valueOf(experience),
 				lifePoints,
 				combatLevel,
 				defenceLevel,
@@ -223,49 +224,41 @@ public final class Beast {
 	/**
 	 * The amount of experience gained when killing this beast.
 	 */
-	@SerializedName("xp")
 	private final String experience;
 
 	/**
 	 * The life points of this beast.
 	 */
-	@SerializedName("lifepoints")
 	private final int lifePoints;
 
 	/**
 	 * The combat combatLevel of this beast.
 	 */
-	@SerializedName("level")
 	private final int combatLevel;
 
 	/**
 	 * The Defence level of this beast.
 	 */
-	@SerializedName("defence")
 	private final int defenceLevel;
 
 	/**
 	 * The Attack level of this beast.
 	 */
-	@SerializedName("attack")
 	private final int attackLevel;
 
 	/**
 	 * The Magic level of this beast.
 	 */
-	@SerializedName("magic")
 	private final int magicLevel;
 
 	/**
 	 * The Ranged level of this beast.
 	 */
-	@SerializedName("ranged")
 	private final int rangedLevel;
 
 	/**
 	 * The Slayer level required to attackLevel this beast.
 	 */
-	@SerializedName("slayerlevel")
 	private final int requiredSlayerLevel;
 
 	/**
@@ -276,13 +269,11 @@ public final class Beast {
 	/**
 	 * A flag indicating whether this beast is only available on members' worlds.
 	 */
-	@SerializedName("members")
 	private final boolean membersOnly;
 
 	/**
 	 * The Slayer category this beast belongs to.
 	 */
-	@SerializedName("slayercat")
 	private final String slayerCategory;
 
 	/**
@@ -304,7 +295,7 @@ public final class Beast {
 	 * @param attackable The attackable flag.
 	 * @param aggressive The aggressive flag.
 	 * @param poisonous The poisonous flag.
-	 * @param experience The experience earned.
+	 * @param experience The experience earned, as the {@link Bestiary} encodes it.
 	 * @param lifePoints The life points.
 	 * @param combatLevel The combat level.
 	 * @param defenceLevel The Defence level.
@@ -318,15 +309,15 @@ public final class Beast {
 	 * @param areas The areas.
 	 * @param animations The animations.
 	 */
-	private Beast(String name, int id, String description, String weakness, boolean attackable, boolean aggressive, boolean poisonous, double experience, int lifePoints, int combatLevel, int defenceLevel, int attackLevel, int magicLevel, int rangedLevel, int requiredSlayerLevel, int size, boolean membersOnly, String slayerCategory, String[] areas, Map<String, Integer> animations) {
-		this.name = Preconditions.checkNotNull(name);
+	Beast(String name, int id, String description, String weakness, boolean attackable, boolean aggressive, boolean poisonous, String experience, int lifePoints, int combatLevel, int defenceLevel, int attackLevel, int magicLevel, int rangedLevel, int requiredSlayerLevel, int size, boolean membersOnly, String slayerCategory, String[] areas, Map<String, Integer> animations) {
+		this.name = name;
 		this.id = id;
-		this.description = Preconditions.checkNotNull(description);
+		this.description = description;
 		this.weakness = weakness;
 		this.attackable = attackable;
 		this.aggressive = aggressive;
 		this.poisonous = poisonous;
-		this.experience = String.valueOf(experience);
+		this.experience = experience;
 		this.lifePoints = lifePoints;
 		this.combatLevel = combatLevel;
 		this.defenceLevel = defenceLevel;
@@ -377,6 +368,14 @@ public final class Beast {
 		}
 	}
 
+	/**
+	 * Gets the beast's weakness as the {@link Bestiary} encodes it.
+	 * @return The beast's weakness, {@code "None"} if it has no weakness, or {@code null} if it was not given.
+	 */
+	String getRawWeakness() {
+		return weakness;
+	}
+
 	/**
 	 * Checks if the beast is attackable.
 	 * @return {@code true} if so, {@code false} otherwise.
@@ -409,6 +408,14 @@ public final class Beast {
 		return experience == null ? 0 : Double.parseDouble(experience);
 	}
 
+	/**
+	 * Gets the amount of experience earned when killing this beast as the {@link Bestiary} encodes it.
+	 * @return The amount of experience, or {@code null} if it was not given.
+	 */
+	String getRawExperience() {
+		return experience;
+	}
+
 	/**
 	 * Gets the amount of life points the beast has.
 	 * @return The amount of life points the beast has.
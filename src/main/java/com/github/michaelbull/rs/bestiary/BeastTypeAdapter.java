@@ -0,0 +1,240 @@
+package com.github.michaelbull.rs.bestiary;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TypeAdapter} that reads each field of a {@link Beast} straight from the token stream and passes them to its
+ * constructor, without reflection. Missing fields are left {@code 0}, {@code false} or {@code null}, and the experience
+ * is kept as the string the {@link Bestiary} sends, as the reflective adapter did.
+ */
+final class BeastTypeAdapter extends TypeAdapter<Beast> {
+
+	/**
+	 * An empty array of areas.
+	 */
+	private static final String[] NO_AREAS = new String[0];
+
+	@Override
+	public Beast read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		String name = null;
+		int id = 0;
+		String description = null;
+		String weakness = null;
+		boolean attackable = false;
+		boolean aggressive = false;
+		boolean poisonous = false;
+		String experience = null;
+		int lifePoints = 0;
+		int combatLevel = 0;
+		int defenceLevel = 0;
+		int attackLevel = 0;
+		int magicLevel = 0;
+		int rangedLevel = 0;
+		int requiredSlayerLevel = 0;
+		int size = 0;
+		boolean membersOnly = false;
+		String slayerCategory = null;
+		String[] areas = NO_AREAS;
+		Map<String, Integer> animations = new HashMap<>();
+
+		in.beginObject();
+		while (in.hasNext()) {
+			String field = in.nextName();
+
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				continue;
+			}
+
+			switch (field) {
+				case "name":
+					name = in.nextString();
+					break;
+
+				case "id":
+					id = in.nextInt();
+					break;
+
+				case "description":
+					description = in.nextString();
+					break;
+
+				case "weakness":
+					weakness = in.nextString();
+					break;
+
+				case "attackable":
+					attackable = in.nextBoolean();
+					break;
+
+				case "aggressive":
+					aggressive = in.nextBoolean();
+					break;
+
+				case "poisonous":
+					poisonous = in.nextBoolean();
+					break;
+
+				case "xp":
+					experience = in.nextString();
+					break;
+
+				case "lifepoints":
+					lifePoints = in.nextInt();
+					break;
+
+				case "level":
+					combatLevel = in.nextInt();
+					break;
+
+				case "defence":
+					defenceLevel = in.nextInt();
+					break;
+
+				case "attack":
+					attackLevel = in.nextInt();
+					break;
+
+				case "magic":
+					magicLevel = in.nextInt();
+					break;
+
+				case "ranged":
+					rangedLevel = in.nextInt();
+					break;
+
+				case "slayerlevel":
+					requiredSlayerLevel = in.nextInt();
+					break;
+
+				case "size":
+					size = in.nextInt();
+					break;
+
+				case "members":
+					membersOnly = in.nextBoolean();
+					break;
+
+				case "slayercat":
+					slayerCategory = in.nextString();
+					break;
+
+				case "areas":
+					areas = readAreas(in);
+					break;
+
+				case "animations":
+					readAnimations(in, animations);
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		return new Beast(name, id, description, weakness, attackable, aggressive, poisonous, experience, lifePoints, combatLevel, defenceLevel, attackLevel, magicLevel, rangedLevel, requiredSlayerLevel, size, membersOnly, slayerCategory, areas, animations);
+	}
+
+	/**
+	 * Reads an array of areas.
+	 * @param in The {@link JsonReader}.
+	 * @return The areas.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static String[] readAreas(JsonReader in) throws IOException {
+		List<String> areas = new ArrayList<>();
+
+		in.beginArray();
+		while (in.hasNext()) {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+			} else {
+				areas.add(in.nextString());
+			}
+		}
+		in.endArray();
+
+		return areas.toArray(NO_AREAS);
+	}
+
+	/**
+	 * Reads an object of animation names to animation ids.
+	 * @param in The {@link JsonReader}.
+	 * @param animations The {@link Map} to read the animations into.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static void readAnimations(JsonReader in, Map<String, Integer> animations) throws IOException {
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+			} else {
+				animations.put(name, in.nextInt());
+			}
+		}
+		in.endObject();
+	}
+
+	@Override
+	public void write(JsonWriter out, Beast value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("name").value(value.getName());
+		out.name("id").value(value.getId());
+		out.name("description").value(value.getDescription());
+		out.name("weakness").value(value.getRawWeakness());
+		out.name("attackable").value(value.isAttackable());
+		out.name("aggressive").value(value.isAggressive());
+		out.name("poisonous").value(value.isPoisonous());
+		out.name("xp").value(value.getRawExperience());
+		out.name("lifepoints").value(value.getLifePoints());
+		out.name("level").value(value.getCombatLevel());
+		out.name("defence").value(value.getDefenceLevel());
+		out.name("attack").value(value.getAttackLevel());
+		out.name("magic").value(value.getMagicLevel());
+		out.name("ranged").value(value.getRangedLevel());
+		out.name("slayerlevel").value(value.getRequiredSlayerLevel());
+		out.name("size").value(value.getSize());
+		out.name("members").value(value.isMembersOnly());
+
+		if (value.getSlayerCategory().isPresent()) {
+			out.name("slayercat").value(value.getSlayerCategory().get());
+		}
+
+		out.name("areas").beginArray();
+		for (String area : value.getAreas()) {
+			out.value(area);
+		}
+		out.endArray();
+
+		out.name("animations").beginObject();
+		for (Map.Entry<String, Integer> animation : value.getAnimations().entrySet()) {
+			out.name(animation.getKey()).value(animation.getValue());
+		}
+		out.endObject();
+
+		out.endObject();
+	}
+}
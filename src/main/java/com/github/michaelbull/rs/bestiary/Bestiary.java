@@ -23,7 +23,7 @@ public final class Bestiary {
 	/**
 	 * A {@link TypeToken} which represents a {@link Map} of {@link String}s to {@link Integer}s.
 	 */
-	private static final Type TYPE_TOKEN = new TypeToken<Map<String, Integer>>() { }.getType();
+	static final Type TYPE_TOKEN = new TypeToken<Map<String, Integer>>() { }.getType();
 
 	/**
 	 * The URL to the Bestiary web-service.
@@ -48,7 +48,7 @@ public final class Bestiary {
 	/**
 	 * The URL to fetch the list of area names.
 	 */
-	private static final String AREA_NAMES_URL = BESTIARY_URL + "/areaNames.json";
+	static final String AREA_NAMES_URL = BESTIARY_URL + "/areaNames.json";
 
 	/**
 	 * The format of the URL to the search for {@link Beast}s in an area.
@@ -58,7 +58,7 @@ public final class Bestiary {
 	/**
 	 * The URL to fetch the list of Slayer category names.
 	 */
-	private static final String SLAYER_CATEGORY_NAMES_URL = BESTIARY_URL + "/slayerCatNames.json";
+	static final String SLAYER_CATEGORY_NAMES_URL = BESTIARY_URL + "/slayerCatNames.json";
 
 	/**
 	 * The format of the URL to search for a {@link Beast} in a given Slayer category.
@@ -68,7 +68,7 @@ public final class Bestiary {
 	/**
 	 * The URL to fetch the list of weakness names.
 	 */
-	private static final String WEAKNESS_NAMES_URL = BESTIARY_URL + "/weaknessNames.json";
+	static final String WEAKNESS_NAMES_URL = BESTIARY_URL + "/weaknessNames.json";
 
 	/**
 	 * The format of the URL to search for a {@link Beast} weak to a given weakness.
@@ -90,7 +90,7 @@ public final class Bestiary {
 	 * @param results The array of {@link SearchResult}s.
 	 * @return An {@link ImmutableMap} of {@link Integer}s to {@link String}s.
 	 */
-	private static ImmutableMap<Integer, String> resultsToImmutableMap(SearchResult... results) {
+	static ImmutableMap<Integer, String> resultsToImmutableMap(SearchResult... results) {
 		if (results == null) {
 			return ImmutableMap.of();
 		}
@@ -98,12 +98,89 @@ public final class Bestiary {
 		ImmutableMap.Builder<Integer, String> builder = ImmutableMap.builder();
 
 		for (SearchResult result : results) {
+			if (result == null) {
+				continue;
+			}
+
 			result.getLabel().ifPresent(label -> builder.put(result.getValue(), label));
 		}
 
 		return builder.build();
 	}
 
+	/**
+	 * Gets the URL to fetch a {@link Beast} from.
+	 * @param beastId The id of the {@link Beast}.
+	 * @return The URL.
+	 */
+	static String beastDataUrl(int beastId) {
+		return String.format(BEAST_DATA_URL_FORMAT, beastId);
+	}
+
+	/**
+	 * Gets the URL to search for a {@link Beast} by a set of terms.
+	 * @param terms The terms to search by.
+	 * @return The URL.
+	 */
+	static String searchByTermsUrl(String... terms) {
+		Preconditions.checkNotNull(terms);
+
+		StringJoiner joiner = new StringJoiner("+");
+		for (String term : terms) {
+			joiner.add(term);
+		}
+
+		return String.format(BEAST_SEARCH_URL_FORMAT, joiner.toString());
+	}
+
+	/**
+	 * Gets the URL to search for a {@link Beast} by the first letter in it's name.
+	 * @param letter The letter to search by.
+	 * @return The URL.
+	 */
+	static String searchByFirstLetterUrl(char letter) {
+		return String.format(BESTIARY_NAMES_URL_FORMAT, letter);
+	}
+
+	/**
+	 * Gets the URL to search for the {@link Beast}s in a given area.
+	 * @param area The name of the area to search for.
+	 * @return The URL.
+	 */
+	static String beastsInAreaUrl(String area) {
+		Preconditions.checkNotNull(area);
+		return String.format(AREA_BEASTS_URL_FORMAT, NAME_SPACER.matcher(area).replaceAll("+"));
+	}
+
+	/**
+	 * Gets the URL to search for the {@link Beast}s in a given Slayer category.
+	 * @param categoryId The id of the Slayer category.
+	 * @return The URL.
+	 */
+	static String beastsInSlayerCategoryUrl(int categoryId) {
+		return String.format(SLAYER_BEASTS_URL_FORMAT, categoryId);
+	}
+
+	/**
+	 * Gets the URL to search for the {@link Beast}s that are weak to a specific weakness.
+	 * @param weaknessId The id of the weakness.
+	 * @return The URL.
+	 */
+	static String beastsWeakToUrl(int weaknessId) {
+		return String.format(WEAKNESS_BEASTS_URL_FORMAT, weaknessId);
+	}
+
+	/**
+	 * Gets the URL to search for the {@link Beast}s that have a combat level between the lower and upper bound inclusively.
+	 * @param lowerBound The lowest combat level.
+	 * @param upperBound The highest combat level.
+	 * @return The URL.
+	 */
+	static String beastsInLevelGroupUrl(int lowerBound, int upperBound) {
+		Preconditions.checkArgument(upperBound > lowerBound, "The upper combat level bound must be higher than the lower combat level bound.");
+		return String.format(LEVEL_GROUP_URL_FORMAT, lowerBound, upperBound);
+	}
+
 	/**
 	 * The web-services {@link Client}.
 	 */
@@ -133,8 +210,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#beastData">Beast Data</a>
 	 */
 	public Optional<Beast> beastData(int beastId) throws IOException {
-		String url = String.format(BEAST_DATA_URL_FORMAT, beastId);
-		return client.fromJson(url, Beast.class);
+		return client.fromJson(beastDataUrl(beastId), Beast.class);
 	}
 
 	/**
@@ -145,14 +221,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#beastSearch">Searching Names</a>
 	 */
 	public ImmutableMap<Integer, String> searchByTerms(String... terms) throws IOException {
-		Preconditions.checkNotNull(terms);
-
-		StringJoiner joiner = new StringJoiner("+");
-		for (String term : terms) {
-			joiner.add(term);
-		}
-
-		String url = String.format(BEAST_SEARCH_URL_FORMAT, joiner.toString());
+		String url = searchByTermsUrl(terms);
 		return resultsToImmutableMap(client.fromJson(url, SearchResult[].class).orElse(null));
 	}
 
@@ -164,7 +233,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#bestiaryNames">Beasts A to Z</a>
 	 */
 	public ImmutableMap<Integer, String> searchByFirstLetter(char letter) throws IOException {
-		String url = String.format(BESTIARY_NAMES_URL_FORMAT, letter);
+		String url = searchByFirstLetterUrl(letter);
 		return resultsToImmutableMap(client.fromJson(url, SearchResult[].class).orElse(null));
 	}
 
@@ -187,8 +256,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#areaBeasts">Beasts by Area - areaBeasts</a>
 	 */
 	public ImmutableMap<Integer, String> beastsInArea(String area) throws IOException {
-		Preconditions.checkNotNull(area);
-		String url = String.format(AREA_BEASTS_URL_FORMAT, NAME_SPACER.matcher(area).replaceAll("+"));
+		String url = beastsInAreaUrl(area);
 		return resultsToImmutableMap(client.fromJson(url, SearchResult[].class).orElse(null));
 	}
 
@@ -211,7 +279,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#slayerBeasts">Beasts by Slayer Category - slayerBeasts</a>
 	 */
 	public ImmutableMap<Integer, String> beastsInSlayerCategory(int categoryId) throws IOException {
-		String url = String.format(SLAYER_BEASTS_URL_FORMAT, categoryId);
+		String url = beastsInSlayerCategoryUrl(categoryId);
 		return resultsToImmutableMap(client.fromJson(url, SearchResult[].class).orElse(null));
 	}
 
@@ -247,7 +315,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#weaknessBeasts">Beasts by Weakness - weaknessBeasts</a>
 	 */
 	public ImmutableMap<Integer, String> beastsWeakTo(int weaknessId) throws IOException {
-		String url = String.format(WEAKNESS_BEASTS_URL_FORMAT, weaknessId);
+		String url = beastsWeakToUrl(weaknessId);
 		return resultsToImmutableMap(client.fromJson(url, SearchResult[].class).orElse(null));
 	}
 
@@ -273,8 +341,7 @@ public final class Bestiary {
 	 * @see <a href="https://runescape.wiki/w/RuneScape_Bestiary#levelGroup">Beasts by Level</a>
 	 */
 	public ImmutableMap<Integer, String> beastsInLevelGroup(int lowerBound, int upperBound) throws IOException {
-		Preconditions.checkArgument(upperBound > lowerBound, "The upper combat level bound must be higher than the lower combat level bound.");
-		String url = String.format(LEVEL_GROUP_URL_FORMAT, lowerBound, upperBound);
+		String url = beastsInLevelGroupUrl(lowerBound, upperBound);
 		return resultsToImmutableMap(client.fromJson(url, SearchResult[].class).orElse(null));
 	}
 }
@@ -2,6 +2,7 @@ package com.github.michaelbull.rs.bestiary;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -9,6 +10,7 @@ import java.util.Optional;
 /**
  * Represents a result returned by searching within the RuneScape {@link Bestiary}.
  */
+@JsonAdapter(SearchResultTypeAdapter.class)
 public final class SearchResult {
 
 	/**
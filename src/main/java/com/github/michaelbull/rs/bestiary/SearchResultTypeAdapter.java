@@ -0,0 +1,72 @@
+package com.github.michaelbull.rs.bestiary;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} that reads a {@link SearchResult} straight from the token stream, without reflection.
+ * <p>
+ * A result without a label is read as {@code null}, as it has nothing to contribute to a search.
+ */
+final class SearchResultTypeAdapter extends TypeAdapter<SearchResult> {
+
+	@Override
+	public SearchResult read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		Integer value = null;
+		String label = null;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			String field = in.nextName();
+
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				continue;
+			}
+
+			switch (field) {
+				case "value":
+					value = in.nextInt();
+					break;
+
+				case "label":
+					label = in.nextString();
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		if (value == null) {
+			throw new JsonSyntaxException("SearchResult requires a value.");
+		}
+
+		return label == null ? null : new SearchResult(value, label);
+	}
+
+	@Override
+	public void write(JsonWriter out, SearchResult value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("value").value(value.getValue());
+		out.name("label").value(value.getLabel().orElse(null));
+		out.endObject();
+	}
+}
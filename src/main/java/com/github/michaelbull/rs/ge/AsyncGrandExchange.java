@@ -0,0 +1,94 @@
+package com.github.michaelbull.rs.ge;
+
+import com.github.michaelbull.rs.AsyncClient;
+import com.google.common.base.Preconditions;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the RuneScape Grand Exchange API, queried through an {@link AsyncClient}.
+ * @see GrandExchange
+ * @see <a href="https://runescape.wiki/w/Application_programming_interface#Grand_Exchange_Database_API">Grand Exchange APIs</a>
+ */
+public final class AsyncGrandExchange {
+
+	/**
+	 * The web-services {@link AsyncClient}.
+	 */
+	private final AsyncClient client;
+
+	/**
+	 * Creates a new {@link AsyncGrandExchange}.
+	 * @param client The web-services {@link AsyncClient}.
+	 */
+	public AsyncGrandExchange(AsyncClient client) {
+		this.client = Preconditions.checkNotNull(client);
+	}
+
+	/**
+	 * Gets a {@link Category} by its id.
+	 * @param categoryId The id of the {@link Category}.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link Category}, or {@link Optional#empty()} if there is no {@link Category} for the {@link Category} id.
+	 * @see GrandExchange#category(int)
+	 */
+	public CompletableFuture<Optional<Category>> category(int categoryId) {
+		return client.fromJson(GrandExchange.categoryUrl(categoryId), Category.class);
+	}
+
+	/**
+	 * Gets a {@link Category} by its name.
+	 * @param categoryName The name of the {@link Category}.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link Category}, or {@link Optional#empty()} if there is no {@link Category} for the {@link Category} name.
+	 * @see GrandExchange#category(String)
+	 */
+	public CompletableFuture<Optional<Category>> category(String categoryName) {
+		Preconditions.checkNotNull(categoryName);
+		return category(GrandExchange.CATEGORIES.indexOf(categoryName));
+	}
+
+	/**
+	 * Gets a set {@link CategoryPrices} based on the {@link Category}'s id, an item's prefix, and specified page.
+	 * @param categoryId The id of the {@link Category}.
+	 * @param prefix An item's prefix.
+	 * @param page The page.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link CategoryPrices}, or {@link Optional#empty()} if no {@link CategoryPrices} were found.
+	 * @see GrandExchange#categoryPrices(int, String, int)
+	 */
+	public CompletableFuture<Optional<CategoryPrices>> categoryPrices(int categoryId, String prefix, int page) {
+		return client.fromJson(GrandExchange.categoryPricesUrl(categoryId, prefix, page), CategoryPrices.class);
+	}
+
+	/**
+	 * Gets a set {@link CategoryPrices} based on the {@link Category}'s name, an item's prefix, and specified page.
+	 * @param categoryName The name of the {@link Category}.
+	 * @param prefix An item's prefix.
+	 * @param page The page.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link CategoryPrices}, or {@link Optional#empty()} if no {@link CategoryPrices} were found.
+	 * @see GrandExchange#categoryPrices(String, String, int)
+	 */
+	public CompletableFuture<Optional<CategoryPrices>> categoryPrices(String categoryName, String prefix, int page) {
+		Preconditions.checkNotNull(categoryName);
+		return categoryPrices(GrandExchange.CATEGORIES.indexOf(categoryName), prefix, page);
+	}
+
+	/**
+	 * Gets the {@link GraphingData} of an {@link Item}.
+	 * @param itemId The id of the {@link Item}.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link GraphingData}, or {@link Optional#empty()} if no {@link GraphingData} was found for the {@link Item} id.
+	 * @see GrandExchange#graphingData(int)
+	 */
+	public CompletableFuture<Optional<GraphingData>> graphingData(int itemId) {
+		return client.fromJson(GrandExchange.graphingDataUrl(itemId), GraphingData.class);
+	}
+
+	/**
+	 * Gets the {@link ItemPriceInformation} of an {@link Item}.
+	 * @param itemId The id of the {@link Item}.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link ItemPriceInformation}, or {@link Optional#empty()} if no {@link ItemPriceInformation} was found for the {@link Item} id.
+	 * @see GrandExchange#itemPriceInformation(int)
+	 */
+	public CompletableFuture<Optional<ItemPriceInformation>> itemPriceInformation(int itemId) {
+		return client.fromJson(GrandExchange.itemPriceInformationUrl(itemId), ItemPriceInformation.class);
+	}
+}
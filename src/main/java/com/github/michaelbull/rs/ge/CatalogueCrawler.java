@@ -0,0 +1,297 @@
+package com.github.michaelbull.rs.ge;
+
+import com.github.michaelbull.rs.BatchLookup;
+import com.github.michaelbull.rs.BatchResult;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Crawls the {@link Item}s of the Grand Exchange catalogue.
+ * <p>
+ * A crawl first plans the exact set of {@link Page}s to request from the {@link Category#getAlpha() alpha} counts of
+ * each {@link Category}, then fetches the pages in parallel with at most {@link Builder#concurrency(int)} requests in
+ * flight. {@link Item}s are passed to the consumer on the calling thread as each page arrives.
+ */
+public final class CatalogueCrawler {
+
+	public static final class Builder {
+		private int concurrency = DEFAULT_CONCURRENCY;
+		private Executor executor;
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder concurrency(int concurrency) {
+			Preconditions.checkArgument(concurrency > 0, "Concurrency must be positive.");
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		public Builder executor(Executor executor) {
+			this.executor = Preconditions.checkNotNull(executor);
+			return this;
+		}
+
+		public CatalogueCrawler build(GrandExchange grandExchange) {
+			BatchLookup.Builder batch = BatchLookup.builder().concurrency(concurrency);
+			if (executor != null) {
+				batch.executor(executor);
+			}
+			return new CatalogueCrawler(grandExchange, batch.build());
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Represents a single page of a {@link Category}'s {@link Item}s that begin with a prefix.
+	 */
+	public static final class Page {
+
+		/**
+		 * The id of the {@link Category}.
+		 */
+		private final int categoryId;
+
+		/**
+		 * The prefix of the {@link Item}s.
+		 */
+		private final String prefix;
+
+		/**
+		 * The page number, starting from 1.
+		 */
+		private final int page;
+
+		/**
+		 * Creates a new {@link Page}.
+		 * @param categoryId The id of the {@link Category}.
+		 * @param prefix The prefix of the {@link Item}s.
+		 * @param page The page number, starting from 1.
+		 */
+		public Page(int categoryId, String prefix, int page) {
+			Preconditions.checkElementIndex(categoryId, GrandExchange.CATEGORIES.size(), "Category id must be between 0 and " + (GrandExchange.CATEGORIES.size() - 1) + " inclusive.");
+			Preconditions.checkArgument(page > 0, "Page must be positive.");
+			this.categoryId = categoryId;
+			this.prefix = Preconditions.checkNotNull(prefix);
+			this.page = page;
+		}
+
+		/**
+		 * Gets the id of the {@link Category}.
+		 * @return The id of the {@link Category}.
+		 */
+		public int getCategoryId() {
+			return categoryId;
+		}
+
+		/**
+		 * Gets the prefix of the {@link Item}s.
+		 * @return The prefix of the {@link Item}s.
+		 */
+		public String getPrefix() {
+			return prefix;
+		}
+
+		/**
+		 * Gets the page number.
+		 * @return The page number, starting from 1.
+		 */
+		public int getPage() {
+			return page;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Page that = (Page) o;
+			return categoryId == that.categoryId
+				&& page == that.page
+				&& Objects.equals(prefix, that.prefix);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(categoryId, prefix, page);
+		}
+
+		@Override
+		public String toString() {
+			return MoreObjects.toStringHelper(this)
+				.add("categoryId", categoryId)
+				.add("prefix", prefix)
+				.add("page", page)
+				.toString();
+		}
+	}
+
+	/**
+	 * The default maximum amount of requests in flight.
+	 */
+	public static final int DEFAULT_CONCURRENCY = BatchLookup.DEFAULT_CONCURRENCY;
+
+	/**
+	 * Plans the {@link Page}s of a {@link Category}.
+	 * @param categoryId The id of the {@link Category}.
+	 * @param category The {@link Category}.
+	 * @return An {@link ImmutableList} of the {@link Page}s of every prefix with at least one {@link Item}.
+	 */
+	static ImmutableList<Page> pagesOf(int categoryId, Category category) {
+		ImmutableList.Builder<Page> pages = ImmutableList.builder();
+
+		for (SearchResult result : category.getAlpha()) {
+			if (result == null) {
+				continue;
+			}
+
+			int pageCount = (result.getItems() + Category.ITEMS_PER_PAGE - 1) / Category.ITEMS_PER_PAGE;
+			for (int page = 1; page <= pageCount; page++) {
+				pages.add(new Page(categoryId, result.getLetter(), page));
+			}
+		}
+
+		return pages.build();
+	}
+
+	/**
+	 * The {@link GrandExchange} to crawl.
+	 */
+	private final GrandExchange grandExchange;
+
+	/**
+	 * The {@link BatchLookup} requests are made with.
+	 */
+	private final BatchLookup batch;
+
+	/**
+	 * Creates a new {@link CatalogueCrawler}.
+	 * @param grandExchange The {@link GrandExchange} to crawl.
+	 * @param batch The {@link BatchLookup} requests are made with.
+	 */
+	private CatalogueCrawler(GrandExchange grandExchange, BatchLookup batch) {
+		this.grandExchange = Preconditions.checkNotNull(grandExchange);
+		this.batch = Preconditions.checkNotNull(batch);
+	}
+
+	/**
+	 * Looks up a collection of keys with the {@link #batch}, stopping at the first failure. The tasks in flight are
+	 * cancelled and no more are started.
+	 * @param keys The keys.
+	 * @param lookup The {@link BatchLookup.Lookup} of a single key.
+	 * @param listener The {@link BatchLookup.Listener}, which may throw an {@link UncheckedIOException} to stop the batch.
+	 * @param <K> The type of the keys.
+	 * @param <V> The type of the values.
+	 * @return The {@link BatchResult} of every key, none of which failed.
+	 * @throws IOException If a lookup or the listener fails, or the thread is interrupted.
+	 */
+	private <K, V> BatchResult<K, V> lookup(Collection<? extends K> keys, BatchLookup.Lookup<? super K, ? extends V> lookup, BatchLookup.Listener<K, V> listener) throws IOException {
+		try {
+			return batch.lookup(keys, lookup, new BatchLookup.Listener<K, V>() {
+				@Override
+				public void onResult(K key, V value) {
+					listener.onResult(key, value);
+				}
+
+				@Override
+				public void onMissing(K key) {
+					listener.onMissing(key);
+				}
+
+				@Override
+				public void onFailure(K key, IOException failure) {
+					throw new UncheckedIOException(failure);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Plans the {@link Page}s to request for a set of {@link Category}s, fetching the {@link Category}s in parallel.
+	 * @param categoryIds The ids of the {@link Category}s.
+	 * @return An {@link ImmutableList} of the {@link Page}s, grouped by {@link Category} in the order of the ids.
+	 * @throws IOException If an I/O error occurs, or a {@link Category} could not be found.
+	 */
+	public ImmutableList<Page> plan(Collection<Integer> categoryIds) throws IOException {
+		Preconditions.checkNotNull(categoryIds);
+
+		categoryIds.forEach(GrandExchange::categoryUrl);
+
+		BatchResult<Integer, Category> categories = lookup(categoryIds, grandExchange::category, new BatchLookup.Listener<Integer, Category>() {
+			@Override
+			public void onMissing(Integer categoryId) {
+				throw new UncheckedIOException(new IOException("Category " + categoryId + " could not be found."));
+			}
+		});
+
+		ImmutableList.Builder<Page> pages = ImmutableList.builder();
+		for (int categoryId : categoryIds) {
+			pages.addAll(pagesOf(categoryId, categories.getResults().get(categoryId)));
+		}
+		return pages.build();
+	}
+
+	/**
+	 * Plans the {@link Page}s to request for every {@link Category} in {@link GrandExchange#CATEGORIES}.
+	 * @return An {@link ImmutableList} of the {@link Page}s, grouped by {@link Category}.
+	 * @throws IOException If an I/O error occurs, or a {@link Category} could not be found.
+	 */
+	public ImmutableList<Page> plan() throws IOException {
+		List<Integer> ids = new ArrayList<>();
+		IntStream.range(0, GrandExchange.CATEGORIES.size()).forEach(ids::add);
+		return plan(ids);
+	}
+
+	/**
+	 * Fetches a set of {@link Page}s in parallel, passing their {@link Item}s to a consumer on the calling thread as
+	 * each page arrives.
+	 * @param pages The {@link Page}s to fetch.
+	 * @param consumer The {@link Consumer} of the {@link Item}s.
+	 * @return An {@link ImmutableList} of the {@link Page}s that returned no {@link CategoryPrices}, which may be retried.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public ImmutableList<Page> crawl(List<Page> pages, Consumer<? super Item> consumer) throws IOException {
+		Preconditions.checkNotNull(pages);
+		Preconditions.checkNotNull(consumer);
+
+		BatchResult<Page, CategoryPrices> prices = lookup(pages, page -> grandExchange.categoryPrices(page.categoryId, page.prefix, page.page), new BatchLookup.Listener<Page, CategoryPrices>() {
+			@Override
+			public void onResult(Page page, CategoryPrices result) {
+				result.getItems().forEach(consumer);
+			}
+		});
+
+		return ImmutableList.copyOf(prices.getMissing());
+	}
+
+	/**
+	 * Crawls every {@link Item} in the catalogue, passing each to a consumer on the calling thread as its page
+	 * arrives.
+	 * @param consumer The {@link Consumer} of the {@link Item}s.
+	 * @return An {@link ImmutableList} of the {@link Page}s that returned no {@link CategoryPrices}, which may be retried.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public ImmutableList<Page> crawl(Consumer<? super Item> consumer) throws IOException {
+		return crawl(plan(), consumer);
+	}
+}
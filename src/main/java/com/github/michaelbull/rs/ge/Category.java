@@ -3,6 +3,7 @@ package com.github.michaelbull.rs.ge;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -12,6 +13,7 @@ import java.util.Optional;
  * Represents the information of an item category on the RuneScape {@link GrandExchange}.
  * @see <a href="https://runescape.wiki/w/Application_programming_interface#category">Category information details</a>
  */
+@JsonAdapter(CategoryTypeAdapter.class)
 public final class Category {
 
 	/**
@@ -3,6 +3,7 @@ package com.github.michaelbull.rs.ge;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -11,6 +12,7 @@ import java.util.Objects;
  * Represents the prices of a collection of {@link Item}s within a {@link Category} on the {@link GrandExchange}.
  * @see <a href="https://runescape.wiki/w/Application_programming_interface#items">Category price details</a>
  */
+@JsonAdapter(CategoryPricesTypeAdapter.class)
 public final class CategoryPrices {
 
 	/**
@@ -0,0 +1,81 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link TypeAdapter} that reads each {@link CategoryPrices} straight into its constructor, without reflection.
+ */
+final class CategoryPricesTypeAdapter extends TypeAdapter<CategoryPrices> {
+
+	/**
+	 * The {@link TypeAdapter} of the {@link Item}s.
+	 */
+	private static final ItemTypeAdapter ITEM_ADAPTER = new ItemTypeAdapter();
+
+	@Override
+	public CategoryPrices read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		int total = 0;
+		List<Item> items = new ArrayList<>(Category.ITEMS_PER_PAGE);
+
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "total":
+					total = in.nextInt();
+					break;
+
+				case "items":
+					in.beginArray();
+					while (in.hasNext()) {
+						Item item = ITEM_ADAPTER.read(in);
+						if (item != null) {
+							items.add(item);
+						}
+					}
+					in.endArray();
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		try {
+			return new CategoryPrices(total, items.toArray(new Item[items.size()]));
+		} catch (IllegalArgumentException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	@Override
+	public void write(JsonWriter out, CategoryPrices value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("total").value(value.getTotal());
+		out.name("items").beginArray();
+		for (Item item : value.getItems()) {
+			ITEM_ADAPTER.write(out, item);
+		}
+		out.endArray();
+		out.endObject();
+	}
+}
@@ -0,0 +1,173 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TypeAdapter} that reads each {@link Category} straight into its constructor, without reflection.
+ */
+final class CategoryTypeAdapter extends TypeAdapter<Category> {
+
+	/**
+	 * The {@link TypeAdapter} of the {@link SearchResult}s.
+	 */
+	private static final SearchResultTypeAdapter SEARCH_RESULT_ADAPTER = new SearchResultTypeAdapter();
+
+	/**
+	 * Reads an untyped JSON value into the same types as {@link com.google.gson.Gson} would for an {@link Object}:
+	 * a {@link List}, a {@link Map}, a {@link String}, a {@link Double}, a {@link Boolean} or {@code null}.
+	 * @param in The {@link JsonReader}.
+	 * @return The value.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static Object readValue(JsonReader in) throws IOException {
+		switch (in.peek()) {
+			case BEGIN_ARRAY:
+				List<Object> list = new ArrayList<>();
+				in.beginArray();
+				while (in.hasNext()) {
+					list.add(readValue(in));
+				}
+				in.endArray();
+				return list;
+
+			case BEGIN_OBJECT:
+				Map<String, Object> map = new LinkedHashMap<>();
+				in.beginObject();
+				while (in.hasNext()) {
+					map.put(in.nextName(), readValue(in));
+				}
+				in.endObject();
+				return map;
+
+			case STRING:
+				return in.nextString();
+
+			case NUMBER:
+				return in.nextDouble();
+
+			case BOOLEAN:
+				return in.nextBoolean();
+
+			case NULL:
+				in.nextNull();
+				return null;
+
+			default:
+				throw new JsonSyntaxException("Unexpected token " + in.peek() + " at " + in.getPath() + ".");
+		}
+	}
+
+	/**
+	 * Writes an untyped value read by {@link #readValue(JsonReader)}.
+	 * @param out The {@link JsonWriter}.
+	 * @param value The value.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static void writeValue(JsonWriter out, Object value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else if (value instanceof List) {
+			out.beginArray();
+			for (Object element : (List<?>) value) {
+				writeValue(out, element);
+			}
+			out.endArray();
+		} else if (value instanceof Map) {
+			out.beginObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				out.name(String.valueOf(entry.getKey()));
+				writeValue(out, entry.getValue());
+			}
+			out.endObject();
+		} else if (value instanceof Number) {
+			out.value((Number) value);
+		} else if (value instanceof Boolean) {
+			out.value((Boolean) value);
+		} else {
+			out.value(value.toString());
+		}
+	}
+
+	@Override
+	public Category read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		List<Object> types = new ArrayList<>();
+		List<SearchResult> alpha = new ArrayList<>();
+
+		in.beginObject();
+		while (in.hasNext()) {
+			String field = in.nextName();
+
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				continue;
+			}
+
+			switch (field) {
+				case "types":
+					in.beginArray();
+					while (in.hasNext()) {
+						Object type = readValue(in);
+						if (type != null) {
+							types.add(type);
+						}
+					}
+					in.endArray();
+					break;
+
+				case "alpha":
+					in.beginArray();
+					while (in.hasNext()) {
+						SearchResult result = SEARCH_RESULT_ADAPTER.read(in);
+						if (result != null) {
+							alpha.add(result);
+						}
+					}
+					in.endArray();
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		return new Category(types.toArray(), alpha.toArray(new SearchResult[alpha.size()]));
+	}
+
+	@Override
+	public void write(JsonWriter out, Category value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("types").beginArray();
+		for (Object type : value.getTypes()) {
+			writeValue(out, type);
+		}
+		out.endArray();
+		out.name("alpha").beginArray();
+		for (SearchResult result : value.getAlpha()) {
+			SEARCH_RESULT_ADAPTER.write(out, result);
+		}
+		out.endArray();
+		out.endObject();
+	}
+}
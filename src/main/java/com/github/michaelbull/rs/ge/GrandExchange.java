@@ -1,5 +1,7 @@
 package com.github.michaelbull.rs.ge;
 
+import com.github.michaelbull.rs.BatchLookup;
+import com.github.michaelbull.rs.BatchResult;
 import com.github.michaelbull.rs.Client;
 import com.github.michaelbull.rs.HttpClient;
 import com.google.common.base.Preconditions;
@@ -7,6 +9,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.primitives.Ints;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -18,7 +21,7 @@ public final class GrandExchange {
 	/**
 	 * The URL to the Grand Exchange web-service.
 	 */
-	private static final String GRAND_EXCHANGE_URL = HttpClient.WEB_SERVICES_URL + "/m=itemdb_rs/api";
+	public static final String GRAND_EXCHANGE_URL = HttpClient.WEB_SERVICES_URL + "/m=itemdb_rs/api";
 
 	/**
 	 * The format of the URL to fetch a {@link Category}.
@@ -87,6 +90,63 @@ public final class GrandExchange {
 		/* 39 */ "Salvage"
 	);
 
+	/**
+	 * Gets the URL to fetch a {@link Category} from.
+	 * @param categoryId The id of the {@link Category}.
+	 * @return The URL.
+	 */
+	static String categoryUrl(int categoryId) {
+		Preconditions.checkElementIndex(categoryId, CATEGORIES.size(), "Category id must be between 0 and " + (CATEGORIES.size() - 1) + " inclusive.");
+		return String.format(CATEGORY_URL_FORMAT, categoryId);
+	}
+
+	/**
+	 * Gets the URL to fetch a set of {@link CategoryPrices} from.
+	 * @param categoryId The id of the {@link Category}.
+	 * @param prefix An item's prefix.
+	 * @param page The page.
+	 * @return The URL.
+	 */
+	static String categoryPricesUrl(int categoryId, String prefix, int page) {
+		Preconditions.checkElementIndex(categoryId, CATEGORIES.size(), "Category id must be between 0 and " + (CATEGORIES.size() - 1) + " inclusive.");
+		Preconditions.checkArgument(!prefix.isEmpty(), "Prefix must be at least 1 character long.");
+
+		String alpha;
+		Integer prefixPercentage = Ints.tryParse(prefix);
+		if (prefixPercentage != null) {
+			alpha = "%" + prefixPercentage;
+		} else if (prefix.equals("#")) {
+			alpha = "%23";
+		} else {
+			alpha = prefix;
+		}
+
+		return String.format(ITEMS_URL_FORMAT, categoryId, alpha, page);
+	}
+
+	/**
+	 * Gets the URL to fetch the {@link GraphingData} of an {@link Item} from.
+	 * @param itemId The id of the {@link Item}.
+	 * @return The URL.
+	 */
+	static String graphingDataUrl(int itemId) {
+		return String.format(GRAPH_URL_FORMAT, itemId);
+	}
+
+	/**
+	 * Gets the URL to fetch the {@link ItemPriceInformation} of an {@link Item} from.
+	 * @param itemId The id of the {@link Item}.
+	 * @return The URL.
+	 */
+	static String itemPriceInformationUrl(int itemId) {
+		return String.format(DETAILS_URL_FORMAT, itemId);
+	}
+
+	/**
+	 * The {@link BatchLookup} used by the batch methods unless one is given.
+	 */
+	private static final BatchLookup DEFAULT_BATCH_LOOKUP = BatchLookup.builder().build();
+
 	/**
 	 * The web-services {@link Client}.
 	 */
@@ -108,9 +168,7 @@ public final class GrandExchange {
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#category">Category information details</a>
 	 */
 	public Optional<Category> category(int categoryId) throws IOException {
-		Preconditions.checkElementIndex(categoryId, CATEGORIES.size(), "Category id must be between 0 and " + (CATEGORIES.size() - 1) + " inclusive.");
-		String url = String.format(CATEGORY_URL_FORMAT, categoryId);
-		return client.fromJson(url, Category.class);
+		return client.fromJson(categoryUrl(categoryId), Category.class);
 	}
 
 	/**
@@ -136,19 +194,7 @@ public final class GrandExchange {
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#items">Category price details</a>
 	 */
 	public Optional<CategoryPrices> categoryPrices(int categoryId, String prefix, int page) throws IOException {
-		Preconditions.checkElementIndex(categoryId, CATEGORIES.size(), "Category id must be between 0 and " + (CATEGORIES.size() - 1) + " inclusive.");
-		Preconditions.checkArgument(!prefix.isEmpty(), "Prefix must be at least 1 character long.");
-
-		String alpha;
-		Integer prefixPercentage = Ints.tryParse(prefix);
-		if (prefixPercentage != null) {
-			alpha = "%" + prefixPercentage;
-		} else {
-			alpha = prefix;
-		}
-
-		String url = String.format(ITEMS_URL_FORMAT, categoryId, alpha, page);
-		return client.fromJson(url, CategoryPrices.class);
+		return client.fromJson(categoryPricesUrl(categoryId, prefix, page), CategoryPrices.class);
 	}
 
 	/**
@@ -174,8 +220,29 @@ public final class GrandExchange {
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Graph">Graphing Data</a>
 	 */
 	public Optional<GraphingData> graphingData(int itemId) throws IOException {
-		String url = String.format(GRAPH_URL_FORMAT, itemId);
-		return client.fromJson(url, GraphingData.class);
+		return client.fromJson(graphingDataUrl(itemId), GraphingData.class);
+	}
+
+	/**
+	 * Gets the {@link GraphingData} of many {@link Item}s in parallel, with at most
+	 * {@link BatchLookup#DEFAULT_CONCURRENCY} requests in flight.
+	 * @param itemIds The ids of the {@link Item}s.
+	 * @return A {@link BatchResult} of the {@link Item} ids to their {@link GraphingData}.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<Integer, GraphingData> graphingData(Collection<Integer> itemIds) throws IOException {
+		return graphingData(itemIds, DEFAULT_BATCH_LOOKUP);
+	}
+
+	/**
+	 * Gets the {@link GraphingData} of many {@link Item}s in parallel.
+	 * @param itemIds The ids of the {@link Item}s.
+	 * @param batch The {@link BatchLookup} to make the requests with.
+	 * @return A {@link BatchResult} of the {@link Item} ids to their {@link GraphingData}.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<Integer, GraphingData> graphingData(Collection<Integer> itemIds, BatchLookup batch) throws IOException {
+		return batch.lookup(itemIds, this::graphingData);
 	}
 
 	/**
@@ -186,7 +253,28 @@ public final class GrandExchange {
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#detail">GE Item price information</a>
 	 */
 	public Optional<ItemPriceInformation> itemPriceInformation(int itemId) throws IOException {
-		String url = String.format(DETAILS_URL_FORMAT, itemId);
-		return client.fromJson(url, ItemPriceInformation.class);
+		return client.fromJson(itemPriceInformationUrl(itemId), ItemPriceInformation.class);
+	}
+
+	/**
+	 * Gets the {@link ItemPriceInformation} of many {@link Item}s in parallel, with at most
+	 * {@link BatchLookup#DEFAULT_CONCURRENCY} requests in flight.
+	 * @param itemIds The ids of the {@link Item}s.
+	 * @return A {@link BatchResult} of the {@link Item} ids to their {@link ItemPriceInformation}.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<Integer, ItemPriceInformation> itemPriceInformation(Collection<Integer> itemIds) throws IOException {
+		return itemPriceInformation(itemIds, DEFAULT_BATCH_LOOKUP);
+	}
+
+	/**
+	 * Gets the {@link ItemPriceInformation} of many {@link Item}s in parallel.
+	 * @param itemIds The ids of the {@link Item}s.
+	 * @param batch The {@link BatchLookup} to make the requests with.
+	 * @return A {@link BatchResult} of the {@link Item} ids to their {@link ItemPriceInformation}.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<Integer, ItemPriceInformation> itemPriceInformation(Collection<Integer> itemIds, BatchLookup batch) throws IOException {
+		return batch.lookup(itemIds, this::itemPriceInformation);
 	}
 }
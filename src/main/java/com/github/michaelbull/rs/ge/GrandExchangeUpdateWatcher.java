@@ -0,0 +1,312 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects when the prices on the RuneScape {@link GrandExchange} have updated, by periodically fetching the
+ * {@link GraphingData} of a small set of sentinel items and comparing the last day of their daily prices.
+ * <p>
+ * The first successful probe only records the latest day. Each later probe that finds a day after it notifies the
+ * {@link Listener}s once, so that caches and crawlers can refresh exactly once per update rather than on a fixed
+ * timer. Sentinels are probed in order until one shows a new day, so a probe that finds no update costs one request
+ * per sentinel and a probe that finds one usually costs a single request.
+ * <p>
+ * The {@link GrandExchange} given to the watcher should not be backed by a {@link com.github.michaelbull.rs.CachingClient}
+ * that caches the graphing data, or the watcher will only see updates once the cache expires.
+ */
+public final class GrandExchangeUpdateWatcher implements Closeable {
+
+	public static final class Builder {
+		private int[] sentinelIds = DEFAULT_SENTINEL_IDS;
+		private Duration interval = DEFAULT_INTERVAL;
+		private ScheduledExecutorService executor;
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder sentinels(int... itemIds) {
+			Preconditions.checkArgument(itemIds.length > 0, "At least one sentinel item is required.");
+			this.sentinelIds = itemIds.clone();
+			return this;
+		}
+
+		public Builder interval(Duration interval) {
+			Preconditions.checkArgument(!interval.isNegative() && !interval.isZero(), "Interval must be positive.");
+			this.interval = interval;
+			return this;
+		}
+
+		public Builder executor(ScheduledExecutorService executor) {
+			this.executor = Preconditions.checkNotNull(executor);
+			return this;
+		}
+
+		public GrandExchangeUpdateWatcher build(GrandExchange grandExchange) {
+			return new GrandExchangeUpdateWatcher(grandExchange, this);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Listens for updates of the prices on the {@link GrandExchange}.
+	 */
+	@FunctionalInterface
+	public interface Listener {
+		/**
+		 * Called when the prices on the {@link GrandExchange} have updated.
+		 * @param day The latest day that prices are available for.
+		 */
+		void onUpdate(LocalDate day);
+
+		/**
+		 * Called when a scheduled probe fails, either because every sentinel item failed to be fetched or because a
+		 * {@link Listener} threw. The next scheduled probe will try again. Does nothing by default.
+		 * @param failure The {@link IOException} or {@link RuntimeException} thrown by the probe.
+		 */
+		default void onFailure(Exception failure) {
+			/* empty */
+		}
+	}
+
+	/**
+	 * The ids of the items probed unless configured otherwise: an Abyssal whip, a Rune platebody and Feathers, which
+	 * are traded every day.
+	 */
+	private static final int[] DEFAULT_SENTINEL_IDS = { 4151, 1127, 314 };
+
+	/**
+	 * The interval between probes, unless configured otherwise.
+	 */
+	public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(10);
+
+	/**
+	 * The {@link GrandExchange} to probe.
+	 */
+	private final GrandExchange grandExchange;
+
+	/**
+	 * The ids of the items to probe, in the order they are probed.
+	 */
+	private final int[] sentinelIds;
+
+	/**
+	 * The interval between probes.
+	 */
+	private final Duration interval;
+
+	/**
+	 * The {@link ScheduledExecutorService} probes run on.
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Whether the {@link #executor} was created by, and must be shut down by, this watcher.
+	 */
+	private final boolean ownsExecutor;
+
+	/**
+	 * The {@link Listener}s to notify of updates.
+	 */
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The latest day seen, as a count of days from the epoch of 1970-01-01, or {@link Long#MIN_VALUE} before the first
+	 * successful probe.
+	 */
+	private long latestEpochDay = Long.MIN_VALUE;
+
+	/**
+	 * The {@link ScheduledFuture} of the scheduled probes, or {@code null} if they have not been started.
+	 */
+	private ScheduledFuture<?> schedule;
+
+	/**
+	 * Creates a new {@link GrandExchangeUpdateWatcher}.
+	 * @param grandExchange The {@link GrandExchange} to probe.
+	 * @param builder The {@link Builder} holding the configuration.
+	 */
+	private GrandExchangeUpdateWatcher(GrandExchange grandExchange, Builder builder) {
+		this.grandExchange = Preconditions.checkNotNull(grandExchange);
+		this.sentinelIds = builder.sentinelIds;
+		this.interval = builder.interval;
+		this.ownsExecutor = builder.executor == null;
+		this.executor = ownsExecutor ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "grand-exchange-update-watcher");
+			thread.setDaemon(true);
+			return thread;
+		}) : builder.executor;
+	}
+
+	/**
+	 * Adds a {@link Listener} to notify of updates.
+	 * @param listener The {@link Listener}.
+	 */
+	public void addListener(Listener listener) {
+		listeners.add(Preconditions.checkNotNull(listener));
+	}
+
+	/**
+	 * Removes a {@link Listener}.
+	 * @param listener The {@link Listener}.
+	 */
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Starts probing on the {@link ScheduledExecutorService}, immediately and then after each interval.
+	 * @throws IllegalStateException If the watcher has already been started.
+	 */
+	public synchronized void start() {
+		Preconditions.checkState(schedule == null, "Watcher has already been started.");
+		long nanos = interval.toNanos();
+		schedule = executor.scheduleWithFixedDelay(this::pollQuietly, 0, nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Probes the sentinel items once, notifying the {@link Listener}s if the prices have updated since the last probe.
+	 * @return An {@link Optional} containing the new latest day if the prices have updated, or {@link Optional#empty()} if they have not or this is the first successful probe.
+	 * @throws IOException If every sentinel item failed to be fetched.
+	 * @throws RuntimeException If a {@link Listener} threw, after every {@link Listener} has been notified.
+	 */
+	public Optional<LocalDate> poll() throws IOException {
+		IOException failure = null;
+		boolean probed = false;
+		long latest = Long.MIN_VALUE;
+		long previous;
+
+		synchronized (this) {
+			previous = latestEpochDay;
+		}
+
+		for (int itemId : sentinelIds) {
+			try {
+				Optional<GraphingData> data = grandExchange.graphingData(itemId);
+				if (!data.isPresent() || data.get().getDailySeries().isEmpty()) {
+					continue;
+				}
+
+				PriceSeries daily = data.get().getDailySeries();
+				latest = Math.max(latest, daily.getEpochDay(daily.size() - 1));
+				probed = true;
+
+				if (previous != Long.MIN_VALUE && latest > previous) {
+					break;
+				}
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+
+		if (!probed) {
+			if (failure != null) {
+				throw failure;
+			}
+			return Optional.empty();
+		}
+
+		synchronized (this) {
+			if (latest <= latestEpochDay) {
+				return Optional.empty();
+			}
+
+			boolean first = latestEpochDay == Long.MIN_VALUE;
+			latestEpochDay = latest;
+
+			if (first) {
+				return Optional.empty();
+			}
+		}
+
+		LocalDate day = LocalDate.ofEpochDay(latest);
+		RuntimeException listenerFailure = null;
+
+		for (Listener listener : listeners) {
+			try {
+				listener.onUpdate(day);
+			} catch (RuntimeException e) {
+				if (listenerFailure == null) {
+					listenerFailure = e;
+				} else {
+					listenerFailure.addSuppressed(e);
+				}
+			}
+		}
+
+		if (listenerFailure != null) {
+			throw listenerFailure;
+		}
+		return Optional.of(day);
+	}
+
+	/**
+	 * Probes the sentinel items once, reporting any failure to the {@link Listener}s rather than throwing it, so that
+	 * the scheduled probes continue.
+	 */
+	private void pollQuietly() {
+		try {
+			poll();
+		} catch (IOException | RuntimeException e) {
+			for (Listener listener : listeners) {
+				try {
+					listener.onFailure(e);
+				} catch (RuntimeException ignored) {
+					/* a failing listener must not stop the scheduled probes */
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the latest day seen by a probe.
+	 * @return An {@link Optional} containing the latest day, or {@link Optional#empty()} if no probe has succeeded yet.
+	 */
+	public synchronized Optional<LocalDate> getLatestDay() {
+		return latestEpochDay == Long.MIN_VALUE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(latestEpochDay));
+	}
+
+	/**
+	 * Stops probing, shutting down the {@link ScheduledExecutorService} if it was created by this watcher.
+	 */
+	@Override
+	public synchronized void close() {
+		if (schedule != null) {
+			schedule.cancel(false);
+		}
+
+		if (ownsExecutor) {
+			executor.shutdownNow();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("sentinelIds", Ints.asList(sentinelIds))
+			.add("interval", interval)
+			.add("latestDay", getLatestDay().orElse(null))
+			.toString();
+	}
+}
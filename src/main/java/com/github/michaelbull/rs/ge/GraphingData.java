@@ -3,28 +3,44 @@ package com.github.michaelbull.rs.ge;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.gson.annotations.JsonAdapter;
 
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
 
 /**
  * Represents the data used to graphically display an {@link Item}s price history on the RuneScape {@link GrandExchange}.
+ * <p>
+ * The daily and average prices are each held as a {@link PriceSeries}, built once when the data is deserialized.
  * @see <a href="https://runescape.wiki/w/Application_programming_interface#Graph">Graphing Data</a>
  */
+@JsonAdapter(GraphingDataTypeAdapter.class)
 public final class GraphingData {
 
 	/**
-	 * Converts a {@link LocalDate} to the number of milliseconds from the epoch of 1970-01-01T00:00:00Z.
-	 * @param date The {@link LocalDate}.
-	 * @return The number of milliseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * The number of milliseconds in a day.
 	 */
-	private static long localDateToEpochMilli(LocalDate date) {
-		return date.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+	static final long MILLIS_PER_DAY = 86_400_000L;
+
+	/**
+	 * Creates a {@link PriceSeries} from a {@link Map} of datecodes to prices.
+	 * @param prices A {@link Map} of datecodes (milliseconds since the epoch of 1970-01-01T00:00:00Z) to prices.
+	 * @return The {@link PriceSeries}.
+	 */
+	private static PriceSeries fromDatecodes(Map<String, Integer> prices) {
+		long[] epochDays = new long[prices.size()];
+		int[] values = new int[prices.size()];
+
+		int i = 0;
+		for (Map.Entry<String, Integer> entry : prices.entrySet()) {
+			epochDays[i] = Math.floorDiv(Long.parseLong(entry.getKey()), MILLIS_PER_DAY);
+			values[i] = Preconditions.checkNotNull(entry.getValue());
+			i++;
+		}
+
+		return PriceSeries.of(epochDays, values, i);
 	}
 
 	/**
@@ -34,7 +50,7 @@ public final class GraphingData {
 	 * @return The {@link GraphingData}.
 	 */
 	public static GraphingData fromDatecodes(Map<String, Integer> daily, Map<String, Integer> average) {
-		return new GraphingData(Preconditions.checkNotNull(daily), Preconditions.checkNotNull(average));
+		return new GraphingData(fromDatecodes(Preconditions.checkNotNull(daily)), fromDatecodes(Preconditions.checkNotNull(average)));
 	}
 
 	/**
@@ -44,66 +60,61 @@ public final class GraphingData {
 	 * @return The {@link GraphingData}.
 	 */
 	public static GraphingData fromLocalDates(Map<LocalDate, Integer> daily, Map<LocalDate, Integer> average) {
-		Preconditions.checkNotNull(daily);
-		Preconditions.checkNotNull(average);
-
-		ImmutableMap.Builder<String, Integer> dailyBuilder = ImmutableMap.builder();
-		for (Map.Entry<LocalDate, Integer> entry : daily.entrySet()) {
-			dailyBuilder.put(String.valueOf(localDateToEpochMilli(entry.getKey())), entry.getValue());
-		}
-
-		ImmutableMap.Builder<String, Integer> averageBuilder = ImmutableMap.builder();
-		for (Map.Entry<LocalDate, Integer> entry : average.entrySet()) {
-			averageBuilder.put(String.valueOf(localDateToEpochMilli(entry.getKey())), entry.getValue());
-		}
-
-		return new GraphingData(dailyBuilder.build(), averageBuilder.build());
+		return new GraphingData(PriceSeries.fromLocalDates(daily), PriceSeries.fromLocalDates(average));
 	}
 
 	/**
-	 * Gets an {@link ImmutableMap} of {@link LocalDate}s to prices.
-	 * @param prices A {@link Map} of datecodes to prices.
-	 * @return An {@link ImmutableMap} of {@link LocalDate} to prices.
+	 * Creates a set of {@link GraphingData} from a pair of {@link PriceSeries}.
+	 * @param daily The daily price values.
+	 * @param average The average price values.
+	 * @return The {@link GraphingData}.
 	 */
-	private static ImmutableMap<LocalDate, Integer> getPrices(Map<String, Integer> prices) {
-		ImmutableMap.Builder<LocalDate, Integer> builder = ImmutableMap.builder();
-
-		for (Map.Entry<String, Integer> entry : prices.entrySet()) {
-			long epochMilli = Long.parseLong(entry.getKey());
-			LocalDate dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC).toLocalDate();
-
-			builder.put(dateTime, entry.getValue());
-		}
-
-		return builder.build();
+	public static GraphingData fromSeries(PriceSeries daily, PriceSeries average) {
+		return new GraphingData(daily, average);
 	}
 
 	/**
-	 * A {@link Map} of datecodes to daily price values.
+	 * The {@link PriceSeries} of daily price values.
 	 */
-	private final Map<String, Integer> daily;
+	private final PriceSeries daily;
 
 	/**
-	 * A {@link Map} of datecodes to average price values.
+	 * The {@link PriceSeries} of average price values.
 	 */
-	private final Map<String, Integer> average;
+	private final PriceSeries average;
 
 	/**
 	 * Creates new {@link GraphingData}.
 	 * @param daily The daily price values.
 	 * @param average The average price values.
 	 */
-	private GraphingData(Map<String, Integer> daily, Map<String, Integer> average) {
+	private GraphingData(PriceSeries daily, PriceSeries average) {
 		this.daily = Preconditions.checkNotNull(daily);
 		this.average = Preconditions.checkNotNull(average);
 	}
 
+	/**
+	 * Gets the {@link PriceSeries} of daily prices.
+	 * @return The {@link PriceSeries} of daily prices.
+	 */
+	public PriceSeries getDailySeries() {
+		return daily;
+	}
+
+	/**
+	 * Gets the {@link PriceSeries} of average prices.
+	 * @return The {@link PriceSeries} of average prices.
+	 */
+	public PriceSeries getAverageSeries() {
+		return average;
+	}
+
 	/**
 	 * Gets an {@link ImmutableMap} of {@link LocalDate}s to daily prices.
 	 * @return An {@link ImmutableMap} of {@link LocalDate}s to daily prices.
 	 */
 	public ImmutableMap<LocalDate, Integer> getDailyPrices() {
-		return getPrices(daily);
+		return daily.toMap();
 	}
 
 	/**
@@ -112,8 +123,7 @@ public final class GraphingData {
 	 * @return An {@link OptionalInt} containing the price, or {@link OptionalInt#empty()} if no daily value was recorded on this date.
 	 */
 	public OptionalInt getDailyPrice(LocalDate dateTime) {
-		Integer price = daily.get(String.valueOf(localDateToEpochMilli(dateTime)));
-		return price == null ? OptionalInt.empty() : OptionalInt.of(price);
+		return daily.getPrice(dateTime);
 	}
 
 	/**
@@ -121,7 +131,7 @@ public final class GraphingData {
 	 * @return An {@link ImmutableMap} of {@link LocalDate}s to average prices.
 	 */
 	public ImmutableMap<LocalDate, Integer> getAveragePrices() {
-		return getPrices(average);
+		return average.toMap();
 	}
 
 	/**
@@ -130,8 +140,7 @@ public final class GraphingData {
 	 * @return An {@link OptionalInt} containing the price, or {@link OptionalInt#empty()} if no average value was recorded on this date.
 	 */
 	public OptionalInt getAveragePrice(LocalDate dateTime) {
-		Integer price = average.get(String.valueOf(localDateToEpochMilli(dateTime)));
-		return price == null ? OptionalInt.empty() : OptionalInt.of(price);
+		return average.getPrice(dateTime);
 	}
 
 	@Override
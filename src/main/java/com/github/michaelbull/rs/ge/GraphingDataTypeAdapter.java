@@ -0,0 +1,121 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A {@link TypeAdapter} that reads the {@code daily} and {@code average} objects of {@link GraphingData} straight into
+ * the primitive arrays of a {@link PriceSeries}, without creating a {@link java.util.Map} of datecode {@link String}s.
+ */
+final class GraphingDataTypeAdapter extends TypeAdapter<GraphingData> {
+
+	/**
+	 * The initial capacity of the arrays a {@link PriceSeries} is read into, enough for the 180 days of a typical
+	 * response.
+	 */
+	private static final int INITIAL_CAPACITY = 192;
+
+	/**
+	 * Reads a {@link PriceSeries} from a JSON object of datecodes to prices.
+	 * @param in The {@link JsonReader}.
+	 * @return The {@link PriceSeries}.
+	 * @throws IOException If an I/O error occurs, or the object is malformed.
+	 */
+	private static PriceSeries readSeries(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return PriceSeries.empty();
+		}
+
+		long[] epochDays = new long[INITIAL_CAPACITY];
+		int[] prices = new int[INITIAL_CAPACITY];
+		int size = 0;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			if (size == epochDays.length) {
+				epochDays = Arrays.copyOf(epochDays, size * 2);
+				prices = Arrays.copyOf(prices, size * 2);
+			}
+
+			String datecode = in.nextName();
+			try {
+				epochDays[size] = Math.floorDiv(Long.parseLong(datecode), GraphingData.MILLIS_PER_DAY);
+			} catch (NumberFormatException e) {
+				throw new JsonSyntaxException("Malformed datecode: " + datecode, e);
+			}
+
+			prices[size] = in.nextInt();
+			size++;
+		}
+		in.endObject();
+
+		return PriceSeries.of(epochDays, prices, size);
+	}
+
+	/**
+	 * Writes a {@link PriceSeries} as a JSON object of datecodes to prices.
+	 * @param out The {@link JsonWriter}.
+	 * @param series The {@link PriceSeries}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static void writeSeries(JsonWriter out, PriceSeries series) throws IOException {
+		out.beginObject();
+		for (int i = 0; i < series.size(); i++) {
+			out.name(Long.toString(series.getEpochDay(i) * GraphingData.MILLIS_PER_DAY)).value(series.getPrice(i));
+		}
+		out.endObject();
+	}
+
+	@Override
+	public GraphingData read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		PriceSeries daily = PriceSeries.empty();
+		PriceSeries average = PriceSeries.empty();
+
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "daily":
+					daily = readSeries(in);
+					break;
+
+				case "average":
+					average = readSeries(in);
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		return GraphingData.fromSeries(daily, average);
+	}
+
+	@Override
+	public void write(JsonWriter out, GraphingData data) throws IOException {
+		if (data == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("daily");
+		writeSeries(out, data.getDailySeries());
+		out.name("average");
+		writeSeries(out, data.getAverageSeries());
+		out.endObject();
+	}
+}
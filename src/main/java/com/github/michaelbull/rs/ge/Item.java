@@ -2,14 +2,18 @@ package com.github.michaelbull.rs.ge;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
-import com.google.gson.annotations.SerializedName;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * Represents an item found on the RuneScape {@link GrandExchange}.
+ * <p>
+ * The strings that recur across many items are shared through a {@link StringPool}, and icon URLs that end with the
+ * item's id are held as the part before the id.
  */
+@JsonAdapter(ItemTypeAdapter.class)
 public final class Item {
 
 	public static final class Builder {
@@ -115,16 +119,25 @@ public final class Item {
 	}
 
 	/**
-	 * The URL to the item's inventory sprite.
+	 * The URL to the item's inventory sprite, or the part of it before the id if {@link #iconEndsWithId}.
 	 */
 	private final String icon;
 
 	/**
-	 * The URL to the item's large sprite.
+	 * A flag indicating whether the URL to the item's inventory sprite ends with its id.
+	 */
+	private final boolean iconEndsWithId;
+
+	/**
+	 * The URL to the item's large sprite, or the part of it before the id if {@link #iconLargeEndsWithId}.
 	 */
-	@SerializedName("icon_Large")
 	private final String iconLarge;
 
+	/**
+	 * A flag indicating whether the URL to the item's large sprite ends with its id.
+	 */
+	private final boolean iconLargeEndsWithId;
+
 	/**
 	 * The id of the item.
 	 */
@@ -163,7 +176,6 @@ public final class Item {
 	/**
 	 * A flag indicating whether this item is only accessible to members.
 	 */
-	@SerializedName("members")
 	private final boolean membersOnly;
 
 	/**
@@ -200,11 +212,17 @@ public final class Item {
 	private Item(String icon, String iconLarge, int id, String type, String typeIcon, String name, String description, PriceTrend current, PriceTrend today, boolean membersOnly, PriceChange day30, PriceChange day90, PriceChange day180) {
 		Preconditions.checkArgument(id >= 0, "Id must be non-negative.");
 
-		this.icon = Preconditions.checkNotNull(icon);
-		this.iconLarge = Preconditions.checkNotNull(iconLarge);
+		Preconditions.checkNotNull(icon);
+		Preconditions.checkNotNull(iconLarge);
+
+		String suffix = Integer.toString(id);
+		this.iconEndsWithId = icon.endsWith(suffix);
+		this.icon = StringPool.intern(iconEndsWithId ? icon.substring(0, icon.length() - suffix.length()) : icon);
+		this.iconLargeEndsWithId = iconLarge.endsWith(suffix);
+		this.iconLarge = StringPool.intern(iconLargeEndsWithId ? iconLarge.substring(0, iconLarge.length() - suffix.length()) : iconLarge);
 		this.id = id;
-		this.type = Preconditions.checkNotNull(type);
-		this.typeIcon = Preconditions.checkNotNull(typeIcon);
+		this.type = StringPool.intern(Preconditions.checkNotNull(type));
+		this.typeIcon = StringPool.intern(Preconditions.checkNotNull(typeIcon));
 		this.name = Preconditions.checkNotNull(name);
 		this.description = Preconditions.checkNotNull(description);
 		this.current = Preconditions.checkNotNull(current);
@@ -220,7 +238,7 @@ public final class Item {
 	 * @return The URL to the item's inventory sprite.
 	 */
 	public String getIcon() {
-		return icon;
+		return iconEndsWithId ? icon + id : icon;
 	}
 
 	/**
@@ -228,7 +246,7 @@ public final class Item {
 	 * @return The URL to the item's large sprite.
 	 */
 	public String getIconLarge() {
-		return iconLarge;
+		return iconLargeEndsWithId ? iconLarge + id : iconLarge;
 	}
 
 	/**
@@ -330,6 +348,8 @@ public final class Item {
 		Item item = (Item) o;
 		return id == item.id
 			&& membersOnly == item.membersOnly
+			&& iconEndsWithId == item.iconEndsWithId
+			&& iconLargeEndsWithId == item.iconLargeEndsWithId
 			&& Objects.equals(icon, item.icon)
 			&& Objects.equals(iconLarge, item.iconLarge)
 			&& Objects.equals(type, item.type)
@@ -351,8 +371,8 @@ public final class Item {
 	@Override
 	public String toString() {
 		return MoreObjects.toStringHelper(this)
-			.add("icon", icon)
-			.add("iconLarge", iconLarge)
+			.add("icon", getIcon())
+			.add("iconLarge", getIconLarge())
 			.add("id", id)
 			.add("type", type)
 			.add("typeIcon", typeIcon)
@@ -0,0 +1,542 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An index of the names of the {@link Item}s on the Grand Exchange, for finding items by what users type rather than
+ * by id.
+ * <p>
+ * Names are matched case-insensitively. The index holds the names sorted and a trie over them, in which the names
+ * beneath each node form a contiguous range, so a prefix lookup walks one node per character of the prefix and an
+ * edit-distance search prunes every branch that can no longer match. The index is immutable and safe to share between
+ * threads.
+ * <p>
+ * An index can be {@link #save saved} to a compact file, holding only the front-coded names and their ids, and
+ * {@link #load loaded} again without crawling the catalogue.
+ */
+public final class ItemIndex {
+
+	public static final class Builder {
+		private final Map<Integer, String> names = new HashMap<>();
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder add(int itemId, String name) {
+			names.put(itemId, Preconditions.checkNotNull(name));
+			return this;
+		}
+
+		public Builder add(Item item) {
+			return add(item.getId(), item.getName());
+		}
+
+		public ItemIndex build() {
+			List<Map.Entry<Integer, String>> entries = new ArrayList<>(names.entrySet());
+			entries.sort(Comparator.<Map.Entry<Integer, String>, String>comparing(entry -> keyOf(entry.getValue()))
+				.thenComparing(Map.Entry::getKey));
+
+			int[] ids = new int[entries.size()];
+			String[] sortedNames = new String[entries.size()];
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = entries.get(i).getKey();
+				sortedNames[i] = entries.get(i).getValue();
+			}
+
+			return new ItemIndex(ids, sortedNames);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * The magic number at the start of an index file, {@code "RSII"}.
+	 */
+	private static final int MAGIC = 0x52534949;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The index of the root node of the trie.
+	 */
+	private static final int ROOT = 0;
+
+	/**
+	 * Gets the key a name is indexed by.
+	 * @param name The name.
+	 * @return The key.
+	 */
+	private static String keyOf(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Gets the length of the prefix two strings have in common.
+	 * @param a The first string.
+	 * @param b The second string.
+	 * @return The length of the common prefix.
+	 */
+	private static int commonPrefixLength(String a, String b) {
+		int limit = Math.min(a.length(), b.length());
+		int length = 0;
+		while (length < limit && a.charAt(length) == b.charAt(length)) {
+			length++;
+		}
+		return length;
+	}
+
+	/**
+	 * Loads an index from a file written by {@link #save(Path)}.
+	 * @param path The {@link Path} of the file.
+	 * @return The {@link ItemIndex}.
+	 * @throws IOException If an I/O error occurs, or the file is not a valid index.
+	 */
+	public static ItemIndex load(Path path) throws IOException {
+		Preconditions.checkNotNull(path);
+
+		ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+		try {
+			if (in.remaining() < 8 || in.getInt() != MAGIC) {
+				throw new IOException(path + " is not an item index.");
+			}
+
+			int version = in.getInt();
+			if (version != VERSION) {
+				throw new IOException(path + " has unsupported version " + version + ".");
+			}
+
+			int count = Math.toIntExact(VarInts.readUnsigned(in));
+			int[] ids = new int[count];
+			String[] names = new String[count];
+			String previous = "";
+			String previousKey = "";
+
+			for (int i = 0; i < count; i++) {
+				ids[i] = (int) VarInts.readSigned(in);
+				int shared = Math.toIntExact(VarInts.readUnsigned(in));
+				byte[] suffix = new byte[Math.toIntExact(VarInts.readUnsigned(in))];
+				in.get(suffix);
+
+				if (shared > previous.length()) {
+					throw new IOException(path + " is corrupt at entry " + i + ".");
+				}
+
+				String name = previous.substring(0, shared) + new String(suffix, StandardCharsets.UTF_8);
+				String key = keyOf(name);
+				if (i > 0 && key.compareTo(previousKey) < 0) {
+					throw new IOException(path + " is not sorted at entry " + i + ".");
+				}
+
+				names[i] = name;
+				previous = name;
+				previousKey = key;
+			}
+
+			return new ItemIndex(ids, names);
+		} catch (BufferUnderflowException | ArithmeticException e) {
+			throw new IOException(path + " is truncated.", e);
+		}
+	}
+
+	/**
+	 * The ids of the {@link Item}s, in the order of their keys.
+	 */
+	private final int[] ids;
+
+	/**
+	 * The names of the {@link Item}s, in the order of their keys.
+	 */
+	private final String[] names;
+
+	/**
+	 * The keys of the {@link Item}s, sorted.
+	 */
+	private final String[] keys;
+
+	/**
+	 * The positions in {@link #ids} of the {@link Item}s, in the order of their ids.
+	 */
+	private final int[] positionsById;
+
+	/**
+	 * The character on the edge into each node of the trie.
+	 */
+	private final char[] labels;
+
+	/**
+	 * The index of the first child of each node. The children of a node are contiguous and sorted by label.
+	 */
+	private final int[] firstChild;
+
+	/**
+	 * The amount of children of each node.
+	 */
+	private final int[] childCount;
+
+	/**
+	 * The first position of the keys beneath each node.
+	 */
+	private final int[] rangeFrom;
+
+	/**
+	 * The position after the keys beneath each node.
+	 */
+	private final int[] rangeTo;
+
+	/**
+	 * The position after the keys that end at each node, which begin at {@link #rangeFrom}.
+	 */
+	private final int[] exactTo;
+
+	/**
+	 * The length of the longest key.
+	 */
+	private final int maxKeyLength;
+
+	/**
+	 * The amount of nodes in the trie, which grows as it is built.
+	 */
+	private int nodes;
+
+	/**
+	 * Creates a new {@link ItemIndex}.
+	 * @param ids The ids of the {@link Item}s, in the order of their keys.
+	 * @param names The names of the {@link Item}s, in the order of their keys.
+	 */
+	private ItemIndex(int[] ids, String[] names) {
+		this.ids = ids;
+		this.names = names;
+		this.keys = new String[names.length];
+
+		int capacity = 1;
+		int longest = 0;
+		for (int i = 0; i < names.length; i++) {
+			String key = keyOf(names[i]);
+			keys[i] = key;
+			capacity += key.length() - (i == 0 ? 0 : commonPrefixLength(keys[i - 1], key));
+			longest = Math.max(longest, key.length());
+		}
+		this.maxKeyLength = longest;
+
+		long[] order = new long[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			order[i] = ((long) ids[i] << 32) | i;
+		}
+		Arrays.sort(order);
+
+		this.positionsById = new int[ids.length];
+		for (int i = 0; i < order.length; i++) {
+			positionsById[i] = (int) order[i];
+		}
+
+		this.labels = new char[capacity];
+		this.firstChild = new int[capacity];
+		this.childCount = new int[capacity];
+		this.rangeFrom = new int[capacity];
+		this.rangeTo = new int[capacity];
+		this.exactTo = new int[capacity];
+
+		nodes = 1;
+		buildNode(ROOT, 0, 0, keys.length);
+	}
+
+	/**
+	 * Builds a node of the trie and, recursively, its children.
+	 * @param node The index of the node.
+	 * @param depth The length of the keys' prefix that the node represents.
+	 * @param from The first position of the keys beneath the node.
+	 * @param to The position after the keys beneath the node.
+	 */
+	private void buildNode(int node, int depth, int from, int to) {
+		rangeFrom[node] = from;
+		rangeTo[node] = to;
+
+		int exact = from;
+		while (exact < to && keys[exact].length() == depth) {
+			exact++;
+		}
+		exactTo[node] = exact;
+
+		int children = 0;
+		for (int i = exact; i < to; i++) {
+			if (i == exact || keys[i].charAt(depth) != keys[i - 1].charAt(depth)) {
+				children++;
+			}
+		}
+
+		int first = nodes;
+		firstChild[node] = first;
+		childCount[node] = children;
+		nodes += children;
+
+		int child = first;
+		int start = exact;
+		for (int i = exact + 1; i <= to; i++) {
+			if (i == to || keys[i].charAt(depth) != keys[start].charAt(depth)) {
+				labels[child] = keys[start].charAt(depth);
+				buildNode(child, depth + 1, start, i);
+				child++;
+				start = i;
+			}
+		}
+	}
+
+	/**
+	 * Finds the child of a node along an edge.
+	 * @param node The index of the node.
+	 * @param label The character on the edge.
+	 * @return The index of the child, or {@code -1} if there is no such child.
+	 */
+	private int child(int node, char label) {
+		int low = firstChild[node];
+		int high = low + childCount[node] - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			char midLabel = labels[mid];
+
+			if (midLabel < label) {
+				low = mid + 1;
+			} else if (midLabel > label) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Finds the node that represents a key prefix.
+	 * @param prefix The key prefix.
+	 * @return The index of the node, or {@code -1} if no key begins with the prefix.
+	 */
+	private int find(String prefix) {
+		int node = ROOT;
+		for (int i = 0; i < prefix.length() && node != -1; i++) {
+			node = child(node, prefix.charAt(i));
+		}
+		return node;
+	}
+
+	/**
+	 * Gets the ids of the {@link Item}s at a range of positions.
+	 * @param from The first position.
+	 * @param to The position after the last.
+	 * @return An {@link ImmutableList} of the ids.
+	 */
+	private ImmutableList<Integer> idsOf(int from, int to) {
+		ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+		for (int i = from; i < to; i++) {
+			builder.add(ids[i]);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Gets the amount of {@link Item}s in the index.
+	 * @return The amount of {@link Item}s.
+	 */
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * Gets the name of an {@link Item}.
+	 * @param itemId The id of the {@link Item}.
+	 * @return An {@link Optional} containing the name, or {@link Optional#empty()} if the {@link Item} is not in the index.
+	 */
+	public Optional<String> getName(int itemId) {
+		int low = 0;
+		int high = positionsById.length - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midId = ids[positionsById[mid]];
+
+			if (midId < itemId) {
+				low = mid + 1;
+			} else if (midId > itemId) {
+				high = mid - 1;
+			} else {
+				return Optional.of(names[positionsById[mid]]);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Finds the {@link Item}s with a name, ignoring case.
+	 * @param name The name.
+	 * @return An {@link ImmutableList} of the ids of the {@link Item}s, in ascending order.
+	 */
+	public ImmutableList<Integer> exact(String name) {
+		int node = find(keyOf(name));
+		return node == -1 ? ImmutableList.of() : idsOf(rangeFrom[node], exactTo[node]);
+	}
+
+	/**
+	 * Finds the {@link Item}s whose name begins with a prefix, ignoring case.
+	 * @param prefix The prefix.
+	 * @return An {@link ImmutableList} of the ids of the {@link Item}s, in the order of their names.
+	 */
+	public ImmutableList<Integer> prefix(String prefix) {
+		return prefix(prefix, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Finds at most a given amount of the {@link Item}s whose name begins with a prefix, ignoring case.
+	 * @param prefix The prefix.
+	 * @param limit The maximum amount of {@link Item}s to find.
+	 * @return An {@link ImmutableList} of the ids of the {@link Item}s, in the order of their names.
+	 */
+	public ImmutableList<Integer> prefix(String prefix, int limit) {
+		Preconditions.checkArgument(limit >= 0, "Limit must not be negative.");
+
+		int node = find(keyOf(prefix));
+		if (node == -1) {
+			return ImmutableList.of();
+		}
+
+		int from = rangeFrom[node];
+		return idsOf(from, (int) Math.min(rangeTo[node], (long) from + limit));
+	}
+
+	/**
+	 * Finds the {@link Item}s whose name is within an edit distance of a name, ignoring case. The edit distance is the
+	 * least amount of characters that must be inserted, deleted or substituted to turn one name into the other.
+	 * @param name The name.
+	 * @param maxDistance The maximum edit distance.
+	 * @return An {@link ImmutableList} of the ids of the {@link Item}s, closest first and otherwise in the order of their names.
+	 */
+	public ImmutableList<Integer> fuzzy(String name, int maxDistance) {
+		Preconditions.checkArgument(maxDistance >= 0, "Maximum distance must not be negative.");
+
+		String query = keyOf(name);
+		int[][] rows = new int[maxKeyLength + 1][query.length() + 1];
+		for (int i = 0; i <= query.length(); i++) {
+			rows[0][i] = i;
+		}
+
+		List<List<Integer>> byDistance = new ArrayList<>();
+		for (int distance = 0; distance <= maxDistance; distance++) {
+			byDistance.add(new ArrayList<>());
+		}
+
+		search(ROOT, 0, query, maxDistance, rows, byDistance);
+
+		ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+		byDistance.forEach(builder::addAll);
+		return builder.build();
+	}
+
+	/**
+	 * Searches beneath a node of the trie for keys within an edit distance of a query, filling in one row of the edit
+	 * distance table for each node visited.
+	 * @param node The index of the node.
+	 * @param depth The depth of the node, whose row of the table has been filled in.
+	 * @param query The query key.
+	 * @param maxDistance The maximum edit distance.
+	 * @param rows The rows of the edit distance table, one for each depth.
+	 * @param byDistance The ids of the {@link Item}s found, grouped by their edit distance.
+	 */
+	private void search(int node, int depth, String query, int maxDistance, int[][] rows, List<List<Integer>> byDistance) {
+		int[] row = rows[depth];
+
+		int distance = row[query.length()];
+		if (distance <= maxDistance) {
+			List<Integer> found = byDistance.get(distance);
+			for (int i = rangeFrom[node]; i < exactTo[node]; i++) {
+				found.add(ids[i]);
+			}
+		}
+
+		int end = firstChild[node] + childCount[node];
+		for (int child = firstChild[node]; child < end; child++) {
+			char label = labels[child];
+			int[] next = rows[depth + 1];
+			next[0] = row[0] + 1;
+			int minimum = next[0];
+
+			for (int i = 1; i <= query.length(); i++) {
+				int substitution = row[i - 1] + (query.charAt(i - 1) == label ? 0 : 1);
+				next[i] = Math.min(substitution, Math.min(row[i] + 1, next[i - 1] + 1));
+				minimum = Math.min(minimum, next[i]);
+			}
+
+			if (minimum <= maxDistance) {
+				search(child, depth + 1, query, maxDistance, rows, byDistance);
+			}
+		}
+	}
+
+	/**
+	 * Saves the index to a file, replacing it atomically.
+	 * @param path The {@link Path} of the file.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public void save(Path path) throws IOException {
+		Preconditions.checkNotNull(path);
+
+		ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		VarInts.writeUnsigned(out, ids.length);
+
+		String previous = "";
+		for (int i = 0; i < ids.length; i++) {
+			String name = names[i];
+			int shared = commonPrefixLength(previous, name);
+			if (shared > 0 && Character.isHighSurrogate(name.charAt(shared - 1))) {
+				shared--;
+			}
+
+			byte[] suffix = name.substring(shared).getBytes(StandardCharsets.UTF_8);
+			VarInts.writeSigned(out, ids[i]);
+			VarInts.writeUnsigned(out, shared);
+			VarInts.writeUnsigned(out, suffix.length);
+			out.write(suffix);
+			previous = name;
+		}
+
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		Files.write(temporary, out.toByteArray());
+		Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("size", ids.length)
+			.add("nodes", nodes)
+			.toString();
+	}
+}
@@ -1,6 +1,7 @@
 package com.github.michaelbull.rs.ge;
 
 import com.google.common.base.MoreObjects;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Objects;
 
@@ -8,6 +9,7 @@ import java.util.Objects;
  * Represents the {@link Item} price information for an {@link Item} on the RuneScape {@link GrandExchange}.
  * @see <a href="https://runescape.wiki/w/Application_programming_interface#detail">GE Item price information</a>
  */
+@JsonAdapter(ItemPriceInformationTypeAdapter.class)
 public final class ItemPriceInformation {
 
 	/**
@@ -0,0 +1,60 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} that reads each {@link ItemPriceInformation} straight into its constructor, without
+ * reflection.
+ */
+final class ItemPriceInformationTypeAdapter extends TypeAdapter<ItemPriceInformation> {
+
+	/**
+	 * The {@link TypeAdapter} of the {@link Item}.
+	 */
+	private static final ItemTypeAdapter ITEM_ADAPTER = new ItemTypeAdapter();
+
+	@Override
+	public ItemPriceInformation read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		Item item = null;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			if (in.nextName().equals("item")) {
+				item = ITEM_ADAPTER.read(in);
+			} else {
+				in.skipValue();
+			}
+		}
+		in.endObject();
+
+		if (item == null) {
+			throw new JsonSyntaxException("ItemPriceInformation requires an item.");
+		}
+
+		return new ItemPriceInformation(item);
+	}
+
+	@Override
+	public void write(JsonWriter out, ItemPriceInformation value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("item");
+		ITEM_ADAPTER.write(out, value.getItem());
+		out.endObject();
+	}
+}
@@ -0,0 +1,604 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * A read-only, memory-mapped snapshot of {@link Item}s, such as the whole catalogue gathered by a
+ * {@link CatalogueCrawler}, in a compact binary form that is much smaller and quicker to reload than JSON.
+ * <p>
+ * A snapshot file begins with a header, followed by one record for each {@link Item} in order of id, a dictionary of
+ * the strings shared between items, and an index of fixed-size entries that map each id to its record. Opening a
+ * snapshot only reads the header and the dictionary; each {@link Item} is decoded from the mapping when it is looked
+ * up. Within a record:
+ * <ul>
+ * <li>icon URLs that end with the item's id are stored as a reference to their prefix in the dictionary,</li>
+ * <li>the type, type icon and price changes are stored as references into the dictionary,</li>
+ * <li>the trends are packed together into one integer, with any trend that is not a known {@link Trend} stored as a
+ * reference into the dictionary, and</li>
+ * <li>prices that are plain numbers are stored as variable-length integers.</li>
+ * </ul>
+ * A {@link CategoryPrices} page is stored as its {@link CategoryPrices#getItems() items}.
+ */
+public final class ItemSnapshot {
+
+	/**
+	 * The magic number at the start of a snapshot file, {@code "RSIS"}.
+	 */
+	private static final int MAGIC = 0x52534953;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * The size of the file header: the magic number, the version, the amount of items, and the offsets of the
+	 * dictionary and the index.
+	 */
+	private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 4;
+
+	/**
+	 * The size of an entry in the index: the id of an item and the offset of its record.
+	 */
+	private static final int INDEX_ENTRY_SIZE = 4 + 4;
+
+	/**
+	 * The byte order of the fixed-size fields of the file.
+	 */
+	private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+	/**
+	 * The flag set if the {@link Item} is only accessible to members.
+	 */
+	private static final int MEMBERS_ONLY = 1;
+
+	/**
+	 * The flag set if the icon is stored as a prefix to the id.
+	 */
+	private static final int DERIVED_ICON = 1 << 1;
+
+	/**
+	 * The flag set if the large icon is stored as a prefix to the id.
+	 */
+	private static final int DERIVED_ICON_LARGE = 1 << 2;
+
+	/**
+	 * The flag set if the current price is stored as a number.
+	 */
+	private static final int NUMERIC_CURRENT_PRICE = 1 << 3;
+
+	/**
+	 * The flag set if today's price is stored as a number.
+	 */
+	private static final int NUMERIC_TODAYS_PRICE = 1 << 4;
+
+	/**
+	 * The packed trend of an absent {@link PriceChange}.
+	 */
+	private static final int ABSENT = 3;
+
+	/**
+	 * The packed trend of a trend that is not a known {@link Trend}, whose name is stored in the dictionary.
+	 */
+	private static final int UNKNOWN = 4;
+
+	/**
+	 * The amount of bits each trend is packed into.
+	 */
+	private static final int TREND_BITS = 3;
+
+	/**
+	 * The mask of a packed trend.
+	 */
+	private static final int TREND_MASK = (1 << TREND_BITS) - 1;
+
+	/**
+	 * The {@link Trend}s, indexed by their packed value.
+	 */
+	private static final Trend[] TRENDS = Trend.values();
+
+	/**
+	 * Writes a snapshot of {@link Item}s to a file, replacing it atomically. If several {@link Item}s share an id, the
+	 * last is kept.
+	 * @param path The {@link Path} of the file.
+	 * @param items The {@link Item}s.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public static void write(Path path, Iterable<Item> items) throws IOException {
+		Preconditions.checkNotNull(path);
+		Preconditions.checkNotNull(items);
+
+		SortedMap<Integer, Item> byId = new TreeMap<>();
+		for (Item item : items) {
+			byId.put(item.getId(), item);
+		}
+
+		int[] ids = new int[byId.size()];
+		int[] offsets = new int[byId.size()];
+		ByteArrayDataOutput records = ByteStreams.newDataOutput();
+		Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+		int position = 0;
+		int offset = HEADER_SIZE;
+		for (Item item : byId.values()) {
+			byte[] record = encode(item, dictionary);
+			ids[position] = item.getId();
+			offsets[position] = offset;
+			records.write(record);
+			offset = Math.addExact(offset, record.length);
+			position++;
+		}
+
+		ByteArrayDataOutput strings = ByteStreams.newDataOutput();
+		VarInts.writeUnsigned(strings, dictionary.size());
+		for (String value : dictionary.keySet()) {
+			writeString(strings, value);
+		}
+		byte[] dictionaryBytes = strings.toByteArray();
+
+		int dictionaryOffset = offset;
+		int indexOffset = Math.addExact(dictionaryOffset, dictionaryBytes.length);
+		Preconditions.checkState((long) indexOffset + (long) ids.length * INDEX_ENTRY_SIZE <= Integer.MAX_VALUE, "Snapshot must be smaller than 2GB.");
+
+		ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(ids.length);
+		out.writeInt(dictionaryOffset);
+		out.writeInt(indexOffset);
+		out.write(records.toByteArray());
+		out.write(dictionaryBytes);
+		for (int i = 0; i < ids.length; i++) {
+			out.writeInt(ids[i]);
+			out.writeInt(offsets[i]);
+		}
+
+		Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		Files.write(temporary, out.toByteArray());
+		Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Writes a string, prefixed with its length in bytes.
+	 * @param out The {@link ByteArrayDataOutput} to write to.
+	 * @param value The string.
+	 */
+	private static void writeString(ByteArrayDataOutput out, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		VarInts.writeUnsigned(out, bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string prefixed with its length in bytes from the position of a {@link ByteBuffer}, advancing it.
+	 * @param in The {@link ByteBuffer} to read from.
+	 * @return The string.
+	 */
+	private static String readString(ByteBuffer in) {
+		int length = Math.toIntExact(VarInts.readUnsigned(in));
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Writes a reference to a string in the dictionary, adding it if it is new.
+	 * @param out The {@link ByteArrayDataOutput} to write to.
+	 * @param dictionary The strings of the dictionary to their index.
+	 * @param value The string.
+	 */
+	private static void writeReference(ByteArrayDataOutput out, Map<String, Integer> dictionary, String value) {
+		Integer index = dictionary.get(value);
+		if (index == null) {
+			index = dictionary.size();
+			dictionary.put(value, index);
+		}
+		VarInts.writeUnsigned(out, index);
+	}
+
+	/**
+	 * Packs a trend.
+	 * @param trend The {@link Trend}, or {@link Optional#empty()} if the trend is unknown.
+	 * @return The packed trend.
+	 */
+	private static int packTrend(Optional<Trend> trend) {
+		return trend.map(Trend::ordinal).orElse(UNKNOWN);
+	}
+
+	/**
+	 * Packs the trend of an optional {@link PriceChange}.
+	 * @param change The {@link PriceChange}.
+	 * @return The packed trend.
+	 */
+	private static int packChangeTrend(Optional<PriceChange> change) {
+		return change.map(value -> packTrend(value.getTrendType())).orElse(ABSENT);
+	}
+
+	/**
+	 * Writes a reference to the name of a trend in the dictionary, if it is not a known {@link Trend}.
+	 * @param out The {@link ByteArrayDataOutput} to write to.
+	 * @param dictionary The strings of the dictionary to their index.
+	 * @param packed The packed trend.
+	 * @param name The name of the trend, or {@code null} if it is absent.
+	 */
+	private static void writeTrendName(ByteArrayDataOutput out, Map<String, Integer> dictionary, int packed, String name) {
+		if (packed == UNKNOWN) {
+			writeReference(out, dictionary, name);
+		}
+	}
+
+	/**
+	 * Checks if a price is a plain number, which can be stored as its amount of coins.
+	 * @param price The {@link PriceTrend}.
+	 * @return {@code true} if the price is a plain number, otherwise {@code false}.
+	 */
+	private static boolean isNumeric(PriceTrend price) {
+		OptionalLong coins = price.getPriceCoins();
+		return coins.isPresent() && price.getPrice().equals(Long.toString(coins.getAsLong()));
+	}
+
+	/**
+	 * Encodes the record of an {@link Item}.
+	 * @param item The {@link Item}.
+	 * @param dictionary The strings of the dictionary to their index.
+	 * @return The record.
+	 */
+	private static byte[] encode(Item item, Map<String, Integer> dictionary) {
+		String id = Integer.toString(item.getId());
+		PriceTrend current = item.getCurrentPrice();
+		PriceTrend today = item.getTodaysPrice();
+
+		int flags = 0;
+		if (item.isMembersOnly()) {
+			flags |= MEMBERS_ONLY;
+		}
+		if (item.getIcon().endsWith(id)) {
+			flags |= DERIVED_ICON;
+		}
+		if (item.getIconLarge().endsWith(id)) {
+			flags |= DERIVED_ICON_LARGE;
+		}
+		if (isNumeric(current)) {
+			flags |= NUMERIC_CURRENT_PRICE;
+		}
+		if (isNumeric(today)) {
+			flags |= NUMERIC_TODAYS_PRICE;
+		}
+
+		int currentTrend = packTrend(current.getTrendType());
+		int todaysTrend = packTrend(today.getTrendType());
+		int day30Trend = packChangeTrend(item.getDay30());
+		int day90Trend = packChangeTrend(item.getDay90());
+		int day180Trend = packChangeTrend(item.getDay180());
+
+		int trends = currentTrend
+			| todaysTrend << TREND_BITS
+			| day30Trend << TREND_BITS * 2
+			| day90Trend << TREND_BITS * 3
+			| day180Trend << TREND_BITS * 4;
+
+		ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		out.writeByte(flags);
+		VarInts.writeUnsigned(out, trends);
+
+		writeTrendName(out, dictionary, currentTrend, current.getTrend());
+		writeTrendName(out, dictionary, todaysTrend, today.getTrend());
+		writeTrendName(out, dictionary, day30Trend, item.getDay30().map(PriceChange::getTrend).orElse(null));
+		writeTrendName(out, dictionary, day90Trend, item.getDay90().map(PriceChange::getTrend).orElse(null));
+		writeTrendName(out, dictionary, day180Trend, item.getDay180().map(PriceChange::getTrend).orElse(null));
+
+		if ((flags & DERIVED_ICON) != 0) {
+			writeReference(out, dictionary, item.getIcon().substring(0, item.getIcon().length() - id.length()));
+		} else {
+			writeString(out, item.getIcon());
+		}
+
+		if ((flags & DERIVED_ICON_LARGE) != 0) {
+			writeReference(out, dictionary, item.getIconLarge().substring(0, item.getIconLarge().length() - id.length()));
+		} else {
+			writeString(out, item.getIconLarge());
+		}
+
+		writeReference(out, dictionary, item.getType());
+		writeReference(out, dictionary, item.getTypeIcon());
+		writeString(out, item.getName());
+		writeString(out, item.getDescription());
+
+		if ((flags & NUMERIC_CURRENT_PRICE) != 0) {
+			VarInts.writeSigned(out, current.getPriceCoins().getAsLong());
+		} else {
+			writeString(out, current.getPrice());
+		}
+
+		if ((flags & NUMERIC_TODAYS_PRICE) != 0) {
+			VarInts.writeSigned(out, today.getPriceCoins().getAsLong());
+		} else {
+			writeString(out, today.getPrice());
+		}
+
+		item.getDay30().ifPresent(change -> writeReference(out, dictionary, change.getChange()));
+		item.getDay90().ifPresent(change -> writeReference(out, dictionary, change.getChange()));
+		item.getDay180().ifPresent(change -> writeReference(out, dictionary, change.getChange()));
+
+		return out.toByteArray();
+	}
+
+	/**
+	 * Opens a snapshot, mapping it into memory.
+	 * @param path The {@link Path} of the file.
+	 * @return The {@link ItemSnapshot}.
+	 * @throws IOException If an I/O error occurs, or the file is not a valid snapshot.
+	 */
+	public static ItemSnapshot open(Path path) throws IOException {
+		Preconditions.checkNotNull(path);
+
+		MappedByteBuffer mapping;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		mapping.order(ORDER);
+
+		if (mapping.limit() < HEADER_SIZE || mapping.getInt(0) != MAGIC) {
+			throw new IOException(path + " is not an item snapshot.");
+		}
+		if (mapping.getInt(4) != VERSION) {
+			throw new IOException(path + " has unsupported version " + mapping.getInt(4) + ".");
+		}
+
+		int count = mapping.getInt(8);
+		int dictionaryOffset = mapping.getInt(12);
+		int indexOffset = mapping.getInt(16);
+
+		if (count < 0 || dictionaryOffset < HEADER_SIZE || indexOffset < dictionaryOffset || (long) indexOffset + (long) count * INDEX_ENTRY_SIZE != mapping.limit()) {
+			throw new IOException(path + " is truncated or corrupt.");
+		}
+
+		ByteBuffer in = mapping.duplicate();
+		in.position(dictionaryOffset).limit(indexOffset);
+
+		try {
+			int size = Math.toIntExact(VarInts.readUnsigned(in));
+			List<String> dictionary = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				dictionary.add(readString(in));
+			}
+			return new ItemSnapshot(mapping, count, indexOffset, dictionary.toArray(new String[0]));
+		} catch (BufferUnderflowException | IllegalStateException | ArithmeticException e) {
+			throw new IOException(path + " has a corrupt dictionary.", e);
+		}
+	}
+
+	/**
+	 * The mapping of the file.
+	 */
+	private final ByteBuffer mapping;
+
+	/**
+	 * The amount of {@link Item}s in the snapshot.
+	 */
+	private final int count;
+
+	/**
+	 * The offset of the index.
+	 */
+	private final int indexOffset;
+
+	/**
+	 * The strings of the dictionary, indexed by their reference.
+	 */
+	private final String[] dictionary;
+
+	/**
+	 * Creates a new {@link ItemSnapshot}.
+	 * @param mapping The mapping of the file.
+	 * @param count The amount of {@link Item}s in the snapshot.
+	 * @param indexOffset The offset of the index.
+	 * @param dictionary The strings of the dictionary, indexed by their reference.
+	 */
+	private ItemSnapshot(ByteBuffer mapping, int count, int indexOffset, String[] dictionary) {
+		this.mapping = mapping;
+		this.count = count;
+		this.indexOffset = indexOffset;
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * Gets the amount of {@link Item}s in the snapshot.
+	 * @return The amount of {@link Item}s.
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Gets the id of the {@link Item} at a position in the index.
+	 * @param position The position.
+	 * @return The id.
+	 */
+	private int idAt(int position) {
+		return mapping.getInt(indexOffset + position * INDEX_ENTRY_SIZE);
+	}
+
+	/**
+	 * Gets the offset of the record of the {@link Item} at a position in the index.
+	 * @param position The position.
+	 * @return The offset.
+	 */
+	private int offsetAt(int position) {
+		return mapping.getInt(indexOffset + position * INDEX_ENTRY_SIZE + 4);
+	}
+
+	/**
+	 * Checks if the snapshot contains an {@link Item}.
+	 * @param itemId The id of the {@link Item}.
+	 * @return {@code true} if the snapshot contains the {@link Item}, otherwise {@code false}.
+	 */
+	public boolean contains(int itemId) {
+		return positionOf(itemId) >= 0;
+	}
+
+	/**
+	 * Finds the position of an {@link Item} in the index.
+	 * @param itemId The id of the {@link Item}.
+	 * @return The position, or a negative number if the snapshot does not contain the {@link Item}.
+	 */
+	private int positionOf(int itemId) {
+		int low = 0;
+		int high = count - 1;
+
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midId = idAt(mid);
+
+			if (midId < itemId) {
+				low = mid + 1;
+			} else if (midId > itemId) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Gets an {@link Item}, decoding it from the mapping.
+	 * @param itemId The id of the {@link Item}.
+	 * @return An {@link Optional} containing the {@link Item}, or {@link Optional#empty()} if the snapshot does not contain it.
+	 */
+	public Optional<Item> get(int itemId) {
+		int position = positionOf(itemId);
+		return position < 0 ? Optional.empty() : Optional.of(decode(itemId, offsetAt(position)));
+	}
+
+	/**
+	 * Decodes every {@link Item} in the snapshot, in order of id.
+	 * @param consumer The {@link Consumer} of the {@link Item}s.
+	 */
+	public void forEach(Consumer<? super Item> consumer) {
+		Preconditions.checkNotNull(consumer);
+
+		for (int position = 0; position < count; position++) {
+			consumer.accept(decode(idAt(position), offsetAt(position)));
+		}
+	}
+
+	/**
+	 * Reads a reference to a string in the dictionary from the position of a {@link ByteBuffer}, advancing it.
+	 * @param in The {@link ByteBuffer} to read from.
+	 * @return The string.
+	 */
+	private String readReference(ByteBuffer in) {
+		return dictionary[Math.toIntExact(VarInts.readUnsigned(in))];
+	}
+
+	/**
+	 * Reads the name of a trend, from the dictionary if it is not a known {@link Trend}.
+	 * @param in The {@link ByteBuffer} to read from.
+	 * @param packed The packed trend.
+	 * @return The name of the trend, or {@code null} if it is absent.
+	 */
+	private String readTrendName(ByteBuffer in, int packed) {
+		if (packed == ABSENT) {
+			return null;
+		}
+		return packed == UNKNOWN ? readReference(in) : TRENDS[packed].getName();
+	}
+
+	/**
+	 * Reads an optional {@link PriceChange} from the position of a {@link ByteBuffer}, advancing it.
+	 * @param in The {@link ByteBuffer} to read from.
+	 * @param trend The name of the trend of the {@link PriceChange}, or {@code null} if it is absent.
+	 * @return The {@link PriceChange}, or {@code null} if it is absent.
+	 */
+	private PriceChange readChange(ByteBuffer in, String trend) {
+		return trend == null ? null : new PriceChange(trend, readReference(in));
+	}
+
+	/**
+	 * Decodes the record of an {@link Item}.
+	 * @param itemId The id of the {@link Item}.
+	 * @param offset The offset of the record.
+	 * @return The {@link Item}.
+	 */
+	private Item decode(int itemId, int offset) {
+		ByteBuffer in = mapping.duplicate();
+		in.position(offset);
+
+		String id = Integer.toString(itemId);
+		int flags = in.get();
+		int trends = (int) VarInts.readUnsigned(in);
+
+		String currentTrend = readTrendName(in, trends & TREND_MASK);
+		String todaysTrend = readTrendName(in, trends >>> TREND_BITS & TREND_MASK);
+		String day30Trend = readTrendName(in, trends >>> TREND_BITS * 2 & TREND_MASK);
+		String day90Trend = readTrendName(in, trends >>> TREND_BITS * 3 & TREND_MASK);
+		String day180Trend = readTrendName(in, trends >>> TREND_BITS * 4 & TREND_MASK);
+
+		Item.Builder builder = Item.builder(itemId)
+			.icon((flags & DERIVED_ICON) != 0 ? readReference(in) + id : readString(in))
+			.largeIcon((flags & DERIVED_ICON_LARGE) != 0 ? readReference(in) + id : readString(in))
+			.type(readReference(in))
+			.typeIcon(readReference(in))
+			.name(readString(in))
+			.description(readString(in));
+
+		String currentPrice = (flags & NUMERIC_CURRENT_PRICE) != 0 ? Long.toString(VarInts.readSigned(in)) : readString(in);
+		String todaysPrice = (flags & NUMERIC_TODAYS_PRICE) != 0 ? Long.toString(VarInts.readSigned(in)) : readString(in);
+		builder.currentPrice(new PriceTrend(currentTrend, currentPrice));
+		builder.todaysPrice(new PriceTrend(todaysTrend, todaysPrice));
+
+		if ((flags & MEMBERS_ONLY) != 0) {
+			builder.membersOnly();
+		}
+
+		PriceChange day30 = readChange(in, day30Trend);
+		PriceChange day90 = readChange(in, day90Trend);
+		PriceChange day180 = readChange(in, day180Trend);
+
+		if (day30 != null) {
+			builder.priceChange30Days(day30);
+		}
+		if (day90 != null) {
+			builder.priceChange90Days(day90);
+		}
+		if (day180 != null) {
+			builder.priceChange180Days(day180);
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("size", count)
+			.add("dictionary", dictionary.length)
+			.toString();
+	}
+}
@@ -0,0 +1,201 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} that creates each {@link Item} through its {@link Item.Builder}, so that the strings it shares
+ * with other items are taken from the {@link StringPool} as it is deserialized rather than kept as a copy per item.
+ */
+final class ItemTypeAdapter extends TypeAdapter<Item> {
+
+	/**
+	 * The {@link TypeAdapter} of the {@link PriceTrend}s.
+	 */
+	private static final PriceTrendTypeAdapter PRICE_TREND_ADAPTER = new PriceTrendTypeAdapter();
+
+	/**
+	 * The {@link TypeAdapter} of the {@link PriceChange}s.
+	 */
+	private static final PriceChangeTypeAdapter PRICE_CHANGE_ADAPTER = new PriceChangeTypeAdapter();
+
+	/**
+	 * Reads a flag that may be encoded as a boolean or as a string.
+	 * @param in The {@link JsonReader}.
+	 * @return The flag.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static boolean readFlag(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.STRING) {
+			return Boolean.parseBoolean(in.nextString());
+		}
+		return in.nextBoolean();
+	}
+
+	@Override
+	public Item read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		Integer id = null;
+		String icon = "";
+		String iconLarge = "";
+		String type = "";
+		String typeIcon = "";
+		String name = "";
+		String description = "";
+		PriceTrend current = null;
+		PriceTrend today = null;
+		boolean membersOnly = false;
+		PriceChange day30 = null;
+		PriceChange day90 = null;
+		PriceChange day180 = null;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			String field = in.nextName();
+
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				continue;
+			}
+
+			switch (field) {
+				case "icon":
+					icon = in.nextString();
+					break;
+
+				case "icon_large":
+				case "icon_Large":
+					iconLarge = in.nextString();
+					break;
+
+				case "id":
+					id = in.nextInt();
+					break;
+
+				case "type":
+					type = in.nextString();
+					break;
+
+				case "typeIcon":
+					typeIcon = in.nextString();
+					break;
+
+				case "name":
+					name = in.nextString();
+					break;
+
+				case "description":
+					description = in.nextString();
+					break;
+
+				case "current":
+					current = PRICE_TREND_ADAPTER.read(in);
+					break;
+
+				case "today":
+					today = PRICE_TREND_ADAPTER.read(in);
+					break;
+
+				case "members":
+					membersOnly = readFlag(in);
+					break;
+
+				case "day30":
+					day30 = PRICE_CHANGE_ADAPTER.read(in);
+					break;
+
+				case "day90":
+					day90 = PRICE_CHANGE_ADAPTER.read(in);
+					break;
+
+				case "day180":
+					day180 = PRICE_CHANGE_ADAPTER.read(in);
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		if (id == null || current == null || today == null) {
+			throw new JsonSyntaxException("Item requires an id, a current price and today's price.");
+		}
+
+		try {
+			Item.Builder builder = Item.builder(id)
+				.icon(icon)
+				.largeIcon(iconLarge)
+				.type(type)
+				.typeIcon(typeIcon)
+				.name(name)
+				.description(description)
+				.currentPrice(current)
+				.todaysPrice(today);
+
+			if (membersOnly) {
+				builder.membersOnly();
+			}
+			if (day30 != null) {
+				builder.priceChange30Days(day30);
+			}
+			if (day90 != null) {
+				builder.priceChange90Days(day90);
+			}
+			if (day180 != null) {
+				builder.priceChange180Days(day180);
+			}
+
+			return builder.build();
+		} catch (IllegalArgumentException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	@Override
+	public void write(JsonWriter out, Item value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("icon").value(value.getIcon());
+		out.name("icon_large").value(value.getIconLarge());
+		out.name("id").value(value.getId());
+		out.name("type").value(value.getType());
+		out.name("typeIcon").value(value.getTypeIcon());
+		out.name("name").value(value.getName());
+		out.name("description").value(value.getDescription());
+		out.name("current");
+		PRICE_TREND_ADAPTER.write(out, value.getCurrentPrice());
+		out.name("today");
+		PRICE_TREND_ADAPTER.write(out, value.getTodaysPrice());
+		out.name("members").value(value.isMembersOnly());
+
+		if (value.getDay30().isPresent()) {
+			out.name("day30");
+			PRICE_CHANGE_ADAPTER.write(out, value.getDay30().get());
+		}
+		if (value.getDay90().isPresent()) {
+			out.name("day90");
+			PRICE_CHANGE_ADAPTER.write(out, value.getDay90().get());
+		}
+		if (value.getDay180().isPresent()) {
+			out.name("day180");
+			PRICE_CHANGE_ADAPTER.write(out, value.getDay180().get());
+		}
+
+		out.endObject();
+	}
+}
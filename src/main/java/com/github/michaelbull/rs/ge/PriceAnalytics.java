@@ -0,0 +1,422 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes technical indicators over the prices of a {@link PriceSeries}.
+ * <p>
+ * Each indicator is computed in a single pass over the primitive prices of the series and written into an array
+ * supplied by the caller, so no boxed values, maps or intermediate arrays are created. Windowed indicators write
+ * {@link Double#NaN} for the days before a full window is available. The rolling minimum and maximum keep a reusable
+ * buffer in the {@link PriceAnalytics} instance, which is therefore not safe for use by multiple threads; the batch
+ * methods, such as {@link #applyAll(List, SeriesOperation)}, give each worker of the {@link ForkJoinPool} its own.
+ */
+public final class PriceAnalytics {
+
+	/**
+	 * Computes an indicator over a {@link PriceSeries}, writing one value per day.
+	 */
+	@FunctionalInterface
+	public interface SeriesOperation {
+		/**
+		 * Computes the indicator.
+		 * @param analytics The {@link PriceAnalytics} to compute with.
+		 * @param series The {@link PriceSeries}.
+		 * @param out The array to write one value per day of the series into.
+		 */
+		void apply(PriceAnalytics analytics, PriceSeries series, double[] out);
+	}
+
+	/**
+	 * Computes a single value from a {@link PriceSeries}.
+	 */
+	@FunctionalInterface
+	public interface ScalarOperation {
+		/**
+		 * Computes the value.
+		 * @param analytics The {@link PriceAnalytics} to compute with.
+		 * @param series The {@link PriceSeries}.
+		 * @return The value.
+		 */
+		double apply(PriceAnalytics analytics, PriceSeries series);
+	}
+
+	/**
+	 * The amount of series below which a batch is computed on a single thread rather than split.
+	 */
+	private static final int BATCH_THRESHOLD = 64;
+
+	/**
+	 * Checks the arguments of a windowed indicator.
+	 * @param series The {@link PriceSeries}.
+	 * @param window The amount of days in the window.
+	 * @param out The array to write into.
+	 */
+	private static void checkArguments(PriceSeries series, int window, double[] out) {
+		Preconditions.checkNotNull(series);
+		Preconditions.checkArgument(window > 0, "Window must be positive.");
+		Preconditions.checkArgument(out.length >= series.size(), "Output must have room for %s days.", series.size());
+	}
+
+	/**
+	 * Computes an indicator over each of a list of {@link PriceSeries} on the common {@link ForkJoinPool}.
+	 * @param series The list of {@link PriceSeries}.
+	 * @param operation The {@link SeriesOperation}.
+	 * @return An array of the values of each series, in the order of the list.
+	 */
+	public static double[][] applyAll(List<PriceSeries> series, SeriesOperation operation) {
+		return applyAll(series, operation, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes an indicator over each of a list of {@link PriceSeries} on a {@link ForkJoinPool}.
+	 * @param series The list of {@link PriceSeries}.
+	 * @param operation The {@link SeriesOperation}.
+	 * @param pool The {@link ForkJoinPool}.
+	 * @return An array of the values of each series, in the order of the list.
+	 */
+	public static double[][] applyAll(List<PriceSeries> series, SeriesOperation operation, ForkJoinPool pool) {
+		Preconditions.checkNotNull(operation);
+		List<PriceSeries> list = new ArrayList<>(series);
+		double[][] results = new double[list.size()][];
+
+		pool.invoke(new BatchTask(list, 0, list.size(), (analytics, index) -> {
+			PriceSeries prices = list.get(index);
+			double[] out = new double[prices.size()];
+			operation.apply(analytics, prices, out);
+			results[index] = out;
+		}));
+
+		return results;
+	}
+
+	/**
+	 * Computes a value from each of a list of {@link PriceSeries} on the common {@link ForkJoinPool}.
+	 * @param series The list of {@link PriceSeries}.
+	 * @param operation The {@link ScalarOperation}.
+	 * @return An array of the value of each series, in the order of the list.
+	 */
+	public static double[] applyAll(List<PriceSeries> series, ScalarOperation operation) {
+		return applyAll(series, operation, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes a value from each of a list of {@link PriceSeries} on a {@link ForkJoinPool}.
+	 * @param series The list of {@link PriceSeries}.
+	 * @param operation The {@link ScalarOperation}.
+	 * @param pool The {@link ForkJoinPool}.
+	 * @return An array of the value of each series, in the order of the list.
+	 */
+	public static double[] applyAll(List<PriceSeries> series, ScalarOperation operation, ForkJoinPool pool) {
+		Preconditions.checkNotNull(operation);
+		List<PriceSeries> list = new ArrayList<>(series);
+		double[] results = new double[list.size()];
+
+		pool.invoke(new BatchTask(list, 0, list.size(), (analytics, index) -> results[index] = operation.apply(analytics, list.get(index))));
+
+		return results;
+	}
+
+	/**
+	 * Computes part of a batch, splitting it in half until it is small enough to compute on a single thread.
+	 */
+	private static final class BatchTask extends RecursiveAction {
+
+		/**
+		 * The version of the serialized form of this class.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Computes the result of one series of a batch.
+		 */
+		@FunctionalInterface
+		private interface Step {
+			/**
+			 * Computes the result of a series.
+			 * @param analytics The {@link PriceAnalytics} of the current task.
+			 * @param index The index of the series in the batch.
+			 */
+			void apply(PriceAnalytics analytics, int index);
+		}
+
+		/**
+		 * The series of the batch.
+		 */
+		private final List<PriceSeries> series;
+
+		/**
+		 * The index of the first series of this part.
+		 */
+		private final int from;
+
+		/**
+		 * The index after the last series of this part.
+		 */
+		private final int to;
+
+		/**
+		 * The {@link Step} to apply to each series.
+		 */
+		private final Step step;
+
+		/**
+		 * Creates a new {@link BatchTask}.
+		 * @param series The series of the batch.
+		 * @param from The index of the first series of this part.
+		 * @param to The index after the last series of this part.
+		 * @param step The {@link Step} to apply to each series.
+		 */
+		private BatchTask(List<PriceSeries> series, int from, int to, Step step) {
+			this.series = series;
+			this.from = from;
+			this.to = to;
+			this.step = step;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH_THRESHOLD) {
+				PriceAnalytics analytics = new PriceAnalytics();
+				for (int i = from; i < to; i++) {
+					step.apply(analytics, i);
+				}
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(new BatchTask(series, from, middle, step), new BatchTask(series, middle, to, step));
+		}
+	}
+
+	/**
+	 * The reusable ring buffer of indices used by the rolling minimum and maximum.
+	 */
+	private int[] deque = new int[0];
+
+	/**
+	 * Computes the simple moving average of a series.
+	 * @param series The {@link PriceSeries}.
+	 * @param window The amount of days in the window.
+	 * @param out The array to write the average of the window ending on each day into.
+	 */
+	public void simpleMovingAverage(PriceSeries series, int window, double[] out) {
+		checkArguments(series, window, out);
+
+		int[] prices = series.priceArray();
+		int offset = series.offset();
+		int size = series.size();
+
+		long sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += prices[offset + i];
+			if (i >= window) {
+				sum -= prices[offset + i - window];
+			}
+			out[i] = i >= window - 1 ? sum / (double) window : Double.NaN;
+		}
+	}
+
+	/**
+	 * Computes the exponential moving average of a series, seeded with its first price.
+	 * @param series The {@link PriceSeries}.
+	 * @param period The amount of days in the period, from which the smoothing factor {@code 2 / (period + 1)} is
+	 * derived.
+	 * @param out The array to write the average on each day into.
+	 */
+	public void exponentialMovingAverage(PriceSeries series, int period, double[] out) {
+		checkArguments(series, period, out);
+
+		int[] prices = series.priceArray();
+		int offset = series.offset();
+		int size = series.size();
+		double alpha = 2.0 / (period + 1);
+
+		double average = size == 0 ? 0 : prices[offset];
+		for (int i = 0; i < size; i++) {
+			average += alpha * (prices[offset + i] - average);
+			out[i] = average;
+		}
+	}
+
+	/**
+	 * Computes the rolling population standard deviation of a series.
+	 * @param series The {@link PriceSeries}.
+	 * @param window The amount of days in the window.
+	 * @param out The array to write the standard deviation of the window ending on each day into.
+	 */
+	public void rollingStandardDeviation(PriceSeries series, int window, double[] out) {
+		checkArguments(series, window, out);
+
+		int[] prices = series.priceArray();
+		int offset = series.offset();
+		int size = series.size();
+
+		/* sums are taken about the first price to avoid the cancellation of large squares */
+		long shift = size == 0 ? 0 : prices[offset];
+		long sum = 0;
+		double sumOfSquares = 0;
+
+		for (int i = 0; i < size; i++) {
+			long added = prices[offset + i] - shift;
+			sum += added;
+			sumOfSquares += (double) added * added;
+
+			if (i >= window) {
+				long removed = prices[offset + i - window] - shift;
+				sum -= removed;
+				sumOfSquares -= (double) removed * removed;
+			}
+
+			if (i >= window - 1) {
+				double variance = (sumOfSquares - (double) sum * sum / window) / window;
+				out[i] = Math.sqrt(Math.max(variance, 0));
+			} else {
+				out[i] = Double.NaN;
+			}
+		}
+	}
+
+	/**
+	 * Computes the rolling minimum of a series.
+	 * @param series The {@link PriceSeries}.
+	 * @param window The amount of days in the window.
+	 * @param out The array to write the lowest price in the window ending on each day into.
+	 */
+	public void rollingMinimum(PriceSeries series, int window, double[] out) {
+		rollingExtreme(series, window, out, false);
+	}
+
+	/**
+	 * Computes the rolling maximum of a series.
+	 * @param series The {@link PriceSeries}.
+	 * @param window The amount of days in the window.
+	 * @param out The array to write the highest price in the window ending on each day into.
+	 */
+	public void rollingMaximum(PriceSeries series, int window, double[] out) {
+		rollingExtreme(series, window, out, true);
+	}
+
+	/**
+	 * Computes the rolling minimum or maximum of a series, keeping the indices of the candidate extremes of the
+	 * window in a monotonic deque.
+	 * @param series The {@link PriceSeries}.
+	 * @param window The amount of days in the window.
+	 * @param out The array to write the extreme price in the window ending on each day into.
+	 * @param maximum {@code true} for the maximum, {@code false} for the minimum.
+	 */
+	private void rollingExtreme(PriceSeries series, int window, double[] out, boolean maximum) {
+		checkArguments(series, window, out);
+
+		int[] prices = series.priceArray();
+		int offset = series.offset();
+		int size = series.size();
+
+		int capacity = Math.min(window, size);
+		if (deque.length < capacity) {
+			deque = new int[capacity];
+		}
+
+		int head = 0;
+		int length = 0;
+
+		for (int i = 0; i < size; i++) {
+			int price = prices[offset + i];
+
+			if (length > 0 && deque[head] <= i - window) {
+				head = (head + 1) % capacity;
+				length--;
+			}
+
+			while (length > 0) {
+				int last = prices[offset + deque[(head + length - 1) % capacity]];
+				if (maximum ? last > price : last < price) {
+					break;
+				}
+				length--;
+			}
+
+			deque[(head + length) % capacity] = i;
+			length++;
+
+			out[i] = i >= window - 1 ? prices[offset + deque[head]] : Double.NaN;
+		}
+	}
+
+	/**
+	 * Computes the relative strength index of a series, using Wilder's smoothing of the average gains and losses.
+	 * @param series The {@link PriceSeries}.
+	 * @param period The amount of days in the period.
+	 * @param out The array to write the index on each day, from 0 to 100, into.
+	 */
+	public void relativeStrengthIndex(PriceSeries series, int period, double[] out) {
+		checkArguments(series, period, out);
+
+		int[] prices = series.priceArray();
+		int offset = series.offset();
+		int size = series.size();
+
+		double averageGain = 0;
+		double averageLoss = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (i == 0) {
+				out[i] = Double.NaN;
+				continue;
+			}
+
+			long change = (long) prices[offset + i] - prices[offset + i - 1];
+			double gain = Math.max(change, 0);
+			double loss = Math.max(-change, 0);
+
+			if (i <= period) {
+				averageGain += gain / period;
+				averageLoss += loss / period;
+			} else {
+				averageGain = (averageGain * (period - 1) + gain) / period;
+				averageLoss = (averageLoss * (period - 1) + loss) / period;
+			}
+
+			if (i < period) {
+				out[i] = Double.NaN;
+			} else if (averageLoss == 0) {
+				out[i] = averageGain == 0 ? 50 : 100;
+			} else {
+				out[i] = 100 - 100 / (1 + averageGain / averageLoss);
+			}
+		}
+	}
+
+	/**
+	 * Computes the percentage change between the last price of a series and the price a number of days earlier.
+	 * @param series The {@link PriceSeries}.
+	 * @param days The amount of days.
+	 * @return The percentage change from the last price on or before {@code days} before the last day, or
+	 * {@link Double#NaN} if there is no such price or it is zero.
+	 */
+	public double percentChange(PriceSeries series, int days) {
+		Preconditions.checkNotNull(series);
+		Preconditions.checkArgument(days >= 0, "Days must not be negative.");
+
+		if (series.isEmpty()) {
+			return Double.NaN;
+		}
+
+		int last = series.size() - 1;
+		int index = series.indexOf(series.getEpochDay(last) - days);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		if (index < 0) {
+			return Double.NaN;
+		}
+
+		int base = series.getPrice(index);
+		return base == 0 ? Double.NaN : (series.getPrice(last) - base) * 100.0 / base;
+	}
+}
@@ -2,32 +2,52 @@ package com.github.michaelbull.rs.ge;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
 
 /**
  * Represents the change in price of an {@link Item} on the RuneScape {@link GrandExchange}.
+ * <p>
+ * The formatted change, such as {@code "+5.0%"}, is parsed once when the {@link PriceChange} is created and is
+ * available as a percentage from {@link #getChangePercent()}. A trend or change that cannot be parsed is kept as it was
+ * received, so an unexpected value from the API does not prevent the rest of a response from being read.
  */
+@JsonAdapter(PriceChangeTypeAdapter.class)
 public final class PriceChange {
 
 	/**
-	 * The trend.
+	 * The trend, shared through the {@link StringPool}.
 	 */
 	private final String trend;
 
 	/**
-	 * The amount of change.
+	 * The {@link Trend}, or {@code null} if the trend is unknown.
+	 */
+	private final Trend trendType;
+
+	/**
+	 * The amount of change, shared through the {@link StringPool}.
 	 */
 	private final String change;
 
+	/**
+	 * The amount of change as a percentage, or {@link OptionalDouble#empty()} if the change is malformed.
+	 */
+	private final OptionalDouble changePercent;
+
 	/**
 	 * Creates a new {@link PriceChange}.
 	 * @param trend The trend.
 	 * @param change The amount of change.
 	 */
 	public PriceChange(String trend, String change) {
-		this.trend = Preconditions.checkNotNull(trend);
-		this.change = Preconditions.checkNotNull(change);
+		this.trend = StringPool.intern(Preconditions.checkNotNull(trend));
+		this.trendType = Trend.from(trend).orElse(null);
+		this.change = StringPool.intern(Preconditions.checkNotNull(change));
+		this.changePercent = PriceParser.tryParsePercent(change);
 	}
 
 	/**
@@ -38,6 +58,14 @@ public final class PriceChange {
 		return trend;
 	}
 
+	/**
+	 * Gets the {@link Trend}.
+	 * @return An {@link Optional} containing the {@link Trend}, or {@link Optional#empty()} if the trend is unknown.
+	 */
+	public Optional<Trend> getTrendType() {
+		return Optional.ofNullable(trendType);
+	}
+
 	/**
 	 * Gets the amount of change.
 	 * @return The amount of change.
@@ -46,6 +74,15 @@ public final class PriceChange {
 		return change;
 	}
 
+	/**
+	 * Gets the amount of change as a percentage.
+	 * @return An {@link OptionalDouble} containing the percentage, such that a change of {@code "+5.0%"} is
+	 * {@code 5.0}, or {@link OptionalDouble#empty()} if the change is malformed.
+	 */
+	public OptionalDouble getChangePercent() {
+		return changePercent;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -69,6 +106,7 @@ public final class PriceChange {
 		return MoreObjects.toStringHelper(this)
 			.add("trend", trend)
 			.add("change", change)
+			.add("changePercent", changePercent)
 			.toString();
 	}
 }
@@ -0,0 +1,64 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} that creates each {@link PriceChange} through its constructor, so that its formatted change is
+ * parsed once, when it is deserialized.
+ */
+final class PriceChangeTypeAdapter extends TypeAdapter<PriceChange> {
+
+	@Override
+	public PriceChange read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		String trend = null;
+		String change = null;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "trend":
+					trend = in.nextString();
+					break;
+
+				case "change":
+					change = in.nextString();
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		if (trend == null || change == null) {
+			throw new JsonSyntaxException("PriceChange requires a trend and a change.");
+		}
+
+		return new PriceChange(trend, change);
+	}
+
+	@Override
+	public void write(JsonWriter out, PriceChange value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("trend").value(value.getTrend());
+		out.name("change").value(value.getChange());
+		out.endObject();
+	}
+}
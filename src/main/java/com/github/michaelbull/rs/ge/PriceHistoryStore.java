@@ -0,0 +1,726 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+
+/**
+ * A file of the price history of {@link Item}s, to which the {@link GraphingData} fetched from the
+ * {@link GrandExchange} can be appended over time.
+ * <p>
+ * The file is a sequence of blocks, each holding a run of days of one {@link Series} of one item, in order. A block
+ * has a fixed-size header, holding the item id and the first and last day of the run, followed by two columns: the
+ * days, as delta-of-delta encoded zig-zag varints, and the prices, as delta encoded zig-zag varints, and ends with a
+ * CRC-32 checksum of the block. A daily series costs around two bytes per day.
+ * <p>
+ * The file is memory-mapped for reading. When a store is opened, only the block headers are read, to build an index
+ * of the blocks of each item. Queries decode the columns of the blocks that overlap the requested range straight from
+ * the mapping and pass each price to a consumer, so no series is copied onto the heap unless it is
+ * {@link #series requested} as a {@link PriceSeries}.
+ * <p>
+ * Blocks are only ever appended, so a crash can only leave the last block partly written. When a store is opened, the
+ * file is truncated before the first block that is incomplete or fails its checksum, and the next append is written in
+ * its place.
+ * <p>
+ * Each append adds a new block, so an item that is appended to daily accumulates many small blocks. {@link #compact()}
+ * rewrites the file with a single block for each series of each item.
+ * <p>
+ * A store is safe for use by multiple threads.
+ */
+public final class PriceHistoryStore implements Closeable {
+
+	/**
+	 * Represents the series of prices in {@link GraphingData}.
+	 */
+	public enum Series {
+
+		/**
+		 * The daily prices.
+		 * @see GraphingData#getDailySeries()
+		 */
+		DAILY,
+
+		/**
+		 * The average prices.
+		 * @see GraphingData#getAverageSeries()
+		 */
+		AVERAGE
+	}
+
+	/**
+	 * Accepts the prices read from a {@link PriceHistoryStore}.
+	 */
+	@FunctionalInterface
+	public interface PricePointConsumer {
+		/**
+		 * Accepts the price of an item on a given day.
+		 * @param itemId The id of the {@link Item}.
+		 * @param epochDay The day, as a count of days from the epoch of 1970-01-01.
+		 * @param price The price.
+		 */
+		void accept(int itemId, long epochDay, int price);
+	}
+
+	/**
+	 * The magic number at the start of a store file, {@code "RSPH"}.
+	 */
+	private static final int MAGIC = 0x52535048;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * The size of the file header: the magic number and the version.
+	 */
+	private static final int FILE_HEADER_SIZE = 8;
+
+	/**
+	 * The size of a block header: the item id, the {@link Series}, the amount of days, the first and last day, and the
+	 * sizes of the two columns.
+	 */
+	private static final int BLOCK_HEADER_SIZE = 4 + 1 + 4 + 4 + 4 + 4 + 4;
+
+	/**
+	 * The size of a block trailer: the CRC-32 checksum of the header and columns.
+	 */
+	private static final int BLOCK_TRAILER_SIZE = 4;
+
+	/**
+	 * The byte order of the fixed-size fields of the file.
+	 */
+	private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+	/**
+	 * Opens a store, creating an empty one if the file does not exist.
+	 * @param path The {@link Path} of the file.
+	 * @return The {@link PriceHistoryStore}.
+	 * @throws IOException If an I/O error occurs, or the file is not a store.
+	 */
+	public static PriceHistoryStore open(Path path) throws IOException {
+		Preconditions.checkNotNull(path);
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			PriceHistoryStore store = new PriceHistoryStore(path, channel);
+			store.load();
+			return store;
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Encodes a {@link PriceSeries} as a block.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series}.
+	 * @param prices The {@link PriceSeries}, which must not be empty.
+	 * @return The encoded block.
+	 */
+	private static ByteBuffer encodeBlock(int itemId, Series series, PriceSeries prices) {
+		ByteArrayDataOutput days = ByteStreams.newDataOutput();
+		long previousDelta = 0;
+		for (int i = 1; i < prices.size(); i++) {
+			long delta = prices.getEpochDay(i) - prices.getEpochDay(i - 1);
+			VarInts.writeSigned(days, delta - previousDelta);
+			previousDelta = delta;
+		}
+
+		ByteArrayDataOutput values = ByteStreams.newDataOutput();
+		long previousPrice = 0;
+		for (int i = 0; i < prices.size(); i++) {
+			long price = prices.getPrice(i);
+			VarInts.writeSigned(values, price - previousPrice);
+			previousPrice = price;
+		}
+
+		byte[] dayBytes = days.toByteArray();
+		byte[] priceBytes = values.toByteArray();
+
+		ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_SIZE + dayBytes.length + priceBytes.length + BLOCK_TRAILER_SIZE).order(ORDER);
+		block.putInt(itemId);
+		block.put((byte) series.ordinal());
+		block.putInt(prices.size());
+		block.putInt(Math.toIntExact(prices.getEpochDay(0)));
+		block.putInt(Math.toIntExact(prices.getEpochDay(prices.size() - 1)));
+		block.putInt(dayBytes.length);
+		block.putInt(priceBytes.length);
+		block.put(dayBytes);
+		block.put(priceBytes);
+		block.putInt(checksum(block, 0, block.position()));
+		block.flip();
+		return block;
+	}
+
+	/**
+	 * Computes the CRC-32 checksum of a range of a buffer.
+	 * @param buffer The buffer.
+	 * @param offset The offset of the range.
+	 * @param length The length of the range.
+	 * @return The checksum.
+	 */
+	private static int checksum(ByteBuffer buffer, int offset, int length) {
+		ByteBuffer range = buffer.duplicate();
+		range.limit(offset + length);
+		range.position(offset);
+
+		CRC32 crc = new CRC32();
+		crc.update(range);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * The offsets of the blocks of one {@link Series} of an item, in the order they were appended.
+	 */
+	private static final class BlockList {
+
+		/**
+		 * The offsets of the blocks in the file.
+		 */
+		private long[] offsets = new long[1];
+
+		/**
+		 * The amount of blocks.
+		 */
+		private int size;
+
+		/**
+		 * The last day of the last block.
+		 */
+		private long lastEpochDay;
+
+		/**
+		 * Adds a block.
+		 * @param offset The offset of the block in the file.
+		 * @param lastEpochDay The last day of the block.
+		 */
+		private void add(long offset, long lastEpochDay) {
+			if (size == offsets.length) {
+				offsets = Arrays.copyOf(offsets, size * 2);
+			}
+			offsets[size++] = offset;
+			this.lastEpochDay = lastEpochDay;
+		}
+	}
+
+	/**
+	 * The {@link Path} of the file.
+	 */
+	private final Path path;
+
+	/**
+	 * The {@link FileChannel} of the file.
+	 */
+	private FileChannel channel;
+
+	/**
+	 * The mapping of the file, covering every block written so far.
+	 */
+	private MappedByteBuffer mapping;
+
+	/**
+	 * The size of the file, which is the offset at which the next block is written.
+	 */
+	private long size;
+
+	/**
+	 * A {@link Map} of each {@link Series} to a {@link Map} of item ids to the {@link BlockList} of their blocks.
+	 */
+	private final Map<Series, Map<Integer, BlockList>> index = new EnumMap<>(Series.class);
+
+	/**
+	 * Creates a new {@link PriceHistoryStore}.
+	 * @param path The {@link Path} of the file.
+	 * @param channel The {@link FileChannel} of the file.
+	 */
+	private PriceHistoryStore(Path path, FileChannel channel) {
+		this.path = path;
+		this.channel = channel;
+
+		for (Series series : Series.values()) {
+			index.put(series, new HashMap<>());
+		}
+	}
+
+	/**
+	 * Reads the file header and the header of every block, writing the file header if the file is empty. The file is
+	 * truncated before the first block that is incomplete or fails its checksum.
+	 * @throws IOException If an I/O error occurs, or the file is not a store.
+	 */
+	private void load() throws IOException {
+		size = channel.size();
+
+		if (size == 0) {
+			ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ORDER);
+			header.putInt(MAGIC).putInt(VERSION).flip();
+			write(header, 0);
+			size = FILE_HEADER_SIZE;
+		}
+
+		ByteBuffer buffer = map();
+		if (size < FILE_HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException(path + " is not a price history store.");
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException(path + " has unsupported version " + buffer.getInt(4) + ".");
+		}
+
+		long offset = FILE_HEADER_SIZE;
+		while (offset < size) {
+			long length = blockLength(buffer, offset);
+			if (length == -1) {
+				truncate(offset);
+				return;
+			}
+
+			int position = (int) offset;
+			int itemId = buffer.getInt(position);
+			int series = buffer.get(position + 4);
+			int lastEpochDay = buffer.getInt(position + 13);
+
+			blocksOf(Series.values()[series], itemId, true).add(offset, lastEpochDay);
+			offset += length;
+		}
+	}
+
+	/**
+	 * Gets the length of the block at an offset, checking that it was completely written.
+	 * @param buffer The mapping of the file.
+	 * @param offset The offset of the block.
+	 * @return The length of the block, or {@code -1} if the block is incomplete or fails its checksum.
+	 */
+	private long blockLength(ByteBuffer buffer, long offset) {
+		if (offset + BLOCK_HEADER_SIZE + BLOCK_TRAILER_SIZE > size) {
+			return -1;
+		}
+
+		int position = (int) offset;
+		int series = buffer.get(position + 4);
+		int daysLength = buffer.getInt(position + 17);
+		int pricesLength = buffer.getInt(position + 21);
+
+		if (series < 0 || series >= Series.values().length || daysLength < 0 || pricesLength < 0) {
+			return -1;
+		}
+
+		long contentLength = BLOCK_HEADER_SIZE + (long) daysLength + pricesLength;
+		if (offset + contentLength + BLOCK_TRAILER_SIZE > size) {
+			return -1;
+		}
+
+		int content = (int) contentLength;
+		if (buffer.getInt(position + content) != checksum(buffer, position, content)) {
+			return -1;
+		}
+
+		return contentLength + BLOCK_TRAILER_SIZE;
+	}
+
+	/**
+	 * Truncates the file, discarding a block that was left incomplete by a crash.
+	 * @param newSize The new size of the file.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void truncate(long newSize) throws IOException {
+		mapping = null;
+		channel.truncate(newSize);
+		channel.force(true);
+		size = newSize;
+	}
+
+	/**
+	 * Maps the file for reading, if it has grown since it was last mapped.
+	 * @return A duplicate of the mapping, for use by the calling thread.
+	 * @throws IOException If an I/O error occurs, or the file is too large to map.
+	 */
+	private ByteBuffer map() throws IOException {
+		Preconditions.checkState(channel != null, "Store is closed.");
+
+		if (mapping == null || mapping.capacity() < size) {
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException(path + " exceeds the maximum size of " + Integer.MAX_VALUE + " bytes.");
+			}
+			mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+
+		return mapping.duplicate().order(ORDER);
+	}
+
+	/**
+	 * Writes a buffer to the file.
+	 * @param buffer The buffer.
+	 * @param position The position in the file to write to.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void write(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * Gets the {@link BlockList} of a {@link Series} of an item.
+	 * @param series The {@link Series}.
+	 * @param itemId The id of the {@link Item}.
+	 * @param create Whether to create the {@link BlockList} if the item has no blocks.
+	 * @return The {@link BlockList}, or {@code null} if the item has no blocks and {@code create} is {@code false}.
+	 */
+	private BlockList blocksOf(Series series, int itemId, boolean create) {
+		Map<Integer, BlockList> items = index.get(series);
+		return create ? items.computeIfAbsent(itemId, id -> new BlockList()) : items.get(itemId);
+	}
+
+	/**
+	 * Appends the daily and average prices of an item.
+	 * @param itemId The id of the {@link Item}.
+	 * @param data The {@link GraphingData} of the item.
+	 * @throws IOException If an I/O error occurs.
+	 * @throws IllegalArgumentException If either series does not begin after the last day stored for the item.
+	 */
+	public synchronized void append(int itemId, GraphingData data) throws IOException {
+		Preconditions.checkNotNull(data);
+		checkAppendable(itemId, Series.DAILY, data.getDailySeries());
+		checkAppendable(itemId, Series.AVERAGE, data.getAverageSeries());
+
+		append(itemId, Series.DAILY, data.getDailySeries());
+		append(itemId, Series.AVERAGE, data.getAverageSeries());
+	}
+
+	/**
+	 * Appends a series of prices of an item.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series} the prices belong to.
+	 * @param prices The {@link PriceSeries}.
+	 * @throws IOException If an I/O error occurs.
+	 * @throws IllegalArgumentException If the prices do not begin after the last day stored for the item.
+	 */
+	public synchronized void append(int itemId, Series series, PriceSeries prices) throws IOException {
+		Preconditions.checkNotNull(series);
+		checkAppendable(itemId, series, prices);
+
+		if (prices.isEmpty()) {
+			return;
+		}
+
+		ByteBuffer block = encodeBlock(itemId, series, prices);
+		long offset = size;
+		write(block, offset);
+		size += block.limit();
+
+		blocksOf(series, itemId, true).add(offset, prices.getEpochDay(prices.size() - 1));
+	}
+
+	/**
+	 * Checks that a series of prices of an item can be appended.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series} the prices belong to.
+	 * @param prices The {@link PriceSeries}.
+	 * @throws IllegalArgumentException If the prices do not begin after the last day stored for the item.
+	 */
+	private void checkAppendable(int itemId, Series series, PriceSeries prices) {
+		Preconditions.checkNotNull(prices);
+
+		BlockList blocks = blocksOf(series, itemId, false);
+		if (blocks != null && !prices.isEmpty()) {
+			Preconditions.checkArgument(prices.getEpochDay(0) > blocks.lastEpochDay, "The %s prices of item %s must begin after %s.", series, itemId, LocalDate.ofEpochDay(blocks.lastEpochDay));
+		}
+	}
+
+	/**
+	 * Appends the days of an item's freshly fetched {@link GraphingData} that are after the last day stored for each
+	 * of its series. Days that are already stored are skipped, so the full window returned by
+	 * {@link GrandExchange#graphingData} can be passed in each time it is fetched.
+	 * @param itemId The id of the {@link Item}.
+	 * @param data The {@link GraphingData} of the item.
+	 * @return The amount of prices appended, across both series.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized int update(int itemId, GraphingData data) throws IOException {
+		Preconditions.checkNotNull(data);
+		return update(itemId, data, null);
+	}
+
+	/**
+	 * Appends the days of each item's freshly fetched {@link GraphingData} that are after the last day stored for
+	 * each of its series.
+	 * @param data A {@link Map} of item ids to their {@link GraphingData}.
+	 * @return The {@link PriceHistoryUpdate} reporting which items gained new days.
+	 * @throws IOException If an I/O error occurs.
+	 * @see #update(int, GraphingData)
+	 */
+	public synchronized PriceHistoryUpdate update(Map<Integer, GraphingData> data) throws IOException {
+		Preconditions.checkNotNull(data);
+
+		PriceHistoryUpdate.Builder report = new PriceHistoryUpdate.Builder();
+		for (Map.Entry<Integer, GraphingData> entry : data.entrySet()) {
+			update(entry.getKey(), Preconditions.checkNotNull(entry.getValue()), report);
+		}
+		return report.build();
+	}
+
+	/**
+	 * Appends the days of an item's {@link GraphingData} that are after the last day stored for each of its series.
+	 * @param itemId The id of the {@link Item}.
+	 * @param data The {@link GraphingData} of the item.
+	 * @param report The {@link PriceHistoryUpdate.Builder} to record the change in, or {@code null}.
+	 * @return The amount of prices appended, across both series.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private int update(int itemId, GraphingData data, PriceHistoryUpdate.Builder report) throws IOException {
+		PriceSeries daily = newerThanStored(itemId, Series.DAILY, data.getDailySeries());
+		PriceSeries average = newerThanStored(itemId, Series.AVERAGE, data.getAverageSeries());
+
+		append(itemId, Series.DAILY, daily);
+		append(itemId, Series.AVERAGE, average);
+
+		int prices = daily.size() + average.size();
+		if (report != null && prices > 0) {
+			long firstDaily = daily.isEmpty() ? Long.MAX_VALUE : daily.getEpochDay(0);
+			long firstAverage = average.isEmpty() ? Long.MAX_VALUE : average.getEpochDay(0);
+			report.add(itemId, Math.min(firstDaily, firstAverage), prices);
+		}
+		return prices;
+	}
+
+	/**
+	 * Gets the part of a series of prices of an item that is after the last day stored for it.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series} the prices belong to.
+	 * @param prices The {@link PriceSeries}.
+	 * @return The {@link PriceSeries} of the days that are not yet stored.
+	 */
+	private PriceSeries newerThanStored(int itemId, Series series, PriceSeries prices) {
+		BlockList blocks = blocksOf(series, itemId, false);
+		return blocks == null ? prices : prices.after(blocks.lastEpochDay);
+	}
+
+	/**
+	 * Gets the last day stored for a series of an item.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series}.
+	 * @return An {@link OptionalLong} containing the day, as a count of days from the epoch of 1970-01-01, or {@link OptionalLong#empty()} if no prices are stored.
+	 */
+	public synchronized OptionalLong lastEpochDay(int itemId, Series series) {
+		Preconditions.checkNotNull(series);
+		BlockList blocks = blocksOf(series, itemId, false);
+		return blocks == null ? OptionalLong.empty() : OptionalLong.of(blocks.lastEpochDay);
+	}
+
+	/**
+	 * Gets the ids of every item with prices stored.
+	 * @return An {@link ImmutableSortedSet} of the item ids.
+	 */
+	public synchronized ImmutableSortedSet<Integer> itemIds() {
+		ImmutableSortedSet.Builder<Integer> ids = ImmutableSortedSet.naturalOrder();
+		index.values().forEach(items -> ids.addAll(items.keySet()));
+		return ids.build();
+	}
+
+	/**
+	 * Passes each stored price of an item between two {@link LocalDate}s to a consumer, in order of day.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series}.
+	 * @param fromInclusive The first {@link LocalDate}.
+	 * @param toExclusive The {@link LocalDate} after the last.
+	 * @param consumer The {@link PriceSeries.PriceConsumer}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void forEach(int itemId, Series series, LocalDate fromInclusive, LocalDate toExclusive, PriceSeries.PriceConsumer consumer) throws IOException {
+		Preconditions.checkNotNull(consumer);
+		forEach(new int[] { itemId }, series, fromInclusive, toExclusive, (id, epochDay, price) -> consumer.accept(epochDay, price));
+	}
+
+	/**
+	 * Passes each stored price of a set of items between two {@link LocalDate}s to a consumer, item by item and in
+	 * order of day.
+	 * @param itemIds The ids of the {@link Item}s.
+	 * @param series The {@link Series}.
+	 * @param fromInclusive The first {@link LocalDate}.
+	 * @param toExclusive The {@link LocalDate} after the last.
+	 * @param consumer The {@link PricePointConsumer}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void forEach(int[] itemIds, Series series, LocalDate fromInclusive, LocalDate toExclusive, PricePointConsumer consumer) throws IOException {
+		Preconditions.checkNotNull(itemIds);
+		Preconditions.checkNotNull(series);
+		Preconditions.checkNotNull(consumer);
+		Preconditions.checkArgument(!toExclusive.isBefore(fromInclusive), "End date must not be before the start date.");
+
+		ByteBuffer buffer = map();
+		long from = fromInclusive.toEpochDay();
+		long to = toExclusive.toEpochDay();
+
+		for (int itemId : itemIds) {
+			BlockList blocks = blocksOf(series, itemId, false);
+			if (blocks == null) {
+				continue;
+			}
+
+			for (int i = 0; i < blocks.size; i++) {
+				readBlock(buffer, (int) blocks.offsets[i], from, to, consumer);
+			}
+		}
+	}
+
+	/**
+	 * Decodes the days of a block that fall within a range, passing each to a consumer.
+	 * @param buffer The mapping of the file.
+	 * @param offset The offset of the block.
+	 * @param from The first day of the range.
+	 * @param to The day after the last day of the range.
+	 * @param consumer The {@link PricePointConsumer}.
+	 */
+	private static void readBlock(ByteBuffer buffer, int offset, long from, long to, PricePointConsumer consumer) {
+		int itemId = buffer.getInt(offset);
+		int count = buffer.getInt(offset + 5);
+		long firstEpochDay = buffer.getInt(offset + 9);
+		long lastEpochDay = buffer.getInt(offset + 13);
+		int daysLength = buffer.getInt(offset + 17);
+
+		if (lastEpochDay < from || firstEpochDay >= to) {
+			return;
+		}
+
+		ByteBuffer days = (ByteBuffer) buffer.duplicate().position(offset + BLOCK_HEADER_SIZE);
+		ByteBuffer prices = (ByteBuffer) buffer.duplicate().position(offset + BLOCK_HEADER_SIZE + daysLength);
+
+		long epochDay = firstEpochDay;
+		long delta = 0;
+		long price = 0;
+
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				delta += VarInts.readSigned(days);
+				epochDay += delta;
+			}
+			price += VarInts.readSigned(prices);
+
+			if (epochDay >= to) {
+				return;
+			}
+			if (epochDay >= from) {
+				consumer.accept(itemId, epochDay, (int) price);
+			}
+		}
+	}
+
+	/**
+	 * Reads the stored prices of an item between two {@link LocalDate}s into a {@link PriceSeries}.
+	 * @param itemId The id of the {@link Item}.
+	 * @param series The {@link Series}.
+	 * @param fromInclusive The first {@link LocalDate}.
+	 * @param toExclusive The {@link LocalDate} after the last.
+	 * @return The {@link PriceSeries}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized PriceSeries series(int itemId, Series series, LocalDate fromInclusive, LocalDate toExclusive) throws IOException {
+		long[][] epochDays = { new long[16] };
+		int[][] prices = { new int[16] };
+		int[] count = { 0 };
+
+		forEach(itemId, series, fromInclusive, toExclusive, (epochDay, price) -> {
+			if (count[0] == epochDays[0].length) {
+				epochDays[0] = Arrays.copyOf(epochDays[0], count[0] * 2);
+				prices[0] = Arrays.copyOf(prices[0], count[0] * 2);
+			}
+			epochDays[0][count[0]] = epochDay;
+			prices[0][count[0]] = price;
+			count[0]++;
+		});
+
+		return PriceSeries.of(epochDays[0], prices[0], count[0]);
+	}
+
+	/**
+	 * Rewrites the file with a single block for each series of each item, replacing the many blocks accumulated by
+	 * frequent appends. If the rewritten file cannot replace the original, the original is reopened and remains in use.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void compact() throws IOException {
+		Path temporary = path.resolveSibling(path.getFileName() + ".compact");
+
+		Files.deleteIfExists(temporary);
+
+		try (PriceHistoryStore compacted = open(temporary)) {
+			for (Series series : Series.values()) {
+				for (int itemId : ImmutableSortedSet.copyOf(index.get(series).keySet())) {
+					compacted.append(itemId, series, series(itemId, series, LocalDate.MIN, LocalDate.MAX));
+				}
+			}
+
+			compacted.channel.force(true);
+		}
+
+		channel.close();
+		channel = null;
+		mapping = null;
+
+		try {
+			Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			index.values().forEach(Map::clear);
+			load();
+		}
+	}
+
+	/**
+	 * Forces every block appended so far to be written to the storage device.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void flush() throws IOException {
+		Preconditions.checkState(channel != null, "Store is closed.");
+		channel.force(false);
+	}
+
+	/**
+	 * Gets the size of the file.
+	 * @return The size of the file, in bytes.
+	 */
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Closes the file.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+			mapping = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("path", path)
+			.add("size", size)
+			.toString();
+	}
+}
@@ -0,0 +1,127 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Represents the result of {@link PriceHistoryStore#update updating} a {@link PriceHistoryStore} with freshly fetched
+ * {@link GraphingData}: the items that gained new days, and from which day, so that work downstream can be limited to
+ * the new data.
+ */
+public final class PriceHistoryUpdate {
+
+	static final class Builder {
+		private final ImmutableSortedMap.Builder<Integer, Long> firstNewEpochDays = ImmutableSortedMap.naturalOrder();
+		private final ImmutableSortedMap.Builder<Integer, Integer> newPrices = ImmutableSortedMap.naturalOrder();
+
+		Builder() {
+			/* empty */
+		}
+
+		Builder add(int itemId, long firstNewEpochDay, int prices) {
+			Preconditions.checkArgument(prices > 0, "Prices must be positive.");
+			firstNewEpochDays.put(itemId, firstNewEpochDay);
+			newPrices.put(itemId, prices);
+			return this;
+		}
+
+		PriceHistoryUpdate build() {
+			return new PriceHistoryUpdate(firstNewEpochDays.build(), newPrices.build());
+		}
+	}
+
+	/**
+	 * An {@link ImmutableSortedMap} of the ids of the changed items to the earliest day they gained.
+	 */
+	private final ImmutableSortedMap<Integer, Long> firstNewEpochDays;
+
+	/**
+	 * An {@link ImmutableSortedMap} of the ids of the changed items to the amount of prices they gained.
+	 */
+	private final ImmutableSortedMap<Integer, Integer> newPrices;
+
+	/**
+	 * Creates a new {@link PriceHistoryUpdate}.
+	 * @param firstNewEpochDays The ids of the changed items to the earliest day they gained.
+	 * @param newPrices The ids of the changed items to the amount of prices they gained.
+	 */
+	private PriceHistoryUpdate(ImmutableSortedMap<Integer, Long> firstNewEpochDays, ImmutableSortedMap<Integer, Integer> newPrices) {
+		this.firstNewEpochDays = firstNewEpochDays;
+		this.newPrices = newPrices;
+	}
+
+	/**
+	 * Checks if no items changed.
+	 * @return {@code true} if no items changed, otherwise {@code false}.
+	 */
+	public boolean isEmpty() {
+		return newPrices.isEmpty();
+	}
+
+	/**
+	 * Gets the ids of the items that gained new days.
+	 * @return An {@link ImmutableSortedSet} of the item ids.
+	 */
+	public ImmutableSortedSet<Integer> getChangedItemIds() {
+		return newPrices.keySet();
+	}
+
+	/**
+	 * Gets the earliest day an item gained, in either of its series.
+	 * @param itemId The id of the {@link Item}.
+	 * @return An {@link OptionalLong} containing the day, as a count of days from the epoch of 1970-01-01, or {@link OptionalLong#empty()} if the item did not change.
+	 */
+	public OptionalLong getFirstNewEpochDay(int itemId) {
+		Long epochDay = firstNewEpochDays.get(itemId);
+		return epochDay == null ? OptionalLong.empty() : OptionalLong.of(epochDay);
+	}
+
+	/**
+	 * Gets the amount of prices an item gained, across both of its series. A day gained by both the daily and the
+	 * average series counts as two prices.
+	 * @param itemId The id of the {@link Item}.
+	 * @return The amount of prices, or {@code 0} if the item did not change.
+	 */
+	public int getNewPrices(int itemId) {
+		return newPrices.getOrDefault(itemId, 0);
+	}
+
+	/**
+	 * Gets the amount of prices gained by every item, across both of their series.
+	 * @return The amount of prices.
+	 */
+	public int getTotalNewPrices() {
+		return newPrices.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		PriceHistoryUpdate that = (PriceHistoryUpdate) o;
+		return Objects.equals(firstNewEpochDays, that.firstNewEpochDays)
+			&& Objects.equals(newPrices, that.newPrices);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(firstNewEpochDays, newPrices);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("firstNewEpochDays", firstNewEpochDays)
+			.add("newPrices", newPrices)
+			.toString();
+	}
+}
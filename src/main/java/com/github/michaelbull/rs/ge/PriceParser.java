@@ -0,0 +1,256 @@
+package com.github.michaelbull.rs.ge;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Parses the formatted prices and percentages of the Grand Exchange API, such as {@code "3,456"}, {@code "1.2k"},
+ * {@code "- 24"} and {@code "+5.0%"}.
+ * <p>
+ * The values are read character-by-character into a {@code long} mantissa and a decimal scale, without regular
+ * expressions, intermediate {@link String}s or {@link java.math.BigDecimal}s.
+ */
+final class PriceParser {
+
+	/**
+	 * The maximum amount of digits in a value, beyond which it cannot be held in a {@code long} mantissa.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * The powers of ten that fit in a {@code long}, indexed by exponent.
+	 */
+	private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	/**
+	 * The largest mantissa that is exactly representable as a {@code double}.
+	 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * Parses an amount of coins, rounding any fraction of a coin half-up.
+	 * @param text The text, an optionally signed number with optional comma grouping, decimal places and a
+	 * {@code k}, {@code m} or {@code b} suffix.
+	 * @return The amount of coins.
+	 * @throws NumberFormatException If the text is malformed or the amount does not fit in a {@code long}.
+	 */
+	static long parseCoins(String text) {
+		PriceParser parser = new PriceParser(text);
+		parser.readNumber();
+
+		long multiplier = 1;
+		if (parser.index < parser.end) {
+			switch (text.charAt(parser.index)) {
+				case 'k':
+				case 'K':
+					multiplier = 1_000L;
+					break;
+
+				case 'm':
+				case 'M':
+					multiplier = 1_000_000L;
+					break;
+
+				case 'b':
+				case 'B':
+					multiplier = 1_000_000_000L;
+					break;
+
+				default:
+					throw malformed(text);
+			}
+			parser.index++;
+		}
+
+		parser.checkEnd();
+
+		long coins;
+		try {
+			coins = Math.multiplyExact(parser.mantissa, multiplier);
+		} catch (ArithmeticException e) {
+			throw malformed(text);
+		}
+
+		if (parser.scale > 0) {
+			long divisor = POWERS_OF_TEN[parser.scale];
+			coins = coins / divisor + (coins % divisor >= (divisor + 1) / 2 ? 1 : 0);
+		}
+
+		return parser.negative ? -coins : coins;
+	}
+
+	/**
+	 * Parses a percentage.
+	 * @param text The text, an optionally signed decimal number with an optional trailing {@code %}.
+	 * @return The percentage, such that {@code "+5.0%"} is {@code 5.0}.
+	 * @throws NumberFormatException If the text is malformed.
+	 */
+	static double parsePercent(String text) {
+		PriceParser parser = new PriceParser(text);
+		parser.readNumber();
+
+		if (parser.index < parser.end && text.charAt(parser.index) == '%') {
+			parser.index++;
+		}
+
+		parser.checkEnd();
+
+		double percent;
+		if (parser.mantissa < MAX_EXACT_MANTISSA) {
+			/* both operands are exact, so the quotient is correctly rounded as by Double.parseDouble */
+			percent = parser.mantissa / (double) POWERS_OF_TEN[parser.scale];
+		} else {
+			percent = Double.parseDouble(parser.mantissa + "E-" + parser.scale);
+		}
+
+		return parser.negative ? -percent : percent;
+	}
+
+	/**
+	 * Parses an amount of coins, as by {@link #parseCoins(String)}, if the text is well-formed.
+	 * @param text The text.
+	 * @return An {@link OptionalLong} containing the amount of coins, or {@link OptionalLong#empty()} if the text is malformed.
+	 */
+	static OptionalLong tryParseCoins(String text) {
+		try {
+			return OptionalLong.of(parseCoins(text));
+		} catch (NumberFormatException e) {
+			return OptionalLong.empty();
+		}
+	}
+
+	/**
+	 * Parses a percentage, as by {@link #parsePercent(String)}, if the text is well-formed.
+	 * @param text The text.
+	 * @return An {@link OptionalDouble} containing the percentage, or {@link OptionalDouble#empty()} if the text is malformed.
+	 */
+	static OptionalDouble tryParsePercent(String text) {
+		try {
+			return OptionalDouble.of(parsePercent(text));
+		} catch (NumberFormatException e) {
+			return OptionalDouble.empty();
+		}
+	}
+
+	/**
+	 * Creates a {@link NumberFormatException} for malformed text.
+	 * @param text The text.
+	 * @return The {@link NumberFormatException}.
+	 */
+	private static NumberFormatException malformed(String text) {
+		return new NumberFormatException("Malformed price: \"" + text + "\"");
+	}
+
+	/**
+	 * The text being parsed.
+	 */
+	private final String text;
+
+	/**
+	 * The index after the last non-whitespace character of the text.
+	 */
+	private final int end;
+
+	/**
+	 * The index of the next character to read.
+	 */
+	private int index;
+
+	/**
+	 * Whether the number is negative.
+	 */
+	private boolean negative;
+
+	/**
+	 * The digits of the number, without its sign or decimal point.
+	 */
+	private long mantissa;
+
+	/**
+	 * The amount of digits after the decimal point.
+	 */
+	private int scale;
+
+	/**
+	 * Creates a new {@link PriceParser}.
+	 * @param text The text to parse.
+	 */
+	private PriceParser(String text) {
+		this.text = text;
+
+		int start = 0;
+		int end = text.length();
+		while (start < end && Character.isWhitespace(text.charAt(start))) {
+			start++;
+		}
+		while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+			end--;
+		}
+
+		this.index = start;
+		this.end = end;
+	}
+
+	/**
+	 * Reads an optionally signed number with optional comma grouping and decimal places.
+	 * @throws NumberFormatException If there is no number, or it has too many digits.
+	 */
+	private void readNumber() {
+		if (index < end) {
+			char sign = text.charAt(index);
+			if (sign == '+' || sign == '-') {
+				negative = sign == '-';
+				index++;
+
+				while (index < end && text.charAt(index) == ' ') {
+					index++;
+				}
+			}
+		}
+
+		int digits = 0;
+		boolean point = false;
+
+		for (; index < end; index++) {
+			char c = text.charAt(index);
+
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_DIGITS) {
+					throw malformed(text);
+				}
+
+				mantissa = mantissa * 10 + (c - '0');
+				if (point) {
+					scale++;
+				}
+			} else if (c == ',' && digits > 0 && !point) {
+				/* grouping separator */
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				break;
+			}
+		}
+
+		if (digits == 0) {
+			throw malformed(text);
+		}
+	}
+
+	/**
+	 * Checks that every character of the text has been read.
+	 * @throws NumberFormatException If there are unread characters.
+	 */
+	private void checkEnd() {
+		if (index != end) {
+			throw malformed(text);
+		}
+	}
+}
@@ -0,0 +1,392 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Represents a series of prices of an {@link Item}, one per day, ordered by date.
+ * <p>
+ * The series is held in a pair of primitive arrays of epoch days and prices, sorted once when the series is created.
+ * Lookups by date are binary searches, {@link #slice slices} share the arrays of the series they are taken from, and
+ * {@link #forEach} visits each price without allocating.
+ */
+public final class PriceSeries {
+
+	/**
+	 * Accepts the prices of a {@link PriceSeries}.
+	 */
+	@FunctionalInterface
+	public interface PriceConsumer {
+		/**
+		 * Accepts the price on a given day.
+		 * @param epochDay The day, as a count of days from the epoch of 1970-01-01.
+		 * @param price The price.
+		 */
+		void accept(long epochDay, int price);
+	}
+
+	/**
+	 * An empty {@link PriceSeries}.
+	 */
+	private static final PriceSeries EMPTY = new PriceSeries(new long[0], new int[0], 0, 0);
+
+	/**
+	 * Gets an empty {@link PriceSeries}.
+	 * @return The empty {@link PriceSeries}.
+	 */
+	public static PriceSeries empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Creates a {@link PriceSeries} from a {@link Map} of {@link LocalDate}s to prices.
+	 * @param prices The prices.
+	 * @return The {@link PriceSeries}.
+	 */
+	public static PriceSeries fromLocalDates(Map<LocalDate, Integer> prices) {
+		Preconditions.checkNotNull(prices);
+
+		long[] epochDays = new long[prices.size()];
+		int[] values = new int[prices.size()];
+
+		int i = 0;
+		for (Map.Entry<LocalDate, Integer> entry : prices.entrySet()) {
+			epochDays[i] = entry.getKey().toEpochDay();
+			values[i] = Preconditions.checkNotNull(entry.getValue());
+			i++;
+		}
+
+		return of(epochDays, values, i);
+	}
+
+	/**
+	 * Creates a {@link PriceSeries} from a pair of arrays, taking ownership of them. If the arrays are not in order of
+	 * day they are sorted, and if a day occurs more than once the price that occurs last is kept.
+	 * @param epochDays The days, as counts of days from the epoch of 1970-01-01.
+	 * @param prices The price on each day.
+	 * @param size The amount of elements of the arrays that are used.
+	 * @return The {@link PriceSeries}.
+	 */
+	static PriceSeries of(long[] epochDays, int[] prices, int size) {
+		Preconditions.checkArgument(size <= epochDays.length && size <= prices.length, "Size must not exceed the length of the arrays.");
+
+		if (size == 0) {
+			return EMPTY;
+		}
+
+		for (int i = 1; i < size; i++) {
+			if (epochDays[i - 1] >= epochDays[i]) {
+				return sorted(epochDays, prices, size);
+			}
+		}
+
+		return new PriceSeries(epochDays, prices, 0, size);
+	}
+
+	/**
+	 * Creates a {@link PriceSeries} from a pair of arrays that are not strictly in order of day.
+	 * @param epochDays The days, as counts of days from the epoch of 1970-01-01.
+	 * @param prices The price on each day.
+	 * @param size The amount of elements of the arrays that are used.
+	 * @return The {@link PriceSeries}.
+	 */
+	private static PriceSeries sorted(long[] epochDays, int[] prices, int size) {
+		/* the index is packed below the day so that equal days keep the order they occurred in */
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			Preconditions.checkArgument(epochDays[i] == (int) epochDays[i], "Epoch day out of range: %s", epochDays[i]);
+			keys[i] = (epochDays[i] << 32) | i;
+		}
+		Arrays.sort(keys);
+
+		long[] sortedDays = new long[size];
+		int[] sortedPrices = new int[size];
+
+		int count = 0;
+		for (long key : keys) {
+			long day = key >> 32;
+			int price = prices[(int) key];
+
+			if (count > 0 && sortedDays[count - 1] == day) {
+				sortedPrices[count - 1] = price;
+			} else {
+				sortedDays[count] = day;
+				sortedPrices[count] = price;
+				count++;
+			}
+		}
+
+		return new PriceSeries(sortedDays, sortedPrices, 0, count);
+	}
+
+	/**
+	 * The days of the series, as counts of days from the epoch of 1970-01-01, in ascending order.
+	 */
+	private final long[] epochDays;
+
+	/**
+	 * The price on each day of the series.
+	 */
+	private final int[] prices;
+
+	/**
+	 * The index of the first element of the arrays in this series.
+	 */
+	private final int from;
+
+	/**
+	 * The index after the last element of the arrays in this series.
+	 */
+	private final int to;
+
+	/**
+	 * Creates a new {@link PriceSeries}.
+	 * @param epochDays The days of the series, in ascending order.
+	 * @param prices The price on each day of the series.
+	 * @param from The index of the first element of the arrays in this series.
+	 * @param to The index after the last element of the arrays in this series.
+	 */
+	private PriceSeries(long[] epochDays, int[] prices, int from, int to) {
+		this.epochDays = epochDays;
+		this.prices = prices;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Gets the array backing the prices of this series, which must not be modified.
+	 * @return The array, of which this series covers the indices from {@link #offset()} until {@link #offset()} plus
+	 * {@link #size()}.
+	 */
+	int[] priceArray() {
+		return prices;
+	}
+
+	/**
+	 * Gets the index of the first price of this series in its {@link #priceArray()}.
+	 * @return The index.
+	 */
+	int offset() {
+		return from;
+	}
+
+	/**
+	 * Gets the amount of days in this series.
+	 * @return The amount of days.
+	 */
+	public int size() {
+		return to - from;
+	}
+
+	/**
+	 * Checks if this series has no days.
+	 * @return {@code true} if this series has no days, otherwise {@code false}.
+	 */
+	public boolean isEmpty() {
+		return from == to;
+	}
+
+	/**
+	 * Gets the day at a given index.
+	 * @param index The index, from 0 to {@link #size()} exclusive.
+	 * @return The day, as a count of days from the epoch of 1970-01-01.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public long getEpochDay(int index) {
+		Preconditions.checkElementIndex(index, size());
+		return epochDays[from + index];
+	}
+
+	/**
+	 * Gets the {@link LocalDate} at a given index.
+	 * @param index The index, from 0 to {@link #size()} exclusive.
+	 * @return The {@link LocalDate}.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public LocalDate getDate(int index) {
+		return LocalDate.ofEpochDay(getEpochDay(index));
+	}
+
+	/**
+	 * Gets the price at a given index.
+	 * @param index The index, from 0 to {@link #size()} exclusive.
+	 * @return The price.
+	 * @throws IndexOutOfBoundsException If the index is out of range.
+	 */
+	public int getPrice(int index) {
+		Preconditions.checkElementIndex(index, size());
+		return prices[from + index];
+	}
+
+	/**
+	 * Searches for the index of a day in this series.
+	 * @param epochDay The day, as a count of days from the epoch of 1970-01-01.
+	 * @return The index of the day if it is in this series, otherwise {@code (-(insertion point) - 1)}, in the same
+	 * manner as {@link Arrays#binarySearch(long[], long)}.
+	 */
+	public int indexOf(long epochDay) {
+		int index = Arrays.binarySearch(epochDays, from, to, epochDay);
+		return index >= 0 ? index - from : index + from;
+	}
+
+	/**
+	 * Gets the price on a given {@link LocalDate}.
+	 * @param date The {@link LocalDate}.
+	 * @return An {@link OptionalInt} containing the price, or {@link OptionalInt#empty()} if no price was recorded on this date.
+	 */
+	public OptionalInt getPrice(LocalDate date) {
+		int index = indexOf(date.toEpochDay());
+		return index >= 0 ? OptionalInt.of(prices[from + index]) : OptionalInt.empty();
+	}
+
+	/**
+	 * Gets the part of this series between two {@link LocalDate}s. The slice shares the arrays of this series.
+	 * @param fromInclusive The first {@link LocalDate} of the slice.
+	 * @param toExclusive The {@link LocalDate} after the last of the slice.
+	 * @return The {@link PriceSeries} of the days from {@code fromInclusive} until {@code toExclusive}.
+	 */
+	public PriceSeries slice(LocalDate fromInclusive, LocalDate toExclusive) {
+		Preconditions.checkArgument(!toExclusive.isBefore(fromInclusive), "End date must not be before the start date.");
+		return slice(insertionPoint(fromInclusive.toEpochDay()), insertionPoint(toExclusive.toEpochDay()));
+	}
+
+	/**
+	 * Gets the part of this series between two indices. The slice shares the arrays of this series.
+	 * @param fromIndex The index of the first day of the slice.
+	 * @param toIndex The index after the last day of the slice.
+	 * @return The {@link PriceSeries} of the days from {@code fromIndex} until {@code toIndex}.
+	 * @throws IndexOutOfBoundsException If the indices are out of range.
+	 */
+	public PriceSeries slice(int fromIndex, int toIndex) {
+		Preconditions.checkPositionIndexes(fromIndex, toIndex, size());
+
+		if (fromIndex == 0 && toIndex == size()) {
+			return this;
+		}
+
+		return fromIndex == toIndex ? EMPTY : new PriceSeries(epochDays, prices, from + fromIndex, from + toIndex);
+	}
+
+	/**
+	 * Gets the part of this series after a given day. The slice shares the arrays of this series.
+	 * @param epochDay The day, as a count of days from the epoch of 1970-01-01.
+	 * @return The {@link PriceSeries} of the days after {@code epochDay}.
+	 */
+	public PriceSeries after(long epochDay) {
+		int index = indexOf(epochDay);
+		return slice(index >= 0 ? index + 1 : -index - 1, size());
+	}
+
+	/**
+	 * Merges a more recent series into this series, keeping only the days of the recent series that are after the
+	 * last day of this series.
+	 * @param recent The more recent {@link PriceSeries}, such as a freshly fetched window of prices.
+	 * @return The merged {@link PriceSeries}, or this series if the recent series has no days after it.
+	 */
+	public PriceSeries merge(PriceSeries recent) {
+		Preconditions.checkNotNull(recent);
+
+		if (isEmpty()) {
+			return recent;
+		}
+
+		PriceSeries newer = recent.after(epochDays[to - 1]);
+		if (newer.isEmpty()) {
+			return this;
+		}
+
+		int size = size() + newer.size();
+		long[] mergedDays = Arrays.copyOfRange(epochDays, from, from + size);
+		int[] mergedPrices = Arrays.copyOfRange(prices, from, from + size);
+		System.arraycopy(newer.epochDays, newer.from, mergedDays, size(), newer.size());
+		System.arraycopy(newer.prices, newer.from, mergedPrices, size(), newer.size());
+		return new PriceSeries(mergedDays, mergedPrices, 0, size);
+	}
+
+	/**
+	 * Finds the index of the first day in this series that is not before a given day.
+	 * @param epochDay The day.
+	 * @return The index.
+	 */
+	private int insertionPoint(long epochDay) {
+		int index = indexOf(epochDay);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	/**
+	 * Passes each day and its price to a {@link PriceConsumer}, in order of day.
+	 * @param consumer The {@link PriceConsumer}.
+	 */
+	public void forEach(PriceConsumer consumer) {
+		Preconditions.checkNotNull(consumer);
+
+		for (int i = from; i < to; i++) {
+			consumer.accept(epochDays[i], prices[i]);
+		}
+	}
+
+	/**
+	 * Copies the prices of this series into a new array.
+	 * @return The prices, in order of day.
+	 */
+	public int[] toPriceArray() {
+		return Arrays.copyOfRange(prices, from, to);
+	}
+
+	/**
+	 * Creates an {@link ImmutableMap} of {@link LocalDate}s to prices from this series.
+	 * @return An {@link ImmutableMap} of {@link LocalDate}s to prices, in order of date.
+	 */
+	public ImmutableMap<LocalDate, Integer> toMap() {
+		ImmutableMap.Builder<LocalDate, Integer> builder = ImmutableMap.builder();
+		for (int i = from; i < to; i++) {
+			builder.put(LocalDate.ofEpochDay(epochDays[i]), prices[i]);
+		}
+		return builder.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		PriceSeries that = (PriceSeries) o;
+		if (size() != that.size()) {
+			return false;
+		}
+		for (int i = 0; i < size(); i++) {
+			if (epochDays[from + i] != that.epochDays[that.from + i] || prices[from + i] != that.prices[that.from + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = from; i < to; i++) {
+			result = 31 * result + Long.hashCode(epochDays[i]);
+			result = 31 * result + prices[i];
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("size", size())
+			.add("first", isEmpty() ? null : getDate(0))
+			.add("last", isEmpty() ? null : getDate(size() - 1))
+			.toString();
+	}
+}
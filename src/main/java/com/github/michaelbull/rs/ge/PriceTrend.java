@@ -2,32 +2,52 @@ package com.github.michaelbull.rs.ge;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Represents the trend and price of an {@link Item}.
+ * <p>
+ * The formatted price, such as {@code "1.2k"}, is parsed once when the {@link PriceTrend} is created and is available
+ * as a whole amount of coins from {@link #getPriceCoins()}. A trend or price that cannot be parsed is kept as it was
+ * received, so an unexpected value from the API does not prevent the rest of a response from being read.
  */
+@JsonAdapter(PriceTrendTypeAdapter.class)
 public final class PriceTrend {
 
 	/**
-	 * The trend.
+	 * The trend, shared through the {@link StringPool}.
 	 */
 	private final String trend;
 
 	/**
-	 * The price.
+	 * The {@link Trend}, or {@code null} if the trend is unknown.
+	 */
+	private final Trend trendType;
+
+	/**
+	 * The price, shared through the {@link StringPool}.
 	 */
 	private final String price;
 
+	/**
+	 * The price in coins, or {@link OptionalLong#empty()} if the price is malformed.
+	 */
+	private final OptionalLong priceCoins;
+
 	/**
 	 * Creates a new {@link PriceTrend}.
 	 * @param trend The trend.
 	 * @param price The price.
 	 */
 	public PriceTrend(String trend, String price) {
-		this.trend = Preconditions.checkNotNull(trend);
-		this.price = Preconditions.checkNotNull(price);
+		this.trend = StringPool.intern(Preconditions.checkNotNull(trend));
+		this.trendType = Trend.from(trend).orElse(null);
+		this.price = StringPool.intern(Preconditions.checkNotNull(price));
+		this.priceCoins = PriceParser.tryParseCoins(price);
 	}
 
 	/**
@@ -47,6 +67,14 @@ public final class PriceTrend {
 		return trend;
 	}
 
+	/**
+	 * Gets the {@link Trend}.
+	 * @return An {@link Optional} containing the {@link Trend}, or {@link Optional#empty()} if the trend is unknown.
+	 */
+	public Optional<Trend> getTrendType() {
+		return Optional.ofNullable(trendType);
+	}
+
 	/**
 	 * Gets the price.
 	 * @return The price.
@@ -55,6 +83,15 @@ public final class PriceTrend {
 		return price;
 	}
 
+	/**
+	 * Gets the price in coins.
+	 * @return An {@link OptionalLong} containing the price in coins, with any fraction of a coin rounded half-up, or
+	 * {@link OptionalLong#empty()} if the price is malformed.
+	 */
+	public OptionalLong getPriceCoins() {
+		return priceCoins;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -78,6 +115,7 @@ public final class PriceTrend {
 		return MoreObjects.toStringHelper(this)
 			.add("trend", trend)
 			.add("price", price)
+			.add("priceCoins", priceCoins)
 			.toString();
 	}
 }
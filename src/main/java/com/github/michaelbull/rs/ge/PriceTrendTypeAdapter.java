@@ -0,0 +1,64 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} that creates each {@link PriceTrend} through its constructor, so that its formatted price is
+ * parsed once, when it is deserialized.
+ */
+final class PriceTrendTypeAdapter extends TypeAdapter<PriceTrend> {
+
+	@Override
+	public PriceTrend read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		String trend = null;
+		String price = null;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "trend":
+					trend = in.nextString();
+					break;
+
+				case "price":
+					price = in.nextString();
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		if (trend == null || price == null) {
+			throw new JsonSyntaxException("PriceTrend requires a trend and a price.");
+		}
+
+		return new PriceTrend(trend, price);
+	}
+
+	@Override
+	public void write(JsonWriter out, PriceTrend value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("trend").value(value.getTrend());
+		out.name("price").value(value.getPrice());
+		out.endObject();
+	}
+}
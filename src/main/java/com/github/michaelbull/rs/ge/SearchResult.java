@@ -2,12 +2,14 @@ package com.github.michaelbull.rs.ge;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.Objects;
 
 /**
  * Represents a result returned by searching within the RuneScape {@link GrandExchange}.
  */
+@JsonAdapter(SearchResultTypeAdapter.class)
 public final class SearchResult {
 
 	/**
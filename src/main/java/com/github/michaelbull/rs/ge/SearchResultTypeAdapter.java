@@ -0,0 +1,67 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * A {@link TypeAdapter} that reads each {@link SearchResult} straight into its constructor, without reflection.
+ */
+final class SearchResultTypeAdapter extends TypeAdapter<SearchResult> {
+
+	@Override
+	public SearchResult read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+
+		String letter = null;
+		int items = 0;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "letter":
+					letter = in.nextString();
+					break;
+
+				case "items":
+					items = in.nextInt();
+					break;
+
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		if (letter == null) {
+			throw new JsonSyntaxException("SearchResult requires a letter.");
+		}
+
+		try {
+			return new SearchResult(letter, items);
+		} catch (IllegalArgumentException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	@Override
+	public void write(JsonWriter out, SearchResult value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+
+		out.beginObject();
+		out.name("letter").value(value.getLetter());
+		out.name("items").value(value.getItems());
+		out.endObject();
+	}
+}
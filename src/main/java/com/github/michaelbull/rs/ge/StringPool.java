@@ -0,0 +1,35 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * A dictionary shared by the Grand Exchange models of the strings that recur across many {@link Item}s, such as their
+ * types, type icons, icon URL prefixes, prices and price changes, so that a crawl of the whole catalogue keeps one copy
+ * of each rather than one per item.
+ * <p>
+ * Strings are held weakly, and are removed from the dictionary once no model refers to them.
+ */
+final class StringPool {
+
+	/**
+	 * The {@link Interner} of the strings.
+	 */
+	private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+	/**
+	 * Gets the shared copy of a string.
+	 * @param value The string.
+	 * @return The shared copy, which is equal to the string.
+	 */
+	static String intern(String value) {
+		return INTERNER.intern(value);
+	}
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private StringPool() {
+		/* empty */
+	}
+}
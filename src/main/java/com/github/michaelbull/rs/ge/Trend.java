@@ -0,0 +1,73 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+
+/**
+ * Represents the direction in which the price of an {@link Item} is moving on the RuneScape {@link GrandExchange}.
+ * @see PriceTrend
+ * @see PriceChange
+ */
+public enum Trend {
+
+	/**
+	 * The price is rising.
+	 */
+	POSITIVE("positive"),
+
+	/**
+	 * The price is falling.
+	 */
+	NEGATIVE("negative"),
+
+	/**
+	 * The price is steady.
+	 */
+	NEUTRAL("neutral");
+
+	/**
+	 * An {@link ImmutableMap} of names to their corresponding {@link Trend}.
+	 */
+	private static final ImmutableMap<String, Trend> BY_NAME;
+
+	static {
+		ImmutableMap.Builder<String, Trend> builder = ImmutableMap.builder();
+		for (Trend value : values()) {
+			builder.put(value.name, value);
+		}
+		BY_NAME = builder.build();
+	}
+
+	/**
+	 * Gets a {@link Trend} from its {@link #getName() name}.
+	 * @param name The name of the trend.
+	 * @return The {@link Trend} or {@link Optional#empty()} if no trend was found.
+	 */
+	public static Optional<Trend> from(String name) {
+		Preconditions.checkNotNull(name);
+		return Optional.ofNullable(BY_NAME.get(name));
+	}
+
+	/**
+	 * The name of this trend as it appears in the Grand Exchange API.
+	 */
+	private final String name;
+
+	/**
+	 * Creates a new {@link Trend}.
+	 * @param name The name of this trend as it appears in the Grand Exchange API.
+	 */
+	Trend(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Gets the name of this trend as it appears in the Grand Exchange API.
+	 * @return The name of this trend.
+	 */
+	public String getName() {
+		return name;
+	}
+}
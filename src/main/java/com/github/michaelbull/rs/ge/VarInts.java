@@ -0,0 +1,96 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.io.ByteArrayDataOutput;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes variable-length integers, seven bits per byte with the high bit marking that another byte
+ * follows, and zig-zag encoding so that values of a small magnitude are short whether they are positive or negative.
+ */
+final class VarInts {
+
+	/**
+	 * The maximum amount of bytes in an encoded {@code long}.
+	 */
+	private static final int MAX_LONG_BYTES = 10;
+
+	/**
+	 * Zig-zag encodes a signed value, mapping 0, -1, 1, -2, 2... to 0, 1, 2, 3, 4...
+	 * @param value The signed value.
+	 * @return The zig-zag encoded value.
+	 */
+	static long encodeZigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Decodes a zig-zag encoded value.
+	 * @param value The zig-zag encoded value.
+	 * @return The signed value.
+	 */
+	static long decodeZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Writes an unsigned variable-length integer.
+	 * @param out The {@link ByteArrayDataOutput} to write to.
+	 * @param value The value, treated as unsigned.
+	 */
+	static void writeUnsigned(ByteArrayDataOutput out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	/**
+	 * Writes a signed variable-length integer, zig-zag encoded.
+	 * @param out The {@link ByteArrayDataOutput} to write to.
+	 * @param value The signed value.
+	 */
+	static void writeSigned(ByteArrayDataOutput out, long value) {
+		writeUnsigned(out, encodeZigZag(value));
+	}
+
+	/**
+	 * Reads an unsigned variable-length integer from the position of a {@link ByteBuffer}, advancing it.
+	 * @param in The {@link ByteBuffer} to read from.
+	 * @return The value, treated as unsigned.
+	 * @throws IllegalStateException If the value is longer than the longest encoded {@code long}.
+	 * @throws BufferUnderflowException If the buffer ends before the value does.
+	 */
+	static long readUnsigned(ByteBuffer in) {
+		long value = 0;
+		for (int i = 0; i < MAX_LONG_BYTES; i++) {
+			byte b = in.get();
+			value |= (long) (b & 0x7F) << (i * 7);
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalStateException("Malformed variable-length integer.");
+	}
+
+	/**
+	 * Reads a signed, zig-zag encoded, variable-length integer from the position of a {@link ByteBuffer}, advancing
+	 * it.
+	 * @param in The {@link ByteBuffer} to read from.
+	 * @return The signed value.
+	 * @throws IllegalStateException If the value is longer than the longest encoded {@code long}.
+	 * @throws BufferUnderflowException If the buffer ends before the value does.
+	 */
+	static long readSigned(ByteBuffer in) {
+		return decodeZigZag(readUnsigned(in));
+	}
+
+	/**
+	 * Prevents instantiation.
+	 */
+	private VarInts() {
+		/* empty */
+	}
+}
@@ -0,0 +1,23 @@
+package com.github.michaelbull.rs.hiscores;
+
+/**
+ * Represents a type of activity ranked on a {@link HiscoreTable}.
+ * <p>
+ * Implementations are enums whose {@link #ordinal()} is the position of the activity in
+ * {@link HiscoreTable#getActivityNames()}, so a {@link Player}'s {@link HiscoreActivity} rankings can be looked up by
+ * array index rather than by name.
+ */
+public interface ActivityType {
+
+	/**
+	 * Gets the position of this activity in the names of its {@link HiscoreTable}.
+	 * @return The position of this activity.
+	 */
+	int ordinal();
+
+	/**
+	 * Gets the name of this activity as it appears on the {@link Hiscores}.
+	 * @return The name of this activity.
+	 */
+	String getName();
+}
@@ -0,0 +1,52 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.github.michaelbull.rs.AsyncClient;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the RuneScape Hiscores API, queried through an {@link AsyncClient}.
+ * @see Hiscores
+ * @see <a href="https://runescape.wiki/w/Application_programming_interface#Hiscores">Hiscores APIs</a>
+ */
+public final class AsyncHiscores {
+
+	/**
+	 * The web-services {@link AsyncClient}.
+	 */
+	private final AsyncClient client;
+
+	/**
+	 * Creates a new {@link AsyncHiscores}.
+	 * @param client The web-services {@link AsyncClient}.
+	 */
+	public AsyncHiscores(AsyncClient client) {
+		this.client = Preconditions.checkNotNull(client);
+	}
+
+	/**
+	 * Gets a {@link Player} based on their display name.
+	 * @param displayName The player's display name.
+	 * @param table The table of {@link Hiscores}.
+	 * @return A {@link CompletableFuture} of an {@link Optional} containing the {@link Player}, or {@link Optional#empty()} if no {@link Player} was found with that name.
+	 * @see Hiscores#playerInformation(String, HiscoreTable)
+	 */
+	public CompletableFuture<Optional<Player>> playerInformation(String displayName, HiscoreTable table) {
+		String url = Hiscores.playerInformationUrl(displayName, table);
+		return client.fromStream(url, (in, charset) -> HiscoreParser.read(in, table));
+	}
+
+	/**
+	 * Gets an {@link ImmutableList} of {@link ClanMate}s within a clan, based on the clan's name.
+	 * @param clanName The clan's name.
+	 * @return A {@link CompletableFuture} of an {@link ImmutableList} of {@link ClanMate}s in the clan.
+	 * @see Hiscores#clanInformation(String)
+	 */
+	public CompletableFuture<ImmutableList<ClanMate>> clanInformation(String clanName) {
+		String url = Hiscores.clanInformationUrl(clanName);
+		return client.fromCSV(url).thenApply(Hiscores::readClanMates);
+	}
+}
@@ -0,0 +1,448 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.github.michaelbull.rs.BatchLookup;
+import com.github.michaelbull.rs.BatchResult;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks the members of a clan by the experience of each skill, as their hiscores are fetched.
+ * <p>
+ * Each member is given a slot, and the experience of each skill is kept in a {@code long[]} per skill indexed by slot.
+ * The ranking of each skill is an {@code int[]} of slots, in order of experience, alongside the position of each slot
+ * within it. When a member is updated, each of their skills is moved to its new position by a binary search and a
+ * shift of the slots between the old position and the new, rather than re-sorting the clan. Members who gain a little
+ * experience move a few places, so refreshing a whole clan costs little more than fetching it.
+ * <p>
+ * {@link #refresh()} fetches the clan's members, drops those who have left, and fetches the hiscores of the rest
+ * concurrently through a {@link BatchLookup}, updating the rankings as each member arrives. Unless a {@link BatchLookup}
+ * is given, the requests are rate limited as in {@link Hiscores#playerInformation(java.util.Collection)}. A leaderboard
+ * is safe for use by multiple threads, so rankings can be read while a refresh is in progress.
+ */
+public final class ClanLeaderboard {
+
+	public static final class Builder {
+		private HiscoreTable table = HiscoreTable.DEFAULT;
+		private BatchLookup batch;
+
+		private Builder() {
+			/* empty */
+		}
+
+		public Builder table(HiscoreTable table) {
+			this.table = Preconditions.checkNotNull(table);
+			return this;
+		}
+
+		public Builder batch(BatchLookup batch) {
+			this.batch = Preconditions.checkNotNull(batch);
+			return this;
+		}
+
+		public ClanLeaderboard build(Hiscores hiscores, String clanName) {
+			return new ClanLeaderboard(hiscores, clanName, table, batch == null ? Hiscores.DEFAULT_BATCH_LOOKUP : batch);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * The experience recorded for a skill in which a member is not ranked, which ranks them below every ranked member.
+	 */
+	private static final long UNRANKED = -1;
+
+	/**
+	 * The initial amount of slots.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * The {@link Hiscores} the members are fetched from.
+	 */
+	private final Hiscores hiscores;
+
+	/**
+	 * The name of the clan.
+	 */
+	private final String clanName;
+
+	/**
+	 * The {@link HiscoreTable} the members are ranked on.
+	 */
+	private final HiscoreTable table;
+
+	/**
+	 * The {@link BatchLookup} the members are fetched with.
+	 */
+	private final BatchLookup batch;
+
+	/**
+	 * The names of the skills on the {@link #table}.
+	 */
+	private final ImmutableList<String> skillNames;
+
+	/**
+	 * A {@link Map} of each member's normalized name to their slot.
+	 */
+	private final Map<String, Integer> slots = new HashMap<>();
+
+	/**
+	 * The display name of the member in each slot, or {@code null} if the slot is free.
+	 */
+	private String[] names = new String[INITIAL_CAPACITY];
+
+	/**
+	 * The experience of each skill of the member in each slot, indexed by skill then slot.
+	 */
+	private long[][] experience;
+
+	/**
+	 * The slots in order of the experience of each skill, most experience first, indexed by skill then position.
+	 */
+	private int[][] rankings;
+
+	/**
+	 * The position of each slot within {@link #rankings}, indexed by skill then slot.
+	 */
+	private int[][] positions;
+
+	/**
+	 * The slots that were freed by members leaving the clan.
+	 */
+	private int[] free = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The amount of slots in {@link #free}.
+	 */
+	private int freeCount;
+
+	/**
+	 * The amount of slots that have been used.
+	 */
+	private int slotCount;
+
+	/**
+	 * The amount of members ranked.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new {@link ClanLeaderboard}.
+	 * @param hiscores The {@link Hiscores} the members are fetched from.
+	 * @param clanName The name of the clan.
+	 * @param table The {@link HiscoreTable} the members are ranked on.
+	 * @param batch The {@link BatchLookup} the members are fetched with.
+	 */
+	private ClanLeaderboard(Hiscores hiscores, String clanName, HiscoreTable table, BatchLookup batch) {
+		this.hiscores = Preconditions.checkNotNull(hiscores);
+		this.clanName = Preconditions.checkNotNull(clanName);
+		this.table = table;
+		this.batch = batch;
+		this.skillNames = table.getSkillNames();
+
+		int skills = skillNames.size();
+		experience = new long[skills][INITIAL_CAPACITY];
+		rankings = new int[skills][INITIAL_CAPACITY];
+		positions = new int[skills][INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Fetches the clan's members, stops ranking those who have left, and fetches the hiscores of every member,
+	 * updating the rankings as each one arrives. Members with a blank name are skipped.
+	 * @return The {@link BatchResult} of fetching the members' hiscores, in which members who are not on the
+	 * {@link HiscoreTable} are missing. Members whose hiscores could not be fetched keep their previous rankings.
+	 * @throws IOException If an I/O error occurs fetching the clan's members, or the thread is interrupted.
+	 */
+	public BatchResult<PlayerQuery, Player> refresh() throws IOException {
+		List<PlayerQuery> queries = new ArrayList<>();
+		Set<String> current = new HashSet<>();
+
+		hiscores.clanInformation(clanName, member -> {
+			String name = PlayerQuery.normalize(member.getName());
+			if (!name.isEmpty()) {
+				queries.add(new PlayerQuery(member.getName(), table));
+				current.add(name);
+			}
+		});
+
+		synchronized (this) {
+			List<String> departed = slots.keySet().stream().filter(name -> !current.contains(name)).collect(Collectors.toList());
+			departed.forEach(this::remove);
+		}
+
+		return hiscores.playerInformation(queries, batch, new BatchLookup.Listener<PlayerQuery, Player>() {
+			@Override
+			public void onResult(PlayerQuery query, Player player) {
+				update(query.getDisplayName(), player);
+			}
+		});
+	}
+
+	/**
+	 * Updates the rankings of a member.
+	 * @param displayName The member's display name.
+	 * @param player The member's {@link Player} on the {@link HiscoreTable} of this leaderboard.
+	 * @throws IllegalArgumentException If the display name is blank.
+	 */
+	public synchronized void update(String displayName, Player player) {
+		Preconditions.checkNotNull(player);
+
+		String name = PlayerQuery.normalize(displayName);
+		Preconditions.checkArgument(!name.isEmpty(), "Name must not be blank.");
+		Integer existing = slots.get(name);
+		int slot = existing == null ? allocate(name, displayName) : existing;
+
+		int[] indices = table.skillIndicesIn(player);
+
+		for (int skill = 0; skill < skillNames.size(); skill++) {
+			int index = indices[skill];
+			long value = index != -1 && player.hasSkill(index) && player.getSkillRank(index) != -1 ? player.getSkillExperience(index) : UNRANKED;
+
+			if (existing == null) {
+				experience[skill][slot] = value;
+				insert(skill, slot);
+			} else if (experience[skill][slot] != value) {
+				experience[skill][slot] = value;
+				move(skill, slot);
+			}
+		}
+	}
+
+	/**
+	 * Stops ranking a member.
+	 * @param displayName The member's display name.
+	 */
+	public synchronized void remove(String displayName) {
+		Integer slot = slots.remove(PlayerQuery.normalize(displayName));
+		if (slot == null) {
+			return;
+		}
+
+		for (int skill = 0; skill < skillNames.size(); skill++) {
+			int[] ranking = rankings[skill];
+			int position = positions[skill][slot];
+
+			System.arraycopy(ranking, position + 1, ranking, position, size - position - 1);
+			for (int i = position; i < size - 1; i++) {
+				positions[skill][ranking[i]] = i;
+			}
+		}
+
+		names[slot] = null;
+		size--;
+
+		if (freeCount == free.length) {
+			free = Arrays.copyOf(free, freeCount * 2);
+		}
+		free[freeCount++] = slot;
+	}
+
+	/**
+	 * Allocates a slot for a new member.
+	 * @param name The member's normalized name.
+	 * @param displayName The member's display name.
+	 * @return The slot.
+	 */
+	private int allocate(String name, String displayName) {
+		int slot;
+		if (freeCount > 0) {
+			slot = free[--freeCount];
+		} else {
+			if (slotCount == names.length) {
+				grow(slotCount * 2);
+			}
+			slot = slotCount++;
+		}
+
+		slots.put(name, slot);
+		names[slot] = displayName;
+		size++;
+		return slot;
+	}
+
+	/**
+	 * Grows the arrays to hold more slots.
+	 * @param capacity The new amount of slots.
+	 */
+	private void grow(int capacity) {
+		names = Arrays.copyOf(names, capacity);
+		for (int skill = 0; skill < skillNames.size(); skill++) {
+			experience[skill] = Arrays.copyOf(experience[skill], capacity);
+			rankings[skill] = Arrays.copyOf(rankings[skill], capacity);
+			positions[skill] = Arrays.copyOf(positions[skill], capacity);
+		}
+	}
+
+	/**
+	 * Checks if one slot is ranked above another in a skill: by more experience, or by the lower slot if equal.
+	 * @param skill The index of the skill.
+	 * @param slot The slot.
+	 * @param other The other slot.
+	 * @return {@code true} if the slot is ranked above the other, otherwise {@code false}.
+	 */
+	private boolean precedes(int skill, int slot, int other) {
+		long value = experience[skill][slot];
+		long otherValue = experience[skill][other];
+		return value > otherValue || (value == otherValue && slot < other);
+	}
+
+	/**
+	 * Finds the position a slot belongs at within a range of a skill's ranking.
+	 * @param skill The index of the skill.
+	 * @param slot The slot.
+	 * @param from The first position of the range.
+	 * @param to The position after the last of the range.
+	 * @return The position of the first slot in the range that the slot precedes, or {@code to} if there is none.
+	 */
+	private int search(int skill, int slot, int from, int to) {
+		int[] ranking = rankings[skill];
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (precedes(skill, ranking[middle], slot)) {
+				from = middle + 1;
+			} else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * Inserts a new slot into a skill's ranking, which must already count the slot in its {@link #size}.
+	 * @param skill The index of the skill.
+	 * @param slot The slot.
+	 */
+	private void insert(int skill, int slot) {
+		int[] ranking = rankings[skill];
+		int last = size - 1;
+		int position = search(skill, slot, 0, last);
+
+		System.arraycopy(ranking, position, ranking, position + 1, last - position);
+		ranking[position] = slot;
+		for (int i = position; i <= last; i++) {
+			positions[skill][ranking[i]] = i;
+		}
+	}
+
+	/**
+	 * Moves a slot whose experience has changed to its new position in a skill's ranking, shifting only the slots it
+	 * passes.
+	 * @param skill The index of the skill.
+	 * @param slot The slot.
+	 */
+	private void move(int skill, int slot) {
+		int[] ranking = rankings[skill];
+		int position = positions[skill][slot];
+
+		if (position > 0 && precedes(skill, slot, ranking[position - 1])) {
+			int target = search(skill, slot, 0, position);
+			System.arraycopy(ranking, target, ranking, target + 1, position - target);
+			ranking[target] = slot;
+			for (int i = target; i <= position; i++) {
+				positions[skill][ranking[i]] = i;
+			}
+		} else if (position < size - 1 && precedes(skill, ranking[position + 1], slot)) {
+			int target = search(skill, slot, position + 1, size) - 1;
+			System.arraycopy(ranking, position + 1, ranking, position, target - position);
+			ranking[target] = slot;
+			for (int i = position; i <= target; i++) {
+				positions[skill][ranking[i]] = i;
+			}
+		}
+	}
+
+	/**
+	 * Gets the index of a skill.
+	 * @param type The {@link SkillType}.
+	 * @return The index.
+	 * @throws IllegalArgumentException If the skill is not on the {@link HiscoreTable} of this leaderboard.
+	 */
+	private int indexOf(SkillType type) {
+		int index = HiscoreTable.indexOf(skillNames, Preconditions.checkNotNull(type));
+		Preconditions.checkArgument(index != -1, "%s is not on the %s hiscores.", type, table);
+		return index;
+	}
+
+	/**
+	 * Gets the members with the most experience in a skill.
+	 * @param type The {@link SkillType}.
+	 * @param limit The maximum amount of members.
+	 * @return An {@link ImmutableList} of the display names of the members ranked in the skill, most experience first.
+	 */
+	public synchronized ImmutableList<String> top(SkillType type, int limit) {
+		Preconditions.checkArgument(limit > 0, "Limit must be positive.");
+
+		int skill = indexOf(type);
+		int[] ranking = rankings[skill];
+
+		ImmutableList.Builder<String> builder = ImmutableList.builder();
+		for (int i = 0; i < Math.min(limit, size) && experience[skill][ranking[i]] != UNRANKED; i++) {
+			builder.add(names[ranking[i]]);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Gets the rank of a member within the clan in a skill.
+	 * @param displayName The member's display name.
+	 * @param type The {@link SkillType}.
+	 * @return An {@link OptionalInt} containing the rank, starting from {@code 1}, or {@link OptionalInt#empty()} if the member is not ranked in the skill.
+	 */
+	public synchronized OptionalInt rankOf(String displayName, SkillType type) {
+		int skill = indexOf(type);
+		Integer slot = slots.get(PlayerQuery.normalize(displayName));
+
+		if (slot == null || experience[skill][slot] == UNRANKED) {
+			return OptionalInt.empty();
+		}
+		return OptionalInt.of(positions[skill][slot] + 1);
+	}
+
+	/**
+	 * Gets the experience of a member in a skill.
+	 * @param displayName The member's display name.
+	 * @param type The {@link SkillType}.
+	 * @return An {@link OptionalLong} containing the experience, or {@link OptionalLong#empty()} if the member is not ranked in the skill.
+	 */
+	public synchronized OptionalLong getExperience(String displayName, SkillType type) {
+		int skill = indexOf(type);
+		Integer slot = slots.get(PlayerQuery.normalize(displayName));
+
+		if (slot == null || experience[skill][slot] == UNRANKED) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(experience[skill][slot]);
+	}
+
+	/**
+	 * Gets the amount of members ranked.
+	 * @return The amount of members.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("clanName", clanName)
+			.add("table", table)
+			.add("members", size)
+			.toString();
+	}
+}
@@ -5,7 +5,6 @@ import com.google.common.base.Preconditions;
 import com.google.common.primitives.Ints;
 import org.apache.commons.csv.CSVRecord;
 
-import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -37,6 +36,27 @@ public final class HiscoreActivity {
 		return Optional.of(new HiscoreActivity(rank, score));
 	}
 
+	/**
+	 * Checks the values of a {@link HiscoreActivity}.
+	 * @param rank The rank the player has in the activity.
+	 * @param score The score the player has in the activity.
+	 * @throws IllegalArgumentException If any of the values are out of range.
+	 */
+	static void checkArguments(int rank, int score) {
+		Preconditions.checkArgument(rank == -1 || rank > 0, "Rank must be either -1 (unranked) or positive.");
+		Preconditions.checkArgument(score >= -1, "Score must be either -1 (unranked) or non-negative.");
+	}
+
+	/**
+	 * Computes the hash code of a {@link HiscoreActivity} from its values, without creating it.
+	 * @param rank The rank the player has in the activity.
+	 * @param score The score the player has in the activity.
+	 * @return The hash code, equal to that of {@link #hashCode()}.
+	 */
+	static int hashCode(int rank, int score) {
+		return 31 * (31 + rank) + score;
+	}
+
 	/**
 	 * The rank the player has in the activity.
 	 */
@@ -53,8 +73,7 @@ public final class HiscoreActivity {
 	 * @param score The score the player has in the activity.
 	 */
 	public HiscoreActivity(int rank, int score) {
-		Preconditions.checkArgument(rank == -1 || rank > 0, "Rank must be either -1 (unranked) or positive.");
-		Preconditions.checkArgument(score >= -1, "Score must be either -1 (unranked) or non-negative.");
+		checkArguments(rank, score);
 		this.rank = rank;
 		this.score = score;
 	}
@@ -102,7 +121,7 @@ public final class HiscoreActivity {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(rank, score);
+		return hashCode(rank, score);
 	}
 
 	@Override
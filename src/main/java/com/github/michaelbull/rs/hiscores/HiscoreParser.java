@@ -0,0 +1,272 @@
+package com.github.michaelbull.rs.hiscores;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * A single-pass parser of the {@code index_lite.ws} response of the {@link Hiscores}.
+ * <p>
+ * The response is a fixed sequence of {@code rank,level,experience} lines, one per skill, followed by
+ * {@code rank,score} lines, one per activity. The parser reads the response byte-by-byte into the primitive arrays
+ * backing a {@link Player}, without creating intermediate records, {@link String}s, or boxed values. A line is treated in the same way as a
+ * {@link org.apache.commons.csv.CSVRecord} that is rejected by {@link Skill#fromCsv} or {@link HiscoreActivity#fromCsv}
+ * if it has too few fields or a field that is not an integer.
+ */
+final class HiscoreParser {
+
+	/**
+	 * The size of the buffer the response is read through.
+	 */
+	private static final int BUFFER_SIZE = 2048;
+
+	/**
+	 * The maximum amount of digits in a field, beyond which the field is treated as malformed.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * The amount of fields in a skill line.
+	 */
+	private static final int SKILL_FIELDS = 3;
+
+	/**
+	 * The amount of fields in an activity line.
+	 */
+	private static final int ACTIVITY_FIELDS = 2;
+
+	/**
+	 * Reads a {@link Player} from the {@code index_lite.ws} response of a {@link HiscoreTable}.
+	 * @param in The {@link InputStream} of the response.
+	 * @param table The table of {@link Hiscores} the response was fetched from.
+	 * @return An {@link Optional} containing the {@link Player}, or {@link Optional#empty()} if there were too few lines.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static Optional<Player> read(InputStream in, HiscoreTable table) throws IOException {
+		HiscoreParser parser = new HiscoreParser(table.getSkillNames().size(), table.getActivityNames().size());
+		return parser.parse(in) ? Optional.of(parser.toPlayer(table)) : Optional.empty();
+	}
+
+	/**
+	 * The amount of skill lines.
+	 */
+	private final int skillCount;
+
+	/**
+	 * The total amount of skill and activity lines.
+	 */
+	private final int lineCount;
+
+	/**
+	 * The fields of the line being parsed.
+	 */
+	private final long[] fields = new long[SKILL_FIELDS];
+
+	/**
+	 * The rank the player has for each skill.
+	 */
+	private final int[] skillRanks;
+
+	/**
+	 * The level the player has in each skill.
+	 */
+	private final int[] skillLevels;
+
+	/**
+	 * The amount of experience the player has earned in each skill.
+	 */
+	private final long[] skillExperience;
+
+	/**
+	 * The rank the player has in each activity.
+	 */
+	private final int[] activityRanks;
+
+	/**
+	 * The score the player has in each activity.
+	 */
+	private final int[] activityScores;
+
+	/**
+	 * The index of the line being parsed.
+	 */
+	private int line;
+
+	/**
+	 * The index of the field being parsed within the current line.
+	 */
+	private int field;
+
+	/**
+	 * The value of the field being parsed, without its sign.
+	 */
+	private long value;
+
+	/**
+	 * The amount of digits read into the field being parsed.
+	 */
+	private int digits;
+
+	/**
+	 * Whether the field being parsed is negative.
+	 */
+	private boolean negative;
+
+	/**
+	 * Whether any bytes have been read on the current line.
+	 */
+	private boolean content;
+
+	/**
+	 * Whether the current line is still well-formed.
+	 */
+	private boolean wellFormed = true;
+
+	/**
+	 * Creates a new {@link HiscoreParser}.
+	 * @param skillCount The amount of skill lines.
+	 * @param activityCount The amount of activity lines.
+	 */
+	private HiscoreParser(int skillCount, int activityCount) {
+		this.skillCount = skillCount;
+		this.lineCount = skillCount + activityCount;
+		this.skillRanks = new int[skillCount];
+		this.skillLevels = new int[skillCount];
+		this.skillExperience = new long[skillCount];
+		this.activityRanks = new int[activityCount];
+		this.activityScores = new int[activityCount];
+	}
+
+	/**
+	 * Parses the skill and activity lines from an {@link InputStream}, ignoring any lines that follow them.
+	 * @param in The {@link InputStream}.
+	 * @return {@code true} if every skill and activity line was present, otherwise {@code false}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private boolean parse(InputStream in) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+
+		int read;
+		while (line < lineCount && (read = in.read(buffer)) != -1) {
+			for (int i = 0; i < read && line < lineCount; i++) {
+				accept(buffer[i]);
+			}
+		}
+
+		if (line < lineCount && content) {
+			endLine();
+		}
+
+		return line == lineCount;
+	}
+
+	/**
+	 * Accepts the next byte of the response.
+	 * @param b The byte.
+	 */
+	private void accept(byte b) {
+		if (b >= '0' && b <= '9') {
+			content = true;
+			if (++digits > MAX_DIGITS) {
+				malformed();
+			} else {
+				value = value * 10 + (b - '0');
+			}
+		} else if (b == ',') {
+			content = true;
+			endField();
+		} else if (b == '\n') {
+			if (content) {
+				endLine();
+			}
+		} else if (b == '-' && digits == 0 && !negative) {
+			content = true;
+			negative = true;
+		} else if (b != '\r') {
+			content = true;
+			malformed();
+		}
+	}
+
+	/**
+	 * Gets the amount of fields expected on the current line.
+	 * @return The amount of fields.
+	 */
+	private int expectedFields() {
+		return line < skillCount ? SKILL_FIELDS : ACTIVITY_FIELDS;
+	}
+
+	/**
+	 * Marks the current line as malformed if the field being parsed is one of its expected fields. Any trailing fields
+	 * are ignored.
+	 */
+	private void malformed() {
+		if (field < expectedFields()) {
+			wellFormed = false;
+		}
+	}
+
+	/**
+	 * Ends the field being parsed, storing its value if it is one of the fields of the current line.
+	 */
+	private void endField() {
+		if (field < expectedFields()) {
+			long signed = negative ? -value : value;
+			boolean isLong = line < skillCount && field == SKILL_FIELDS - 1;
+
+			if (digits == 0 || (!isLong && (signed < Integer.MIN_VALUE || signed > Integer.MAX_VALUE))) {
+				wellFormed = false;
+			} else {
+				fields[field] = signed;
+			}
+		}
+
+		field++;
+		value = 0;
+		digits = 0;
+		negative = false;
+	}
+
+	/**
+	 * Ends the line being parsed, storing its fields if it was well-formed. Lines that were malformed are left with a
+	 * rank of {@link Player#ABSENT}.
+	 * @throws IllegalArgumentException If a well-formed line contains values that are out of range.
+	 */
+	private void endLine() {
+		endField();
+
+		if (wellFormed && field >= expectedFields()) {
+			int rank = (int) fields[0];
+
+			if (line < skillCount) {
+				int level = (int) fields[1];
+				long experience = fields[2];
+				Skill.checkArguments(rank, level, experience);
+
+				skillRanks[line] = rank;
+				skillLevels[line] = level;
+				skillExperience[line] = experience;
+			} else {
+				int score = (int) fields[1];
+				HiscoreActivity.checkArguments(rank, score);
+
+				activityRanks[line - skillCount] = rank;
+				activityScores[line - skillCount] = score;
+			}
+		}
+
+		line++;
+		field = 0;
+		content = false;
+		wellFormed = true;
+	}
+
+	/**
+	 * Creates a {@link Player} from the parsed lines, handing it ownership of the parsed arrays.
+	 * @param table The table of {@link Hiscores} the response was fetched from.
+	 * @return The {@link Player}.
+	 */
+	private Player toPlayer(HiscoreTable table) {
+		return new Player(table.getSkillNames(), skillRanks, skillLevels, skillExperience, table.getActivityNames(), activityRanks, activityScores);
+	}
+}
@@ -0,0 +1,92 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a {@link Player}'s hiscores at the time they were fetched, as stored in a {@link HiscoreSnapshotLog}.
+ */
+public final class HiscoreSnapshot {
+
+	/**
+	 * The {@link PlayerQuery} of the player, with their normalized name.
+	 */
+	private final PlayerQuery query;
+
+	/**
+	 * The time the player was fetched.
+	 */
+	private final Instant timestamp;
+
+	/**
+	 * The {@link Player}.
+	 */
+	private final Player player;
+
+	/**
+	 * Creates a new {@link HiscoreSnapshot}.
+	 * @param query The {@link PlayerQuery} of the player, with their normalized name.
+	 * @param timestamp The time the player was fetched.
+	 * @param player The {@link Player}.
+	 */
+	public HiscoreSnapshot(PlayerQuery query, Instant timestamp, Player player) {
+		this.query = Preconditions.checkNotNull(query);
+		this.timestamp = Preconditions.checkNotNull(timestamp);
+		this.player = Preconditions.checkNotNull(player);
+	}
+
+	/**
+	 * Gets the {@link PlayerQuery} of the player, with their normalized name.
+	 * @return The {@link PlayerQuery}.
+	 */
+	public PlayerQuery getQuery() {
+		return query;
+	}
+
+	/**
+	 * Gets the time the player was fetched.
+	 * @return The {@link Instant}.
+	 */
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Gets the {@link Player}.
+	 * @return The {@link Player}.
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		HiscoreSnapshot that = (HiscoreSnapshot) o;
+		return Objects.equals(query, that.query)
+			&& Objects.equals(timestamp, that.timestamp)
+			&& Objects.equals(player, that.player);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(query, timestamp, player);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("query", query)
+			.add("timestamp", timestamp)
+			.add("player", player)
+			.toString();
+	}
+}
@@ -0,0 +1,944 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A durable, append-only log of {@link HiscoreSnapshot}s, keyed by each player's normalized name and
+ * {@link HiscoreTable}.
+ * <p>
+ * The log is a directory of segment files. Each segment holds a fixed amount of fixed-width records, so the position
+ * of any record can be computed from its index. A record holds the player's name and table, the time they were
+ * fetched, the rank, level and experience of every skill and the rank and score of every activity, followed by a
+ * checksum. Records are written into the memory-mapped last segment; once it is full, a new segment is started and the
+ * full one is only ever read.
+ * <p>
+ * When a log is opened, the name and table of each record are read to build an index of the records of each player,
+ * so the timeline of one player is read straight from the mappings without scanning the log. A record that was torn by
+ * a crash fails its checksum and is overwritten by the next append.
+ * <p>
+ * {@link #compact()} rewrites every full segment without the records that are identical to the player's previous
+ * record, such as those of players who did not play between fetches. It indexes the compacted segments as it writes
+ * them and only holds the log's lock to swap in the segments and index, so it can run on a background thread while
+ * snapshots continue to be appended.
+ * <p>
+ * A log is safe for use by multiple threads.
+ */
+public final class HiscoreSnapshotLog implements Closeable {
+
+	/**
+	 * The default amount of records in each segment.
+	 */
+	public static final int DEFAULT_RECORDS_PER_SEGMENT = 65_536;
+
+	/**
+	 * The magic number at the start of a segment file, {@code "RSHL"}.
+	 */
+	private static final int MAGIC = 0x5253484C;
+
+	/**
+	 * The version of the file format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The byte order of the fields of the file.
+	 */
+	private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+	/**
+	 * The size of a segment header: the magic number, the version, the size of a record and the amount of records.
+	 */
+	private static final int SEGMENT_HEADER_SIZE = 4 + 4 + 4 + 4;
+
+	/**
+	 * The maximum length of a normalized name, in bytes.
+	 */
+	private static final int NAME_LENGTH = 12;
+
+	/**
+	 * The most skills on any {@link HiscoreTable}.
+	 */
+	private static final int SKILL_COUNT = Stream.of(HiscoreTable.values()).mapToInt(table -> table.getSkillNames().size()).max().getAsInt();
+
+	/**
+	 * The most activities on any {@link HiscoreTable}.
+	 */
+	private static final int ACTIVITY_COUNT = Stream.of(HiscoreTable.values()).mapToInt(table -> table.getActivityNames().size()).max().getAsInt();
+
+	/**
+	 * The offset of the {@link HiscoreTable} within a record, which follows the name.
+	 */
+	private static final int TABLE_OFFSET = NAME_LENGTH;
+
+	/**
+	 * The offset of the timestamp within a record, in milliseconds from the epoch.
+	 */
+	private static final int TIMESTAMP_OFFSET = 16;
+
+	/**
+	 * The offset of the skills within a record.
+	 */
+	private static final int SKILLS_OFFSET = TIMESTAMP_OFFSET + 8;
+
+	/**
+	 * The size of a skill: the rank, level and experience.
+	 */
+	private static final int SKILL_SIZE = 4 + 4 + 8;
+
+	/**
+	 * The offset of the activities within a record.
+	 */
+	private static final int ACTIVITIES_OFFSET = SKILLS_OFFSET + SKILL_COUNT * SKILL_SIZE;
+
+	/**
+	 * The size of an activity: the rank and score.
+	 */
+	private static final int ACTIVITY_SIZE = 4 + 4;
+
+	/**
+	 * The offset of the checksum within a record, which covers every byte before it.
+	 */
+	private static final int CHECKSUM_OFFSET = ACTIVITIES_OFFSET + ACTIVITY_COUNT * ACTIVITY_SIZE;
+
+	/**
+	 * The size of a record.
+	 */
+	private static final int RECORD_SIZE = CHECKSUM_OFFSET + 4;
+
+	/**
+	 * The extension of a segment file.
+	 */
+	private static final String SEGMENT_EXTENSION = ".seg";
+
+	/**
+	 * The name of the file that commits a compaction, listing the segments it replaces.
+	 */
+	private static final String COMPACTION_MARKER = "compaction";
+
+	/**
+	 * The prefix of the files written by a compaction before it is committed.
+	 */
+	private static final String COMPACTION_PREFIX = "compaction-";
+
+	/**
+	 * Opens a log, creating an empty one if the directory does not exist.
+	 * @param directory The {@link Path} of the directory.
+	 * @return The {@link HiscoreSnapshotLog}.
+	 * @throws IOException If an I/O error occurs, or a segment is corrupt.
+	 */
+	public static HiscoreSnapshotLog open(Path directory) throws IOException {
+		return open(directory, DEFAULT_RECORDS_PER_SEGMENT);
+	}
+
+	/**
+	 * Opens a log, creating an empty one if the directory does not exist.
+	 * @param directory The {@link Path} of the directory.
+	 * @param recordsPerSegment The amount of records in each new segment.
+	 * @return The {@link HiscoreSnapshotLog}.
+	 * @throws IOException If an I/O error occurs, or a segment is corrupt.
+	 */
+	public static HiscoreSnapshotLog open(Path directory, int recordsPerSegment) throws IOException {
+		Preconditions.checkNotNull(directory);
+		Preconditions.checkArgument(recordsPerSegment > 0, "Records per segment must be positive.");
+
+		Files.createDirectories(directory);
+
+		HiscoreSnapshotLog log = new HiscoreSnapshotLog(directory, recordsPerSegment);
+		log.load();
+		return log;
+	}
+
+	/**
+	 * Normalizes a player's display name as {@link PlayerQuery} does, checking that it fits a record.
+	 * @param displayName The player's display name.
+	 * @return The normalized name: trimmed, in lower case and with underscores and non-breaking spaces as spaces.
+	 * @throws IllegalArgumentException If the name is empty, too long or contains characters that are not in a name.
+	 */
+	public static String normalize(String displayName) {
+		Preconditions.checkNotNull(displayName);
+
+		String name = PlayerQuery.normalize(displayName);
+		Preconditions.checkArgument(!name.isEmpty() && name.length() <= NAME_LENGTH, "Name must be between 1 and %s characters: %s", NAME_LENGTH, displayName);
+		Preconditions.checkArgument(StandardCharsets.ISO_8859_1.newEncoder().canEncode(name), "Name contains invalid characters: %s", displayName);
+		return name;
+	}
+
+	/**
+	 * Gets the offset of a record within a segment.
+	 * @param record The index of the record.
+	 * @return The offset.
+	 */
+	private static int recordOffset(int record) {
+		return SEGMENT_HEADER_SIZE + record * RECORD_SIZE;
+	}
+
+	/**
+	 * Packs the location of a record.
+	 * @param segment The number of the segment.
+	 * @param record The index of the record in the segment.
+	 * @return The location.
+	 */
+	private static long location(int segment, int record) {
+		return ((long) segment << Integer.SIZE) | record;
+	}
+
+	/**
+	 * Computes the checksum of a record.
+	 * @param buffer The buffer holding the record.
+	 * @param offset The offset of the record.
+	 * @return The checksum.
+	 */
+	private static int checksum(ByteBuffer buffer, int offset) {
+		ByteBuffer record = buffer.duplicate();
+		record.limit(offset + CHECKSUM_OFFSET);
+		record.position(offset);
+
+		CRC32 crc = new CRC32();
+		crc.update(record);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Checks if a record was completely written.
+	 * @param buffer The buffer holding the record.
+	 * @param offset The offset of the record.
+	 * @return {@code true} if the record is valid, otherwise {@code false}.
+	 */
+	private static boolean isValid(ByteBuffer buffer, int offset) {
+		int table = buffer.get(offset + TABLE_OFFSET);
+		return buffer.get(offset) != 0
+			&& table >= 0 && table < HiscoreTable.values().length
+			&& buffer.getInt(offset + CHECKSUM_OFFSET) == checksum(buffer, offset);
+	}
+
+	/**
+	 * Reads the normalized name and {@link HiscoreTable} of a record.
+	 * @param buffer The buffer holding the record.
+	 * @param offset The offset of the record.
+	 * @return The {@link PlayerQuery}.
+	 */
+	private static PlayerQuery readQuery(ByteBuffer buffer, int offset) {
+		byte[] name = new byte[NAME_LENGTH];
+		int length = 0;
+		while (length < NAME_LENGTH && buffer.get(offset + length) != 0) {
+			name[length] = buffer.get(offset + length);
+			length++;
+		}
+
+		HiscoreTable table = HiscoreTable.values()[buffer.get(offset + TABLE_OFFSET)];
+		return new PlayerQuery(new String(name, 0, length, StandardCharsets.ISO_8859_1), table);
+	}
+
+	/**
+	 * Encodes a snapshot of a {@link Player} as a record.
+	 * @param query The {@link PlayerQuery} of the player, with their normalized name.
+	 * @param timestamp The time the player was fetched.
+	 * @param player The {@link Player}.
+	 * @return The record.
+	 */
+	private static ByteBuffer encode(PlayerQuery query, Instant timestamp, Player player) {
+		ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ORDER);
+		HiscoreTable table = query.getTable();
+
+		record.put(query.getDisplayName().getBytes(StandardCharsets.ISO_8859_1));
+		record.put(TABLE_OFFSET, (byte) table.ordinal());
+		record.putLong(TIMESTAMP_OFFSET, timestamp.toEpochMilli());
+
+		int[] skills = table.skillIndicesIn(player);
+		for (int i = 0; i < skills.length; i++) {
+			int index = skills[i];
+			if (index != -1 && player.hasSkill(index)) {
+				int offset = SKILLS_OFFSET + i * SKILL_SIZE;
+				record.putInt(offset, player.getSkillRank(index));
+				record.putInt(offset + 4, player.getSkillLevel(index));
+				record.putLong(offset + 8, player.getSkillExperience(index));
+			}
+		}
+
+		int[] activities = table.activityIndicesIn(player);
+		for (int i = 0; i < activities.length; i++) {
+			int index = activities[i];
+			if (index != -1 && player.hasActivity(index)) {
+				int offset = ACTIVITIES_OFFSET + i * ACTIVITY_SIZE;
+				record.putInt(offset, player.getActivityRank(index));
+				record.putInt(offset + 4, player.getActivityScore(index));
+			}
+		}
+
+		record.putInt(CHECKSUM_OFFSET, checksum(record, 0));
+		record.rewind();
+		return record;
+	}
+
+	/**
+	 * Decodes a record.
+	 * @param buffer The buffer holding the record.
+	 * @param offset The offset of the record.
+	 * @return The {@link HiscoreSnapshot}.
+	 */
+	private static HiscoreSnapshot decode(ByteBuffer buffer, int offset) {
+		PlayerQuery query = readQuery(buffer, offset);
+		HiscoreTable table = query.getTable();
+		Instant timestamp = Instant.ofEpochMilli(buffer.getLong(offset + TIMESTAMP_OFFSET));
+
+		int skills = table.getSkillNames().size();
+		int[] skillRanks = new int[skills];
+		int[] skillLevels = new int[skills];
+		long[] skillExperience = new long[skills];
+		for (int i = 0; i < skills; i++) {
+			int skill = offset + SKILLS_OFFSET + i * SKILL_SIZE;
+			skillRanks[i] = buffer.getInt(skill);
+			skillLevels[i] = buffer.getInt(skill + 4);
+			skillExperience[i] = buffer.getLong(skill + 8);
+		}
+
+		int activities = table.getActivityNames().size();
+		int[] activityRanks = new int[activities];
+		int[] activityScores = new int[activities];
+		for (int i = 0; i < activities; i++) {
+			int activity = offset + ACTIVITIES_OFFSET + i * ACTIVITY_SIZE;
+			activityRanks[i] = buffer.getInt(activity);
+			activityScores[i] = buffer.getInt(activity + 4);
+		}
+
+		Player player = new Player(table.getSkillNames(), skillRanks, skillLevels, skillExperience, table.getActivityNames(), activityRanks, activityScores);
+		return new HiscoreSnapshot(query, timestamp, player);
+	}
+
+	/**
+	 * A segment file, mapped into memory.
+	 */
+	private static final class Segment {
+
+		/**
+		 * The number of the segment, which orders it within the log.
+		 */
+		private final int number;
+
+		/**
+		 * The mapping of the file.
+		 */
+		private final MappedByteBuffer mapping;
+
+		/**
+		 * The amount of records the segment can hold.
+		 */
+		private final int capacity;
+
+		/**
+		 * The amount of records written.
+		 */
+		private int count;
+
+		/**
+		 * Creates a new {@link Segment}.
+		 * @param number The number of the segment.
+		 * @param mapping The mapping of the file.
+		 * @param capacity The amount of records the segment can hold.
+		 * @param count The amount of records written.
+		 */
+		private Segment(int number, MappedByteBuffer mapping, int capacity, int count) {
+			this.number = number;
+			this.mapping = mapping;
+			this.capacity = capacity;
+			this.count = count;
+		}
+
+		/**
+		 * Gets a buffer of the mapping for use by the calling thread.
+		 * @return The buffer.
+		 */
+		private ByteBuffer buffer() {
+			return mapping.duplicate().order(ORDER);
+		}
+
+		/**
+		 * Checks if the segment is full.
+		 * @return {@code true} if no more records can be written, otherwise {@code false}.
+		 */
+		private boolean isFull() {
+			return count == capacity;
+		}
+	}
+
+	/**
+	 * The locations of the records of one player, in the order they were appended.
+	 */
+	private static final class Timeline {
+
+		/**
+		 * The locations of the records.
+		 */
+		private long[] locations = new long[4];
+
+		/**
+		 * The amount of records.
+		 */
+		private int size;
+
+		/**
+		 * Adds the location of a record.
+		 * @param location The location.
+		 */
+		private void add(long location) {
+			if (size == locations.length) {
+				locations = Arrays.copyOf(locations, size * 2);
+			}
+			locations[size++] = location;
+		}
+	}
+
+	/**
+	 * The {@link Path} of the directory.
+	 */
+	private final Path directory;
+
+	/**
+	 * The amount of records in each new segment.
+	 */
+	private final int recordsPerSegment;
+
+	/**
+	 * The lock held for the whole of a compaction, so that only one runs at a time.
+	 */
+	private final Object compactionLock = new Object();
+
+	/**
+	 * The {@link Segment}s, by number.
+	 */
+	private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+
+	/**
+	 * A {@link Map} of each player's {@link PlayerQuery}, with their normalized name, to their {@link Timeline}.
+	 */
+	private final Map<PlayerQuery, Timeline> index = new HashMap<>();
+
+	/**
+	 * The {@link Segment} that records are appended to.
+	 */
+	private Segment active;
+
+	/**
+	 * Whether the log has been closed.
+	 */
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link HiscoreSnapshotLog}.
+	 * @param directory The {@link Path} of the directory.
+	 * @param recordsPerSegment The amount of records in each new segment.
+	 */
+	private HiscoreSnapshotLog(Path directory, int recordsPerSegment) {
+		this.directory = directory;
+		this.recordsPerSegment = recordsPerSegment;
+	}
+
+	/**
+	 * Finishes any committed compaction, then maps every segment and indexes its records.
+	 * @throws IOException If an I/O error occurs, or a segment is corrupt.
+	 */
+	private void load() throws IOException {
+		recoverCompaction();
+
+		List<Integer> numbers = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_EXTENSION)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				numbers.add(Integer.parseInt(name.substring(0, name.length() - SEGMENT_EXTENSION.length())));
+			}
+		} catch (NumberFormatException e) {
+			throw new IOException(directory + " contains a segment with an invalid name.", e);
+		}
+		numbers.sort(null);
+
+		for (int i = 0; i < numbers.size(); i++) {
+			boolean last = i == numbers.size() - 1;
+			segments.put(numbers.get(i), openSegment(segmentPath(numbers.get(i)), numbers.get(i), last));
+		}
+
+		if (segments.isEmpty() || segments.lastEntry().getValue().isFull()) {
+			int number = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+			segments.put(number, createSegment(segmentPath(number), number));
+		}
+
+		active = segments.lastEntry().getValue();
+		reindex();
+	}
+
+	/**
+	 * Gets the {@link Path} of a segment.
+	 * @param number The number of the segment.
+	 * @return The {@link Path}.
+	 */
+	private Path segmentPath(int number) {
+		return directory.resolve(String.format("%010d%s", number, SEGMENT_EXTENSION));
+	}
+
+	/**
+	 * Gets the {@link Path} of a segment written by a compaction before it is committed.
+	 * @param index The index of the segment among those written by the compaction.
+	 * @return The {@link Path}.
+	 */
+	private Path compactionPath(int index) {
+		return directory.resolve(COMPACTION_PREFIX + index + SEGMENT_EXTENSION + ".tmp");
+	}
+
+	/**
+	 * Maps an existing segment, counting the records that were completely written.
+	 * @param path The {@link Path} of the segment.
+	 * @param number The number of the segment.
+	 * @param writable Whether records will be appended to the segment.
+	 * @return The {@link Segment}.
+	 * @throws IOException If an I/O error occurs, or the segment is corrupt.
+	 */
+	private Segment openSegment(Path path, int number, boolean writable) throws IOException {
+		StandardOpenOption[] options = writable
+			? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+			: new StandardOpenOption[] { StandardOpenOption.READ };
+
+		try (FileChannel channel = FileChannel.open(path, options)) {
+			ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE).order(ORDER);
+			while (header.hasRemaining() && channel.read(header, header.position()) != -1) {
+				/* read the whole header */
+			}
+
+			if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+				throw new IOException(path + " is not a hiscore snapshot segment.");
+			}
+			if (header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+				throw new IOException(path + " has unsupported version " + header.getInt(4) + ".");
+			}
+
+			int capacity = header.getInt(12);
+			long size = recordOffset(0) + (long) capacity * RECORD_SIZE;
+			if (capacity <= 0 || size > Integer.MAX_VALUE || (!writable && channel.size() < size)) {
+				throw new IOException(path + " is truncated.");
+			}
+
+			MappedByteBuffer mapping = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+			ByteBuffer buffer = mapping.duplicate().order(ORDER);
+
+			int count = 0;
+			while (count < capacity && isValid(buffer, recordOffset(count))) {
+				count++;
+			}
+
+			return new Segment(number, mapping, capacity, count);
+		}
+	}
+
+	/**
+	 * Creates an empty segment of {@link #recordsPerSegment} records.
+	 * @param path The {@link Path} of the segment.
+	 * @param number The number of the segment.
+	 * @return The {@link Segment}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private Segment createSegment(Path path, int number) throws IOException {
+		return createSegment(path, number, recordsPerSegment);
+	}
+
+	/**
+	 * Creates an empty segment.
+	 * @param path The {@link Path} of the segment.
+	 * @param number The number of the segment.
+	 * @param capacity The amount of records the segment can hold.
+	 * @return The {@link Segment}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private Segment createSegment(Path path, int number, int capacity) throws IOException {
+		long size = recordOffset(0) + (long) capacity * RECORD_SIZE;
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Segments of " + capacity + " records exceed the maximum size of " + Integer.MAX_VALUE + " bytes.");
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			mapping.order(ORDER);
+			mapping.putInt(0, MAGIC);
+			mapping.putInt(4, VERSION);
+			mapping.putInt(8, RECORD_SIZE);
+			mapping.putInt(12, capacity);
+			mapping.force();
+			return new Segment(number, mapping, capacity, 0);
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the records of every segment.
+	 */
+	private void reindex() {
+		index.clear();
+
+		for (Segment segment : segments.values()) {
+			ByteBuffer buffer = segment.buffer();
+			for (int i = 0; i < segment.count; i++) {
+				index.computeIfAbsent(readQuery(buffer, recordOffset(i)), query -> new Timeline()).add(location(segment.number, i));
+			}
+		}
+	}
+
+	/**
+	 * Normalizes the name of a {@link PlayerQuery}.
+	 * @param query The {@link PlayerQuery}.
+	 * @return The {@link PlayerQuery} with a normalized name.
+	 */
+	private static PlayerQuery normalize(PlayerQuery query) {
+		Preconditions.checkNotNull(query);
+		return new PlayerQuery(normalize(query.getDisplayName()), query.getTable());
+	}
+
+	/**
+	 * Appends a snapshot of a {@link Player}, timestamped with the current time.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @param player The {@link Player}.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public void append(PlayerQuery query, Player player) throws IOException {
+		append(query, player, Instant.now());
+	}
+
+	/**
+	 * Appends a snapshot of a {@link Player}.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @param player The {@link Player}.
+	 * @param timestamp The time the player was fetched, which is stored to the millisecond.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public synchronized void append(PlayerQuery query, Player player, Instant timestamp) throws IOException {
+		Preconditions.checkState(!closed, "Log is closed.");
+		Preconditions.checkNotNull(player);
+		Preconditions.checkNotNull(timestamp);
+
+		PlayerQuery key = normalize(query);
+		ByteBuffer record = encode(key, timestamp, player);
+
+		if (active.isFull()) {
+			int number = active.number + 1;
+			active = createSegment(segmentPath(number), number);
+			segments.put(number, active);
+		}
+
+		ByteBuffer buffer = active.buffer();
+		buffer.position(recordOffset(active.count));
+		buffer.put(record);
+
+		index.computeIfAbsent(key, k -> new Timeline()).add(location(active.number, active.count));
+		active.count++;
+	}
+
+	/**
+	 * Reads a record.
+	 * @param location The location of the record.
+	 * @return The {@link HiscoreSnapshot}.
+	 */
+	private HiscoreSnapshot read(long location) {
+		Segment segment = segments.get((int) (location >>> Integer.SIZE));
+		return decode(segment.buffer(), recordOffset((int) location));
+	}
+
+	/**
+	 * Gets every snapshot of a player, in the order they were appended.
+	 * @param query The {@link PlayerQuery} of the player.
+	 * @return An {@link ImmutableList} of the {@link HiscoreSnapshot}s.
+	 */
+	public synchronized ImmutableList<HiscoreSnapshot> timeline(PlayerQuery query) {
+		Preconditions.checkState(!closed, "Log is closed.");
+
+		Timeline timeline = index.get(normalize(query));
+		if (timeline == null) {
+			return ImmutableList.of();
+		}
+
+		ImmutableList.Builder<HiscoreSnapshot> builder = ImmutableList.builder();
+		for (int i = 0; i < timeline.size; i++) {
+			builder.add(read(timeline.locations[i]));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Gets the latest snapshot of a player.
+	 * @param query The {@link PlayerQuery} of the player.
+	 * @return An {@link Optional} containing the {@link HiscoreSnapshot}, or {@link Optional#empty()} if the player has no snapshots.
+	 */
+	public synchronized Optional<HiscoreSnapshot> latest(PlayerQuery query) {
+		Preconditions.checkState(!closed, "Log is closed.");
+
+		Timeline timeline = index.get(normalize(query));
+		return timeline == null ? Optional.empty() : Optional.of(read(timeline.locations[timeline.size - 1]));
+	}
+
+	/**
+	 * Gets every player with snapshots in the log.
+	 * @return An {@link ImmutableSet} of the {@link PlayerQuery}s of the players, with their normalized names.
+	 */
+	public synchronized ImmutableSet<PlayerQuery> players() {
+		Preconditions.checkState(!closed, "Log is closed.");
+		return ImmutableSet.copyOf(index.keySet());
+	}
+
+	/**
+	 * Gets the amount of snapshots in the log.
+	 * @return The amount of snapshots.
+	 */
+	public synchronized long size() {
+		Preconditions.checkState(!closed, "Log is closed.");
+		return segments.values().stream().mapToLong(segment -> segment.count).sum();
+	}
+
+	/**
+	 * Gets the amount of segments in the log.
+	 * @return The amount of segments.
+	 */
+	public synchronized int segmentCount() {
+		Preconditions.checkState(!closed, "Log is closed.");
+		return segments.size();
+	}
+
+	/**
+	 * Rewrites every full segment without the snapshots that are identical to the previous snapshot of the same
+	 * player, except for their timestamp. The segment being appended to is left as it is. Each rewritten segment holds
+	 * as many records as the segment it replaces, even if the log was opened with a different amount of records per
+	 * segment, so the compacted records always fit in the segments they replace.
+	 * @return The amount of snapshots removed.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public int compact() throws IOException {
+		synchronized (compactionLock) {
+			List<Segment> inputs;
+			synchronized (this) {
+				Preconditions.checkState(!closed, "Log is closed.");
+				inputs = new ArrayList<>(segments.headMap(active.number).values());
+			}
+
+			if (inputs.isEmpty()) {
+				return 0;
+			}
+
+			List<Segment> outputs = new ArrayList<>();
+			Map<PlayerQuery, ByteBuffer> previous = new HashMap<>();
+			Map<PlayerQuery, Timeline> compacted = new HashMap<>();
+			int removed = 0;
+
+			try {
+				Segment output = null;
+
+				for (Segment input : inputs) {
+					ByteBuffer buffer = input.buffer();
+
+					for (int i = 0; i < input.count; i++) {
+						int offset = recordOffset(i);
+
+						ByteBuffer state = buffer.duplicate();
+						state.limit(offset + CHECKSUM_OFFSET);
+						state.position(offset + SKILLS_OFFSET);
+
+						PlayerQuery query = readQuery(buffer, offset);
+						ByteBuffer last = previous.put(query, state);
+						if (state.equals(last)) {
+							removed++;
+							continue;
+						}
+
+						if (output == null || output.isFull()) {
+							int next = outputs.size();
+							output = createSegment(compactionPath(next), next, inputs.get(next).capacity);
+							outputs.add(output);
+						}
+
+						int number = inputs.get(outputs.size() - 1).number;
+						compacted.computeIfAbsent(query, k -> new Timeline()).add(location(number, output.count));
+
+						ByteBuffer record = buffer.duplicate();
+						record.limit(offset + RECORD_SIZE);
+						record.position(offset);
+
+						ByteBuffer target = output.buffer();
+						target.position(recordOffset(output.count));
+						target.put(record);
+						output.count++;
+					}
+				}
+
+				if (removed == 0) {
+					return 0;
+				}
+
+				for (Segment segment : outputs) {
+					segment.mapping.force();
+				}
+
+				List<String> marker = new ArrayList<>();
+				marker.add(Integer.toString(outputs.size()));
+				inputs.forEach(input -> marker.add(Integer.toString(input.number)));
+
+				Path temporary = directory.resolve(COMPACTION_MARKER + ".tmp");
+				Files.write(temporary, marker, StandardCharsets.US_ASCII);
+				Files.move(temporary, directory.resolve(COMPACTION_MARKER), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				if (!Files.exists(directory.resolve(COMPACTION_MARKER))) {
+					deleteCompactionFiles();
+				}
+			}
+
+			List<Integer> numbers = inputs.stream().map(input -> input.number).collect(Collectors.toList());
+			applyCompaction(outputs.size(), numbers);
+
+			List<Segment> replacements = new ArrayList<>();
+			for (int i = 0; i < outputs.size(); i++) {
+				int number = numbers.get(i);
+				replacements.add(openSegment(segmentPath(number), number, false));
+			}
+
+			synchronized (this) {
+				numbers.forEach(segments::remove);
+				replacements.forEach(segment -> segments.put(segment.number, segment));
+				swapIndex(compacted, numbers.get(numbers.size() - 1));
+			}
+
+			return removed;
+		}
+	}
+
+	/**
+	 * Replaces the index with the {@link Timeline}s of the compacted segments, followed by the locations of the records
+	 * appended to the segments after them. Only the locations in the index are copied; no record is read.
+	 * @param compacted The {@link Timeline}s of the compacted segments.
+	 * @param lastCompacted The number of the last segment that was compacted.
+	 */
+	private void swapIndex(Map<PlayerQuery, Timeline> compacted, int lastCompacted) {
+		for (Map.Entry<PlayerQuery, Timeline> entry : index.entrySet()) {
+			Timeline timeline = entry.getValue();
+
+			int first = 0;
+			while (first < timeline.size && (int) (timeline.locations[first] >>> Integer.SIZE) <= lastCompacted) {
+				first++;
+			}
+
+			if (first < timeline.size) {
+				Timeline merged = compacted.computeIfAbsent(entry.getKey(), k -> new Timeline());
+				for (int i = first; i < timeline.size; i++) {
+					merged.add(timeline.locations[i]);
+				}
+			}
+		}
+
+		index.clear();
+		index.putAll(compacted);
+	}
+
+	/**
+	 * Finishes a compaction that was committed before the log was last closed, and removes the files of any that was
+	 * not.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void recoverCompaction() throws IOException {
+		Path marker = directory.resolve(COMPACTION_MARKER);
+
+		if (Files.exists(marker)) {
+			List<String> lines = Files.readAllLines(marker, StandardCharsets.US_ASCII);
+
+			try {
+				int outputs = Integer.parseInt(lines.get(0));
+				List<Integer> inputs = lines.subList(1, lines.size()).stream().map(Integer::parseInt).collect(Collectors.toList());
+				applyCompaction(outputs, inputs);
+			} catch (IndexOutOfBoundsException | NumberFormatException e) {
+				throw new IOException(marker + " is corrupt.", e);
+			}
+		}
+
+		deleteCompactionFiles();
+	}
+
+	/**
+	 * Replaces the segments compacted by a committed compaction with the segments it wrote. Each step can be repeated,
+	 * so a compaction interrupted by a crash is finished when the log is next opened.
+	 * @param outputs The amount of segments written by the compaction.
+	 * @param inputs The numbers of the segments compacted, in order.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void applyCompaction(int outputs, List<Integer> inputs) throws IOException {
+		for (int i = 0; i < inputs.size(); i++) {
+			Path segment = segmentPath(inputs.get(i));
+
+			if (i < outputs) {
+				Path compacted = compactionPath(i);
+				if (Files.exists(compacted)) {
+					Files.move(compacted, segment, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} else {
+				Files.deleteIfExists(segment);
+			}
+		}
+
+		Files.delete(directory.resolve(COMPACTION_MARKER));
+	}
+
+	/**
+	 * Deletes the files written by a compaction that was not committed.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void deleteCompactionFiles() throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, COMPACTION_PREFIX + "*")) {
+			for (Path file : files) {
+				Files.delete(file);
+			}
+		}
+		Files.deleteIfExists(directory.resolve(COMPACTION_MARKER + ".tmp"));
+	}
+
+	/**
+	 * Forces every snapshot appended so far to be written to the storage device.
+	 */
+	public synchronized void flush() {
+		Preconditions.checkState(!closed, "Log is closed.");
+		active.mapping.force();
+	}
+
+	/**
+	 * Forces every snapshot to be written to the storage device and closes the log.
+	 */
+	@Override
+	public synchronized void close() {
+		if (!closed) {
+			active.mapping.force();
+			closed = true;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("directory", directory)
+			.add("segments", segments.size())
+			.toString();
+	}
+}
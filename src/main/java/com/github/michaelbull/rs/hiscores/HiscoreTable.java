@@ -5,6 +5,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 /**
  * Represents a type of hiscore table found on the RuneScape {@link Hiscores}.
@@ -14,37 +15,37 @@ public enum HiscoreTable {
 	/**
 	 * The default RuneScape {@link Hiscores}.
 	 */
-	DEFAULT("hiscore", Hiscores.SKILL_NAMES, Hiscores.ACTIVITY_NAMES),
+	DEFAULT("hiscore", Hiscores.SKILL_NAMES, Hiscores.ACTIVITY_NAMES, RuneScapeSkill.values(), RuneScapeActivity.values()),
 
 	/**
 	 * The {@link Hiscores} for ironman players.
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Ironman_Lite">Ironman Lite</a>
 	 */
-	IRONMAN("hiscore_ironman", Hiscores.SKILL_NAMES, Hiscores.ACTIVITY_NAMES),
+	IRONMAN("hiscore_ironman", Hiscores.SKILL_NAMES, Hiscores.ACTIVITY_NAMES, RuneScapeSkill.values(), RuneScapeActivity.values()),
 
 	/**
 	 * The {@link Hiscores} for hardcore ironman players.
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Hardcore_Ironman_Lite">Hardcore Ironman Lite</a>
 	 */
-	HARDCORE_IRONMAN("hiscore_hardcore_ironman", Hiscores.SKILL_NAMES, Hiscores.ACTIVITY_NAMES),
+	HARDCORE_IRONMAN("hiscore_hardcore_ironman", Hiscores.SKILL_NAMES, Hiscores.ACTIVITY_NAMES, RuneScapeSkill.values(), RuneScapeActivity.values()),
 
 	/**
 	 * The oldschool RuneScape {@link Hiscores}.
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Old_School_Hiscores">Old School Hiscores</a>
 	 */
-	OLDSCHOOL("hiscore_oldschool", Hiscores.OLDSCHOOL_SKILL_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES),
+	OLDSCHOOL("hiscore_oldschool", Hiscores.OLDSCHOOL_SKILL_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES, OldSchoolSkill.values(), OldSchoolActivity.values()),
 
 	/**
 	 * The {@link Hiscores} for oldschool RuneScape ironman players.
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Ironman_Lite_2">Old School Ironman Hiscores</a>
 	 */
-	OLDSCHOOL_IRONMAN("hiscore_oldschool_ironman", Hiscores.OLDSCHOOL_SKILL_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES),
+	OLDSCHOOL_IRONMAN("hiscore_oldschool_ironman", Hiscores.OLDSCHOOL_SKILL_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES, OldSchoolSkill.values(), OldSchoolActivity.values()),
 
 	/**
 	 * The {@link Hiscores} for oldschool RuneScape ultimate ironman players.
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Ultimate_Ironman_Lite">Old School Ultimate Ironman Hiscores</a>
 	 */
-	OLDSCHOOL_ULTIMATE_IRONMAN("hiscore_oldschool_ultimate", Hiscores.OLDSCHOOL_SKILL_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES);
+	OLDSCHOOL_ULTIMATE_IRONMAN("hiscore_oldschool_ultimate", Hiscores.OLDSCHOOL_SKILL_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES, OldSchoolSkill.values(), OldSchoolActivity.values());
 
 	/**
 	 * Gets a {@link HiscoreTable} from its {@link #name}.
@@ -60,6 +61,42 @@ public enum HiscoreTable {
 		return Optional.empty();
 	}
 
+	/**
+	 * Finds the index of a {@link SkillType} in a list of skill names. Names read from the {@link HiscoreTable} the
+	 * type belongs to are indexed by the type's ordinal, so only one name is compared in the common case.
+	 * @param skillNames The skill names.
+	 * @param type The {@link SkillType}.
+	 * @return The index of the skill, or -1 if the names do not include it.
+	 */
+	static int indexOf(ImmutableList<String> skillNames, SkillType type) {
+		return indexOf(skillNames, type.ordinal(), type.getName());
+	}
+
+	/**
+	 * Finds the index of an {@link ActivityType} in a list of activity names. Names read from the {@link HiscoreTable}
+	 * the type belongs to are indexed by the type's ordinal, so only one name is compared in the common case.
+	 * @param activityNames The activity names.
+	 * @param type The {@link ActivityType}.
+	 * @return The index of the activity, or -1 if the names do not include it.
+	 */
+	static int indexOf(ImmutableList<String> activityNames, ActivityType type) {
+		return indexOf(activityNames, type.ordinal(), type.getName());
+	}
+
+	/**
+	 * Finds the index of a name in a list of names, checking the expected index first.
+	 * @param names The names.
+	 * @param expected The index the name is expected at.
+	 * @param name The name.
+	 * @return The index of the name, or -1 if the names do not include it.
+	 */
+	private static int indexOf(ImmutableList<String> names, int expected, String name) {
+		if (expected < names.size() && name.equals(names.get(expected))) {
+			return expected;
+		}
+		return names.indexOf(name);
+	}
+
 	/**
 	 * The name of this hiscore table.
 	 */
@@ -75,16 +112,44 @@ public enum HiscoreTable {
 	 */
 	private final ImmutableList<String> activityNames;
 
+	/**
+	 * The types of skills found on this hiscore board, in the order of {@link #skillNames}.
+	 */
+	private final ImmutableList<SkillType> skillTypes;
+
+	/**
+	 * The types of activities found on this hiscore board, in the order of {@link #activityNames}.
+	 */
+	private final ImmutableList<ActivityType> activityTypes;
+
+	/**
+	 * The index of each skill in {@link #skillNames}, returned by {@link #skillIndicesIn(Player)} for players whose
+	 * skills are in the same order.
+	 */
+	private final int[] skillIndices;
+
+	/**
+	 * The index of each activity in {@link #activityNames}, returned by {@link #activityIndicesIn(Player)} for players
+	 * whose activities are in the same order.
+	 */
+	private final int[] activityIndices;
+
 	/**
 	 * Creates a new {@link HiscoreTable}.
 	 * @param name The name.
 	 * @param skillNames The skill names.
 	 * @param activityNames The activity names.
+	 * @param skillTypes The skill types.
+	 * @param activityTypes The activity types.
 	 */
-	HiscoreTable(String name, ImmutableList<String> skillNames, ImmutableList<String> activityNames) {
+	HiscoreTable(String name, ImmutableList<String> skillNames, ImmutableList<String> activityNames, SkillType[] skillTypes, ActivityType[] activityTypes) {
 		this.name = Preconditions.checkNotNull(name);
 		this.skillNames = Preconditions.checkNotNull(skillNames);
 		this.activityNames = Preconditions.checkNotNull(activityNames);
+		this.skillTypes = ImmutableList.copyOf(skillTypes);
+		this.activityTypes = ImmutableList.copyOf(activityTypes);
+		this.skillIndices = IntStream.range(0, skillNames.size()).toArray();
+		this.activityIndices = IntStream.range(0, activityNames.size()).toArray();
 	}
 
 	/**
@@ -111,6 +176,62 @@ public enum HiscoreTable {
 		return activityNames;
 	}
 
+	/**
+	 * Gets the types of skills found on this hiscore table, in the order of {@link #getSkillNames()}.
+	 * @return The types of skills found on this hiscore table.
+	 */
+	public ImmutableList<SkillType> getSkillTypes() {
+		return skillTypes;
+	}
+
+	/**
+	 * Gets the types of activities found on this hiscore table, in the order of {@link #getActivityNames()}.
+	 * @return The types of activities found on this hiscore table.
+	 */
+	public ImmutableList<ActivityType> getActivityTypes() {
+		return activityTypes;
+	}
+
+	/**
+	 * Maps each skill of this table to its index in a {@link Player}'s {@link Player#getSkillNames() skill names}.
+	 * @param player The {@link Player}.
+	 * @return The index of each skill in the player's skill names, or -1 for skills the player's names do not include.
+	 * The array is shared and must not be modified.
+	 */
+	int[] skillIndicesIn(Player player) {
+		return indicesIn(player.getSkillNames(), skillNames, skillIndices);
+	}
+
+	/**
+	 * Maps each activity of this table to its index in a {@link Player}'s
+	 * {@link Player#getActivityNames() activity names}.
+	 * @param player The {@link Player}.
+	 * @return The index of each activity in the player's activity names, or -1 for activities the player's names do
+	 * not include. The array is shared and must not be modified.
+	 */
+	int[] activityIndicesIn(Player player) {
+		return indicesIn(player.getActivityNames(), activityNames, activityIndices);
+	}
+
+	/**
+	 * Maps each of this table's names to its index in another list of names.
+	 * @param names The other list of names.
+	 * @param tableNames This table's names.
+	 * @param identity The index of each of this table's names in itself.
+	 * @return The index of each of this table's names in the other list, or -1 for names it does not include.
+	 */
+	private static int[] indicesIn(ImmutableList<String> names, ImmutableList<String> tableNames, int[] identity) {
+		if (names.equals(tableNames)) {
+			return identity;
+		}
+
+		int[] indices = new int[tableNames.size()];
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = names.indexOf(tableNames.get(i));
+		}
+		return indices;
+	}
+
 	@Override
 	public String toString() {
 		return MoreObjects.toStringHelper(this)
@@ -1,15 +1,25 @@
 package com.github.michaelbull.rs.hiscores;
 
+import com.github.michaelbull.rs.BatchLookup;
+import com.github.michaelbull.rs.BatchResult;
 import com.github.michaelbull.rs.Client;
 import com.github.michaelbull.rs.HttpClient;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
@@ -142,44 +152,101 @@ public final class Hiscores {
 	private static final Pattern NAME_SPACER = Pattern.compile(" ");
 
 	/**
-	 * Reads the {@link HiscoreActivity}s from an {@link ImmutableList} of {@link CSVRecord}s.
+	 * The rate at which the bulk methods start requests unless a {@link BatchLookup} is given, in requests per second.
+	 */
+	public static final double DEFAULT_REQUESTS_PER_SECOND = 10;
+
+	/**
+	 * The {@link BatchLookup} used by the bulk methods unless one is given. Its {@link RateLimiter} is shared by every
+	 * {@link Hiscores}, as they all request the same host.
+	 */
+	static final BatchLookup DEFAULT_BATCH_LOOKUP = BatchLookup.builder()
+		.rateLimiter(RateLimiter.create(DEFAULT_REQUESTS_PER_SECOND))
+		.build();
+
+	/**
+	 * Gets the URL to fetch a {@link Player} from.
+	 * @param displayName The player's display name.
+	 * @param table The table of {@link Hiscores}.
+	 * @return The URL.
+	 */
+	static String playerInformationUrl(String displayName, HiscoreTable table) {
+		Preconditions.checkNotNull(displayName);
+		Preconditions.checkNotNull(table);
+
+		String escapedName = NAME_SPACER.matcher(displayName).replaceAll("+");
+		return String.format(PLAYER_INFORMATION_URL_FORMAT, table.getName(), escapedName);
+	}
+
+	/**
+	 * Gets the URL to fetch a list of {@link ClanMate}s from.
+	 * @param clanName The clan's name.
+	 * @return The URL.
+	 */
+	static String clanInformationUrl(String clanName) {
+		Preconditions.checkNotNull(clanName);
+
+		String escapedName = NAME_SPACER.matcher(clanName).replaceAll("+");
+		return String.format(CLAN_INFORMATION_URL_FORMAT, escapedName);
+	}
+
+	/**
+	 * Reads the {@link ClanMate}s from an {@link ImmutableList} of {@link CSVRecord}s, skipping the header record.
 	 * @param records The {@link CSVRecord}s.
-	 * @param skills The skill names.
-	 * @param activities The activity names.
-	 * @return An {@link ImmutableMap} of {@link HiscoreActivity} names to {@link HiscoreActivity}s.
-	 */
-	private static ImmutableMap<String, HiscoreActivity> readActivities(ImmutableList<CSVRecord> records, Collection<String> skills, ImmutableList<String> activities) {
-		ImmutableMap.Builder<String, HiscoreActivity> builder = ImmutableMap.builder();
-
-		if (records.size() >= (skills.size() + activities.size())) {
-			for (int i = 0; i < activities.size(); i++) {
-				CSVRecord record = records.get(skills.size() + i);
-				String activityName = activities.get(i);
-				HiscoreActivity.fromCsv(record).ifPresent(activity -> builder.put(activityName, activity));
-			}
+	 * @return An {@link ImmutableList} of {@link ClanMate}s.
+	 */
+	static ImmutableList<ClanMate> readClanMates(ImmutableList<CSVRecord> records) {
+		ImmutableList.Builder<ClanMate> builder = ImmutableList.builder();
+		for (int i = 1; i < records.size(); i++) {
+			CSVRecord record = records.get(i);
+			ClanMate.fromCsv(record).ifPresent(builder::add);
 		}
 
 		return builder.build();
 	}
 
 	/**
-	 * Reads the {@link Skill}s from an {@link ImmutableList} of {@link CSVRecord}s.
-	 * @param records The {@link CSVRecord}s.
-	 * @param skills The skill names.
-	 * @return An {@link ImmutableMap} of {@link Skill} names to {@link Skill}s.
+	 * Reads the {@link ClanMate}s from the {@code members_lite.ws} response one record at a time, skipping the header
+	 * record.
+	 * @param in The {@link InputStream} of the response.
+	 * @param charset The {@link Charset} the response is encoded in.
+	 * @param consumer The {@link Consumer} each {@link ClanMate} is given to as it is read.
+	 * @return The amount of {@link ClanMate}s read.
+	 * @throws IOException If an I/O error occurs.
 	 */
-	private static ImmutableMap<String, Skill> readSkills(ImmutableList<CSVRecord> records, ImmutableList<String> skills) {
-		ImmutableMap.Builder<String, Skill> builder = ImmutableMap.builder();
+	static int readClanMates(InputStream in, Charset charset, Consumer<? super ClanMate> consumer) throws IOException {
+		Reader reader = new InputStreamReader(in, charset);
+		Iterator<CSVRecord> records = new CSVParser(reader, Client.CSV_FORMAT).iterator();
+
+		nextRecord(records);
 
-		if (records.size() >= skills.size()) {
-			for (int i = 0; i < skills.size(); i++) {
-				CSVRecord record = records.get(i);
-				String skillName = skills.get(i);
-				Skill.fromCsv(record).ifPresent(skill -> builder.put(skillName, skill));
+		int count = 0;
+		CSVRecord record;
+		while ((record = nextRecord(records)) != null) {
+			Optional<ClanMate> clanMate = ClanMate.fromCsv(record);
+			if (clanMate.isPresent()) {
+				consumer.accept(clanMate.get());
+				count++;
 			}
 		}
 
-		return builder.build();
+		return count;
+	}
+
+	/**
+	 * Reads the next {@link CSVRecord} from a {@link CSVParser}'s {@link Iterator}, which wraps any {@link IOException}
+	 * in an {@link IllegalStateException}.
+	 * @param records The {@link Iterator} of {@link CSVRecord}s.
+	 * @return The next {@link CSVRecord}, or {@code null} if there are no more.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static CSVRecord nextRecord(Iterator<CSVRecord> records) throws IOException {
+		try {
+			return records.hasNext() ? records.next() : null;
+		} catch (IllegalStateException e) {
+			Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+			throw e;
+		}
 	}
 
 	/**
@@ -206,23 +273,49 @@ public final class Hiscores {
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Hardcore_Ironman_Lite">Hardcore Ironman Hiscores Lite</a>
 	 */
 	public Optional<Player> playerInformation(String displayName, HiscoreTable table) throws IOException {
-		Preconditions.checkNotNull(displayName);
-		Preconditions.checkNotNull(table);
+		String url = playerInformationUrl(displayName, table);
+		return client.fromStream(url, (in, charset) -> HiscoreParser.read(in, table));
+	}
 
-		String escapedName = NAME_SPACER.matcher(displayName).replaceAll("+");
-		String url = String.format(PLAYER_INFORMATION_URL_FORMAT, table.getName(), escapedName);
-		ImmutableList<CSVRecord> records = client.fromCSV(url);
-
-		ImmutableList<String> skillNames = table.getSkillNames();
-		ImmutableList<String> activityNames = table.getActivityNames();
-
-		if (records.size() >= (skillNames.size() + activityNames.size())) {
-			ImmutableMap<String, Skill> skills = readSkills(records, skillNames);
-			ImmutableMap<String, HiscoreActivity> activities = readActivities(records, skillNames, activityNames);
-			return Optional.of(new Player(skills, activities));
-		} else {
-			return Optional.empty();
-		}
+	/**
+	 * Gets the {@link Player}s of many {@link PlayerQuery}s in parallel, with at most
+	 * {@link BatchLookup#DEFAULT_CONCURRENCY} requests in flight and at most {@link #DEFAULT_REQUESTS_PER_SECOND}
+	 * requests started each second.
+	 * @param queries The {@link PlayerQuery}s.
+	 * @return A {@link BatchResult} of the {@link PlayerQuery}s to their {@link Player}s, in which players that are not on
+	 * their table are missing and requests that failed are failures.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<PlayerQuery, Player> playerInformation(Collection<PlayerQuery> queries) throws IOException {
+		return playerInformation(queries, DEFAULT_BATCH_LOOKUP);
+	}
+
+	/**
+	 * Gets the {@link Player}s of many {@link PlayerQuery}s in parallel. The requests are only rate limited if the
+	 * {@link BatchLookup} has a {@link RateLimiter}.
+	 * @param queries The {@link PlayerQuery}s.
+	 * @param batch The {@link BatchLookup} to make the requests with.
+	 * @return A {@link BatchResult} of the {@link PlayerQuery}s to their {@link Player}s, in which players that are not on
+	 * their table are missing and requests that failed are failures.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<PlayerQuery, Player> playerInformation(Collection<PlayerQuery> queries, BatchLookup batch) throws IOException {
+		return playerInformation(queries, batch, new BatchLookup.Listener<PlayerQuery, Player>() { });
+	}
+
+	/**
+	 * Gets the {@link Player}s of many {@link PlayerQuery}s in parallel, passing each {@link Player} to a
+	 * {@link BatchLookup.Listener} as its request completes. The requests are only rate limited if the
+	 * {@link BatchLookup} has a {@link RateLimiter}.
+	 * @param queries The {@link PlayerQuery}s.
+	 * @param batch The {@link BatchLookup} to make the requests with.
+	 * @param listener The {@link BatchLookup.Listener}.
+	 * @return A {@link BatchResult} of the {@link PlayerQuery}s to their {@link Player}s, in which players that are not on
+	 * their table are missing and requests that failed are failures.
+	 * @throws IOException If the thread is interrupted.
+	 */
+	public BatchResult<PlayerQuery, Player> playerInformation(Collection<PlayerQuery> queries, BatchLookup batch, BatchLookup.Listener<? super PlayerQuery, ? super Player> listener) throws IOException {
+		return batch.lookup(queries, query -> playerInformation(query.getDisplayName(), query.getTable()), listener);
 	}
 
 	/**
@@ -233,18 +326,23 @@ public final class Hiscores {
 	 * @see <a href="https://runescape.wiki/w/Application_programming_interface#Clan_Members_Lite">Clan Members Lite</a>
 	 */
 	public ImmutableList<ClanMate> clanInformation(String clanName) throws IOException {
-		Preconditions.checkNotNull(clanName);
-
-		String escapedName = NAME_SPACER.matcher(clanName).replaceAll("+");
-		String url = String.format(CLAN_INFORMATION_URL_FORMAT, escapedName);
-		ImmutableList<CSVRecord> records = client.fromCSV(url);
-
-		ImmutableList.Builder<ClanMate> builder = ImmutableList.builder();
-		for (int i = 1; i < records.size(); i++) {
-			CSVRecord record = records.get(i);
-			ClanMate.fromCsv(record).ifPresent(builder::add);
-		}
+		String url = clanInformationUrl(clanName);
+		return readClanMates(client.fromCSV(url));
+	}
 
-		return builder.build();
+	/**
+	 * Reads the {@link ClanMate}s within a clan, based on the clan's name, giving each to a {@link Consumer} as it is
+	 * parsed from the response rather than collecting them, so that the memory used does not grow with the size of the
+	 * clan.
+	 * @param clanName The clan's name.
+	 * @param consumer The {@link Consumer} each {@link ClanMate} is given to, while the response is still being read.
+	 * @return The amount of {@link ClanMate}s in the clan.
+	 * @throws IOException If an I/O error occurs.
+	 * @see #clanInformation(String)
+	 */
+	public int clanInformation(String clanName, Consumer<? super ClanMate> consumer) throws IOException {
+		Preconditions.checkNotNull(consumer);
+		String url = clanInformationUrl(clanName);
+		return client.fromStream(url, (in, charset) -> readClanMates(in, charset, consumer));
 	}
 }
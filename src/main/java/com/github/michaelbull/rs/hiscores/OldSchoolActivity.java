@@ -0,0 +1,69 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+
+/**
+ * Represents the activity types ranked on the oldschool RuneScape {@link Hiscores}, in the order of {@link Hiscores#OLDSCHOOL_ACTIVITY_NAMES}.
+ * @see HiscoreTable#OLDSCHOOL
+ */
+public enum OldSchoolActivity implements ActivityType {
+
+	/**
+	 * The Clues activity.
+	 */
+	CLUES("Clues"),
+
+	/**
+	 * The Bounty Hunter activity.
+	 */
+	BOUNTY_HUNTER("Bounty Hunter"),
+
+	/**
+	 * The B.H. Rogues activity.
+	 */
+	BOUNTY_HUNTER_ROGUES("B.H. Rogues");
+
+	/**
+	 * An {@link ImmutableMap} of names to their corresponding {@link OldSchoolActivity}.
+	 */
+	private static final ImmutableMap<String, OldSchoolActivity> BY_NAME;
+
+	static {
+		ImmutableMap.Builder<String, OldSchoolActivity> builder = ImmutableMap.builder();
+		for (OldSchoolActivity value : values()) {
+			builder.put(value.name, value);
+		}
+		BY_NAME = builder.build();
+	}
+
+	/**
+	 * Gets a {@link OldSchoolActivity} from its {@link #getName() name}.
+	 * @param name The name of the activity.
+	 * @return The {@link OldSchoolActivity} or {@link Optional#empty()} if no activity was found.
+	 */
+	public static Optional<OldSchoolActivity> from(String name) {
+		Preconditions.checkNotNull(name);
+		return Optional.ofNullable(BY_NAME.get(name));
+	}
+
+	/**
+	 * The name of this activity as it appears on the {@link Hiscores}.
+	 */
+	private final String name;
+
+	/**
+	 * Creates a new {@link OldSchoolActivity}.
+	 * @param name The name of this activity as it appears on the {@link Hiscores}.
+	 */
+	OldSchoolActivity(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+}
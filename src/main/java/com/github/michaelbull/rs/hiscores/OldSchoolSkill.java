@@ -0,0 +1,174 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+
+/**
+ * Represents the skill types ranked on the oldschool RuneScape {@link Hiscores}, in the order of {@link Hiscores#OLDSCHOOL_SKILL_NAMES}.
+ * @see HiscoreTable#OLDSCHOOL
+ */
+public enum OldSchoolSkill implements SkillType {
+
+	/**
+	 * The Overall skill.
+	 */
+	OVERALL("Overall"),
+
+	/**
+	 * The Attack skill.
+	 */
+	ATTACK("Attack"),
+
+	/**
+	 * The Defence skill.
+	 */
+	DEFENCE("Defence"),
+
+	/**
+	 * The Strength skill.
+	 */
+	STRENGTH("Strength"),
+
+	/**
+	 * The Constitution skill.
+	 */
+	CONSTITUTION("Constitution"),
+
+	/**
+	 * The Ranged skill.
+	 */
+	RANGED("Ranged"),
+
+	/**
+	 * The Prayer skill.
+	 */
+	PRAYER("Prayer"),
+
+	/**
+	 * The Magic skill.
+	 */
+	MAGIC("Magic"),
+
+	/**
+	 * The Cooking skill.
+	 */
+	COOKING("Cooking"),
+
+	/**
+	 * The Woodcutting skill.
+	 */
+	WOODCUTTING("Woodcutting"),
+
+	/**
+	 * The Fletching skill.
+	 */
+	FLETCHING("Fletching"),
+
+	/**
+	 * The Fishing skill.
+	 */
+	FISHING("Fishing"),
+
+	/**
+	 * The Firemaking skill.
+	 */
+	FIREMAKING("Firemaking"),
+
+	/**
+	 * The Crafting skill.
+	 */
+	CRAFTING("Crafting"),
+
+	/**
+	 * The Smithing skill.
+	 */
+	SMITHING("Smithing"),
+
+	/**
+	 * The Mining skill.
+	 */
+	MINING("Mining"),
+
+	/**
+	 * The Herblore skill.
+	 */
+	HERBLORE("Herblore"),
+
+	/**
+	 * The Agility skill.
+	 */
+	AGILITY("Agility"),
+
+	/**
+	 * The Thieving skill.
+	 */
+	THIEVING("Thieving"),
+
+	/**
+	 * The Slayer skill.
+	 */
+	SLAYER("Slayer"),
+
+	/**
+	 * The Farming skill.
+	 */
+	FARMING("Farming"),
+
+	/**
+	 * The Runecrafting skill.
+	 */
+	RUNECRAFTING("Runecrafting"),
+
+	/**
+	 * The Hunter skill.
+	 */
+	HUNTER("Hunter"),
+
+	/**
+	 * The Construction skill.
+	 */
+	CONSTRUCTION("Construction");
+
+	/**
+	 * An {@link ImmutableMap} of names to their corresponding {@link OldSchoolSkill}.
+	 */
+	private static final ImmutableMap<String, OldSchoolSkill> BY_NAME;
+
+	static {
+		ImmutableMap.Builder<String, OldSchoolSkill> builder = ImmutableMap.builder();
+		for (OldSchoolSkill value : values()) {
+			builder.put(value.name, value);
+		}
+		BY_NAME = builder.build();
+	}
+
+	/**
+	 * Gets a {@link OldSchoolSkill} from its {@link #getName() name}.
+	 * @param name The name of the skill.
+	 * @return The {@link OldSchoolSkill} or {@link Optional#empty()} if no skill was found.
+	 */
+	public static Optional<OldSchoolSkill> from(String name) {
+		Preconditions.checkNotNull(name);
+		return Optional.ofNullable(BY_NAME.get(name));
+	}
+
+	/**
+	 * The name of this skill as it appears on the {@link Hiscores}.
+	 */
+	private final String name;
+
+	/**
+	 * Creates a new {@link OldSchoolSkill}.
+	 * @param name The name of this skill as it appears on the {@link Hiscores}.
+	 */
+	OldSchoolSkill(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+}
@@ -2,12 +2,21 @@ package com.github.michaelbull.rs.hiscores;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Represents a player ranked on the RuneScape {@link Hiscores}.
+ * <p>
+ * The rankings are stored in primitive arrays indexed by the position of each skill and activity in the name lists
+ * of a {@link HiscoreTable}, which are shared between players. Rankings the player has no entry for are stored with a
+ * rank of {@link #ABSENT}. The map-style accessors create their maps the first time they are called and return the
+ * same map from then on.
  */
 public final class Player {
 
@@ -39,14 +48,73 @@ public final class Player {
 	}
 
 	/**
-	 * An {@link ImmutableMap} of {@link Skill} names to the player's {@link Skill} rankings.
+	 * The rank stored for a skill or activity the player has no entry for. Valid ranks are either -1 (unranked) or
+	 * positive.
 	 */
-	private final ImmutableMap<String, Skill> skills;
+	static final int ABSENT = 0;
 
 	/**
-	 * An {@link ImmutableMap} of {@link HiscoreActivity} names to the player's {@link HiscoreActivity} rankings.
+	 * Finds the list of names that a set of keys can be indexed by, preferring the shared name lists of the
+	 * {@link HiscoreTable}s.
+	 * @param keys The keys.
+	 * @param candidates The shared name lists.
+	 * @return A list of names containing every key.
 	 */
-	private final ImmutableMap<String, HiscoreActivity> activities;
+	private static ImmutableList<String> namesFor(ImmutableList<String> keys, ImmutableList<ImmutableList<String>> candidates) {
+		for (ImmutableList<String> candidate : candidates) {
+			if (candidate.containsAll(keys)) {
+				return candidate;
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * The names of the skills, indexing the skill arrays.
+	 */
+	private final ImmutableList<String> skillNames;
+
+	/**
+	 * The rank the player has for each skill.
+	 */
+	private final int[] skillRanks;
+
+	/**
+	 * The level the player has in each skill.
+	 */
+	private final int[] skillLevels;
+
+	/**
+	 * The amount of experience the player has earned in each skill.
+	 */
+	private final long[] skillExperience;
+
+	/**
+	 * The names of the activities, indexing the activity arrays.
+	 */
+	private final ImmutableList<String> activityNames;
+
+	/**
+	 * The rank the player has in each activity.
+	 */
+	private final int[] activityRanks;
+
+	/**
+	 * The score the player has in each activity.
+	 */
+	private final int[] activityScores;
+
+	/**
+	 * The {@link ImmutableMap} returned by {@link #getSkills()}, or {@code null} until it is first called. It may be
+	 * created more than once by racing threads, each creating an equal map.
+	 */
+	private ImmutableMap<String, Skill> skills;
+
+	/**
+	 * The {@link ImmutableMap} returned by {@link #getActivities()}, or {@code null} until it is first called. It may
+	 * be created more than once by racing threads, each creating an equal map.
+	 */
+	private ImmutableMap<String, HiscoreActivity> activities;
 
 	/**
 	 * Creates a new {@link Player}.
@@ -54,23 +122,392 @@ public final class Player {
 	 * @param activities The player's activity rankings.
 	 */
 	public Player(ImmutableMap<String, Skill> skills, ImmutableMap<String, HiscoreActivity> activities) {
-		this.skills = Preconditions.checkNotNull(skills);
-		this.activities = Preconditions.checkNotNull(activities);
+		Preconditions.checkNotNull(skills);
+		Preconditions.checkNotNull(activities);
+
+		skillNames = namesFor(skills.keySet().asList(), ImmutableList.of(Hiscores.SKILL_NAMES, Hiscores.OLDSCHOOL_SKILL_NAMES));
+		skillRanks = new int[skillNames.size()];
+		skillLevels = new int[skillNames.size()];
+		skillExperience = new long[skillNames.size()];
+
+		for (Map.Entry<String, Skill> entry : skills.entrySet()) {
+			Skill skill = entry.getValue();
+			int rank = skill.getRank().orElse(-1);
+			long experience = skill.getExperience().orElse(-1);
+			Skill.checkArguments(rank, skill.getLevel(), experience);
+
+			int index = skillNames.indexOf(entry.getKey());
+			skillRanks[index] = rank;
+			skillLevels[index] = skill.getLevel();
+			skillExperience[index] = experience;
+		}
+
+		activityNames = namesFor(activities.keySet().asList(), ImmutableList.of(Hiscores.ACTIVITY_NAMES, Hiscores.OLDSCHOOL_ACTIVITY_NAMES));
+		activityRanks = new int[activityNames.size()];
+		activityScores = new int[activityNames.size()];
+
+		for (Map.Entry<String, HiscoreActivity> entry : activities.entrySet()) {
+			HiscoreActivity activity = entry.getValue();
+			int rank = activity.getRank().orElse(-1);
+			int score = activity.getScore().orElse(-1);
+			HiscoreActivity.checkArguments(rank, score);
+
+			int index = activityNames.indexOf(entry.getKey());
+			activityRanks[index] = rank;
+			activityScores[index] = score;
+		}
+	}
+
+	/**
+	 * Creates a new {@link Player} that takes ownership of the given arrays. Entries with a rank of {@link #ABSENT}
+	 * must have all of their other values set to zero.
+	 * @param skillNames The names of the skills, indexing the skill arrays.
+	 * @param skillRanks The rank the player has for each skill.
+	 * @param skillLevels The level the player has in each skill.
+	 * @param skillExperience The amount of experience the player has earned in each skill.
+	 * @param activityNames The names of the activities, indexing the activity arrays.
+	 * @param activityRanks The rank the player has in each activity.
+	 * @param activityScores The score the player has in each activity.
+	 */
+	Player(ImmutableList<String> skillNames, int[] skillRanks, int[] skillLevels, long[] skillExperience, ImmutableList<String> activityNames, int[] activityRanks, int[] activityScores) {
+		this.skillNames = skillNames;
+		this.skillRanks = skillRanks;
+		this.skillLevels = skillLevels;
+		this.skillExperience = skillExperience;
+		this.activityNames = activityNames;
+		this.activityRanks = activityRanks;
+		this.activityScores = activityScores;
 	}
 
 	/**
-	 * Gets an {@link ImmutableMap} of {@link Skill} names to the player's {@link Skill} rankings.
+	 * Gets the names of the skills, in the order of their indices.
+	 * @return The names of the skills.
+	 */
+	public ImmutableList<String> getSkillNames() {
+		return skillNames;
+	}
+
+	/**
+	 * Gets whether the player has a {@link Skill} ranking at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return {@code true} if the player has a ranking for the skill, otherwise {@code false}.
+	 */
+	public boolean hasSkill(int index) {
+		return skillRanks[Preconditions.checkElementIndex(index, skillRanks.length)] != ABSENT;
+	}
+
+	/**
+	 * Gets the rank the player has for the skill at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return The player's rank, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	public int getSkillRank(int index) {
+		Preconditions.checkState(hasSkill(index), "No skill ranking at index %s.", index);
+		return skillRanks[index];
+	}
+
+	/**
+	 * Gets the level the player has in the skill at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return The player's level.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	public int getSkillLevel(int index) {
+		Preconditions.checkState(hasSkill(index), "No skill ranking at index %s.", index);
+		return skillLevels[index];
+	}
+
+	/**
+	 * Gets the amount of experience the player has earned in the skill at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return The player's experience, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	public long getSkillExperience(int index) {
+		Preconditions.checkState(hasSkill(index), "No skill ranking at index %s.", index);
+		return skillExperience[index];
+	}
+
+	/**
+	 * Gets the {@link Skill} ranking at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return An {@link Optional} containing the {@link Skill}, or {@link Optional#empty()} if the player has no ranking for the skill.
+	 */
+	public Optional<Skill> getSkill(int index) {
+		return hasSkill(index) ? Optional.of(new Skill(skillRanks[index], skillLevels[index], skillExperience[index])) : Optional.empty();
+	}
+
+	/**
+	 * Gets the {@link Skill} ranking by its name.
+	 * @param name The name of the skill.
+	 * @return An {@link Optional} containing the {@link Skill}, or {@link Optional#empty()} if the player has no ranking for the skill.
+	 */
+	public Optional<Skill> getSkill(String name) {
+		int index = skillNames.indexOf(Preconditions.checkNotNull(name));
+		return index == -1 ? Optional.empty() : getSkill(index);
+	}
+
+	/**
+	 * Gets an {@link ImmutableMap} of {@link Skill} names to the player's {@link Skill} rankings. The map is created
+	 * on the first call.
 	 * @return An {@link ImmutableMap} of {@link Skill} names to the player's {@link Skill} rankings.
 	 */
 	public ImmutableMap<String, Skill> getSkills() {
+		ImmutableMap<String, Skill> skills = this.skills;
+		if (skills == null) {
+			ImmutableMap.Builder<String, Skill> builder = ImmutableMap.builder();
+			for (int i = 0; i < skillRanks.length; i++) {
+				if (skillRanks[i] != ABSENT) {
+					builder.put(skillNames.get(i), new Skill(skillRanks[i], skillLevels[i], skillExperience[i]));
+				}
+			}
+			this.skills = skills = builder.build();
+		}
+		return skills;
+	}
+
+	/**
+	 * Finds the index of a {@link SkillType} in {@link #getSkillNames()}.
+	 * @param type The {@link SkillType}.
+	 * @return The index of the skill, or -1 if the player's skills do not include it.
+	 */
+	private int indexOf(SkillType type) {
+		return HiscoreTable.indexOf(skillNames, type);
+	}
+
+	/**
+	 * Finds the index of a {@link SkillType} in {@link #getSkillNames()}, which the player must have a ranking for.
+	 * @param type The {@link SkillType}.
+	 * @return The index of the skill.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	private int rankedIndexOf(SkillType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		Preconditions.checkState(index != -1 && skillRanks[index] != ABSENT, "No skill ranking for %s.", type);
+		return index;
+	}
+
+	/**
+	 * Gets whether the player has a {@link Skill} ranking for a {@link SkillType}.
+	 * @param type The {@link SkillType}.
+	 * @return {@code true} if the player has a ranking for the skill, otherwise {@code false}.
+	 */
+	public boolean hasSkill(SkillType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		return index != -1 && skillRanks[index] != ABSENT;
+	}
+
+	/**
+	 * Gets the rank the player has for a {@link SkillType}.
+	 * @param type The {@link SkillType}.
+	 * @return The player's rank, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	public int getSkillRank(SkillType type) {
+		return skillRanks[rankedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the level the player has in a {@link SkillType}.
+	 * @param type The {@link SkillType}.
+	 * @return The player's level.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	public int getSkillLevel(SkillType type) {
+		return skillLevels[rankedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the amount of experience the player has earned in a {@link SkillType}.
+	 * @param type The {@link SkillType}.
+	 * @return The player's experience, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the skill.
+	 */
+	public long getSkillExperience(SkillType type) {
+		return skillExperience[rankedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the {@link Skill} ranking for a {@link SkillType}.
+	 * @param type The {@link SkillType}.
+	 * @return An {@link Optional} containing the {@link Skill}, or {@link Optional#empty()} if the player has no ranking for the skill.
+	 */
+	public Optional<Skill> getSkill(SkillType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		return index == -1 ? Optional.empty() : getSkill(index);
+	}
+
+	/**
+	 * Gets an {@link EnumMap} of {@link SkillType}s to the player's {@link Skill} rankings.
+	 * @param type The class of the {@link SkillType} enum, such as {@link RuneScapeSkill} or {@link OldSchoolSkill}.
+	 * @param <E> The type of the {@link SkillType} enum.
+	 * @return An {@link EnumMap} of {@link SkillType}s to the player's {@link Skill} rankings.
+	 */
+	public <E extends Enum<E> & SkillType> EnumMap<E, Skill> getSkills(Class<E> type) {
+		EnumMap<E, Skill> skills = new EnumMap<>(type);
+		for (E constant : type.getEnumConstants()) {
+			int index = indexOf(constant);
+			if (index != -1 && skillRanks[index] != ABSENT) {
+				skills.put(constant, new Skill(skillRanks[index], skillLevels[index], skillExperience[index]));
+			}
+		}
 		return skills;
 	}
 
+	/**
+	 * Gets the names of the activities, in the order of their indices.
+	 * @return The names of the activities.
+	 */
+	public ImmutableList<String> getActivityNames() {
+		return activityNames;
+	}
+
+	/**
+	 * Gets whether the player has a {@link HiscoreActivity} ranking at an index.
+	 * @param index The index of the activity in {@link #getActivityNames()}.
+	 * @return {@code true} if the player has a ranking for the activity, otherwise {@code false}.
+	 */
+	public boolean hasActivity(int index) {
+		return activityRanks[Preconditions.checkElementIndex(index, activityRanks.length)] != ABSENT;
+	}
+
+	/**
+	 * Gets the rank the player has in the activity at an index.
+	 * @param index The index of the activity in {@link #getActivityNames()}.
+	 * @return The player's rank, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the activity.
+	 */
+	public int getActivityRank(int index) {
+		Preconditions.checkState(hasActivity(index), "No activity ranking at index %s.", index);
+		return activityRanks[index];
+	}
+
+	/**
+	 * Gets the score the player has in the activity at an index.
+	 * @param index The index of the activity in {@link #getActivityNames()}.
+	 * @return The player's score, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the activity.
+	 */
+	public int getActivityScore(int index) {
+		Preconditions.checkState(hasActivity(index), "No activity ranking at index %s.", index);
+		return activityScores[index];
+	}
+
+	/**
+	 * Gets the {@link HiscoreActivity} ranking at an index.
+	 * @param index The index of the activity in {@link #getActivityNames()}.
+	 * @return An {@link Optional} containing the {@link HiscoreActivity}, or {@link Optional#empty()} if the player has no ranking for the activity.
+	 */
+	public Optional<HiscoreActivity> getActivity(int index) {
+		return hasActivity(index) ? Optional.of(new HiscoreActivity(activityRanks[index], activityScores[index])) : Optional.empty();
+	}
+
+	/**
+	 * Gets the {@link HiscoreActivity} ranking by its name.
+	 * @param name The name of the activity.
+	 * @return An {@link Optional} containing the {@link HiscoreActivity}, or {@link Optional#empty()} if the player has no ranking for the activity.
+	 */
+	public Optional<HiscoreActivity> getActivity(String name) {
+		int index = activityNames.indexOf(Preconditions.checkNotNull(name));
+		return index == -1 ? Optional.empty() : getActivity(index);
+	}
+
 	/**
 	 * Gets an {@link ImmutableMap} of {@link HiscoreActivity} names to the player's {@link HiscoreActivity} rankings.
+	 * The map is created on the first call.
 	 * @return An {@link ImmutableMap} of {@link HiscoreActivity} names to the player's {@link HiscoreActivity} rankings.
 	 */
 	public ImmutableMap<String, HiscoreActivity> getActivities() {
+		ImmutableMap<String, HiscoreActivity> activities = this.activities;
+		if (activities == null) {
+			ImmutableMap.Builder<String, HiscoreActivity> builder = ImmutableMap.builder();
+			for (int i = 0; i < activityRanks.length; i++) {
+				if (activityRanks[i] != ABSENT) {
+					builder.put(activityNames.get(i), new HiscoreActivity(activityRanks[i], activityScores[i]));
+				}
+			}
+			this.activities = activities = builder.build();
+		}
+		return activities;
+	}
+
+	/**
+	 * Finds the index of an {@link ActivityType} in {@link #getActivityNames()}.
+	 * @param type The {@link ActivityType}.
+	 * @return The index of the activity, or -1 if the player's activities do not include it.
+	 */
+	private int indexOf(ActivityType type) {
+		return HiscoreTable.indexOf(activityNames, type);
+	}
+
+	/**
+	 * Finds the index of an {@link ActivityType} in {@link #getActivityNames()}, which the player must have a ranking
+	 * for.
+	 * @param type The {@link ActivityType}.
+	 * @return The index of the activity.
+	 * @throws IllegalStateException If the player has no ranking for the activity.
+	 */
+	private int rankedIndexOf(ActivityType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		Preconditions.checkState(index != -1 && activityRanks[index] != ABSENT, "No activity ranking for %s.", type);
+		return index;
+	}
+
+	/**
+	 * Gets whether the player has a {@link HiscoreActivity} ranking for an {@link ActivityType}.
+	 * @param type The {@link ActivityType}.
+	 * @return {@code true} if the player has a ranking for the activity, otherwise {@code false}.
+	 */
+	public boolean hasActivity(ActivityType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		return index != -1 && activityRanks[index] != ABSENT;
+	}
+
+	/**
+	 * Gets the rank the player has in an {@link ActivityType}.
+	 * @param type The {@link ActivityType}.
+	 * @return The player's rank, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the activity.
+	 */
+	public int getActivityRank(ActivityType type) {
+		return activityRanks[rankedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the score the player has in an {@link ActivityType}.
+	 * @param type The {@link ActivityType}.
+	 * @return The player's score, or -1 if the player is unranked.
+	 * @throws IllegalStateException If the player has no ranking for the activity.
+	 */
+	public int getActivityScore(ActivityType type) {
+		return activityScores[rankedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the {@link HiscoreActivity} ranking for an {@link ActivityType}.
+	 * @param type The {@link ActivityType}.
+	 * @return An {@link Optional} containing the {@link HiscoreActivity}, or {@link Optional#empty()} if the player has no ranking for the activity.
+	 */
+	public Optional<HiscoreActivity> getActivity(ActivityType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		return index == -1 ? Optional.empty() : getActivity(index);
+	}
+
+	/**
+	 * Gets an {@link EnumMap} of {@link ActivityType}s to the player's {@link HiscoreActivity} rankings.
+	 * @param type The class of the {@link ActivityType} enum, such as {@link RuneScapeActivity} or {@link OldSchoolActivity}.
+	 * @param <E> The type of the {@link ActivityType} enum.
+	 * @return An {@link EnumMap} of {@link ActivityType}s to the player's {@link HiscoreActivity} rankings.
+	 */
+	public <E extends Enum<E> & ActivityType> EnumMap<E, HiscoreActivity> getActivities(Class<E> type) {
+		EnumMap<E, HiscoreActivity> activities = new EnumMap<>(type);
+		for (E constant : type.getEnumConstants()) {
+			int index = indexOf(constant);
+			if (index != -1 && activityRanks[index] != ABSENT) {
+				activities.put(constant, new HiscoreActivity(activityRanks[index], activityScores[index]));
+			}
+		}
 		return activities;
 	}
 
@@ -83,20 +520,41 @@ public final class Player {
 			return false;
 		}
 		Player player = (Player) o;
-		return Objects.equals(skills, player.skills)
-			&& Objects.equals(activities, player.activities);
+		if (skillNames.equals(player.skillNames) && activityNames.equals(player.activityNames)) {
+			return Arrays.equals(skillRanks, player.skillRanks)
+				&& Arrays.equals(skillLevels, player.skillLevels)
+				&& Arrays.equals(skillExperience, player.skillExperience)
+				&& Arrays.equals(activityRanks, player.activityRanks)
+				&& Arrays.equals(activityScores, player.activityScores);
+		}
+		return getSkills().equals(player.getSkills())
+			&& getActivities().equals(player.getActivities());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(skills, activities);
+		int skillsHash = 0;
+		for (int i = 0; i < skillRanks.length; i++) {
+			if (skillRanks[i] != ABSENT) {
+				skillsHash += skillNames.get(i).hashCode() ^ Skill.hashCode(skillRanks[i], skillLevels[i], skillExperience[i]);
+			}
+		}
+
+		int activitiesHash = 0;
+		for (int i = 0; i < activityRanks.length; i++) {
+			if (activityRanks[i] != ABSENT) {
+				activitiesHash += activityNames.get(i).hashCode() ^ HiscoreActivity.hashCode(activityRanks[i], activityScores[i]);
+			}
+		}
+
+		return 31 * (31 + skillsHash) + activitiesHash;
 	}
 
 	@Override
 	public String toString() {
 		return MoreObjects.toStringHelper(this)
-			.add("skills", skills)
-			.add("activities", activities)
+			.add("skills", getSkills())
+			.add("activities", getActivities())
 			.toString();
 	}
 }
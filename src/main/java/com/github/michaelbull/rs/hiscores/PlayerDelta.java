@@ -0,0 +1,230 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents the change in a {@link Player}'s {@link Skill}s between two fetches, as computed by a
+ * {@link PlayerTracker}.
+ * <p>
+ * A skill is only compared if it was ranked in both fetches, as the {@link Hiscores} do not report the experience of
+ * unranked skills.
+ */
+public final class PlayerDelta {
+
+	/**
+	 * The {@link PlayerQuery} the player was fetched with.
+	 */
+	private final PlayerQuery query;
+
+	/**
+	 * The names of the skills, in the order of the arrays.
+	 */
+	private final ImmutableList<String> skillNames;
+
+	/**
+	 * Whether each skill was ranked in both fetches.
+	 */
+	private final boolean[] compared;
+
+	/**
+	 * The amount of places each skill's rank has climbed.
+	 */
+	private final int[] rankChanges;
+
+	/**
+	 * The amount of levels gained in each skill.
+	 */
+	private final int[] levelsGained;
+
+	/**
+	 * The amount of experience gained in each skill.
+	 */
+	private final long[] experienceGained;
+
+	/**
+	 * Creates a new {@link PlayerDelta}.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @param skillNames The names of the skills, in the order of the arrays.
+	 * @param compared Whether each skill was ranked in both fetches.
+	 * @param rankChanges The amount of places each skill's rank has climbed.
+	 * @param levelsGained The amount of levels gained in each skill.
+	 * @param experienceGained The amount of experience gained in each skill.
+	 */
+	PlayerDelta(PlayerQuery query, ImmutableList<String> skillNames, boolean[] compared, int[] rankChanges, int[] levelsGained, long[] experienceGained) {
+		this.query = Preconditions.checkNotNull(query);
+		this.skillNames = Preconditions.checkNotNull(skillNames);
+		this.compared = Preconditions.checkNotNull(compared);
+		this.rankChanges = Preconditions.checkNotNull(rankChanges);
+		this.levelsGained = Preconditions.checkNotNull(levelsGained);
+		this.experienceGained = Preconditions.checkNotNull(experienceGained);
+	}
+
+	/**
+	 * Gets the {@link PlayerQuery} the player was fetched with.
+	 * @return The {@link PlayerQuery}.
+	 */
+	public PlayerQuery getQuery() {
+		return query;
+	}
+
+	/**
+	 * Gets the names of the skills, in the order of their indices.
+	 * @return An {@link ImmutableList} of the skill names.
+	 */
+	public ImmutableList<String> getSkillNames() {
+		return skillNames;
+	}
+
+	/**
+	 * Gets the index of a skill.
+	 * @param type The {@link SkillType}.
+	 * @return The index, or {@code -1} if the skill is not on the player's {@link HiscoreTable}.
+	 */
+	int indexOf(SkillType type) {
+		return HiscoreTable.indexOf(skillNames, type);
+	}
+
+	/**
+	 * Gets the index of a skill that was compared.
+	 * @param type The {@link SkillType}.
+	 * @return The index.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	private int comparedIndexOf(SkillType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		Preconditions.checkState(index != -1 && compared[index], "No comparison for %s.", type);
+		return index;
+	}
+
+	/**
+	 * Checks if the skill at an index was ranked in both fetches.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return {@code true} if the skill was compared, otherwise {@code false}.
+	 */
+	public boolean hasSkill(int index) {
+		return compared[Preconditions.checkElementIndex(index, compared.length)];
+	}
+
+	/**
+	 * Checks if a skill was ranked in both fetches.
+	 * @param type The {@link SkillType}.
+	 * @return {@code true} if the skill was compared, otherwise {@code false}.
+	 */
+	public boolean hasSkill(SkillType type) {
+		int index = indexOf(Preconditions.checkNotNull(type));
+		return index != -1 && compared[index];
+	}
+
+	/**
+	 * Gets the amount of places the rank of the skill at an index has climbed.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return The amount of places climbed, negative if the rank fell.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	public int getRankChange(int index) {
+		Preconditions.checkState(hasSkill(index), "No comparison at index %s.", index);
+		return rankChanges[index];
+	}
+
+	/**
+	 * Gets the amount of places the rank of a skill has climbed.
+	 * @param type The {@link SkillType}.
+	 * @return The amount of places climbed, negative if the rank fell.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	public int getRankChange(SkillType type) {
+		return rankChanges[comparedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the amount of levels gained in the skill at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return The amount of levels gained.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	public int getLevelsGained(int index) {
+		Preconditions.checkState(hasSkill(index), "No comparison at index %s.", index);
+		return levelsGained[index];
+	}
+
+	/**
+	 * Gets the amount of levels gained in a skill.
+	 * @param type The {@link SkillType}.
+	 * @return The amount of levels gained.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	public int getLevelsGained(SkillType type) {
+		return levelsGained[comparedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the amount of experience gained in the skill at an index.
+	 * @param index The index of the skill in {@link #getSkillNames()}.
+	 * @return The amount of experience gained.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	public long getExperienceGained(int index) {
+		Preconditions.checkState(hasSkill(index), "No comparison at index %s.", index);
+		return experienceGained[index];
+	}
+
+	/**
+	 * Gets the amount of experience gained in a skill.
+	 * @param type The {@link SkillType}.
+	 * @return The amount of experience gained.
+	 * @throws IllegalStateException If the skill was not ranked in both fetches.
+	 */
+	public long getExperienceGained(SkillType type) {
+		return experienceGained[comparedIndexOf(type)];
+	}
+
+	/**
+	 * Gets the experience gained in each skill that was ranked in both fetches.
+	 * @return An {@link ImmutableMap} of skill names to the experience gained.
+	 */
+	public ImmutableMap<String, Long> getExperienceGained() {
+		ImmutableMap.Builder<String, Long> builder = ImmutableMap.builder();
+		for (int i = 0; i < compared.length; i++) {
+			if (compared[i]) {
+				builder.put(skillNames.get(i), experienceGained[i]);
+			}
+		}
+		return builder.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		PlayerDelta that = (PlayerDelta) o;
+		return Objects.equals(query, that.query)
+			&& Objects.equals(skillNames, that.skillNames)
+			&& Arrays.equals(compared, that.compared)
+			&& Arrays.equals(rankChanges, that.rankChanges)
+			&& Arrays.equals(levelsGained, that.levelsGained)
+			&& Arrays.equals(experienceGained, that.experienceGained);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Objects.hash(query, skillNames) + Arrays.hashCode(experienceGained);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("query", query)
+			.add("experienceGained", getExperienceGained())
+			.toString();
+	}
+}
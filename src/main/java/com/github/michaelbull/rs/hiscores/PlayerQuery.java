@@ -0,0 +1,114 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Represents a request for a {@link Player} on one {@link HiscoreTable}, used as the key of a bulk lookup.
+ */
+public final class PlayerQuery {
+
+	/**
+	 * Creates a {@link PlayerQuery} for every combination of display name and {@link HiscoreTable}.
+	 * @param displayNames The display names of the players.
+	 * @param tables The {@link HiscoreTable}s.
+	 * @return An {@link ImmutableList} of the {@link PlayerQuery}s, grouped by display name.
+	 */
+	public static ImmutableList<PlayerQuery> of(Iterable<String> displayNames, HiscoreTable... tables) {
+		Preconditions.checkNotNull(displayNames);
+		Preconditions.checkNotNull(tables);
+
+		ImmutableList.Builder<PlayerQuery> builder = ImmutableList.builder();
+		for (String displayName : displayNames) {
+			for (HiscoreTable table : tables) {
+				builder.add(new PlayerQuery(displayName, table));
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Normalizes a player's display name, so that the same player is found however their name is written.
+	 * @param displayName The player's display name.
+	 * @return The normalized name: trimmed, in lower case and with underscores and non-breaking spaces as spaces, or
+	 * an empty string if the name is blank.
+	 */
+	static String normalize(String displayName) {
+		return displayName.replace('_', ' ').replace('\u00A0', ' ').trim().toLowerCase(Locale.ENGLISH);
+	}
+
+	/**
+	 * The player's display name.
+	 */
+	private final String displayName;
+
+	/**
+	 * The {@link HiscoreTable} to look the player up in.
+	 */
+	private final HiscoreTable table;
+
+	/**
+	 * Creates a new {@link PlayerQuery}.
+	 * @param displayName The player's display name.
+	 * @param table The {@link HiscoreTable} to look the player up in.
+	 */
+	public PlayerQuery(String displayName, HiscoreTable table) {
+		this.displayName = Preconditions.checkNotNull(displayName);
+		this.table = Preconditions.checkNotNull(table);
+	}
+
+	/**
+	 * Gets the player's display name.
+	 * @return The player's display name.
+	 */
+	public String getDisplayName() {
+		return displayName;
+	}
+
+	/**
+	 * Gets the {@link HiscoreTable} to look the player up in.
+	 * @return The {@link HiscoreTable}.
+	 */
+	public HiscoreTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Gets this query with the player's display name {@link #normalize(String) normalized}.
+	 * @return The normalized {@link PlayerQuery}.
+	 */
+	PlayerQuery normalized() {
+		return new PlayerQuery(normalize(displayName), table);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		PlayerQuery that = (PlayerQuery) o;
+		return Objects.equals(displayName, that.displayName)
+			&& table == that.table;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(displayName, table);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("displayName", displayName)
+			.add("table", table)
+			.toString();
+	}
+}
@@ -0,0 +1,276 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.github.michaelbull.rs.BatchLookup;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the {@link Skill}s of many players between fetches, computing a {@link PlayerDelta} each time a player is
+ * updated.
+ * <p>
+ * Rather than keeping each {@link Player}, only a compact snapshot of their skills is kept: a single {@code long[]}
+ * holding the rank and level of each skill packed into one element and the experience in the next, in the order of
+ * the {@link HiscoreTable}'s skill names. A {@link PlayerDelta} is computed in one pass over two snapshots.
+ * <p>
+ * As a {@link BatchLookup.Listener}, a {@link PlayerTracker} can be given to
+ * {@link Hiscores#playerInformation(java.util.Collection, BatchLookup, BatchLookup.Listener)} to update each player
+ * as it is fetched. It is safe to update from many threads.
+ */
+public final class PlayerTracker implements BatchLookup.Listener<PlayerQuery, Player> {
+
+	/**
+	 * The latest snapshot of a player, and the {@link PlayerDelta} from the snapshot before it.
+	 */
+	private static final class Tracked {
+
+		/**
+		 * The latest snapshot.
+		 */
+		private final long[] snapshot;
+
+		/**
+		 * The {@link PlayerDelta} from the previous snapshot to {@link #snapshot}, or {@code null} if the player has
+		 * only been updated once.
+		 */
+		private final PlayerDelta delta;
+
+		/**
+		 * Creates a new {@link Tracked}.
+		 * @param snapshot The latest snapshot.
+		 * @param delta The {@link PlayerDelta} from the previous snapshot, or {@code null} if there is none.
+		 */
+		private Tracked(long[] snapshot, PlayerDelta delta) {
+			this.snapshot = snapshot;
+			this.delta = delta;
+		}
+	}
+
+	/**
+	 * The amount of elements of a snapshot used by each skill.
+	 */
+	private static final int SKILL_WIDTH = 2;
+
+	/**
+	 * Packs a rank and level into a single element of a snapshot.
+	 * @param rank The rank.
+	 * @param level The level.
+	 * @return The packed rank and level.
+	 */
+	private static long pack(int rank, int level) {
+		return ((long) rank << Integer.SIZE) | (level & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Unpacks the rank from an element of a snapshot.
+	 * @param rankAndLevel The packed rank and level.
+	 * @return The rank.
+	 */
+	private static int rank(long rankAndLevel) {
+		return (int) (rankAndLevel >> Integer.SIZE);
+	}
+
+	/**
+	 * Unpacks the level from an element of a snapshot.
+	 * @param rankAndLevel The packed rank and level.
+	 * @return The level.
+	 */
+	private static int level(long rankAndLevel) {
+		return (int) rankAndLevel;
+	}
+
+	/**
+	 * Creates a snapshot of a {@link Player}'s skills.
+	 * @param player The {@link Player}.
+	 * @param table The {@link HiscoreTable} the {@link Player} was fetched from.
+	 * @return The snapshot.
+	 */
+	static long[] snapshot(Player player, HiscoreTable table) {
+		int[] indices = table.skillIndicesIn(player);
+		long[] snapshot = new long[indices.length * SKILL_WIDTH];
+
+		for (int i = 0; i < indices.length; i++) {
+			int index = indices[i];
+
+			if (index != -1 && player.hasSkill(index)) {
+				snapshot[i * SKILL_WIDTH] = pack(player.getSkillRank(index), player.getSkillLevel(index));
+				snapshot[i * SKILL_WIDTH + 1] = player.getSkillExperience(index);
+			}
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * Computes the {@link PlayerDelta} between two snapshots.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @param previous The previous snapshot.
+	 * @param current The current snapshot.
+	 * @return The {@link PlayerDelta}.
+	 */
+	static PlayerDelta delta(PlayerQuery query, long[] previous, long[] current) {
+		ImmutableList<String> skillNames = query.getTable().getSkillNames();
+		int count = skillNames.size();
+
+		boolean[] compared = new boolean[count];
+		int[] rankChanges = new int[count];
+		int[] levelsGained = new int[count];
+		long[] experienceGained = new long[count];
+
+		for (int i = 0; i < count; i++) {
+			long before = previous[i * SKILL_WIDTH];
+			long after = current[i * SKILL_WIDTH];
+			int rankBefore = rank(before);
+			int rankAfter = rank(after);
+
+			if (rankBefore > 0 && rankAfter > 0) {
+				compared[i] = true;
+				rankChanges[i] = rankBefore - rankAfter;
+				levelsGained[i] = level(after) - level(before);
+				experienceGained[i] = current[i * SKILL_WIDTH + 1] - previous[i * SKILL_WIDTH + 1];
+			}
+		}
+
+		return new PlayerDelta(query, skillNames, compared, rankChanges, levelsGained, experienceGained);
+	}
+
+	/**
+	 * The tracked state of each player, keyed by their {@link PlayerQuery#normalized() normalized} query. The snapshot
+	 * and delta of a player are replaced together, so concurrent updates of one player never leave a delta that does
+	 * not match the latest snapshot.
+	 */
+	private final Map<PlayerQuery, Tracked> players = new ConcurrentHashMap<>();
+
+	/**
+	 * Updates the snapshot of a player, computing the {@link PlayerDelta} from their previous snapshot. Display names
+	 * are {@link PlayerQuery#normalize(String) normalized}, so a player is tracked once however their name is written.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @param player The {@link Player}.
+	 * @return An {@link Optional} containing the {@link PlayerDelta}, or {@link Optional#empty()} if the player was not
+	 * tracked before.
+	 */
+	public Optional<PlayerDelta> update(PlayerQuery query, Player player) {
+		Preconditions.checkNotNull(query);
+		Preconditions.checkNotNull(player);
+
+		long[] current = snapshot(player, query.getTable());
+		Tracked tracked = players.compute(query.normalized(), (key, previous) ->
+			new Tracked(current, previous == null ? null : delta(query, previous.snapshot, current)));
+
+		return Optional.ofNullable(tracked.delta);
+	}
+
+	@Override
+	public void onResult(PlayerQuery query, Player player) {
+		update(query, player);
+	}
+
+	/**
+	 * Gets the latest {@link PlayerDelta} of a player.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @return An {@link Optional} containing the {@link PlayerDelta}, or {@link Optional#empty()} if the player has not
+	 * been updated twice.
+	 */
+	public Optional<PlayerDelta> getDelta(PlayerQuery query) {
+		Tracked tracked = players.get(Preconditions.checkNotNull(query).normalized());
+		return tracked == null ? Optional.empty() : Optional.ofNullable(tracked.delta);
+	}
+
+	/**
+	 * Checks if a player is tracked.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 * @return {@code true} if the player is tracked, otherwise {@code false}.
+	 */
+	public boolean contains(PlayerQuery query) {
+		return players.containsKey(Preconditions.checkNotNull(query).normalized());
+	}
+
+	/**
+	 * Stops tracking a player.
+	 * @param query The {@link PlayerQuery} the player was fetched with.
+	 */
+	public void remove(PlayerQuery query) {
+		players.remove(Preconditions.checkNotNull(query).normalized());
+	}
+
+	/**
+	 * Gets the amount of players tracked.
+	 * @return The amount of players.
+	 */
+	public int size() {
+		return players.size();
+	}
+
+	/**
+	 * Gets the players that gained the most experience in a skill between their latest two updates.
+	 * @param type The {@link SkillType}.
+	 * @param limit The maximum amount of players.
+	 * @return An {@link ImmutableList} of the {@link PlayerDelta}s of the players that gained experience in the skill,
+	 * most experience first, and by display name when equal.
+	 */
+	public ImmutableList<PlayerDelta> topGainers(SkillType type, int limit) {
+		Preconditions.checkNotNull(type);
+		Preconditions.checkArgument(limit > 0, "Limit must be positive.");
+
+		int capacity = players.size();
+		PlayerDelta[] candidates = new PlayerDelta[capacity];
+		long[] gains = new long[capacity];
+		int count = 0;
+
+		for (Tracked tracked : players.values()) {
+			PlayerDelta delta = tracked.delta;
+			if (count == capacity) {
+				break;
+			}
+			if (delta == null) {
+				continue;
+			}
+
+			int index = delta.indexOf(type);
+			if (index != -1 && delta.hasSkill(index)) {
+				long gained = delta.getExperienceGained(index);
+				if (gained > 0) {
+					candidates[count] = delta;
+					gains[count] = gained;
+					count++;
+				}
+			}
+		}
+
+		Comparator<Integer> ascending = (a, b) -> {
+			int compare = Long.compare(gains[a], gains[b]);
+			if (compare != 0) {
+				return compare;
+			}
+			return candidates[b].getQuery().getDisplayName().compareTo(candidates[a].getQuery().getDisplayName());
+		};
+
+		PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, Math.max(count, 1)) + 1, ascending);
+		for (int i = 0; i < count; i++) {
+			top.add(i);
+			if (top.size() > limit) {
+				top.poll();
+			}
+		}
+
+		PlayerDelta[] gainers = new PlayerDelta[top.size()];
+		for (int i = gainers.length - 1; i >= 0; i--) {
+			gainers[i] = candidates[top.poll()];
+		}
+
+		return ImmutableList.copyOf(gainers);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+			.add("players", players.size())
+			.toString();
+	}
+}
@@ -0,0 +1,199 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+
+/**
+ * Represents the activity types ranked on the RuneScape {@link Hiscores}, in the order of {@link Hiscores#ACTIVITY_NAMES}.
+ * @see HiscoreTable#DEFAULT
+ */
+public enum RuneScapeActivity implements ActivityType {
+
+	/**
+	 * The Bounty Hunter activity.
+	 */
+	BOUNTY_HUNTER("Bounty Hunter"),
+
+	/**
+	 * The B.H. Rogues activity.
+	 */
+	BOUNTY_HUNTER_ROGUES("B.H. Rogues"),
+
+	/**
+	 * The Dominion Tower activity.
+	 */
+	DOMINION_TOWER("Dominion Tower"),
+
+	/**
+	 * The Crucible activity.
+	 */
+	THE_CRUCIBLE("The Crucible"),
+
+	/**
+	 * The Castle Wars games activity.
+	 */
+	CASTLE_WARS_GAMES("Castle Wars games"),
+
+	/**
+	 * The B.A. Attackers activity.
+	 */
+	BARBARIAN_ASSAULT_ATTACKERS("B.A. Attackers"),
+
+	/**
+	 * The B.A. Defenders activity.
+	 */
+	BARBARIAN_ASSAULT_DEFENDERS("B.A. Defenders"),
+
+	/**
+	 * The B.A. Collectors activity.
+	 */
+	BARBARIAN_ASSAULT_COLLECTORS("B.A. Collectors"),
+
+	/**
+	 * The B.A. Healers activity.
+	 */
+	BARBARIAN_ASSAULT_HEALERS("B.A. Healers"),
+
+	/**
+	 * The Duel Tournament activity.
+	 */
+	DUEL_TOURNAMENT("Duel Tournament"),
+
+	/**
+	 * The Mobilising Armies activity.
+	 */
+	MOBILISING_ARMIES("Mobilising Armies"),
+
+	/**
+	 * The Conquest activity.
+	 */
+	CONQUEST("Conquest"),
+
+	/**
+	 * The Fist of Guthix activity.
+	 */
+	FIST_OF_GUTHIX("Fist of Guthix"),
+
+	/**
+	 * The GG: Athletics activity.
+	 */
+	GIELINOR_GAMES_ATHLETICS("GG: Athletics"),
+
+	/**
+	 * The GG: Resource Race activity.
+	 */
+	GIELINOR_GAMES_RESOURCE_RACE("GG: Resource Race"),
+
+	/**
+	 * The WE2: Armadyl Lifetime Contribution activity.
+	 */
+	WORLD_EVENT_2_ARMADYL_LIFETIME_CONTRIBUTION("WE2: Armadyl Lifetime Contribution"),
+
+	/**
+	 * The WE2: Bandos Lifetime Contribution activity.
+	 */
+	WORLD_EVENT_2_BANDOS_LIFETIME_CONTRIBUTION("WE2: Bandos Lifetime Contribution"),
+
+	/**
+	 * The WE2: Armadyl PvP kills activity.
+	 */
+	WORLD_EVENT_2_ARMADYL_PVP_KILLS("WE2: Armadyl PvP kills"),
+
+	/**
+	 * The WE2: Bandos PvP kills activity.
+	 */
+	WORLD_EVENT_2_BANDOS_PVP_KILLS("WE2: Bandos PvP kills"),
+
+	/**
+	 * The Heist Guard Level activity.
+	 */
+	HEIST_GUARD_LEVEL("Heist Guard Level"),
+
+	/**
+	 * The Heist Robber Level activity.
+	 */
+	HEIST_ROBBER_LEVEL("Heist Robber Level"),
+
+	/**
+	 * The CFP: 5 game average activity.
+	 */
+	CABBAGE_FACEPUNCH_BONANZA_5_GAME_AVERAGE("CFP: 5 game average"),
+
+	/**
+	 * The AF15: Cow Tipping activity.
+	 */
+	APRIL_FOOLS_2015_COW_TIPPING("AF15: Cow Tipping"),
+
+	/**
+	 * The AF15: Rats killed after the miniquest activity.
+	 */
+	APRIL_FOOLS_2015_RATS_KILLED("AF15: Rats killed after the miniquest"),
+
+	/**
+	 * The Clue Scrolls (easy) activity.
+	 */
+	CLUE_SCROLLS_EASY("Clue Scrolls (easy)"),
+
+	/**
+	 * The Clue Scrolls (medium) activity.
+	 */
+	CLUE_SCROLLS_MEDIUM("Clue Scrolls (medium)"),
+
+	/**
+	 * The Clue Scrolls (hard) activity.
+	 */
+	CLUE_SCROLLS_HARD("Clue Scrolls (hard)"),
+
+	/**
+	 * The Clue Scrolls (elite) activity.
+	 */
+	CLUE_SCROLLS_ELITE("Clue Scrolls (elite)"),
+
+	/**
+	 * The Clue Scrolls (master) activity.
+	 */
+	CLUE_SCROLLS_MASTER("Clue Scrolls (master)");
+
+	/**
+	 * An {@link ImmutableMap} of names to their corresponding {@link RuneScapeActivity}.
+	 */
+	private static final ImmutableMap<String, RuneScapeActivity> BY_NAME;
+
+	static {
+		ImmutableMap.Builder<String, RuneScapeActivity> builder = ImmutableMap.builder();
+		for (RuneScapeActivity value : values()) {
+			builder.put(value.name, value);
+		}
+		BY_NAME = builder.build();
+	}
+
+	/**
+	 * Gets a {@link RuneScapeActivity} from its {@link #getName() name}.
+	 * @param name The name of the activity.
+	 * @return The {@link RuneScapeActivity} or {@link Optional#empty()} if no activity was found.
+	 */
+	public static Optional<RuneScapeActivity> from(String name) {
+		Preconditions.checkNotNull(name);
+		return Optional.ofNullable(BY_NAME.get(name));
+	}
+
+	/**
+	 * The name of this activity as it appears on the {@link Hiscores}.
+	 */
+	private final String name;
+
+	/**
+	 * Creates a new {@link RuneScapeActivity}.
+	 * @param name The name of this activity as it appears on the {@link Hiscores}.
+	 */
+	RuneScapeActivity(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+}
@@ -6,7 +6,6 @@ import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
 import org.apache.commons.csv.CSVRecord;
 
-import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -49,6 +48,30 @@ public final class Skill {
 	 */
 	public static final long MAX_EXPERIENCE = 200_000_000;
 
+	/**
+	 * Checks the values of a {@link Skill}.
+	 * @param rank The rank the player has on the {@link Hiscores} for this type of skill.
+	 * @param level The level the player has in this skill.
+	 * @param experience The amount of experience the player has earned in this skill.
+	 * @throws IllegalArgumentException If any of the values are out of range.
+	 */
+	static void checkArguments(int rank, int level, long experience) {
+		Preconditions.checkArgument(rank == -1 || rank > 0, "Rank must be either -1 (unranked) or positive.");
+		Preconditions.checkArgument(level >= 0, "Level must be either 0 (unranked) or positive.");
+		Preconditions.checkArgument(experience >= -1, "Experience must be greater than or equal to -1.");
+	}
+
+	/**
+	 * Computes the hash code of a {@link Skill} from its values, without creating it.
+	 * @param rank The rank the player has on the {@link Hiscores} for this type of skill.
+	 * @param level The level the player has in this skill.
+	 * @param experience The amount of experience the player has earned in this skill.
+	 * @return The hash code, equal to that of {@link #hashCode()}.
+	 */
+	static int hashCode(int rank, int level, long experience) {
+		return 31 * (31 * (31 + rank) + level) + Long.hashCode(experience);
+	}
+
 	/**
 	 * The rank the player has on the {@link Hiscores} for this type of skill.
 	 */
@@ -71,9 +94,7 @@ public final class Skill {
 	 * @param experience The amount of experience the player has earned in this skill.
 	 */
 	public Skill(int rank, int level, long experience) {
-		Preconditions.checkArgument(rank == -1 || rank > 0, "Rank must be either -1 (unranked) or positive.");
-		Preconditions.checkArgument(level >= 0, "Level must be either 0 (unranked) or positive.");
-		Preconditions.checkArgument(experience >= -1, "Experience must be greater than or equal to -1.");
+		checkArguments(rank, level, experience);
 		this.rank = rank;
 		this.level = level;
 		this.experience = experience;
@@ -133,7 +154,7 @@ public final class Skill {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(rank, level, experience);
+		return hashCode(rank, level, experience);
 	}
 
 	@Override
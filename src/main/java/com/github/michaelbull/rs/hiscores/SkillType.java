@@ -0,0 +1,23 @@
+package com.github.michaelbull.rs.hiscores;
+
+/**
+ * Represents a type of skill ranked on a {@link HiscoreTable}.
+ * <p>
+ * Implementations are enums whose {@link #ordinal()} is the position of the skill in
+ * {@link HiscoreTable#getSkillNames()}, so a {@link Player}'s {@link Skill} rankings can be looked up by
+ * array index rather than by name.
+ */
+public interface SkillType {
+
+	/**
+	 * Gets the position of this skill in the names of its {@link HiscoreTable}.
+	 * @return The position of this skill.
+	 */
+	int ordinal();
+
+	/**
+	 * Gets the name of this skill as it appears on the {@link Hiscores}.
+	 * @return The name of this skill.
+	 */
+	String getName();
+}
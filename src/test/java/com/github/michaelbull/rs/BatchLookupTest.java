@@ -0,0 +1,160 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class BatchLookupTest {
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maximumInFlight = new AtomicInteger();
+
+	private Optional<String> lookup(int key) throws IOException {
+		maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+		try {
+			Thread.sleep(2);
+			if (key % 10 == 3) {
+				throw new IOException("Lookup of " + key + " failed.");
+			}
+			return key % 10 == 7 ? Optional.empty() : Optional.of("value " + key);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	@Test
+	public void testLookup() throws IOException {
+		BatchResult<Integer, String> result = BatchLookup.builder()
+			.concurrency(3)
+			.build()
+			.lookup(Arrays.asList(1, 3, 7, 1, 11), this::lookup);
+
+		assertThat(result.getResults(), is(ImmutableMap.of(1, "value 1", 11, "value 11")));
+		assertThat(result.getMissing().asList(), is(ImmutableList.of(7)));
+		assertThat(result.getFailures().keySet().asList(), is(ImmutableList.of(3)));
+		assertThat(result.isComplete(), is(false));
+	}
+
+	@Test
+	public void testLookupRespectsConcurrency() throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			BatchResult<Integer, String> result = BatchLookup.builder()
+				.concurrency(2)
+				.executor(executor)
+				.build()
+				.lookup(IntStream.range(0, 40).boxed().collect(Collectors.toList()), this::lookup);
+
+			assertThat(result.getResults().size() + result.getMissing().size() + result.getFailures().size(), is(40));
+			assertThat(maximumInFlight.get() <= 2, is(true));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLookupOfNoKeys() throws IOException {
+		BatchResult<Integer, String> result = BatchLookup.builder().build().lookup(ImmutableList.of(), this::lookup);
+		assertThat(result.getResults().isEmpty(), is(true));
+		assertThat(result.isComplete(), is(true));
+	}
+
+	@Test
+	public void testLookupNotifiesListener() throws IOException {
+		List<String> outcomes = new ArrayList<>();
+
+		BatchResult<Integer, String> result = BatchLookup.builder().build().lookup(Arrays.asList(1, 3, 7), this::lookup, new BatchLookup.Listener<Integer, String>() {
+			@Override
+			public void onResult(Integer key, String value) {
+				outcomes.add(value);
+			}
+
+			@Override
+			public void onMissing(Integer key) {
+				outcomes.add("missing " + key);
+			}
+
+			@Override
+			public void onFailure(Integer key, IOException failure) {
+				outcomes.add("failed " + key);
+			}
+		});
+
+		Collections.sort(outcomes);
+		assertThat(outcomes, is(ImmutableList.of("failed 3", "missing 7", "value 1")));
+		assertThat(result.getResults().size() + result.getMissing().size() + result.getFailures().size(), is(3));
+	}
+
+	@Test
+	public void testLookupIsRateLimited() throws IOException {
+		RateLimiter rateLimiter = RateLimiter.create(50);
+		rateLimiter.acquire();
+
+		long start = System.nanoTime();
+		BatchLookup.builder()
+			.concurrency(8)
+			.rateLimiter(rateLimiter)
+			.build()
+			.lookup(IntStream.range(0, 10).boxed().collect(Collectors.toList()), key -> Optional.of(key));
+
+		assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150), is(true));
+	}
+
+	@Test
+	public void testRateLimitedLookupReportsOutcomesWhilePermitsArePending() throws IOException {
+		RateLimiter rateLimiter = RateLimiter.create(2);
+		rateLimiter.acquire();
+
+		long start = System.nanoTime();
+		List<Long> elapsed = new ArrayList<>();
+
+		BatchLookup.builder()
+			.concurrency(2)
+			.rateLimiter(rateLimiter)
+			.build()
+			.lookup(Arrays.asList(1, 2), key -> Optional.of(key), new BatchLookup.Listener<Integer, Integer>() {
+				@Override
+				public void onResult(Integer key, Integer value) {
+					elapsed.add(System.nanoTime() - start);
+				}
+			});
+
+		assertThat(elapsed.size(), is(2));
+		assertThat(elapsed.get(0) < TimeUnit.MILLISECONDS.toNanos(900), is(true));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testLookupRethrowsUncheckedException() throws IOException {
+		BatchLookup.builder().build().lookup(Arrays.asList(1, 2), key -> {
+			throw new IllegalStateException();
+		});
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBuilderThrowsIllegalArgumentException() {
+		BatchLookup.builder().concurrency(0);
+	}
+}
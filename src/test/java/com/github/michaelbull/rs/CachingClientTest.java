@@ -0,0 +1,162 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class CachingClientTest {
+
+	private static final String BESTIARY_URL = HttpClient.WEB_SERVICES_URL + "/m=itemdb_rs/bestiary/";
+	private static final String AREA_NAMES_URL = BESTIARY_URL + "areaNames.json";
+	private static final String HISCORES_URL = HttpClient.WEB_SERVICES_URL + "/m=hiscore/";
+	private static final String PLAYER_URL = HISCORES_URL + "index_lite.ws?player=Zezima";
+	private static final String FAILING_URL = HttpClient.WEB_SERVICES_URL + "/m=hiscore/index_lite.ws?player=Offline";
+
+	private static final class CountingClient implements Client {
+		private final AtomicInteger requests = new AtomicInteger();
+
+		@Override
+		public <T> Optional<T> fromJson(String url, Type typeOfT) {
+			requests.incrementAndGet();
+			return Optional.empty();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Optional<T> fromJson(String url, Class<T> classOfT) {
+			Preconditions.checkNotNull(classOfT);
+			requests.incrementAndGet();
+			return Optional.of((T) new String[] { "Lumbridge", "Varrock" });
+		}
+
+		@Override
+		public ImmutableList<CSVRecord> fromCSV(String url) {
+			requests.incrementAndGet();
+			return ImmutableList.of();
+		}
+
+		@Override
+		public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+			requests.incrementAndGet();
+			if (url.equals(FAILING_URL)) {
+				throw new IOException("Connection reset");
+			}
+			return parser.parse(new ByteArrayInputStream("1,2,3".getBytes(StandardCharsets.US_ASCII)), StandardCharsets.US_ASCII);
+		}
+	}
+
+	private static final class FakeTicker extends Ticker {
+		private final AtomicLong nanos = new AtomicLong();
+
+		@Override
+		public long read() {
+			return nanos.get();
+		}
+
+		private void advance(Duration duration) {
+			nanos.addAndGet(duration.toNanos());
+		}
+	}
+
+	private final CountingClient upstream = new CountingClient();
+	private final FakeTicker ticker = new FakeTicker();
+
+	private final CachingClient client = CachingClient.builder()
+		.expireAfterWrite(BESTIARY_URL, Duration.ofHours(6))
+		.expireAfterWrite(HISCORES_URL, Duration.ofMinutes(5))
+		.ticker(ticker)
+		.build(upstream);
+
+	@Test
+	public void testCachesPerUrlFamily() throws IOException {
+		String[] first = client.fromJson(AREA_NAMES_URL, String[].class).get();
+		String[] second = client.fromJson(AREA_NAMES_URL, String[].class).get();
+		assertThat(second == first, is(true));
+		assertThat(upstream.requests.get(), is(1));
+
+		assertThat(client.fromStream(PLAYER_URL, (in, charset) -> in.read()), is((int) '1'));
+		assertThat(client.fromStream(PLAYER_URL, (in, charset) -> in.read()), is((int) '1'));
+		assertThat(upstream.requests.get(), is(2));
+
+		ticker.advance(Duration.ofMinutes(10));
+		client.fromJson(AREA_NAMES_URL, String[].class);
+		client.fromStream(PLAYER_URL, (in, charset) -> in.read());
+		assertThat(upstream.requests.get(), is(3));
+
+		CacheStats stats = client.stats();
+		assertThat(stats.hitCount(), is(3L));
+		assertThat(stats.missCount(), is(3L));
+		assertThat(stats.evictionCount(), is(1L));
+		assertThat(client.stats(HISCORES_URL).get().missCount(), is(2L));
+	}
+
+	@Test
+	public void testEmptyResultsAreNotCached() throws IOException {
+		assertThat(client.fromJson(AREA_NAMES_URL, (Type) String[].class), is(Optional.empty()));
+		assertThat(client.fromJson(AREA_NAMES_URL, (Type) String[].class), is(Optional.empty()));
+		assertThat(upstream.requests.get(), is(2));
+		assertThat(client.fromJson(AREA_NAMES_URL, String[].class).isPresent(), is(true));
+		assertThat(client.fromJson(AREA_NAMES_URL, String[].class).isPresent(), is(true));
+		assertThat(upstream.requests.get(), is(3));
+	}
+
+	@Test
+	public void testUncachedUrlsPassThrough() throws IOException {
+		String url = HttpClient.WEB_SERVICES_URL + "/m=itemdb_rs/api/catalogue/detail.json?item=4151";
+		client.fromCSV(url);
+		client.fromCSV(url);
+		assertThat(upstream.requests.get(), is(2));
+		assertThat(client.stats().requestCount(), is(0L));
+	}
+
+	@Test
+	public void testInvalidate() throws IOException {
+		client.fromJson(AREA_NAMES_URL, String[].class);
+		client.invalidate(BESTIARY_URL);
+		client.fromJson(AREA_NAMES_URL, String[].class);
+		assertThat(upstream.requests.get(), is(2));
+	}
+
+	@Test
+	public void testFailuresAreNotCached() {
+		for (int i = 0; i < 2; i++) {
+			try {
+				client.fromStream(FAILING_URL, (in, charset) -> in.read());
+			} catch (IOException e) {
+				assertThat(e.getMessage(), is("Connection reset"));
+			}
+		}
+
+		assertThat(upstream.requests.get(), is(2));
+		assertThat(client.stats(HISCORES_URL).get().loadExceptionCount(), is(2L));
+	}
+
+	@Test
+	public void testMaximumWeight() throws IOException {
+		CachingClient weighed = CachingClient.builder()
+			.defaultExpireAfterWrite(Duration.ofMinutes(1))
+			.maximumWeight(10, (url, value) -> value instanceof byte[] ? ((byte[]) value).length : 1)
+			.build(upstream);
+
+		for (int i = 0; i < 10; i++) {
+			weighed.fromStream(PLAYER_URL + i, (in, charset) -> in.read());
+		}
+
+		assertThat(weighed.stats().evictionCount() > 0, is(true));
+	}
+}
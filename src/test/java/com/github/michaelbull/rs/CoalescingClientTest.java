@@ -0,0 +1,170 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class CoalescingClientTest {
+
+	private static final int CALLERS = 32;
+	private static final String ITEM_URL = HttpClient.WEB_SERVICES_URL + "/m=itemdb_rs/api/catalogue/detail.json?item=4151";
+	private static final String PLAYER_URL = HttpClient.WEB_SERVICES_URL + "/m=hiscore/index_lite.ws?player=Zezima";
+
+	private static final class BlockingClient implements Client {
+		private final AtomicInteger requests = new AtomicInteger();
+		private final CountDownLatch release = new CountDownLatch(1);
+		private volatile boolean fail;
+
+		private void block() throws IOException {
+			requests.incrementAndGet();
+
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+
+			if (fail) {
+				throw new IOException("Service unavailable");
+			}
+		}
+
+		@Override
+		public <T> Optional<T> fromJson(String url, Type typeOfT) throws IOException {
+			block();
+			return Optional.empty();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Optional<T> fromJson(String url, Class<T> classOfT) throws IOException {
+			block();
+			return Optional.of((T) new Object());
+		}
+
+		@Override
+		public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
+			block();
+			return ImmutableList.of();
+		}
+
+		@Override
+		public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+			block();
+			return parser.parse(new ByteArrayInputStream("1,99,13034431".getBytes(StandardCharsets.US_ASCII)), StandardCharsets.US_ASCII);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Call<T> {
+		T call(Client client) throws IOException;
+	}
+
+	private final BlockingClient upstream = new BlockingClient();
+	private final CoalescingClient client = new CoalescingClient(upstream);
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private <T> List<Future<T>> callConcurrently(Call<T> call) throws InterruptedException {
+		List<Thread> callers = new ArrayList<>();
+		List<Future<T>> futures = new ArrayList<>();
+
+		for (int i = 0; i < CALLERS; i++) {
+			futures.add(executor.submit(() -> {
+				synchronized (callers) {
+					callers.add(Thread.currentThread());
+				}
+				return call.call(client);
+			}));
+		}
+
+		/* wait until every caller is blocked on the upstream request or on the coalesced result */
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline) {
+			synchronized (callers) {
+				if (callers.size() == CALLERS && callers.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+					break;
+				}
+			}
+			Thread.sleep(1);
+		}
+
+		upstream.release.countDown();
+		return futures;
+	}
+
+	@Test
+	public void testConcurrentCallersShareOneRequest() throws Exception {
+		List<Future<Optional<Object>>> futures = callConcurrently(c -> c.fromJson(ITEM_URL, Object.class));
+
+		Object first = futures.get(0).get(10, TimeUnit.SECONDS).get();
+		for (Future<Optional<Object>> future : futures) {
+			assertThat(future.get(10, TimeUnit.SECONDS).get(), sameInstance(first));
+		}
+
+		assertThat(upstream.requests.get(), is(1));
+	}
+
+	@Test
+	public void testConcurrentStreamCallersShareOneRequest() throws Exception {
+		List<Future<Integer>> futures = callConcurrently(c -> c.fromStream(PLAYER_URL, (in, charset) -> in.read() - '0'));
+
+		for (Future<Integer> future : futures) {
+			assertThat(future.get(10, TimeUnit.SECONDS), is(1));
+		}
+
+		assertThat(upstream.requests.get(), is(1));
+	}
+
+	@Test
+	public void testFailureIsSharedWithEveryCaller() throws Exception {
+		upstream.fail = true;
+		List<Future<ImmutableList<CSVRecord>>> futures = callConcurrently(c -> c.fromCSV(PLAYER_URL));
+
+		for (Future<ImmutableList<CSVRecord>> future : futures) {
+			try {
+				future.get(10, TimeUnit.SECONDS);
+				fail("expected ExecutionException");
+			} catch (ExecutionException e) {
+				assertThat(e.getCause(), instanceOf(IOException.class));
+			}
+		}
+
+		assertThat(upstream.requests.get(), is(1));
+	}
+
+	@Test
+	public void testSequentialCallersAreNotCoalesced() throws IOException {
+		upstream.release.countDown();
+		client.fromJson(ITEM_URL, Object.class);
+		client.fromJson(ITEM_URL, Object.class);
+		client.fromJson(ITEM_URL, String.class);
+		assertThat(upstream.requests.get(), is(3));
+	}
+}
@@ -0,0 +1,53 @@
+package com.github.michaelbull.rs;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link AsyncClient} that performs each request on the calling thread with a {@link Client}, returning an already
+ * completed {@link CompletableFuture}.
+ */
+public final class CompletedAsyncClient implements AsyncClient {
+
+	@FunctionalInterface
+	private interface Request<T> {
+		T execute() throws IOException;
+	}
+
+	private static <T> CompletableFuture<T> complete(Request<T> request) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			future.complete(request.execute());
+		} catch (IOException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	private final Client client;
+
+	public CompletedAsyncClient(Client client) {
+		this.client = Preconditions.checkNotNull(client);
+	}
+
+	@Override
+	public <T> CompletableFuture<Optional<T>> fromJson(String url, Type typeOfT) {
+		return complete(() -> client.fromJson(url, typeOfT));
+	}
+
+	@Override
+	public <T> CompletableFuture<Optional<T>> fromJson(String url, Class<T> classOfT) {
+		return complete(() -> client.fromJson(url, classOfT));
+	}
+
+	@Override
+	public CompletableFuture<ImmutableList<CSVRecord>> fromCSV(String url) {
+		return complete(() -> client.fromCSV(url));
+	}
+}
@@ -0,0 +1,45 @@
+package com.github.michaelbull.rs.bestiary;
+
+import com.github.michaelbull.rs.CompletedAsyncClient;
+import org.junit.Test;
+
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AsyncBestiaryTest {
+
+	private final AsyncBestiary bestiary = new AsyncBestiary(new CompletedAsyncClient(new BestiaryTest.FakeClient()));
+
+	@Test
+	public void testBeastData() {
+		assertThat(bestiary.beastData(-5).join().isPresent(), is(false));
+		assertThat(bestiary.beastData(50).join().get().getName(), is("King Black Dragon"));
+	}
+
+	@Test
+	public void testSearchByTerms() {
+		assertThat(bestiary.searchByTerms("sheep").join().get(1271), is("Golden sheep"));
+	}
+
+	@Test
+	public void testAreaNames() {
+		assertThat(bestiary.areaNames().join().isEmpty(), is(false));
+	}
+
+	@Test
+	public void testBeastsInSlayerCategory() {
+		assertThat(bestiary.beastsInSlayerCategory("Unknown").join().isEmpty(), is(true));
+		assertThat(bestiary.beastsInSlayerCategory("Zombies").join().containsValue("Zombie (22)"), is(true));
+	}
+
+	@Test
+	public void testBeastsWeakTo() {
+		assertThat(bestiary.beastsWeakTo("Thrown").join().containsValue("Lord Iban"), is(true));
+	}
+
+	@Test
+	public void testBeastsInLevelGroup() {
+		assertThat(bestiary.beastsInLevelGroup(200, 300).join().containsValue("Giant mole (230)"), is(true));
+	}
+}
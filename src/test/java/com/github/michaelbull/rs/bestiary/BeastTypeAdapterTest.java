@@ -0,0 +1,101 @@
+package com.github.michaelbull.rs.bestiary;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class BeastTypeAdapterTest {
+
+	private static final Gson GSON = new Gson();
+
+	private static final String KING_BLACK_DRAGON_JSON = "{"
+		+ "\"name\":\"King Black Dragon\","
+		+ "\"id\":50,"
+		+ "\"members\":false,"
+		+ "\"weakness\":\"None\","
+		+ "\"level\":276,"
+		+ "\"lifepoints\":45000,"
+		+ "\"defence\":60,"
+		+ "\"attack\":60,"
+		+ "\"magic\":60,"
+		+ "\"ranged\":60,"
+		+ "\"xp\":\"2054.4\","
+		+ "\"slayercat\":\"Black dragons\","
+		+ "\"size\":5,"
+		+ "\"attackable\":true,"
+		+ "\"aggressive\":true,"
+		+ "\"poisonous\":false,"
+		+ "\"description\":\"Was the biggest, meanest dragon around.\","
+		+ "\"areas\":[\"Wilderness Dungeons\"],"
+		+ "\"animations\":{\"death\":17780,\"attack\":17782},"
+		+ "\"unknown\":{\"nested\":[1,2,3]}"
+		+ "}";
+
+	private static final Beast KING_BLACK_DRAGON = Beast.builder(50)
+		.name("King Black Dragon")
+		.description("Was the biggest, meanest dragon around.")
+		.attackable()
+		.aggressive()
+		.experience(2054.4)
+		.lifePoints(45000)
+		.combatLevel(276)
+		.defenceLevel(60)
+		.attackLevel(60)
+		.magicLevel(60)
+		.rangedLevel(60)
+		.size(5)
+		.slayerCategory("Black dragons")
+		.area("Wilderness Dungeons")
+		.animation("death", 17780)
+		.animation("attack", 17782)
+		.build();
+
+	@Test
+	public void testRead() {
+		assertThat(GSON.fromJson(KING_BLACK_DRAGON_JSON, Beast.class), is(KING_BLACK_DRAGON));
+	}
+
+	@Test
+	public void testMissingFields() {
+		Beast beast = GSON.fromJson("{}", Beast.class);
+		assertThat(beast.getId(), is(0));
+		assertThat(beast.getName(), is(nullValue()));
+		assertThat(beast.getDescription(), is(nullValue()));
+		assertThat(beast.getWeakness(), is(Optional.empty()));
+		assertThat(beast.getExperience(), is(0.0));
+		assertThat(beast.getSize(), is(0));
+		assertThat(beast.getAreas(), is(ImmutableList.of()));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		assertThat(GSON.fromJson(GSON.toJson(KING_BLACK_DRAGON), Beast.class), is(KING_BLACK_DRAGON));
+	}
+
+	@Test
+	public void testRoundTripKeepsMissingFields() {
+		Beast beast = GSON.fromJson("{\"id\":1}", Beast.class);
+		assertThat(GSON.fromJson(GSON.toJson(beast), Beast.class), is(beast));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testMalformedExperience() {
+		Beast beast = GSON.fromJson("{\"id\":1,\"xp\":\"lots\"}", Beast.class);
+		assertThat(beast.getId(), is(1));
+		beast.getExperience();
+	}
+
+	@Test
+	public void testSearchResults() {
+		SearchResult[] results = GSON.fromJson("[{\"value\":1003,\"label\":\"Lord Iban\"},{\"value\":-1}]", SearchResult[].class);
+		assertThat(results[0], is(new SearchResult(1003, "Lord Iban")));
+		assertThat(results[1], is(nullValue()));
+		assertThat(Bestiary.resultsToImmutableMap(results).size(), is(1));
+	}
+}
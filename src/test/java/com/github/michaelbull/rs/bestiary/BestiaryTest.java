@@ -139,7 +139,7 @@ public final class BestiaryTest {
 		new SearchResult(6471, "Mosschin (30)")
 	};
 
-	private static final class FakeClient implements Client {
+	static final class FakeClient implements Client {
 		@Override
 		@SuppressWarnings("unchecked")
 		public <T> Optional<T> fromJson(String url, Type typeOfT) {
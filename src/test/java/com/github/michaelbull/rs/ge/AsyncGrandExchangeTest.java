@@ -0,0 +1,39 @@
+package com.github.michaelbull.rs.ge;
+
+import com.github.michaelbull.rs.CompletedAsyncClient;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AsyncGrandExchangeTest {
+
+	private final AsyncGrandExchange ge = new AsyncGrandExchange(new CompletedAsyncClient(new GrandExchangeTest.FakeClient()));
+
+	@Test
+	public void testCategory() {
+		Category category = ge.category("Potions").join().get();
+		assertThat(category.getResult(0).get().getItems(), is(44));
+	}
+
+	@Test
+	public void testCategoryPrices() {
+		CategoryPrices prices = ge.categoryPrices("Ammo", "a", 1).join().get();
+		assertThat(prices.getTotal(), is(82));
+	}
+
+	@Test
+	public void testGraphingData() {
+		assertThat(ge.graphingData(31597).join().isPresent(), is(false));
+		assertThat(ge.graphingData(4798).join().get().getDailyPrice(LocalDate.of(2014, Month.DECEMBER, 25)).getAsInt(), is(90));
+	}
+
+	@Test
+	public void testItemPriceInformation() {
+		assertThat(ge.itemPriceInformation(4798).join().isPresent(), is(false));
+		assertThat(ge.itemPriceInformation(31597).join().get().getItem().getName(), is("Azure skillchompa"));
+	}
+}
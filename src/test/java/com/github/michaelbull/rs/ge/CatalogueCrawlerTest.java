@@ -0,0 +1,179 @@
+package com.github.michaelbull.rs.ge;
+
+import com.github.michaelbull.rs.Client;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class CatalogueCrawlerTest {
+
+	private static final int POTIONS_CATEGORY_ID = 26;
+
+	private static final int ARROWS_CATEGORY_ID = 4;
+
+	private static final Category POTIONS = new Category(
+		new Object[0],
+		new SearchResult("#", 1),
+		new SearchResult("a", 25),
+		new SearchResult("c", 12),
+		new SearchResult("x", 0)
+	);
+
+	private static final Category ARROWS = new Category(
+		new Object[0],
+		new SearchResult("b", 3)
+	);
+
+	private static final Category EMPTY_CATEGORY = new Category(new Object[0]);
+
+	private static final int MISSING_CATEGORY_ID = 39;
+
+	static final class FakeClient implements Client {
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maximumInFlight = new AtomicInteger();
+		private final AtomicInteger requests = new AtomicInteger();
+
+		@Override
+		public <T> Optional<T> fromJson(String url, Type typeOfT) {
+			Preconditions.checkNotNull(url);
+			Preconditions.checkNotNull(typeOfT);
+			return Optional.empty();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Optional<T> fromJson(String url, Class<T> classOfT) {
+			Preconditions.checkNotNull(url);
+			Preconditions.checkNotNull(classOfT);
+
+			maximumInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			requests.incrementAndGet();
+
+			try {
+				Thread.sleep(5);
+				return Optional.ofNullable((T) respond(url));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		}
+
+		private static Object respond(String url) {
+			if (url.startsWith("http://services.runescape.com/m=itemdb_rs/api/catalogue/category.json?category=")) {
+				int categoryId = Integer.parseInt(url.substring(url.indexOf("category=") + "category=".length()));
+
+				switch (categoryId) {
+					case POTIONS_CATEGORY_ID:
+						return POTIONS;
+
+					case ARROWS_CATEGORY_ID:
+						return ARROWS;
+
+					case MISSING_CATEGORY_ID:
+						return null;
+
+					default:
+						return EMPTY_CATEGORY;
+				}
+			}
+
+			if (url.startsWith("http://services.runescape.com/m=itemdb_rs/api/catalogue/items.json?")) {
+				int categoryId = Integer.parseInt(url.substring(url.indexOf("category=") + "category=".length(), url.indexOf('&')));
+				String alpha = url.substring(url.indexOf("alpha=") + "alpha=".length(), url.lastIndexOf('&')).replace("%23", "#");
+				int page = Integer.parseInt(url.substring(url.indexOf("page=") + "page=".length()));
+
+				if (categoryId == POTIONS_CATEGORY_ID && alpha.equals("c")) {
+					return null;
+				}
+
+				return new CategoryPrices(0, item(categoryId * 10_000 + alpha.charAt(0) * 10 + page));
+			}
+
+			return null;
+		}
+
+		private static Item item(int id) {
+			return Item.builder(id)
+				.type("Potions")
+				.name("Item " + id)
+				.description("A generated item.")
+				.currentPrice(new PriceTrend("neutral", id))
+				.todaysPrice(new PriceTrend("neutral", 0))
+				.build();
+		}
+
+		@Override
+		public ImmutableList<CSVRecord> fromCSV(String url) {
+			Preconditions.checkNotNull(url);
+			return ImmutableList.of();
+		}
+	}
+
+	private final FakeClient client = new FakeClient();
+
+	private final CatalogueCrawler crawler = CatalogueCrawler.builder()
+		.concurrency(2)
+		.build(new GrandExchange(client));
+
+	@Test
+	public void testPlan() throws IOException {
+		ImmutableList<CatalogueCrawler.Page> pages = crawler.plan(Arrays.asList(POTIONS_CATEGORY_ID, ARROWS_CATEGORY_ID, 0));
+
+		assertThat(pages, is(ImmutableList.of(
+			new CatalogueCrawler.Page(POTIONS_CATEGORY_ID, "#", 1),
+			new CatalogueCrawler.Page(POTIONS_CATEGORY_ID, "a", 1),
+			new CatalogueCrawler.Page(POTIONS_CATEGORY_ID, "a", 2),
+			new CatalogueCrawler.Page(POTIONS_CATEGORY_ID, "a", 3),
+			new CatalogueCrawler.Page(POTIONS_CATEGORY_ID, "c", 1),
+			new CatalogueCrawler.Page(ARROWS_CATEGORY_ID, "b", 1)
+		)));
+	}
+
+	@Test
+	public void testCrawl() throws IOException {
+		List<Integer> ids = new ArrayList<>();
+		ImmutableList<CatalogueCrawler.Page> pages = crawler.plan(Arrays.asList(POTIONS_CATEGORY_ID, ARROWS_CATEGORY_ID, 0));
+		ImmutableList<CatalogueCrawler.Page> missing = crawler.crawl(pages, item -> ids.add(item.getId()));
+
+		assertThat(missing, is(ImmutableList.of(new CatalogueCrawler.Page(POTIONS_CATEGORY_ID, "c", 1))));
+		assertThat(ids, containsInAnyOrder(
+			POTIONS_CATEGORY_ID * 10_000 + '#' * 10 + 1,
+			POTIONS_CATEGORY_ID * 10_000 + 'a' * 10 + 1,
+			POTIONS_CATEGORY_ID * 10_000 + 'a' * 10 + 2,
+			POTIONS_CATEGORY_ID * 10_000 + 'a' * 10 + 3,
+			ARROWS_CATEGORY_ID * 10_000 + 'b' * 10 + 1
+		));
+	}
+
+	@Test
+	public void testCrawlRespectsConcurrency() throws IOException {
+		crawler.crawl(crawler.plan(Arrays.asList(POTIONS_CATEGORY_ID, ARROWS_CATEGORY_ID)), item -> { /* empty */ });
+		assertThat(client.requests.get(), is(2 + 6));
+		assertThat(client.maximumInFlight.get() <= 2, is(true));
+	}
+
+	@Test(expected = IOException.class)
+	public void testPlanThrowsIOExceptionForMissingCategory() throws IOException {
+		crawler.plan(Arrays.asList(POTIONS_CATEGORY_ID, MISSING_CATEGORY_ID));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBuilderThrowsIllegalArgumentException() {
+		CatalogueCrawler.builder().concurrency(0);
+	}
+}
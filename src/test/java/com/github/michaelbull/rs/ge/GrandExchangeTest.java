@@ -1,5 +1,6 @@
 package com.github.michaelbull.rs.ge;
 
+import com.github.michaelbull.rs.BatchResult;
 import com.github.michaelbull.rs.Client;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
@@ -11,6 +12,7 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.greaterThan;
@@ -72,7 +74,7 @@ public final class GrandExchangeTest {
 		)
 	);
 
-	private static final class FakeClient implements Client {
+	static final class FakeClient implements Client {
 		@Override
 		public <T> Optional<T> fromJson(String url, Type typeOfT) {
 			Preconditions.checkNotNull(url);
@@ -191,4 +193,19 @@ public final class GrandExchangeTest {
 		assertThat(item.getDay90().get().getChange(), is("+5.0%"));
 		assertThat(item.getDay180().get().getChange(), is("-13.0%"));
 	}
+
+	@Test
+	public void testBatchItemPriceInformation() throws IOException {
+		BatchResult<Integer, ItemPriceInformation> result = ge.itemPriceInformation(Arrays.asList(AZURE_SKILLCHOMPA_ID, ADAMANT_BRUTAL_ID, AZURE_SKILLCHOMPA_ID));
+		assertThat(result.getResults(), is(ImmutableMap.of(AZURE_SKILLCHOMPA_ID, new ItemPriceInformation(AZURE_SKILLCHOMPA))));
+		assertThat(result.getMissing().asList(), is(ImmutableList.of(ADAMANT_BRUTAL_ID)));
+		assertThat(result.isComplete(), is(true));
+	}
+
+	@Test
+	public void testBatchGraphingData() throws IOException {
+		BatchResult<Integer, GraphingData> result = ge.graphingData(Arrays.asList(ADAMANT_BRUTAL_ID, AZURE_SKILLCHOMPA_ID));
+		assertThat(result.getResults(), is(ImmutableMap.of(ADAMANT_BRUTAL_ID, DUMMY_GRAPHING_DATA)));
+		assertThat(result.getMissing().asList(), is(ImmutableList.of(AZURE_SKILLCHOMPA_ID)));
+	}
 }
@@ -0,0 +1,173 @@
+package com.github.michaelbull.rs.ge;
+
+import com.github.michaelbull.rs.Client;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class GrandExchangeUpdateWatcherTest {
+
+	private static final int WHIP_ID = 4151;
+
+	private static final int PLATEBODY_ID = 1127;
+
+	private static final int FAILING_ID = 314;
+
+	private static final LocalDate FIRST_DAY = LocalDate.of(2018, 3, 1);
+
+	static final class FakeClient implements Client {
+		private final AtomicInteger requests = new AtomicInteger();
+		private volatile LocalDate latestDay = FIRST_DAY;
+
+		@Override
+		public <T> Optional<T> fromJson(String url, Type typeOfT) {
+			Preconditions.checkNotNull(url);
+			Preconditions.checkNotNull(typeOfT);
+			return Optional.empty();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> Optional<T> fromJson(String url, Class<T> classOfT) throws IOException {
+			Preconditions.checkNotNull(url);
+			Preconditions.checkNotNull(classOfT);
+			requests.incrementAndGet();
+
+			if (url.equals("http://services.runescape.com/m=itemdb_rs/api/graph/" + FAILING_ID + ".json")) {
+				throw new IOException("Service unavailable.");
+			}
+
+			ImmutableMap<LocalDate, Integer> prices = ImmutableMap.of(
+				latestDay.minusDays(1), 100,
+				latestDay, 110
+			);
+			return Optional.of((T) GraphingData.fromLocalDates(prices, prices));
+		}
+
+		@Override
+		public ImmutableList<CSVRecord> fromCSV(String url) {
+			Preconditions.checkNotNull(url);
+			return ImmutableList.of();
+		}
+	}
+
+	private final FakeClient client = new FakeClient();
+
+	private final GrandExchangeUpdateWatcher watcher = GrandExchangeUpdateWatcher.builder()
+		.sentinels(FAILING_ID, WHIP_ID, PLATEBODY_ID)
+		.build(new GrandExchange(client));
+
+	@Test
+	public void testFirstPollOnlyRecordsLatestDay() throws IOException {
+		List<LocalDate> updates = new ArrayList<>();
+		watcher.addListener(updates::add);
+
+		assertThat(watcher.getLatestDay(), is(Optional.empty()));
+		assertThat(watcher.poll(), is(Optional.empty()));
+		assertThat(watcher.getLatestDay(), is(Optional.of(FIRST_DAY)));
+		assertThat(updates.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testPollPublishesEachNewDayOnce() throws IOException {
+		List<LocalDate> updates = new ArrayList<>();
+		watcher.addListener(updates::add);
+		watcher.poll();
+
+		LocalDate nextDay = FIRST_DAY.plusDays(1);
+		client.latestDay = nextDay;
+
+		assertThat(watcher.poll(), is(Optional.of(nextDay)));
+		assertThat(watcher.poll(), is(Optional.empty()));
+		assertThat(updates, is(ImmutableList.of(nextDay)));
+		assertThat(watcher.getLatestDay(), is(Optional.of(nextDay)));
+	}
+
+	@Test
+	public void testPollStopsAtFirstSentinelShowingNewDay() throws IOException {
+		watcher.poll();
+		client.requests.set(0);
+		client.latestDay = FIRST_DAY.plusDays(1);
+
+		watcher.poll();
+		assertThat(client.requests.get(), is(2));
+	}
+
+	@Test
+	public void testListenerFailureDoesNotStopOtherListeners() throws IOException {
+		List<LocalDate> updates = new ArrayList<>();
+		watcher.addListener(day -> {
+			throw new IllegalStateException();
+		});
+		watcher.addListener(updates::add);
+		watcher.poll();
+
+		client.latestDay = FIRST_DAY.plusDays(1);
+
+		try {
+			watcher.poll();
+		} catch (IllegalStateException e) {
+			/* expected */
+		}
+
+		assertThat(updates, is(ImmutableList.of(FIRST_DAY.plusDays(1))));
+	}
+
+	@Test(expected = IOException.class)
+	public void testPollThrowsIOExceptionWhenEverySentinelFails() throws IOException {
+		GrandExchangeUpdateWatcher.builder()
+			.sentinels(FAILING_ID)
+			.build(new GrandExchange(client))
+			.poll();
+	}
+
+	@Test
+	public void testScheduledFailureIsReportedToListeners() throws InterruptedException {
+		BlockingQueue<Exception> failures = new LinkedBlockingQueue<>();
+		GrandExchangeUpdateWatcher failing = GrandExchangeUpdateWatcher.builder()
+			.sentinels(FAILING_ID)
+			.build(new GrandExchange(client));
+
+		failing.addListener(new GrandExchangeUpdateWatcher.Listener() {
+			@Override
+			public void onUpdate(LocalDate day) {
+				/* empty */
+			}
+
+			@Override
+			public void onFailure(Exception failure) {
+				failures.add(failure);
+			}
+		});
+
+		try {
+			failing.start();
+			Exception failure = failures.poll(5, TimeUnit.SECONDS);
+			assertThat(failure instanceof IOException, is(true));
+		} finally {
+			failing.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBuilderThrowsIllegalArgumentException() {
+		GrandExchangeUpdateWatcher.builder().interval(Duration.ZERO);
+	}
+}
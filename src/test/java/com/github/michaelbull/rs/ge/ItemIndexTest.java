@@ -0,0 +1,117 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ItemIndexTest {
+
+	private static final int ABYSSAL_WHIP_ID = 4151;
+
+	private static final int ABYSSAL_DAGGER_ID = 13265;
+
+	private static final int ABYSSAL_WAND_ID = 30825;
+
+	private static final int RUNE_PLATEBODY_ID = 1127;
+
+	private static final int RUNE_PLATEBODY_G_ID = 2615;
+
+	private static final int RUNE_ID = 9999;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final ItemIndex index = ItemIndex.builder()
+		.add(ABYSSAL_WHIP_ID, "Abyssal whip")
+		.add(ABYSSAL_DAGGER_ID, "Abyssal dagger")
+		.add(ABYSSAL_WAND_ID, "Abyssal wand")
+		.add(RUNE_PLATEBODY_ID, "Rune platebody")
+		.add(RUNE_PLATEBODY_G_ID, "Rune platebody (g)")
+		.add(RUNE_ID, "Rune")
+		.build();
+
+	@Test
+	public void testExact() {
+		assertThat(index.exact("abyssal WHIP"), is(ImmutableList.of(ABYSSAL_WHIP_ID)));
+		assertThat(index.exact("Rune"), is(ImmutableList.of(RUNE_ID)));
+		assertThat(index.exact("Abyssal"), is(ImmutableList.of()));
+		assertThat(index.exact("Dragon"), is(ImmutableList.of()));
+	}
+
+	@Test
+	public void testExactWithDuplicateNames() {
+		ItemIndex duplicates = ItemIndex.builder()
+			.add(20, "Coins")
+			.add(10, "coins")
+			.build();
+
+		assertThat(duplicates.exact("COINS"), is(ImmutableList.of(10, 20)));
+	}
+
+	@Test
+	public void testPrefix() {
+		assertThat(index.prefix("aby"), is(ImmutableList.of(ABYSSAL_DAGGER_ID, ABYSSAL_WAND_ID, ABYSSAL_WHIP_ID)));
+		assertThat(index.prefix("Abyssal w"), is(ImmutableList.of(ABYSSAL_WAND_ID, ABYSSAL_WHIP_ID)));
+		assertThat(index.prefix("rune", 2), is(ImmutableList.of(RUNE_ID, RUNE_PLATEBODY_ID)));
+		assertThat(index.prefix("").size(), is(6));
+		assertThat(index.prefix("x"), is(ImmutableList.of()));
+	}
+
+	@Test
+	public void testFuzzy() {
+		assertThat(index.fuzzy("abysal whip", 0), is(ImmutableList.of()));
+		assertThat(index.fuzzy("abysal whip", 1), is(ImmutableList.of(ABYSSAL_WHIP_ID)));
+		assertThat(index.fuzzy("abyssal whnd", 2), is(ImmutableList.of(ABYSSAL_WAND_ID, ABYSSAL_WHIP_ID)));
+		assertThat(index.fuzzy("rune platbody (g)", 1), is(ImmutableList.of(RUNE_PLATEBODY_G_ID)));
+		assertThat(index.fuzzy("rune", 0), is(ImmutableList.of(RUNE_ID)));
+	}
+
+	@Test
+	public void testGetName() {
+		assertThat(index.getName(RUNE_PLATEBODY_G_ID), is(Optional.of("Rune platebody (g)")));
+		assertThat(index.getName(1), is(Optional.empty()));
+	}
+
+	@Test
+	public void testSaveAndLoad() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("items.bin");
+		index.save(path);
+
+		ItemIndex loaded = ItemIndex.load(path);
+		assertThat(loaded.size(), is(index.size()));
+		assertThat(loaded.prefix(""), is(index.prefix("")));
+		assertThat(loaded.getName(ABYSSAL_DAGGER_ID), is(Optional.of("Abyssal dagger")));
+		assertThat(loaded.fuzzy("rune platebdy", 1), is(ImmutableList.of(RUNE_PLATEBODY_ID)));
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		ItemIndex empty = ItemIndex.builder().build();
+		Path path = folder.getRoot().toPath().resolve("empty.bin");
+		empty.save(path);
+
+		assertThat(ItemIndex.load(path).size(), is(0));
+		assertThat(empty.prefix("a"), is(ImmutableList.of()));
+		assertThat(empty.fuzzy("a", 1), is(ImmutableList.of()));
+	}
+
+	@Test(expected = IOException.class)
+	public void testLoadThrowsIOExceptionForTruncatedFile() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("items.bin");
+		index.save(path);
+
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+		ItemIndex.load(path);
+	}
+}
@@ -0,0 +1,125 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ItemSnapshotTest {
+
+	private static final int ABYSSAL_WHIP_ID = 4151;
+	private static final Item ABYSSAL_WHIP = Item.builder(ABYSSAL_WHIP_ID)
+		.icon("http://services.runescape.com/m=itemdb_rs/5427_obj_sprite.gif?id=4151")
+		.largeIcon("http://services.runescape.com/m=itemdb_rs/5427_obj_big.gif?id=4151")
+		.type("Melee weapons - high level")
+		.typeIcon("http://www.runescape.com/img/categories/Melee weapons - high level")
+		.name("Abyssal whip")
+		.description("A weapon from the abyss.")
+		.currentPrice(new PriceTrend("neutral", "117.5k"))
+		.todaysPrice(new PriceTrend("negative", "- 2,367"))
+		.membersOnly()
+		.priceChange30Days(new PriceChange("positive", "+1.0%"))
+		.priceChange90Days(new PriceChange("negative", "-5.0%"))
+		.priceChange180Days(new PriceChange("neutral", "0.0%"))
+		.build();
+
+	private static final int ABYSSAL_DAGGER_ID = 13265;
+	private static final Item ABYSSAL_DAGGER = Item.builder(ABYSSAL_DAGGER_ID)
+		.icon("http://services.runescape.com/m=itemdb_rs/5427_obj_sprite.gif?id=13265")
+		.largeIcon("http://services.runescape.com/m=itemdb_rs/5427_obj_big.gif?id=13265")
+		.type("Melee weapons - high level")
+		.typeIcon("http://www.runescape.com/img/categories/Melee weapons - high level")
+		.name("Abyssal dagger")
+		.description("Something sharp from the body of a defeated Abyssal Demon.")
+		.currentPrice(new PriceTrend("positive", 9847))
+		.todaysPrice(new PriceTrend("positive", "+50"))
+		.membersOnly()
+		.priceChange30Days(new PriceChange("positive", "+1.0%"))
+		.build();
+
+	private static final int BRONZE_ARROW_ID = 882;
+	private static final Item BRONZE_ARROW = Item.builder(BRONZE_ARROW_ID)
+		.icon("https://example.com/custom-icon.gif")
+		.type("Arrows")
+		.name("Bronze arrow")
+		.description("Arrows with bronze heads.")
+		.currentPrice(new PriceTrend("neutral", 21))
+		.todaysPrice(new PriceTrend("neutral", 0))
+		.build();
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private Path write(Iterable<Item> items) throws IOException {
+		Path path = folder.getRoot().toPath().resolve("items.bin");
+		ItemSnapshot.write(path, items);
+		return path;
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		ItemSnapshot snapshot = ItemSnapshot.open(write(Arrays.asList(ABYSSAL_WHIP, BRONZE_ARROW, ABYSSAL_DAGGER)));
+
+		assertThat(snapshot.size(), is(3));
+		assertThat(snapshot.get(ABYSSAL_WHIP_ID), is(Optional.of(ABYSSAL_WHIP)));
+		assertThat(snapshot.get(ABYSSAL_DAGGER_ID), is(Optional.of(ABYSSAL_DAGGER)));
+		assertThat(snapshot.get(BRONZE_ARROW_ID), is(Optional.of(BRONZE_ARROW)));
+		assertThat(snapshot.get(ABYSSAL_WHIP_ID).get().getIconLarge(), is(ABYSSAL_WHIP.getIconLarge()));
+		assertThat(snapshot.get(ABYSSAL_WHIP_ID).get().getCurrentPrice().getPriceCoins(), is(OptionalLong.of(117_500L)));
+		assertThat(snapshot.get(1), is(Optional.empty()));
+		assertThat(snapshot.contains(BRONZE_ARROW_ID), is(true));
+	}
+
+	@Test
+	public void testRoundTripKeepsUnknownTrendsAndPrices() throws IOException {
+		Item item = Item.builder(BRONZE_ARROW_ID)
+			.icon("https://example.com/custom-icon.gif")
+			.type("Arrows")
+			.name("Bronze arrow")
+			.description("Arrows with bronze heads.")
+			.currentPrice(new PriceTrend("sideways", "12 coins"))
+			.todaysPrice(new PriceTrend("neutral", 0))
+			.priceChange90Days(new PriceChange("sideways", "n/a"))
+			.build();
+
+		ItemSnapshot snapshot = ItemSnapshot.open(write(Arrays.asList(item, ABYSSAL_WHIP)));
+		assertThat(snapshot.get(BRONZE_ARROW_ID), is(Optional.of(item)));
+		assertThat(snapshot.get(ABYSSAL_WHIP_ID), is(Optional.of(ABYSSAL_WHIP)));
+	}
+
+	@Test
+	public void testForEachIsInOrderOfId() throws IOException {
+		ItemSnapshot snapshot = ItemSnapshot.open(write(new CategoryPrices(3, ABYSSAL_DAGGER, ABYSSAL_WHIP, BRONZE_ARROW).getItems()));
+
+		List<Item> items = new ArrayList<>();
+		snapshot.forEach(items::add);
+		assertThat(items, is(ImmutableList.of(BRONZE_ARROW, ABYSSAL_WHIP, ABYSSAL_DAGGER)));
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		ItemSnapshot snapshot = ItemSnapshot.open(write(ImmutableList.of()));
+		assertThat(snapshot.size(), is(0));
+		assertThat(snapshot.get(ABYSSAL_WHIP_ID), is(Optional.empty()));
+	}
+
+	@Test(expected = IOException.class)
+	public void testOpenThrowsIOExceptionForTruncatedFile() throws IOException {
+		Path path = write(Arrays.asList(ABYSSAL_WHIP, ABYSSAL_DAGGER));
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+		ItemSnapshot.open(path);
+	}
+}
@@ -0,0 +1,95 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ItemTypeAdapterTest {
+
+	private static final int ITEM_COUNT = 1_000;
+
+	private static final Gson GSON = new Gson();
+
+	private static String json(int id) {
+		return "{"
+			+ "\"icon\":\"http://services.runescape.com/m=itemdb_rs/5427_obj_sprite.gif?id=" + id + "\","
+			+ "\"icon_large\":\"http://services.runescape.com/m=itemdb_rs/5427_obj_big.gif?id=" + id + "\","
+			+ "\"id\":" + id + ","
+			+ "\"type\":\"Melee weapons - high level\","
+			+ "\"typeIcon\":\"http://www.runescape.com/img/categories/Melee weapons - high level\","
+			+ "\"name\":\"Item " + id + "\","
+			+ "\"description\":\"Description " + id + "\","
+			+ "\"current\":{\"trend\":\"neutral\",\"price\":\"117.5k\"},"
+			+ "\"today\":{\"trend\":\"neutral\",\"price\":0},"
+			+ "\"members\":\"true\","
+			+ "\"day30\":{\"trend\":\"positive\",\"change\":\"+1.0%\"},"
+			+ "\"day90\":{\"trend\":\"negative\",\"change\":\"-5.0%\"},"
+			+ "\"day180\":{\"trend\":\"neutral\",\"change\":\"0.0%\"}"
+			+ "}";
+	}
+
+	private static Item[] catalogue() {
+		String json = IntStream.range(0, ITEM_COUNT).mapToObj(ItemTypeAdapterTest::json).collect(Collectors.joining(",", "[", "]"));
+		return GSON.fromJson(json, Item[].class);
+	}
+
+	/**
+	 * Counts the distinct instances, rather than distinct values, of a field across many {@link Item}s: the number of
+	 * copies of it that would appear in a heap histogram.
+	 */
+	private static int instances(Item[] items, Function<Item, Object> field) {
+		Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+		Stream.of(items).map(field).forEach(instances::add);
+		return instances.size();
+	}
+
+	@Test
+	public void testRead() {
+		Item item = GSON.fromJson(json(4151), Item.class);
+
+		assertThat(item.getId(), is(4151));
+		assertThat(item.getIcon(), is("http://services.runescape.com/m=itemdb_rs/5427_obj_sprite.gif?id=4151"));
+		assertThat(item.getIconLarge(), is("http://services.runescape.com/m=itemdb_rs/5427_obj_big.gif?id=4151"));
+		assertThat(item.getType(), is("Melee weapons - high level"));
+		assertThat(item.isMembersOnly(), is(true));
+		assertThat(item.getCurrentPrice().getPriceCoins(), is(OptionalLong.of(117_500L)));
+		assertThat(item.getDay90().get().getTrendType(), is(Optional.of(Trend.NEGATIVE)));
+	}
+
+	@Test
+	public void testWriteRoundTrip() {
+		Item item = GSON.fromJson(json(4151), Item.class);
+		assertThat(GSON.fromJson(GSON.toJson(item), Item.class), is(item));
+	}
+
+	@Test
+	public void testSharedStringsHaveOneInstance() {
+		Item[] items = catalogue();
+
+		assertThat(instances(items, Item::getType), is(1));
+		assertThat(instances(items, Item::getTypeIcon), is(1));
+		assertThat(instances(items, item -> item.getCurrentPrice().getPrice()), is(1));
+		assertThat(instances(items, item -> item.getTodaysPrice().getPrice()), is(1));
+		assertThat(instances(items, item -> item.getDay30().get().getChange()), is(1));
+		assertThat(instances(items, item -> item.getDay180().get().getTrend()), is(1));
+		assertThat(instances(items, Item::getName), is(ITEM_COUNT));
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testReadThrowsJsonSyntaxExceptionWithoutPrices() {
+		GSON.fromJson("{\"id\":1,\"name\":\"Coins\"}", Item.class);
+	}
+}
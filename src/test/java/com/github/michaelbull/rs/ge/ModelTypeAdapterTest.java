@@ -0,0 +1,67 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ModelTypeAdapterTest {
+
+	private static final Gson GSON = new Gson();
+
+	private static final String WHIP_JSON = "{"
+		+ "\"icon\":\"http://services.runescape.com/m=itemdb_rs/5427_obj_sprite.gif?id=4151\","
+		+ "\"icon_large\":\"http://services.runescape.com/m=itemdb_rs/5427_obj_big.gif?id=4151\","
+		+ "\"id\":4151,"
+		+ "\"type\":\"Melee weapons - high level\","
+		+ "\"typeIcon\":\"http://www.runescape.com/img/categories/Melee weapons - high level\","
+		+ "\"name\":\"Abyssal whip\","
+		+ "\"description\":\"A weapon from the abyss.\","
+		+ "\"current\":{\"trend\":\"neutral\",\"price\":\"117.5k\"},"
+		+ "\"today\":{\"trend\":\"neutral\",\"price\":0},"
+		+ "\"members\":\"true\""
+		+ "}";
+
+	@Test
+	public void testItemPriceInformation() {
+		ItemPriceInformation information = GSON.fromJson("{\"item\":" + WHIP_JSON + "}", ItemPriceInformation.class);
+
+		assertThat(information.getItem().getId(), is(4151));
+		assertThat(information.getItem().getName(), is("Abyssal whip"));
+		assertThat(GSON.fromJson(GSON.toJson(information), ItemPriceInformation.class), is(information));
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testItemPriceInformationWithoutItem() {
+		GSON.fromJson("{}", ItemPriceInformation.class);
+	}
+
+	@Test
+	public void testCategoryPrices() {
+		CategoryPrices prices = GSON.fromJson("{\"total\":2,\"items\":[" + WHIP_JSON + ",null]}", CategoryPrices.class);
+
+		assertThat(prices.getTotal(), is(2));
+		assertThat(prices.getItems().size(), is(1));
+		assertThat(GSON.fromJson(GSON.toJson(prices), CategoryPrices.class), is(prices));
+	}
+
+	@Test
+	public void testCategory() {
+		Category category = GSON.fromJson("{\"types\":[],\"alpha\":[{\"letter\":\"#\",\"items\":0},{\"letter\":\"a\",\"items\":12,\"extra\":true}]}", Category.class);
+
+		assertThat(category.getTypes(), is(ImmutableList.of()));
+		assertThat(category.getAlpha(), is(ImmutableList.of(new SearchResult("#", 0), new SearchResult("a", 12))));
+		assertThat(GSON.fromJson(GSON.toJson(category), Category.class), is(category));
+	}
+
+	@Test
+	public void testCategoryUntypedValues() {
+		Category category = GSON.fromJson("{\"types\":[{\"name\":\"a\",\"ids\":[1,2.5]},\"b\",true,null],\"alpha\":[]}", Category.class);
+
+		assertThat(category.getTypes().size(), is(3));
+		assertThat(GSON.toJson(category), is("{\"types\":[{\"name\":\"a\",\"ids\":[1.0,2.5]},\"b\",true],\"alpha\":[]}"));
+	}
+}
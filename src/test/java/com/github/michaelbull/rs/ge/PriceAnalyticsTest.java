@@ -0,0 +1,118 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PriceAnalyticsTest {
+
+	private static final double ERROR = 1e-9;
+
+	private static PriceSeries series(long firstEpochDay, int... prices) {
+		long[] epochDays = new long[prices.length];
+		for (int i = 0; i < prices.length; i++) {
+			epochDays[i] = firstEpochDay + i;
+		}
+		return PriceSeries.of(epochDays, prices.clone(), prices.length);
+	}
+
+	private final PriceAnalytics analytics = new PriceAnalytics();
+
+	private final PriceSeries prices = series(16_000, 10, 12, 11, 15, 9, 9, 14);
+
+	@Test
+	public void testSimpleMovingAverage() {
+		double[] out = new double[prices.size()];
+		analytics.simpleMovingAverage(prices, 3, out);
+
+		assertThat(Double.isNaN(out[1]), is(true));
+		assertThat(out[2], closeTo(11, ERROR));
+		assertThat(out[3], closeTo(38 / 3.0, ERROR));
+		assertThat(out[6], closeTo(32 / 3.0, ERROR));
+	}
+
+	@Test
+	public void testExponentialMovingAverage() {
+		double[] out = new double[prices.size()];
+		analytics.exponentialMovingAverage(prices, 3, out);
+
+		assertThat(out[0], closeTo(10, ERROR));
+		assertThat(out[1], closeTo(11, ERROR));
+		assertThat(out[2], closeTo(11, ERROR));
+		assertThat(out[3], closeTo(13, ERROR));
+	}
+
+	@Test
+	public void testRollingStandardDeviation() {
+		double[] out = new double[prices.size()];
+		analytics.rollingStandardDeviation(prices.slice(1, 7), 2, out);
+
+		assertThat(Double.isNaN(out[0]), is(true));
+		assertThat(out[1], closeTo(0.5, ERROR));
+		assertThat(out[2], closeTo(2, ERROR));
+		assertThat(out[4], closeTo(0, ERROR));
+	}
+
+	@Test
+	public void testRollingMinimumAndMaximum() {
+		double[] min = new double[prices.size()];
+		double[] max = new double[prices.size()];
+		analytics.rollingMinimum(prices, 3, min);
+		analytics.rollingMaximum(prices, 3, max);
+
+		assertThat(min, is(new double[] { Double.NaN, Double.NaN, 10, 11, 9, 9, 9 }));
+		assertThat(max, is(new double[] { Double.NaN, Double.NaN, 12, 15, 15, 15, 14 }));
+
+		PriceSeries falling = series(0, 9, 8, 7, 6, 5, 4, 3, 2);
+		double[] fallingMax = new double[falling.size()];
+		analytics.rollingMaximum(falling, 4, fallingMax);
+		assertThat(fallingMax[7], is(5.0));
+	}
+
+	@Test
+	public void testRelativeStrengthIndex() {
+		double[] out = new double[prices.size()];
+		analytics.relativeStrengthIndex(prices, 2, out);
+
+		assertThat(Double.isNaN(out[1]), is(true));
+		assertThat(out[2], closeTo(100 - 100 / (1 + 2 / 1.0), ERROR));
+
+		double[] flat = new double[3];
+		analytics.relativeStrengthIndex(series(0, 1, 1, 1), 2, flat);
+		assertThat(flat[2], is(50.0));
+	}
+
+	@Test
+	public void testPercentChange() {
+		assertThat(analytics.percentChange(prices, 3), closeTo(-100 / 15.0, ERROR));
+		assertThat(analytics.percentChange(prices, 6), closeTo(40, ERROR));
+		assertThat(Double.isNaN(analytics.percentChange(prices, 7)), is(true));
+
+		PriceSeries gaps = PriceSeries.of(new long[] { 0, 5, 10 }, new int[] { 100, 200, 300 }, 3);
+		assertThat(analytics.percentChange(gaps, 7), closeTo(200, ERROR));
+	}
+
+	@Test
+	public void testApplyAll() {
+		List<PriceSeries> batch = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			batch.add(series(i, i, i + 1, i + 2, i + 3));
+		}
+
+		double[][] averages = PriceAnalytics.applyAll(batch, (analytics, series, out) -> analytics.simpleMovingAverage(series, 2, out));
+		double[] changes = PriceAnalytics.applyAll(batch, (analytics, series) -> analytics.percentChange(series, 3));
+
+		for (int i = 0; i < batch.size(); i++) {
+			assertThat(averages[i][3], closeTo(i + 2.5, ERROR));
+			assertThat(changes[i], is(i == 0 ? Double.NaN : 300.0 / i));
+		}
+
+		assertThat(PriceAnalytics.applyAll(ImmutableList.of(), (analytics, series) -> 0).length, is(0));
+	}
+}
@@ -0,0 +1,221 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public final class PriceHistoryStoreTest {
+
+	private static final int ABYSSAL_WHIP_ID = 4151;
+
+	private static final int ADAMANT_BRUTAL_ID = 4798;
+
+	private static final LocalDate FIRST_DAY = LocalDate.of(2014, Month.JUNE, 29);
+
+	private static GraphingData history(LocalDate first, int days, int basePrice) {
+		Map<LocalDate, Integer> daily = new LinkedHashMap<>();
+		Map<LocalDate, Integer> average = new LinkedHashMap<>();
+
+		for (int day = 0; day < days; day++) {
+			daily.put(first.plusDays(day), basePrice + (day % 7) * 1_000 - day);
+			average.put(first.plusDays(day), basePrice + day);
+		}
+
+		return GraphingData.fromLocalDates(daily, average);
+	}
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendAndRead() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("prices.bin");
+		GraphingData whip = history(FIRST_DAY, 180, 2_500_000);
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			store.append(ABYSSAL_WHIP_ID, whip);
+			store.append(ADAMANT_BRUTAL_ID, history(FIRST_DAY, 30, 247));
+
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX), is(whip.getDailySeries()));
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.AVERAGE, LocalDate.MIN, LocalDate.MAX), is(whip.getAverageSeries()));
+			assertThat(store.size(), lessThan(180L * 2 * 4));
+		}
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			assertThat(store.itemIds(), is(ImmutableSortedSet.of(ABYSSAL_WHIP_ID, ADAMANT_BRUTAL_ID)));
+			assertThat(store.lastEpochDay(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.DAILY), is(OptionalLong.of(FIRST_DAY.plusDays(29).toEpochDay())));
+			assertThat(store.lastEpochDay(1, PriceHistoryStore.Series.DAILY), is(OptionalLong.empty()));
+
+			LocalDate from = FIRST_DAY.plusDays(10);
+			LocalDate to = FIRST_DAY.plusDays(20);
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, from, to), is(whip.getDailySeries().slice(from, to)));
+		}
+	}
+
+	@Test
+	public void testRangeQueryAcrossItemsAndBlocks() throws IOException {
+		try (PriceHistoryStore store = PriceHistoryStore.open(folder.getRoot().toPath().resolve("prices.bin"))) {
+			store.append(ABYSSAL_WHIP_ID, history(FIRST_DAY, 3, 100));
+			store.append(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, PriceSeries.fromLocalDates(ImmutableMap.of(FIRST_DAY.plusDays(5), 50)));
+			store.append(ADAMANT_BRUTAL_ID, history(FIRST_DAY, 10, 200));
+
+			List<String> points = new ArrayList<>();
+			store.forEach(new int[] { ABYSSAL_WHIP_ID, 1, ADAMANT_BRUTAL_ID }, PriceHistoryStore.Series.DAILY, FIRST_DAY.plusDays(2), FIRST_DAY.plusDays(6),
+				(itemId, epochDay, price) -> points.add(itemId + "@" + (epochDay - FIRST_DAY.toEpochDay()) + "=" + price));
+
+			assertThat(points.toString(), is("[4151@2=2098, 4151@5=50, 4798@2=2198, 4798@3=3197, 4798@4=4196, 4798@5=5195]"));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAppendThrowsIllegalArgumentExceptionForOverlappingDays() throws IOException {
+		try (PriceHistoryStore store = PriceHistoryStore.open(folder.getRoot().toPath().resolve("prices.bin"))) {
+			store.append(ABYSSAL_WHIP_ID, history(FIRST_DAY, 10, 100));
+			store.append(ABYSSAL_WHIP_ID, history(FIRST_DAY.plusDays(9), 10, 100));
+		}
+	}
+
+	@Test
+	public void testUpdateAppendsOnlyNewDays() throws IOException {
+		try (PriceHistoryStore store = PriceHistoryStore.open(folder.getRoot().toPath().resolve("prices.bin"))) {
+			assertThat(store.update(ABYSSAL_WHIP_ID, history(FIRST_DAY, 180, 100)), is(360));
+			store.update(ADAMANT_BRUTAL_ID, history(FIRST_DAY, 180, 200));
+			long size = store.size();
+
+			PriceHistoryUpdate unchanged = store.update(ImmutableMap.of(
+				ABYSSAL_WHIP_ID, history(FIRST_DAY, 180, 100),
+				ADAMANT_BRUTAL_ID, history(FIRST_DAY.plusDays(1), 179, 200)
+			));
+			assertThat(unchanged.isEmpty(), is(true));
+			assertThat(store.size(), is(size));
+
+			PriceHistoryUpdate update = store.update(ImmutableMap.of(
+				ABYSSAL_WHIP_ID, history(FIRST_DAY.plusDays(2), 180, 100),
+				ADAMANT_BRUTAL_ID, history(FIRST_DAY.plusDays(1), 179, 200)
+			));
+			assertThat(update.getChangedItemIds(), is(ImmutableSortedSet.of(ABYSSAL_WHIP_ID)));
+			assertThat(update.getFirstNewEpochDay(ABYSSAL_WHIP_ID), is(OptionalLong.of(FIRST_DAY.plusDays(180).toEpochDay())));
+			/* two new days in each of the daily and average series */
+			assertThat(update.getNewPrices(ABYSSAL_WHIP_ID), is(4));
+			assertThat(update.getNewPrices(ADAMANT_BRUTAL_ID), is(0));
+			assertThat(update.getTotalNewPrices(), is(4));
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX).size(), is(182));
+		}
+	}
+
+	@Test
+	public void testMergeSeries() {
+		PriceSeries previous = history(FIRST_DAY, 10, 100).getDailySeries();
+		PriceSeries recent = history(FIRST_DAY.plusDays(5), 10, 100).getDailySeries();
+
+		PriceSeries merged = previous.merge(recent);
+		assertThat(merged.size(), is(15));
+		assertThat(merged.slice(0, 10), is(previous));
+		assertThat(merged.slice(10, 15), is(recent.after(previous.getEpochDay(9))));
+		assertThat(merged.merge(recent), is(merged));
+	}
+
+	@Test
+	public void testCompact() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("prices.bin");
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			for (int day = 0; day < 30; day++) {
+				store.append(ABYSSAL_WHIP_ID, history(FIRST_DAY.plusDays(day), 1, 1_000 + day));
+			}
+
+			long before = store.size();
+			PriceSeries daily = store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX);
+
+			store.compact();
+			assertThat(store.size(), lessThan(before));
+			assertThat(Files.size(path), is(store.size()));
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX), is(daily));
+
+			store.append(ABYSSAL_WHIP_ID, history(FIRST_DAY.plusDays(30), 1, 5));
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX).size(), is(31));
+		}
+	}
+
+	@Test
+	public void testOpenTruncatesTornBlock() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("prices.bin");
+		GraphingData whip = history(FIRST_DAY, 30, 2_500_000);
+		GraphingData brutal = history(FIRST_DAY, 30, 247);
+		long whipSize;
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			store.append(ABYSSAL_WHIP_ID, whip);
+			whipSize = store.size();
+			store.append(ADAMANT_BRUTAL_ID, brutal);
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 3);
+		}
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.AVERAGE, LocalDate.MIN, LocalDate.MAX), is(whip.getAverageSeries()));
+			assertThat(store.series(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX), is(brutal.getDailySeries()));
+			assertThat(store.lastEpochDay(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.AVERAGE), is(OptionalLong.empty()));
+			assertThat(Files.size(path), is(store.size()));
+			assertThat(store.size() > whipSize, is(true));
+
+			store.append(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.AVERAGE, brutal.getAverageSeries());
+		}
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			assertThat(store.series(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.AVERAGE, LocalDate.MIN, LocalDate.MAX), is(brutal.getAverageSeries()));
+		}
+	}
+
+	@Test
+	public void testOpenTruncatesBlockThatFailsChecksum() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("prices.bin");
+		GraphingData whip = history(FIRST_DAY, 30, 2_500_000);
+		long whipSize;
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			store.append(ABYSSAL_WHIP_ID, whip);
+			whipSize = store.size();
+			store.append(ADAMANT_BRUTAL_ID, history(FIRST_DAY, 30, 247));
+		}
+
+		byte[] bytes = Files.readAllBytes(path);
+		bytes[bytes.length - 10] ^= 0x40;
+		Files.write(path, bytes);
+
+		try (PriceHistoryStore store = PriceHistoryStore.open(path)) {
+			assertThat(store.series(ABYSSAL_WHIP_ID, PriceHistoryStore.Series.DAILY, LocalDate.MIN, LocalDate.MAX), is(whip.getDailySeries()));
+			assertThat(store.lastEpochDay(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.DAILY).isPresent(), is(true));
+			assertThat(store.lastEpochDay(ADAMANT_BRUTAL_ID, PriceHistoryStore.Series.AVERAGE), is(OptionalLong.empty()));
+			assertThat(store.size() > whipSize, is(true));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testOpenThrowsIOExceptionForOtherFiles() throws IOException {
+		Path path = folder.getRoot().toPath().resolve("other.bin");
+		Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		PriceHistoryStore.open(path);
+	}
+}
@@ -0,0 +1,92 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PriceParserTest {
+
+	@Test
+	public void testParseCoins() {
+		assertThat(PriceParser.parseCoins("247"), is(247L));
+		assertThat(PriceParser.parseCoins("3,456"), is(3_456L));
+		assertThat(PriceParser.parseCoins("1,234,567"), is(1_234_567L));
+		assertThat(PriceParser.parseCoins("1.2k"), is(1_200L));
+		assertThat(PriceParser.parseCoins("2.1m"), is(2_100_000L));
+		assertThat(PriceParser.parseCoins("2.15M"), is(2_150_000L));
+		assertThat(PriceParser.parseCoins("1.5b"), is(1_500_000_000L));
+		assertThat(PriceParser.parseCoins(" 12.5 "), is(13L));
+		assertThat(PriceParser.parseCoins("1.2345k"), is(1_235L));
+	}
+
+	@Test
+	public void testParseSignedCoins() {
+		assertThat(PriceParser.parseCoins("+5"), is(5L));
+		assertThat(PriceParser.parseCoins("-24"), is(-24L));
+		assertThat(PriceParser.parseCoins("- 1,024"), is(-1_024L));
+		assertThat(PriceParser.parseCoins("+1.1k"), is(1_100L));
+	}
+
+	@Test
+	public void testParsePercent() {
+		assertThat(PriceParser.parsePercent("+5.0%"), is(5.0));
+		assertThat(PriceParser.parsePercent("-13.0%"), is(-13.0));
+		assertThat(PriceParser.parsePercent("0%"), is(0.0));
+		assertThat(PriceParser.parsePercent("+0.1%"), is(Double.parseDouble("0.1")));
+		assertThat(PriceParser.parsePercent("1,234.56%"), is(1234.56));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testParseCoinsThrowsNumberFormatExceptionForUnknownSuffix() {
+		PriceParser.parseCoins("1.2x");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testParseCoinsThrowsNumberFormatExceptionForOverflow() {
+		PriceParser.parseCoins("999999999999999b");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testParsePercentThrowsNumberFormatExceptionForEmptyText() {
+		PriceParser.parsePercent("%");
+	}
+
+	@Test
+	public void testPriceTrendFromJson() {
+		Gson gson = new Gson();
+
+		PriceTrend current = gson.fromJson("{\"trend\":\"positive\",\"price\":\"1.2k\"}", PriceTrend.class);
+		assertThat(current.getTrendType(), is(Optional.of(Trend.POSITIVE)));
+		assertThat(current.getPriceCoins(), is(OptionalLong.of(1_200L)));
+
+		PriceTrend today = gson.fromJson("{\"trend\":\"neutral\",\"price\":0}", PriceTrend.class);
+		assertThat(today, is(new PriceTrend("neutral", 0)));
+		assertThat(gson.fromJson(gson.toJson(current), PriceTrend.class), is(current));
+	}
+
+	@Test
+	public void testPriceChangeFromJson() {
+		PriceChange change = new Gson().fromJson("{\"trend\":\"negative\",\"change\":\"-13.0%\"}", PriceChange.class);
+		assertThat(change.getTrendType(), is(Optional.of(Trend.NEGATIVE)));
+		assertThat(change.getChangePercent(), is(OptionalDouble.of(-13.0)));
+	}
+
+	@Test
+	public void testUnknownValuesAreKept() {
+		PriceTrend current = new Gson().fromJson("{\"trend\":\"sideways\",\"price\":\"1.2x\"}", PriceTrend.class);
+		assertThat(current.getTrend(), is("sideways"));
+		assertThat(current.getTrendType(), is(Optional.empty()));
+		assertThat(current.getPrice(), is("1.2x"));
+		assertThat(current.getPriceCoins(), is(OptionalLong.empty()));
+
+		PriceChange change = new PriceChange("negative", "n/a");
+		assertThat(change.getTrendType(), is(Optional.of(Trend.NEGATIVE)));
+		assertThat(change.getChangePercent(), is(OptionalDouble.empty()));
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.michaelbull.rs.ge;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PriceSeriesTest {
+
+	private static final LocalDate CHRISTMAS_EVE = LocalDate.of(2014, Month.DECEMBER, 24);
+	private static final LocalDate CHRISTMAS = LocalDate.of(2014, Month.DECEMBER, 25);
+	private static final LocalDate BOXING_DAY = LocalDate.of(2014, Month.DECEMBER, 26);
+	private static final LocalDate NEW_YEARS_EVE = LocalDate.of(2014, Month.DECEMBER, 31);
+
+	private static final String GRAPHING_DATA_JSON = "{"
+		+ "\"daily\":{\"1419552000000\":110,\"1419379200000\":100,\"1419465600000\":90},"
+		+ "\"average\":{\"1419379200000\":200,\"1420012800000\":300}"
+		+ "}";
+
+	private final PriceSeries series = PriceSeries.fromLocalDates(ImmutableMap.of(
+		BOXING_DAY, 110,
+		CHRISTMAS_EVE, 100,
+		NEW_YEARS_EVE, 150,
+		CHRISTMAS, 90
+	));
+
+	@Test
+	public void testSeriesIsSortedByDate() {
+		assertThat(series.size(), is(4));
+		assertThat(series.getDate(0), is(CHRISTMAS_EVE));
+		assertThat(series.getDate(3), is(NEW_YEARS_EVE));
+		assertThat(series.toPriceArray(), is(new int[] { 100, 90, 110, 150 }));
+	}
+
+	@Test
+	public void testGetPrice() {
+		assertThat(series.getPrice(CHRISTMAS), is(OptionalInt.of(90)));
+		assertThat(series.getPrice(CHRISTMAS.plusDays(3)), is(OptionalInt.empty()));
+		assertThat(series.indexOf(CHRISTMAS.plusDays(3).toEpochDay()), is(-4));
+	}
+
+	@Test
+	public void testSlice() {
+		PriceSeries slice = series.slice(CHRISTMAS, NEW_YEARS_EVE);
+		assertThat(slice.size(), is(2));
+		assertThat(slice.getDate(0), is(CHRISTMAS));
+		assertThat(slice.getPrice(BOXING_DAY), is(OptionalInt.of(110)));
+		assertThat(slice.getPrice(NEW_YEARS_EVE), is(OptionalInt.empty()));
+		assertThat(slice.indexOf(NEW_YEARS_EVE.toEpochDay()), is(-3));
+		assertThat(slice, is(PriceSeries.fromLocalDates(ImmutableMap.of(CHRISTMAS, 90, BOXING_DAY, 110))));
+		assertThat(series.slice(NEW_YEARS_EVE.plusDays(1), NEW_YEARS_EVE.plusDays(2)).isEmpty(), is(true));
+	}
+
+	@Test
+	public void testForEach() {
+		List<Long> days = new ArrayList<>();
+		int[] total = new int[1];
+
+		series.slice(1, 3).forEach((epochDay, price) -> {
+			days.add(epochDay);
+			total[0] += price;
+		});
+
+		assertThat(days.size(), is(2));
+		assertThat(days.get(0), is(CHRISTMAS.toEpochDay()));
+		assertThat(total[0], is(200));
+	}
+
+	@Test
+	public void testDuplicateDaysKeepLastPrice() {
+		PriceSeries duplicates = PriceSeries.of(new long[] { 5, 3, 5, 4 }, new int[] { 1, 2, 3, 4 }, 4);
+		assertThat(duplicates.size(), is(3));
+		assertThat(duplicates.toPriceArray(), is(new int[] { 2, 4, 3 }));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetPriceThrowsIndexOutOfBoundsException() {
+		series.slice(1, 2).getPrice(1);
+	}
+
+	@Test
+	public void testGraphingDataFromJson() {
+		Gson gson = new Gson();
+		GraphingData data = gson.fromJson(GRAPHING_DATA_JSON, GraphingData.class);
+
+		assertThat(data.getDailySeries().getDate(0), is(CHRISTMAS_EVE));
+		assertThat(data.getDailyPrice(CHRISTMAS), is(OptionalInt.of(90)));
+		assertThat(data.getAveragePrice(NEW_YEARS_EVE), is(OptionalInt.of(300)));
+		assertThat(data.getDailyPrices().keySet().asList().get(2), is(BOXING_DAY));
+		assertThat(gson.fromJson(gson.toJson(data), GraphingData.class), is(data));
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testGraphingDataFromJsonThrowsJsonSyntaxException() {
+		new Gson().fromJson("{\"daily\":{\"yesterday\":1}}", GraphingData.class);
+	}
+}
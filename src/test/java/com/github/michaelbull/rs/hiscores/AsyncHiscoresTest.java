@@ -0,0 +1,29 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.github.michaelbull.rs.CompletedAsyncClient;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AsyncHiscoresTest {
+
+	private final AsyncHiscores hiscores = new AsyncHiscores(new CompletedAsyncClient(new HiscoresTest.FakeClient()));
+
+	@Test
+	public void testPlayerInformation() {
+		assertThat(hiscores.playerInformation("Andrew", HiscoreTable.OLDSCHOOL).join().isPresent(), is(false));
+
+		Player player = hiscores.playerInformation("Max", HiscoreTable.DEFAULT).join().get();
+		assertThat(player.getSkills().get("Attack").getLevel(), is(99));
+	}
+
+	@Test
+	public void testClanInformation() {
+		ImmutableList<ClanMate> clan = hiscores.clanInformation("Maxs Clan").join();
+		assertThat(clan.size(), is(2));
+		assertThat(clan.get(0).getName(), is("Max"));
+	}
+}
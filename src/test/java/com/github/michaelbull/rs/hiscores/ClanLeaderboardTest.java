@@ -0,0 +1,123 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.github.michaelbull.rs.BatchResult;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static com.github.michaelbull.rs.hiscores.HiscoresTest.player;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ClanLeaderboardTest {
+
+	private final ClanLeaderboard leaderboard = ClanLeaderboard.builder().build(new Hiscores(new HiscoresTest.FakeClient()), "Maxs Clan");
+
+	@Test
+	public void testRefresh() throws IOException {
+		BatchResult<PlayerQuery, Player> result = leaderboard.refresh();
+
+		assertThat(result.getResults().keySet(), is(ImmutableSet.of(new PlayerQuery("Max", HiscoreTable.DEFAULT))));
+		assertThat(result.getMissing(), is(ImmutableSet.of(new PlayerQuery("Zezima", HiscoreTable.DEFAULT))));
+		assertThat(leaderboard.size(), is(1));
+		assertThat(leaderboard.top(RuneScapeSkill.ATTACK, 10), is(ImmutableList.of("Max")));
+		assertThat(leaderboard.rankOf("Max", RuneScapeSkill.ATTACK), is(OptionalInt.of(1)));
+	}
+
+	@Test
+	public void testRefreshRemovesDepartedMembers() throws IOException {
+		leaderboard.update("Drumgun", player(1_000, 1_000));
+		leaderboard.refresh();
+
+		assertThat(leaderboard.size(), is(1));
+		assertThat(leaderboard.rankOf("Drumgun", RuneScapeSkill.ATTACK), is(OptionalInt.empty()));
+	}
+
+	@Test
+	public void testNamesOutsideTheSnapshotLogAreRanked() {
+		leaderboard.update("A_Very Long Name", player(1_000, 1_000));
+		leaderboard.update("\u30de\u30c3\u30af\u30b9", player(2_000, 2_000));
+
+		assertThat(leaderboard.rankOf("a very long name", RuneScapeSkill.ATTACK), is(OptionalInt.of(2)));
+		assertThat(leaderboard.rankOf("\u30de\u30c3\u30af\u30b9", RuneScapeSkill.ATTACK), is(OptionalInt.of(1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUpdateRejectsBlankName() {
+		leaderboard.update(" _ ", player(1_000, 1_000));
+	}
+
+	@Test
+	public void testUpdate() {
+		leaderboard.update("Max", player(1_000, 5_000));
+		leaderboard.update("Zezima", player(3_000, -1));
+		leaderboard.update("Drumgun", player(2_000, 4_000));
+
+		assertThat(leaderboard.top(RuneScapeSkill.ATTACK, 10), is(ImmutableList.of("Zezima", "Drumgun", "Max")));
+		assertThat(leaderboard.top(RuneScapeSkill.SLAYER, 10), is(ImmutableList.of("Max", "Drumgun")));
+		assertThat(leaderboard.rankOf("Zezima", RuneScapeSkill.SLAYER), is(OptionalInt.empty()));
+
+		leaderboard.update("max", player(2_500, 5_000));
+		leaderboard.update("Zezima", player(3_000, 4_500));
+
+		assertThat(leaderboard.size(), is(3));
+		assertThat(leaderboard.top(RuneScapeSkill.ATTACK, 2), is(ImmutableList.of("Zezima", "Max")));
+		assertThat(leaderboard.top(RuneScapeSkill.SLAYER, 10), is(ImmutableList.of("Max", "Zezima", "Drumgun")));
+		assertThat(leaderboard.rankOf("Drumgun", RuneScapeSkill.ATTACK), is(OptionalInt.of(3)));
+		assertThat(leaderboard.getExperience("Max", RuneScapeSkill.ATTACK), is(OptionalLong.of(2_500)));
+		assertThat(leaderboard.getExperience("Max", RuneScapeSkill.DEFENCE), is(OptionalLong.empty()));
+	}
+
+	@Test
+	public void testEqualExperienceKeepsFirstMemberFirst() {
+		leaderboard.update("Max", player(1_000, 1_000));
+		leaderboard.update("Zezima", player(1_000, 1_000));
+
+		assertThat(leaderboard.top(RuneScapeSkill.ATTACK, 10), is(ImmutableList.of("Max", "Zezima")));
+	}
+
+	@Test
+	public void testRemove() {
+		leaderboard.update("Max", player(1_000, 1_000));
+		leaderboard.update("Zezima", player(3_000, 3_000));
+		leaderboard.update("Drumgun", player(2_000, 2_000));
+		leaderboard.remove("Zezima");
+
+		assertThat(leaderboard.size(), is(2));
+		assertThat(leaderboard.top(RuneScapeSkill.ATTACK, 10), is(ImmutableList.of("Drumgun", "Max")));
+
+		leaderboard.update("Lynx Titan", player(1_500, 500));
+		assertThat(leaderboard.top(RuneScapeSkill.ATTACK, 10), is(ImmutableList.of("Drumgun", "Lynx Titan", "Max")));
+		assertThat(leaderboard.top(RuneScapeSkill.SLAYER, 10), is(ImmutableList.of("Drumgun", "Max", "Lynx Titan")));
+	}
+
+	@Test
+	public void testRankingsMatchFullSort() {
+		Random random = new Random(42);
+		long[] experience = new long[100];
+
+		for (int update = 0; update < 2_000; update++) {
+			int member = random.nextInt(experience.length);
+			experience[member] = random.nextInt(10) == 0 ? -1 : random.nextInt(1_000);
+			leaderboard.update("Member " + member, player(0, experience[member]));
+		}
+
+		ImmutableList<String> top = leaderboard.top(RuneScapeSkill.SLAYER, experience.length);
+		for (int i = 1; i < top.size(); i++) {
+			long previous = experience[Integer.parseInt(top.get(i - 1).substring("Member ".length()))];
+			long current = experience[Integer.parseInt(top.get(i).substring("Member ".length()))];
+			assertThat(previous >= current, is(true));
+			assertThat(leaderboard.rankOf(top.get(i), RuneScapeSkill.SLAYER), is(OptionalInt.of(i + 1)));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSkillNotOnTable() {
+		ClanLeaderboard.builder().table(HiscoreTable.OLDSCHOOL).build(new Hiscores(new HiscoresTest.FakeClient()), "Maxs Clan").top(RuneScapeSkill.DIVINATION, 10);
+	}
+}
@@ -0,0 +1,178 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.michaelbull.rs.hiscores.HiscoresTest.player;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HiscoreSnapshotLogTest {
+
+	private static final Instant START = Instant.parse("2018-03-01T12:00:00Z");
+
+	private static Player oldschoolPlayer(long experience) {
+		return Player.builder()
+			.skill("Overall", new Skill(1, 2_277, experience))
+			.skill("Construction", new Skill(7, 99, 13_034_431))
+			.activity("Clues", new HiscoreActivity(3, 400))
+			.build();
+	}
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private Path directory() {
+		return folder.getRoot().toPath().resolve("hiscores");
+	}
+
+	@Test
+	public void testAppendAndRead() throws IOException {
+		PlayerQuery max = new PlayerQuery("Max", HiscoreTable.DEFAULT);
+		PlayerQuery lynx = new PlayerQuery("Lynx Titan", HiscoreTable.OLDSCHOOL);
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 3)) {
+			for (int i = 0; i < 4; i++) {
+				log.append(max, player(1_000_000 + i, -1), START.plusSeconds(i));
+				log.append(lynx, oldschoolPlayer(4_600_000_000L + i), START.plusSeconds(i));
+			}
+
+			assertThat(log.size(), is(8L));
+			assertThat(log.segmentCount(), is(3));
+		}
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 3)) {
+			ImmutableList<HiscoreSnapshot> timeline = log.timeline(new PlayerQuery(" max ", HiscoreTable.DEFAULT));
+
+			assertThat(timeline.size(), is(4));
+			assertThat(timeline.get(2).getQuery(), is(new PlayerQuery("max", HiscoreTable.DEFAULT)));
+			assertThat(timeline.get(2).getTimestamp(), is(START.plusSeconds(2)));
+			assertThat(timeline.get(2).getPlayer(), is(player(1_000_002, -1)));
+
+			HiscoreSnapshot latest = log.latest(new PlayerQuery("LYNX_TITAN", HiscoreTable.OLDSCHOOL)).get();
+			assertThat(latest.getPlayer(), is(oldschoolPlayer(4_600_000_003L)));
+			assertThat(latest.getPlayer().getSkill(OldSchoolSkill.CONSTRUCTION).get().getLevel(), is(99));
+
+			assertThat(log.timeline(new PlayerQuery("Max", HiscoreTable.IRONMAN)).isEmpty(), is(true));
+			assertThat(log.players(), is(ImmutableSet.of(new PlayerQuery("max", HiscoreTable.DEFAULT), new PlayerQuery("lynx titan", HiscoreTable.OLDSCHOOL))));
+
+			log.append(max, player(2_000_000, -1), START.plusSeconds(10));
+			assertThat(log.size(), is(9L));
+			assertThat(log.segmentCount(), is(3));
+		}
+	}
+
+	@Test
+	public void testTornRecordIsDiscarded() throws IOException {
+		PlayerQuery max = new PlayerQuery("Max", HiscoreTable.DEFAULT);
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 8)) {
+			log.append(max, player(1_000, -1), START);
+			log.append(max, player(2_000, -1), START.plusSeconds(1));
+		}
+
+		Path segment;
+		try (java.util.stream.Stream<Path> files = Files.list(directory())) {
+			segment = files.collect(Collectors.toList()).get(0);
+		}
+
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			long secondRecord = 16 + (file.length() - 16) / 8;
+			file.seek(secondRecord + 100);
+			file.write(0xFF);
+		}
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 8)) {
+			assertThat(log.size(), is(1L));
+			log.append(max, player(3_000, -1), START.plusSeconds(2));
+
+			List<Instant> timestamps = log.timeline(max).stream().map(HiscoreSnapshot::getTimestamp).collect(Collectors.toList());
+			assertThat(timestamps, is(ImmutableList.of(START, START.plusSeconds(2))));
+		}
+	}
+
+	@Test
+	public void testCompact() throws IOException {
+		PlayerQuery max = new PlayerQuery("Max", HiscoreTable.DEFAULT);
+		PlayerQuery zezima = new PlayerQuery("Zezima", HiscoreTable.DEFAULT);
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 4)) {
+			for (int i = 0; i < 8; i++) {
+				log.append(max, player(i < 7 ? 1_000 : 2_000, -1), START.plusSeconds(i));
+				log.append(zezima, player(5_000 + i, -1), START.plusSeconds(i));
+			}
+
+			assertThat(log.segmentCount(), is(4));
+			assertThat(log.compact(), is(5));
+			assertThat(log.size(), is(11L));
+			assertThat(log.segmentCount(), is(3));
+			assertThat(log.compact(), is(0));
+
+			List<Instant> maxTimestamps = log.timeline(max).stream().map(HiscoreSnapshot::getTimestamp).collect(Collectors.toList());
+			assertThat(maxTimestamps, is(ImmutableList.of(START, START.plusSeconds(6), START.plusSeconds(7))));
+			assertThat(log.timeline(zezima).size(), is(8));
+
+			log.append(max, player(9_000, -1), START.plusSeconds(6));
+		}
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 4)) {
+			assertThat(log.size(), is(12L));
+			assertThat(log.latest(max).get().getPlayer(), is(player(9_000, -1)));
+		}
+	}
+
+	@Test
+	public void testCompactAfterReopeningWithSmallerSegments() throws IOException {
+		PlayerQuery max = new PlayerQuery("Max", HiscoreTable.DEFAULT);
+		PlayerQuery zezima = new PlayerQuery("Zezima", HiscoreTable.DEFAULT);
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 10)) {
+			log.append(max, player(1_000, -1), START);
+			log.append(max, player(1_000, -1), START.plusSeconds(1));
+
+			for (int i = 0; i < 23; i++) {
+				log.append(zezima, player(5_000 + i, -1), START.plusSeconds(i));
+			}
+		}
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 3)) {
+			assertThat(log.compact(), is(1));
+			assertThat(log.size(), is(24L));
+			assertThat(log.segmentCount(), is(3));
+		}
+
+		try (HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory(), 3)) {
+			assertThat(log.size(), is(24L));
+			assertThat(log.timeline(max).size(), is(1));
+			assertThat(log.timeline(zezima).size(), is(23));
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testClosedLogThrowsIllegalStateException() throws IOException {
+		HiscoreSnapshotLog log = HiscoreSnapshotLog.open(directory());
+		log.close();
+		log.players();
+	}
+
+	@Test
+	public void testNormalize() {
+		assertThat(HiscoreSnapshotLog.normalize(" Lynx_Titan "), is("lynx titan"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNormalizeRejectsLongNames() {
+		HiscoreSnapshotLog.normalize("A name that is too long");
+	}
+}
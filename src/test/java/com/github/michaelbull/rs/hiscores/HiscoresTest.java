@@ -1,15 +1,25 @@
 package com.github.michaelbull.rs.hiscores;
 
+import com.github.michaelbull.rs.BatchLookup;
+import com.github.michaelbull.rs.BatchResult;
 import com.github.michaelbull.rs.Client;
+import com.github.michaelbull.rs.StreamParser;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasItem;
@@ -57,25 +67,22 @@ public final class HiscoresTest {
 		MAXED_PLAYER = new Player(skillBuilder.build(), activityBuilder.build());
 	}
 
-	private static final class FakeClient implements Client {
-		@Override
-		public <T> Optional<T> fromJson(String url, Type typeOfT) {
-			Preconditions.checkNotNull(url);
-			Preconditions.checkNotNull(typeOfT);
-			return Optional.empty();
-		}
-
-		@Override
-		public <T> Optional<T> fromJson(String url, Class<T> classOfT) {
-			Preconditions.checkNotNull(url);
-			Preconditions.checkNotNull(classOfT);
-			return Optional.empty();
-		}
+	/* a slayer experience of -1 leaves the player unranked in Slayer */
+	static Player player(long attackExperience, int attackRank, long slayerExperience) {
+		return Player.builder()
+			.skill("Overall", new Skill(10, 200, attackExperience + Math.max(slayerExperience, 0)))
+			.skill("Attack", new Skill(attackRank, attackExperience >= 13_034_431 ? 99 : 80, attackExperience))
+			.skill("Slayer", slayerExperience == -1 ? new Skill(-1, 1, -1) : new Skill(5_000, 90, slayerExperience))
+			.activity("Bounty Hunter", new HiscoreActivity(12, 34))
+			.build();
+	}
 
-		@Override
-		public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
-			Preconditions.checkNotNull(url);
+	static Player player(long attackExperience, long slayerExperience) {
+		return player(attackExperience, 500, slayerExperience);
+	}
 
+	static final class FakeClient implements Client {
+		private static String response(String url) {
 			if (url.startsWith("http://services.runescape.com/m=clan-hiscores/members_lite.ws?clanName=")) {
 				String clanName = url.substring(url.indexOf("clanName=") + "clanName=".length());
 
@@ -91,9 +98,7 @@ public final class HiscoresTest {
 						csv.append(CSV_DELIMITER);
 					}
 
-					try (CSVParser parser = CSVParser.parse(csv.toString(), CSV_FORMAT)) {
-						return ImmutableList.copyOf(parser.getRecords());
-					}
+					return csv.toString();
 				}
 			} else if (url.startsWith("http://services.runescape.com/m=")) {
 				String module = url.substring(url.indexOf("m=") + "m=".length());
@@ -116,13 +121,64 @@ public final class HiscoresTest {
 						csv.append(activity.getScore().orElse(-1)).append(CSV_DELIMITER);
 					}
 
-					try (CSVParser parser = CSVParser.parse(csv.toString(), CSV_FORMAT)) {
-						return ImmutableList.copyOf(parser.getRecords());
+					return csv.toString();
+				} else if (table == HiscoreTable.OLDSCHOOL && player.equals("Lynx+Titan")) {
+					StringBuilder csv = new StringBuilder();
+					csv.append("1,2277,4600000000\r\n");
+					csv.append("-1,1,-1\r\n");
+					csv.append("abc,99,13034431\r\n");
+					csv.append("5,99\r\n");
+
+					for (int i = 4; i < Hiscores.OLDSCHOOL_SKILL_NAMES.size(); i++) {
+						csv.append("1,99,200000000,extra\r\n");
 					}
+
+					csv.append("-1,-1\r\n");
+					csv.append("12,34\r\n");
+					csv.append("\r\n");
+					csv.append("1,2147483648\r\n");
+					csv.append("9,9\r\n");
+					return csv.toString();
+				} else if (table == HiscoreTable.OLDSCHOOL && player.equals("Truncated")) {
+					return "1,2277,4600000000\n1,99,200000000\n";
 				}
 			}
 
-			return ImmutableList.of();
+			return "";
+		}
+
+		@Override
+		public <T> Optional<T> fromJson(String url, Type typeOfT) {
+			Preconditions.checkNotNull(url);
+			Preconditions.checkNotNull(typeOfT);
+			return Optional.empty();
+		}
+
+		@Override
+		public <T> Optional<T> fromJson(String url, Class<T> classOfT) {
+			Preconditions.checkNotNull(url);
+			Preconditions.checkNotNull(classOfT);
+			return Optional.empty();
+		}
+
+		@Override
+		public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
+			Preconditions.checkNotNull(url);
+
+			try (CSVParser parser = CSVParser.parse(response(url), CSV_FORMAT)) {
+				return ImmutableList.copyOf(parser.getRecords());
+			}
+		}
+
+		@Override
+		public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+			Preconditions.checkNotNull(url);
+
+			if (url.endsWith("player=Offline")) {
+				throw new IOException("Connection reset.");
+			}
+
+			return parser.parse(new ByteArrayInputStream(response(url).getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.ISO_8859_1);
 		}
 	}
 
@@ -143,6 +199,140 @@ public final class HiscoresTest {
 		assertThat(experience, is(Skill.MAX_EXPERIENCE));
 	}
 
+	@Test
+	public void testPlayerMapsAreCreatedOnce() throws IOException {
+		Player player = hiscores.playerInformation("Max", HiscoreTable.DEFAULT).get();
+		assertThat(player.getSkills() == player.getSkills(), is(true));
+		assertThat(player.getActivities() == player.getActivities(), is(true));
+	}
+
+	@Test
+	public void testPlayerInformationThroughClientWithoutFromStream() throws IOException {
+		Client client = new FakeClient();
+		Hiscores hiscores = new Hiscores(new Client() {
+			@Override
+			public <T> Optional<T> fromJson(String url, Type typeOfT) throws IOException {
+				return client.fromJson(url, typeOfT);
+			}
+
+			@Override
+			public <T> Optional<T> fromJson(String url, Class<T> classOfT) throws IOException {
+				return client.fromJson(url, classOfT);
+			}
+
+			@Override
+			public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
+				return client.fromCSV(url);
+			}
+		});
+
+		assertThat(hiscores.playerInformation("Max", HiscoreTable.DEFAULT), is(Optional.of(MAXED_PLAYER)));
+		assertThat(hiscores.playerInformation("Andrew", HiscoreTable.OLDSCHOOL), is(Optional.empty()));
+	}
+
+	@Test
+	public void testParsedPlayerEqualsMappedPlayer() throws IOException {
+		Player player = hiscores.playerInformation("Max", HiscoreTable.DEFAULT).get();
+		assertThat(player, is(MAXED_PLAYER));
+		assertThat(player.hashCode(), is(MAXED_PLAYER.hashCode()));
+
+		int dungeoneering = player.getSkillNames().indexOf("Dungeoneering");
+		assertThat(player.hasSkill(dungeoneering), is(true));
+		assertThat(player.getSkillLevel(dungeoneering), is(120));
+		assertThat(player.getSkillExperience(dungeoneering), is(Skill.MAX_EXPERIENCE));
+		assertThat(player.getActivityScore(player.getActivityNames().indexOf("Conquest")), is(999));
+
+		Player partial = Player.builder()
+			.skill("Attack", new Skill(1, 99, Skill.MAX_EXPERIENCE))
+			.activity("Mystery", new HiscoreActivity(5, 10))
+			.build();
+
+		assertThat(partial.getSkillNames(), is(Hiscores.SKILL_NAMES));
+		assertThat(partial.hasSkill(0), is(false));
+		assertThat(partial.getSkill("Attack").get().getLevel(), is(99));
+		assertThat(partial.getActivity("Mystery").get().getScore().getAsInt(), is(10));
+		assertThat(partial, is(new Player(partial.getSkills(), partial.getActivities())));
+		assertThat(partial, not(is(player)));
+	}
+
+	@Test
+	public void testSkillAndActivityTypesMatchTables() {
+		for (HiscoreTable table : HiscoreTable.values()) {
+			assertThat(table.getSkillTypes().size(), is(table.getSkillNames().size()));
+			assertThat(table.getActivityTypes().size(), is(table.getActivityNames().size()));
+
+			for (SkillType type : table.getSkillTypes()) {
+				assertThat(table.getSkillNames().get(type.ordinal()), is(type.getName()));
+			}
+
+			for (ActivityType type : table.getActivityTypes()) {
+				assertThat(table.getActivityNames().get(type.ordinal()), is(type.getName()));
+			}
+		}
+
+		assertThat(RuneScapeSkill.from("Invention").get(), is(RuneScapeSkill.INVENTION));
+		assertThat(OldSchoolSkill.from("Invention").isPresent(), is(false));
+	}
+
+	@Test
+	public void testTypedPlayerAccessors() throws IOException {
+		Player player = hiscores.playerInformation("Max", HiscoreTable.DEFAULT).get();
+		assertThat(player.getSkillLevel(RuneScapeSkill.DUNGEONEERING), is(120));
+		assertThat(player.getSkillRank(RuneScapeSkill.ATTACK), is(1));
+		assertThat(player.getActivityScore(RuneScapeActivity.CONQUEST), is(999));
+		assertThat(player.getSkills(RuneScapeSkill.class).size(), is(RuneScapeSkill.values().length));
+		assertThat(player.getSkills(RuneScapeSkill.class).get(RuneScapeSkill.THIEVING), is(player.getSkills().get("Thieving")));
+
+		Player oldschool = hiscores.playerInformation("Lynx Titan", HiscoreTable.OLDSCHOOL).get();
+		assertThat(oldschool.getSkillExperience(OldSchoolSkill.OVERALL), is(4_600_000_000L));
+		assertThat(oldschool.hasSkill(OldSchoolSkill.DEFENCE), is(false));
+		assertThat(oldschool.hasSkill(RuneScapeSkill.INVENTION), is(false));
+		assertThat(oldschool.getActivity(OldSchoolActivity.BOUNTY_HUNTER).get().getScore().getAsInt(), is(34));
+		assertThat(oldschool.getActivities(OldSchoolActivity.class).containsKey(OldSchoolActivity.BOUNTY_HUNTER_ROGUES), is(false));
+	}
+
+	@Test
+	public void testPlayerInformationSkipsMalformedLines() throws IOException {
+		Player player = hiscores.playerInformation("Lynx Titan", HiscoreTable.OLDSCHOOL).get();
+
+		assertThat(player.getSkills().get("Overall").getExperience().getAsLong(), is(4_600_000_000L));
+		assertThat(player.getSkills().get("Attack").getRank().isPresent(), is(false));
+		assertThat(player.getSkills().containsKey("Defence"), is(false));
+		assertThat(player.getSkills().containsKey("Strength"), is(false));
+		assertThat(player.getSkills().get("Construction").getLevel(), is(99));
+		assertThat(player.getSkills().size(), is(Hiscores.OLDSCHOOL_SKILL_NAMES.size() - 2));
+
+		assertThat(player.getActivities().get("Clues").getScore().isPresent(), is(false));
+		assertThat(player.getActivities().get("Bounty Hunter").getScore().getAsInt(), is(34));
+		assertThat(player.getActivities().containsKey("B.H. Rogues"), is(false));
+	}
+
+	@Test
+	public void testPlayerInformationWithTooFewLines() throws IOException {
+		assertThat(hiscores.playerInformation("Truncated", HiscoreTable.OLDSCHOOL).isPresent(), is(false));
+	}
+
+	@Test
+	public void testBulkPlayerInformation() throws IOException {
+		List<PlayerQuery> completed = new ArrayList<>();
+		BatchLookup.Listener<PlayerQuery, Player> listener = new BatchLookup.Listener<PlayerQuery, Player>() {
+			@Override
+			public void onResult(PlayerQuery query, Player player) {
+				completed.add(query);
+			}
+		};
+
+		ImmutableList<PlayerQuery> queries = PlayerQuery.of(ImmutableList.of("Max", "Andrew", "Offline"), HiscoreTable.DEFAULT, HiscoreTable.IRONMAN);
+		BatchResult<PlayerQuery, Player> result = hiscores.playerInformation(queries, BatchLookup.builder().concurrency(2).build(), listener);
+
+		PlayerQuery max = new PlayerQuery("Max", HiscoreTable.DEFAULT);
+		assertThat(result.getResults().keySet().asList(), is(ImmutableList.of(max)));
+		assertThat(result.getResults().get(max), is(hiscores.playerInformation("Max", HiscoreTable.DEFAULT).get()));
+		assertThat(completed, is(ImmutableList.of(max)));
+		assertThat(result.getMissing().size(), is(3));
+		assertThat(result.getFailures().keySet(), is(ImmutableSet.of(new PlayerQuery("Offline", HiscoreTable.DEFAULT), new PlayerQuery("Offline", HiscoreTable.IRONMAN))));
+	}
+
 	@Test
 	public void testClanInformation() throws IOException {
 		ImmutableList<ClanMate> clan = hiscores.clanInformation("Maxs Clan");
@@ -150,4 +340,65 @@ public final class HiscoresTest {
 		assertThat(clan, hasItem(ZEZIMA));
 		assertThat(clan, not(hasItem(DRUMGUN)));
 	}
+
+	@Test
+	public void testClanInformationStreaming() throws IOException {
+		List<ClanMate> clan = new ArrayList<>();
+		assertThat(hiscores.clanInformation("Maxs Clan", clan::add), is(2));
+		assertThat(clan, is(CLAN));
+	}
+
+	@Test
+	public void testClanInformationStreamingUnknownClan() throws IOException {
+		List<ClanMate> clan = new ArrayList<>();
+		assertThat(hiscores.clanInformation("Nobodys Clan", clan::add), is(0));
+		assertThat(clan.isEmpty(), is(true));
+	}
+
+	@Test(expected = IOException.class)
+	public void testClanInformationStreamingRethrowsIOException() throws IOException {
+		InputStream reset = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("Connection reset");
+			}
+		};
+
+		byte[] members = "Clanmate, Clan Rank, Total XP, Kills\nMax,Owner,100,1\n".getBytes(StandardCharsets.ISO_8859_1);
+		Hiscores.readClanMates(new SequenceInputStream(new ByteArrayInputStream(members), reset), StandardCharsets.ISO_8859_1, clanMate -> { /* empty */ });
+	}
+
+	@Test
+	public void testClanInformationStreamingDecodesDeclaredCharset() throws IOException {
+		String csv = "Clanmate, Clan Rank, Total XP, Kills\nZ\u00E9zima\u00A0Jr,Owner,100,1\n";
+
+		Hiscores hiscores = new Hiscores(new Client() {
+			@Override
+			public <T> Optional<T> fromJson(String url, Type typeOfT) {
+				return Optional.empty();
+			}
+
+			@Override
+			public <T> Optional<T> fromJson(String url, Class<T> classOfT) {
+				return Optional.empty();
+			}
+
+			@Override
+			public ImmutableList<CSVRecord> fromCSV(String url) throws IOException {
+				try (CSVParser parser = CSVParser.parse(csv, CSV_FORMAT)) {
+					return ImmutableList.copyOf(parser.getRecords());
+				}
+			}
+
+			@Override
+			public <T> T fromStream(String url, StreamParser<? extends T> parser) throws IOException {
+				return parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+			}
+		});
+
+		List<ClanMate> clan = new ArrayList<>();
+		hiscores.clanInformation("Zezimas Clan", clan::add);
+		assertThat(clan, is(hiscores.clanInformation("Zezimas Clan")));
+		assertThat(clan.get(0).getName(), is("Z\u00E9zima\u00A0Jr"));
+	}
 }
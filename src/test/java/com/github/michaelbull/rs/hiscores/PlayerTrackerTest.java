@@ -0,0 +1,75 @@
+package com.github.michaelbull.rs.hiscores;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static com.github.michaelbull.rs.hiscores.HiscoresTest.player;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PlayerTrackerTest {
+
+	private static final PlayerQuery MAX = new PlayerQuery("Max", HiscoreTable.DEFAULT);
+	private static final PlayerQuery ZEZIMA = new PlayerQuery("Zezima", HiscoreTable.DEFAULT);
+	private static final PlayerQuery DRUMGUN = new PlayerQuery("Drumgun", HiscoreTable.DEFAULT);
+
+	@Test
+	public void testUpdate() {
+		PlayerTracker tracker = new PlayerTracker();
+
+		assertThat(tracker.update(MAX, player(13_000_000, 500, -1)).isPresent(), is(false));
+		assertThat(tracker.contains(MAX), is(true));
+		assertThat(tracker.getDelta(MAX).isPresent(), is(false));
+
+		PlayerDelta delta = tracker.update(MAX, player(13_100_000, 450, 6_000_000)).get();
+		assertThat(delta.getQuery(), is(MAX));
+		assertThat(delta.getExperienceGained(RuneScapeSkill.ATTACK), is(100_000L));
+		assertThat(delta.getLevelsGained(RuneScapeSkill.ATTACK), is(19));
+		assertThat(delta.getRankChange(RuneScapeSkill.ATTACK), is(50));
+		assertThat(delta.hasSkill(RuneScapeSkill.SLAYER), is(false));
+		assertThat(delta.hasSkill(RuneScapeSkill.DEFENCE), is(false));
+		assertThat(delta.getExperienceGained(), is(ImmutableMap.of("Overall", 6_100_000L, "Attack", 100_000L)));
+		assertThat(tracker.getDelta(MAX), is(Optional.of(delta)));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testDeltaOfUncomparedSkill() {
+		PlayerTracker tracker = new PlayerTracker();
+		tracker.update(MAX, player(13_000_000, 500, -1));
+		tracker.update(MAX, player(13_000_000, 500, -1)).get().getExperienceGained(RuneScapeSkill.SLAYER);
+	}
+
+	@Test
+	public void testTopGainers() {
+		PlayerTracker tracker = new PlayerTracker();
+		tracker.update(MAX, player(1_000, 900, 100));
+		tracker.update(ZEZIMA, player(1_000, 900, 100));
+		tracker.update(DRUMGUN, player(1_000, 900, 100));
+
+		tracker.update(MAX, player(6_000, 800, 100));
+		tracker.update(ZEZIMA, player(3_000, 850, 50_000));
+		tracker.update(DRUMGUN, player(6_000, 800, 100));
+
+		assertThat(tracker.topGainers(RuneScapeSkill.ATTACK, 2), is(ImmutableList.of(tracker.getDelta(DRUMGUN).get(), tracker.getDelta(MAX).get())));
+		assertThat(tracker.topGainers(RuneScapeSkill.SLAYER, 5), is(ImmutableList.of(tracker.getDelta(ZEZIMA).get())));
+		assertThat(tracker.topGainers(RuneScapeSkill.DEFENCE, 5).isEmpty(), is(true));
+
+		tracker.remove(ZEZIMA);
+		assertThat(tracker.size(), is(2));
+		assertThat(tracker.topGainers(RuneScapeSkill.SLAYER, 5).isEmpty(), is(true));
+	}
+
+	@Test
+	public void testNamesAreTrackedCaseInsensitively() {
+		PlayerTracker tracker = new PlayerTracker();
+		tracker.update(ZEZIMA, player(1_000, 900, 100));
+
+		PlayerQuery lowerCase = new PlayerQuery("zezima", HiscoreTable.DEFAULT);
+		assertThat(tracker.update(lowerCase, player(3_000, 850, 100)).isPresent(), is(true));
+		assertThat(tracker.size(), is(1));
+		assertThat(tracker.getDelta(ZEZIMA), is(tracker.getDelta(lowerCase)));
+	}
+}